@@ -59,6 +59,7 @@ public class ActionExecutionServiceComponent {
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.registerService(ActionExecutorService.class.getName(), ActionExecutorServiceImpl.getInstance(),
                     null);
+            ActionExecutorServiceImpl.getInstance().registerConnectionPoolMBean();
             LOG.debug("Action execution bundle is activated.");
         } catch (Throwable e) {
             LOG.error("Error while initializing Action execution service component.", e);
@@ -71,6 +72,7 @@ public class ActionExecutionServiceComponent {
         try {
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.ungetService(bundleCtx.getServiceReference(ActionExecutorService.class));
+            ActionExecutorServiceImpl.getInstance().unregisterConnectionPoolMBean();
             LOG.debug("Action execution bundle is deactivated.");
         } catch (Throwable e) {
             LOG.error("Error while deactivating Action execution service component.", e);
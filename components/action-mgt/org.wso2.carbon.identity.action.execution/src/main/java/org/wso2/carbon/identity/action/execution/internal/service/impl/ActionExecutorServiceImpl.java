@@ -70,6 +70,7 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -77,8 +78,14 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 /**
  * This class is responsible for executing the action based on the action type and the event context.
  * It is responsible for building the request payload, calling the API, processing the response and
@@ -96,15 +103,21 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
     private static final Log LOG = LogFactory.getLog(ActionExecutorServiceImpl.class);
 
     private static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    // Time allowed on top of the execution timeout for the API client to wind up the timed out request.
+    private static final long EXECUTION_TIMEOUT_GRACE_PERIOD_IN_MILLIS = 500;
+    private static final String ACTION_EXECUTOR_POOL_NAME = "ActionExecutor";
     private static final ActionExecutorServiceImpl INSTANCE = new ActionExecutorServiceImpl();
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private static final String API_VERSION_HEADER = "x-wso2-api-version";
+    private static final String CONNECTION_POOL_MBEAN_NAME =
+            "org.wso2.carbon.identity:type=ActionExecutionConnectionPool,name=ActionAPIClient";
     private final APIClient apiClient;
-    private final ExecutorService executorService = ThreadLocalAwareExecutors.newFixedThreadPool(THREAD_POOL_SIZE);
+    private final ExecutorService executorService;
 
     private ActionExecutorServiceImpl() {
 
         apiClient = new APIClient();
+        executorService = createExecutorService();
     }
 
     public static ActionExecutorServiceImpl getInstance() {
@@ -112,6 +125,39 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         return INSTANCE;
     }
 
+    /**
+     * Publish the connection pool statistics of the action API client over JMX.
+     */
+    public void registerConnectionPoolMBean() {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(CONNECTION_POOL_MBEAN_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(apiClient, objectName);
+        } catch (JMException e) {
+            LOG.error("Error while registering the connection pool MBean of the action API client.", e);
+        }
+    }
+
+    /**
+     * Remove the connection pool statistics of the action API client from JMX.
+     */
+    public void unregisterConnectionPoolMBean() {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(CONNECTION_POOL_MBEAN_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            LOG.error("Error while unregistering the connection pool MBean of the action API client.", e);
+        }
+    }
+
     @Override
     public boolean isExecutionEnabled(ActionType actionType) {
 
@@ -350,19 +396,40 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
                                                                  String payload) throws ActionExecutionException {
 
         String apiEndpoint = action.getEndpoint().getUri();
+        ActionType actionType = ActionType.valueOf(action.getType().getActionType());
         Map<String, String> headers = new HashMap<>();
         headers.put(API_VERSION_HEADER, action.getActionVersion());
         CompletableFuture<ActionInvocationResponse> actionExecutor = CompletableFuture.supplyAsync(
-                () -> apiClient.callAPI(ActionType.valueOf(action.getType().getActionType()),
-                        apiEndpoint, authenticationMethod, headers, payload), executorService);
+                () -> apiClient.callAPI(actionType, apiEndpoint, authenticationMethod, headers, payload),
+                executorService);
+        long timeout = ActionExecutorConfig.getInstance().getActionExecutionTimeoutInMillis(actionType);
         try {
-            return actionExecutor.get();
+            if (timeout <= 0) {
+                return actionExecutor.get();
+            }
+            return actionExecutor.get(timeout + EXECUTION_TIMEOUT_GRACE_PERIOD_IN_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            actionExecutor.cancel(true);
+            LOG.warn("Execution of action: " + action.getId() + " did not complete within the execution timeout of " +
+                    timeout + " ms.");
+            return new ActionInvocationResponse.Builder()
+                    .errorLog("Failed to execute the action request within the execution timeout.").build();
         } catch (InterruptedException | ExecutionException e) {
             throw new ActionExecutionException("Error occurred while executing action: " + action.getId(),
                     e);
         }
     }
 
+    private static ExecutorService createExecutorService() {
+
+        /* With ThreadPools.ActionExecutor.UseVirtualThreads enabled, each execution runs on its own virtual thread, so
+         a slow endpoint does not hold up other executions. The number of concurrent calls is bounded by the HTTP
+         connection pool. */
+        int threadPoolSize = ActionExecutorConfig.getInstance().getExecutionThreadPoolSize();
+        return ThreadLocalAwareExecutors.newThreadPool(ACTION_EXECUTOR_POOL_NAME,
+                threadPoolSize > 0 ? threadPoolSize : THREAD_POOL_SIZE);
+    }
+
     private void logActionRequest(Action action, String payload) {
 
         DIAGNOSTIC_LOGGER.logActionRequest(action);
@@ -31,11 +31,13 @@ import org.apache.http.NoHttpResponseException;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.ConnectTimeoutException;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.util.EntityUtils;
 import org.wso2.carbon.identity.action.execution.api.exception.ActionInvocationException;
 import org.wso2.carbon.identity.action.execution.api.model.ActionExecutionStatus;
@@ -53,17 +55,36 @@ import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class is responsible for making API calls to the external services.
  */
-public class APIClient {
+public class APIClient implements APIClientPoolStatisticsMXBean {
 
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private static final String ACTION_STATUS = "actionStatus";
+    private static final int MAX_CIRCUIT_BREAKERS = 1000;
     private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final RequestConfig requestConfig;
+    // Circuit breakers of the least recently invoked endpoints are evicted, so that endpoints which are no longer
+    // used do not accumulate.
+    private final Map<String, EndpointCircuitBreaker> circuitBreakers = Collections.synchronizedMap(
+            new LinkedHashMap<String, EndpointCircuitBreaker>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, EndpointCircuitBreaker> eldest) {
+
+                    return size() > MAX_CIRCUIT_BREAKERS;
+                }
+            });
 
     public APIClient() {
 
@@ -72,21 +93,36 @@ public class APIClient {
         int connectionRequestTimeout = ActionExecutorConfig.getInstance().getHttpConnectionRequestTimeoutInMillis();
         int connectionTimeout = ActionExecutorConfig.getInstance().getHttpConnectionTimeoutInMillis();
 
-        RequestConfig config = RequestConfig.custom()
+        requestConfig = RequestConfig.custom()
                 .setConnectTimeout(connectionTimeout)
                 .setConnectionRequestTimeout(connectionRequestTimeout)
                 .setSocketTimeout(readTimeout)
                 .setRedirectsEnabled(false)
                 .setRelativeRedirectsAllowed(false)
                 .build();
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
-        httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
-                .build();
+        int poolSize = ActionExecutorConfig.getInstance().getHttpConnectionPoolSize();
+        int maxPerRoute = ActionExecutorConfig.getInstance().getHttpConnectionMaxPerRoute();
+        int idleConnectionTimeout = ActionExecutorConfig.getInstance().getHttpIdleConnectionTimeoutInMillis();
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(poolSize);
+        // The default of two connections per route serializes concurrent calls to the same action endpoint.
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute > 0 ? maxPerRoute : poolSize);
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create().setDefaultRequestConfig(requestConfig)
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                // Pooled TLS connections are otherwise tagged with the TLS principal and only leased to requests
+                // carrying the same user token, which none of the requests do.
+                .disableConnectionState();
+        if (idleConnectionTimeout > 0) {
+            httpClientBuilder.evictIdleConnections(idleConnectionTimeout, TimeUnit.MILLISECONDS);
+        }
+        httpClient = httpClientBuilder.build();
     }
 
     /**
      * Makes a POST API call to the given URL with the provided payload and headers.
+     * The call, including retries, is bounded by the execution timeout configured for the action type, and is
+     * rejected without calling the endpoint while the circuit of the endpoint is open.
      *
      * @param actionType  Action type.
      * @param url         URL of the API endpoint.
@@ -104,6 +140,33 @@ public class APIClient {
         return executeRequest(actionType, httpPost);
     }
 
+    /**
+     * Get the statistics of the whole connection pool.
+     *
+     * @return Leased, pending, available and max connections of the pool.
+     */
+    @Override
+    public PoolStats getConnectionPoolStats() {
+
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Get the connection pool statistics of each action endpoint which currently has connections or pending
+     * requests.
+     *
+     * @return Map of the route target, in the form scheme://host:port, to the statistics of the route.
+     */
+    @Override
+    public Map<String, PoolStats> getRouteConnectionPoolStats() {
+
+        Map<String, PoolStats> routeStats = new HashMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            routeStats.put(route.getTargetHost().toURI(), connectionManager.getStats(route));
+        }
+        return routeStats;
+    }
+
     private void setRequestEntity(HttpPost httpPost, String jsonRequest, AuthMethods.AuthMethod authMethod,
                                   Map<String, String> additionalHeaders) {
 
@@ -121,35 +184,139 @@ public class APIClient {
 
     private ActionInvocationResponse executeRequest(ActionType actionType, HttpPost request) {
 
+        EndpointCircuitBreaker circuitBreaker = getCircuitBreaker(request);
+        if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+            logCircuitOpen(request);
+            return new ActionInvocationResponse.Builder()
+                    .errorLog("Failed to execute the action request. The endpoint is temporarily unavailable.")
+                    .build();
+        }
+
+        ActionExecutorConfig config = ActionExecutorConfig.getInstance();
         int attempts = 0;
-        int retryCount = ActionExecutorConfig.getInstance().getHttpRequestRetryCount();
+        int retryCount = config.getHttpRequestRetryCount();
+        long timeout = config.getActionExecutionTimeoutInMillis(actionType);
+        long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
         ActionInvocationResponse actionInvocationResponse = null;
+        // Whether the endpoint was found to be available, based on the last attempt which tells it. Client errors
+        // and running out of the execution time say nothing against the endpoint.
+        Boolean endpointAvailable = null;
 
-        while (attempts < retryCount) {
-            try (CloseableHttpResponse response = httpClient.execute(request)) {
-                actionInvocationResponse = handleResponse(actionType, response);
-                if (!actionInvocationResponse.isError() || !actionInvocationResponse.isRetry()) {
-                    return actionInvocationResponse;
+        try {
+            while (attempts < retryCount) {
+                if (!applyRemainingTime(request, deadline)) {
+                    logExecutionTimeout(request, timeout);
+                    break;
+                }
+                try (CloseableHttpResponse response = httpClient.execute(request)) {
+                    endpointAvailable = response.getStatusLine().getStatusCode() < HttpStatus.SC_INTERNAL_SERVER_ERROR;
+                    actionInvocationResponse = handleResponse(actionType, response);
+                    if (!actionInvocationResponse.isError() || !actionInvocationResponse.isRetry()) {
+                        return actionInvocationResponse;
+                    }
+                    logEndpointUnavailability(request, attempts + 1, retryCount);
+                } catch (ConnectTimeoutException e) {
+                    endpointAvailable = false;
+                    logEndpointTimeout(request, attempts + 1, retryCount);
+                } catch (SocketTimeoutException e) {
+                    // A read timeout shortened to the remaining execution time is the deadline expiring.
+                    if (request.getConfig() == null) {
+                        endpointAvailable = false;
+                    }
+                    logEndpointTimeout(request, attempts + 1, retryCount);
+                } catch (ConnectionClosedException | NoHttpResponseException | SocketException |
+                         UnknownHostException e) {
+                    endpointAvailable = false;
+                    logEndpointRequestFailure(request, attempts + 1, retryCount);
+                } catch (Exception e) {
+                    DIAGNOSTIC_LOGGER.logAPICallError(request);
+                    LOG.error("Request for API: " + request.getURI() + " failed due to an error.", e);
+                    break;
+                } finally {
+                    request.releaseConnection();
+                }
+                attempts++;
+                if (attempts < retryCount && !backoff(attempts, deadline)) {
+                    break;
+                }
+            }
+        } finally {
+            if (circuitBreaker != null && endpointAvailable != null) {
+                if (endpointAvailable) {
+                    circuitBreaker.recordSuccess();
+                } else {
+                    circuitBreaker.recordFailure();
                 }
-                logEndpointUnavailability(request, attempts + 1, retryCount);
-            } catch (ConnectTimeoutException | SocketTimeoutException e) {
-                logEndpointTimeout(request, attempts + 1, retryCount);
-            } catch (ConnectionClosedException | NoHttpResponseException | SocketException | UnknownHostException e) {
-                logEndpointRequestFailure(request, attempts + 1, retryCount);
-            } catch (Exception e) {
-                DIAGNOSTIC_LOGGER.logAPICallError(request);
-                LOG.error("Request for API: " + request.getURI() + " failed due to an error.", e);
-                break;
-            } finally {
-                request.releaseConnection();
             }
-            attempts++;
         }
 
         return actionInvocationResponse != null ? actionInvocationResponse : new ActionInvocationResponse.Builder()
                 .errorLog("Failed to execute the action request or maximum retry attempts reached.").build();
     }
 
+    private EndpointCircuitBreaker getCircuitBreaker(HttpPost request) {
+
+        ActionExecutorConfig config = ActionExecutorConfig.getInstance();
+        if (!config.isCircuitBreakerEnabled()) {
+            return null;
+        }
+        return circuitBreakers.computeIfAbsent(request.getURI().toString(),
+                endpoint -> new EndpointCircuitBreaker(endpoint, config.getCircuitBreakerFailureThreshold(),
+                        config.getCircuitBreakerOpenDurationInMillis()));
+    }
+
+    /**
+     * Caps the read timeout of the request to the time left until the deadline. The request config is only set
+     * when the read timeout is capped.
+     *
+     * @param request  Request to be executed.
+     * @param deadline Deadline as a {@link System#nanoTime()} value, or zero if there is no deadline.
+     * @return false if the deadline has already passed.
+     */
+    private boolean applyRemainingTime(HttpPost request, long deadline) {
+
+        if (deadline == 0) {
+            return true;
+        }
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remaining <= 0) {
+            return false;
+        }
+        if (requestConfig.getSocketTimeout() <= 0 || remaining < requestConfig.getSocketTimeout()) {
+            request.setConfig(RequestConfig.copy(requestConfig).setSocketTimeout((int) remaining).build());
+        }
+        return true;
+    }
+
+    /**
+     * Waits before the next retry using exponential backoff with full jitter, so that retries of concurrent
+     * requests to a recovering endpoint are spread out instead of arriving together.
+     *
+     * @param attempt  Number of attempts made so far.
+     * @param deadline Deadline as a {@link System#nanoTime()} value, or zero if there is no deadline.
+     * @return false if there is not enough time left for another attempt or the thread is interrupted.
+     */
+    private boolean backoff(int attempt, long deadline) {
+
+        long initialInterval = ActionExecutorConfig.getInstance().getHttpRetryBackoffInitialIntervalInMillis();
+        long maxInterval = ActionExecutorConfig.getInstance().getHttpRetryBackoffMaxIntervalInMillis();
+        if (initialInterval <= 0) {
+            return true;
+        }
+        long interval = Math.min(maxInterval, initialInterval << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(interval + 1);
+        if (deadline != 0 && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) >= deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private ActionInvocationResponse handleResponse(ActionType actionType, HttpResponse response) {
 
         int statusCode = response.getStatusLine().getStatusCode();
@@ -342,4 +509,21 @@ public class APIClient {
             }
         }
     }
+
+    private static void logExecutionTimeout(HttpPost request, long timeout) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Request for API: " + request.getURI() + " exceeded the action execution timeout of " +
+                    timeout + " ms. No further attempts are made.");
+        }
+    }
+
+    private static void logCircuitOpen(HttpPost request) {
+
+        DIAGNOSTIC_LOGGER.logAPICallRejected(request);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Request for API: " + request.getURI() + " is rejected since the endpoint failed " +
+                    "consecutively and its circuit is open.");
+        }
+    }
 }
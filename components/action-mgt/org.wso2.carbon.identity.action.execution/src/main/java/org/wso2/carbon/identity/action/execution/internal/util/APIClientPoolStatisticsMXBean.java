@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import org.apache.http.pool.PoolStats;
+
+import java.util.Map;
+
+/**
+ * Management interface through which the connection pool statistics of the action API client are published over JMX.
+ */
+public interface APIClientPoolStatisticsMXBean {
+
+    /**
+     * @return Leased, pending, available and max connections of the pool.
+     */
+    PoolStats getConnectionPoolStats();
+
+    /**
+     * @return Map of the route target, in the form scheme://host:port, to the statistics of the route.
+     */
+    Map<String, PoolStats> getRouteConnectionPoolStats();
+}
@@ -237,6 +237,20 @@ public class ActionExecutionDiagnosticLogger {
                         DiagnosticLog.ResultStatus.FAILED));
     }
 
+    public void logAPICallRejected(HttpPost request) {
+
+        if (!LoggerUtils.isDiagnosticLogsEnabled()) {
+            return;
+        }
+
+        triggerLogEvent(
+                initializeDiagnosticLogBuilder(
+                        ActionExecutionLogConstants.ActionIDs.SEND_ACTION_REQUEST,
+                        "Request for external endpoint " + request.getURI() + " for action was not sent since" +
+                                " the endpoint is temporarily unavailable.",
+                        DiagnosticLog.ResultStatus.FAILED));
+    }
+
     private DiagnosticLog.DiagnosticLogBuilder addActionConfigParams(
             DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder, Action action) {
 
@@ -50,11 +50,31 @@ public class ActionExecutorConfig {
     private static final String HTTP_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPConnectionTimeout";
     private static final String HTTP_CONNECTION_POOL_SIZE_PROPERTY = "Actions.HTTPClient.HTTPConnectionPoolSize";
     private static final String HTTP_REQUEST_RETRY_COUNT_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryCount";
+    private static final String HTTP_CONNECTION_MAX_PER_ROUTE_PROPERTY =
+            "Actions.HTTPClient.HTTPConnectionMaxPerRoute";
+    private static final String HTTP_IDLE_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.IdleConnectionTimeout";
+    private static final int DEFAULT_HTTP_IDLE_CONNECTION_TIMEOUT_IN_MILLIS = 30000;
     private static final int DEFAULT_HTTP_REQUEST_RETRY_COUNT = 2;
     private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE = 20;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = 5000;
     private static final int DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 2000;
     private static final int DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS = 2000;
+    private static final String HTTP_RETRY_BACKOFF_INITIAL_INTERVAL_PROPERTY =
+            "Actions.HTTPClient.RetryBackoff.InitialInterval";
+    private static final String HTTP_RETRY_BACKOFF_MAX_INTERVAL_PROPERTY =
+            "Actions.HTTPClient.RetryBackoff.MaxInterval";
+    private static final int DEFAULT_HTTP_RETRY_BACKOFF_INITIAL_INTERVAL_IN_MILLIS = 100;
+    private static final int DEFAULT_HTTP_RETRY_BACKOFF_MAX_INTERVAL_IN_MILLIS = 1000;
+    private static final String CIRCUIT_BREAKER_ENABLE_PROPERTY = "Actions.HTTPClient.CircuitBreaker.Enable";
+    private static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.FailureThreshold";
+    private static final String CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.OpenDuration";
+    private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = 5;
+    private static final int DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS = 30000;
+    private static final String EXECUTION_TIMEOUT_PROPERTY = "Actions.Execution.Timeout";
+    private static final String EXECUTION_THREAD_POOL_SIZE_PROPERTY = "Actions.Execution.ThreadPoolSize";
+    private static final int DEFAULT_EXECUTION_THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
     private static final String CASE_INSENSITIVE_HEADER_FILTERING =
             "Actions.ActionRequest.CaseInsensitiveHeaderFiltering";
 
@@ -136,6 +156,28 @@ public class ActionExecutorConfig {
         return poolSizePropertyValue;
     }
 
+    /**
+     * Returns the maximum number of pooled HTTP connections to a single action endpoint.
+     * Defaults to the connection pool size, as actions of a tenant commonly share an endpoint.
+     *
+     * @return The HTTP connection max per route, or the connection pool size if the property is missing or invalid.
+     */
+    public int getHttpConnectionMaxPerRoute() {
+
+        return parseIntConfig(HTTP_CONNECTION_MAX_PER_ROUTE_PROPERTY, getHttpConnectionPoolSize());
+    }
+
+    /**
+     * Retrieves the time after which idle pooled HTTP connections are evicted.
+     *
+     * @return The idle connection timeout in milliseconds.
+     */
+    public int getHttpIdleConnectionTimeoutInMillis() {
+
+        return parseTimeoutConfig(HTTP_IDLE_CONNECTION_TIMEOUT_PROPERTY,
+                DEFAULT_HTTP_IDLE_CONNECTION_TIMEOUT_IN_MILLIS);
+    }
+
     /**
      * Retrieves the HTTP read timeout configuration.
      * If the configuration value is invalid or missing, the default timeout value is parsed.
@@ -170,19 +212,136 @@ public class ActionExecutorConfig {
         return parseTimeoutConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
+    /**
+     * Retrieves the initial interval of the exponential backoff applied between HTTP request retries.
+     * The actual wait time is randomized between zero and the computed backoff interval.
+     *
+     * @return The initial retry backoff interval in milliseconds.
+     */
+    public int getHttpRetryBackoffInitialIntervalInMillis() {
+
+        return parseTimeoutConfig(HTTP_RETRY_BACKOFF_INITIAL_INTERVAL_PROPERTY,
+                DEFAULT_HTTP_RETRY_BACKOFF_INITIAL_INTERVAL_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the upper bound of the exponential backoff applied between HTTP request retries.
+     *
+     * @return The maximum retry backoff interval in milliseconds.
+     */
+    public int getHttpRetryBackoffMaxIntervalInMillis() {
+
+        return parseTimeoutConfig(HTTP_RETRY_BACKOFF_MAX_INTERVAL_PROPERTY,
+                DEFAULT_HTTP_RETRY_BACKOFF_MAX_INTERVAL_IN_MILLIS);
+    }
+
+    /**
+     * Returns whether the per endpoint circuit breaker is enabled. Disabled by default.
+     *
+     * @return true if the circuit breaker is enabled, false otherwise.
+     */
+    public boolean isCircuitBreakerEnabled() {
+
+        String circuitBreakerEnabledValue =
+                (String) IdentityConfigParser.getInstance().getConfiguration().get(CIRCUIT_BREAKER_ENABLE_PROPERTY);
+        if (StringUtils.isNotBlank(circuitBreakerEnabledValue)) {
+            return Boolean.parseBoolean(circuitBreakerEnabledValue);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of consecutive failed action invocations after which the circuit of an endpoint is opened.
+     *
+     * @return The circuit breaker failure threshold.
+     */
+    public int getCircuitBreakerFailureThreshold() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+    }
+
+    /**
+     * Returns the time an opened circuit rejects invocations before a trial invocation is allowed to the endpoint.
+     *
+     * @return The circuit breaker open duration in milliseconds.
+     */
+    public int getCircuitBreakerOpenDurationInMillis() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the maximum time allowed for executing an action of the given type, including retries.
+     * The action type specific configuration takes precedence over the common configuration. If neither is
+     * configured, the worst case time of the configured HTTP client timeouts, retries and backoff is used.
+     *
+     * @param actionType Action type.
+     * @return The action execution timeout in milliseconds.
+     */
+    public int getActionExecutionTimeoutInMillis(ActionType actionType) {
+
+        int retryCount = getHttpRequestRetryCount();
+        int attemptTimeout = getHttpConnectionRequestTimeoutInMillis() + getHttpConnectionTimeoutInMillis() +
+                getHttpReadTimeoutInMillis();
+        int defaultTimeout = attemptTimeout * retryCount +
+                getHttpRetryBackoffMaxIntervalInMillis() * Math.max(retryCount - 1, 0);
+        int timeout = parseTimeoutConfig(EXECUTION_TIMEOUT_PROPERTY, defaultTimeout);
+
+        ActionTypeConfig actionTypeConfig = getActionTypeConfig(actionType);
+        if (actionTypeConfig != null) {
+            timeout = parseTimeoutConfig(actionTypeConfig.getExecutionTimeoutProperty(), timeout);
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the size of the thread pool used to execute actions when virtual threads are not used.
+     *
+     * @return The action execution thread pool size.
+     */
+    public int getExecutionThreadPoolSize() {
+
+        return parseIntConfig(EXECUTION_THREAD_POOL_SIZE_PROPERTY, DEFAULT_EXECUTION_THREAD_POOL_SIZE);
+    }
+
+    private ActionTypeConfig getActionTypeConfig(ActionType actionType) {
+
+        switch (actionType) {
+            case PRE_ISSUE_ACCESS_TOKEN:
+                return ActionTypeConfig.PRE_ISSUE_ACCESS_TOKEN;
+            case AUTHENTICATION:
+                return ActionTypeConfig.AUTHENTICATION;
+            case PRE_UPDATE_PASSWORD:
+                return ActionTypeConfig.PRE_UPDATE_PASSWORD;
+            case PRE_UPDATE_PROFILE:
+                return ActionTypeConfig.PRE_UPDATE_PROFILE;
+            case PRE_ISSUE_ID_TOKEN:
+                return ActionTypeConfig.PRE_ISSUE_ID_TOKEN;
+            default:
+                return null;
+        }
+    }
+
     private int parseTimeoutConfig(String timeoutTypeName, int defaultTimeout) {
 
-        int timeoutPropertyValue = defaultTimeout;
-        String timeoutValue = (String) IdentityConfigParser.getInstance().getConfiguration().get(timeoutTypeName);
-        if (StringUtils.isNotBlank(timeoutValue)) {
+        return parseIntConfig(timeoutTypeName, defaultTimeout);
+    }
+
+    private int parseIntConfig(String propertyName, int defaultValue) {
+
+        int propertyValue = defaultValue;
+        String value = (String) IdentityConfigParser.getInstance().getConfiguration().get(propertyName);
+        if (StringUtils.isNotBlank(value)) {
             try {
-                timeoutPropertyValue = Integer.parseInt(timeoutValue);
+                propertyValue = Integer.parseInt(value);
             } catch (NumberFormatException e) {
-                LOG.debug("Failed to read " + timeoutTypeName + " property in identity.xml." +
-                        " Expects a number. Using the default value: " + defaultTimeout, e);
+                LOG.debug("Failed to read " + propertyName + " property in identity.xml." +
+                        " Expects a number. Using the default value: " + defaultValue, e);
             }
         }
-        return timeoutPropertyValue;
+        return propertyValue;
     }
 
     private boolean isActionTypeEnabled(String actionTypePropertyName) {
@@ -393,31 +552,36 @@ public class ActionExecutorConfig {
                 "Actions.Types.PreIssueAccessToken.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.PreIssueAccessToken.ActionRequest.AllowedHeaders.Header",
                 "Actions.Types.PreIssueAccessToken.ActionRequest.AllowedParameters.Parameter",
-                "Actions.Types.PreIssueAccessToken.Version.RetiredUpTo"),
+                "Actions.Types.PreIssueAccessToken.Version.RetiredUpTo",
+                "Actions.Types.PreIssueAccessToken.ExecutionTimeout"),
         AUTHENTICATION("Actions.Types.Authentication.Enable",
                 "Actions.Types.Authentication.ActionRequest.ExcludedHeaders.Header",
                 "Actions.Types.Authentication.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.Authentication.ActionRequest.AllowedHeaders.Header",
                 "Actions.Types.Authentication.ActionRequest.AllowedParameters.Parameter",
-                "Actions.Types.Authentication.Version.RetiredUpTo"),
+                "Actions.Types.Authentication.Version.RetiredUpTo",
+                "Actions.Types.Authentication.ExecutionTimeout"),
         PRE_UPDATE_PASSWORD("Actions.Types.PreUpdatePassword.Enable",
                 "Actions.Types.PreUpdatePassword.ActionRequest.ExcludedHeaders.Header",
                 "Actions.Types.PreUpdatePassword.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.PreUpdatePassword.ActionRequest.AllowedHeaders.Header",
                 "Actions.Types.PreUpdatePassword.ActionRequest.AllowedParameters.Parameter",
-                "Actions.Types.PreUpdatePassword.Version.RetiredUpTo"),
+                "Actions.Types.PreUpdatePassword.Version.RetiredUpTo",
+                "Actions.Types.PreUpdatePassword.ExecutionTimeout"),
         PRE_UPDATE_PROFILE("Actions.Types.PreUpdateProfile.Enable",
                 "Actions.Types.PreUpdateProfile.ActionRequest.ExcludedHeaders.Header",
                 "Actions.Types.PreUpdateProfile.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.PreUpdateProfile.ActionRequest.AllowedHeaders.Header",
                 "Actions.Types.PreUpdateProfile.ActionRequest.AllowedParameters.Parameter",
-                "Actions.Types.PreUpdateProfile.Version.RetiredUpTo"),
+                "Actions.Types.PreUpdateProfile.Version.RetiredUpTo",
+                "Actions.Types.PreUpdateProfile.ExecutionTimeout"),
         PRE_ISSUE_ID_TOKEN("Actions.Types.PreIssueIdToken.Enable",
                 "Actions.Types.PreIssueIdToken.ActionRequest.ExcludedHeaders.Header",
                 "Actions.Types.PreIssueIdToken.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.PreIssueIdToken.ActionRequest.AllowedHeaders.Header",
                 "Actions.Types.PreIssueIdToken.ActionRequest.AllowedParameters.Parameter",
-                "Actions.Types.PreIssueIdToken.Version.RetiredUpTo");
+                "Actions.Types.PreIssueIdToken.Version.RetiredUpTo",
+                "Actions.Types.PreIssueIdToken.ExecutionTimeout");
 
         private final String actionTypeEnableProperty;
         private final String excludedHeadersProperty;
@@ -425,10 +589,11 @@ public class ActionExecutorConfig {
         private final String allowedHeaderProperty;
         private final String allowedParamsProperty;
         private final String retiredUpToVersionProperty;
+        private final String executionTimeoutProperty;
 
         ActionTypeConfig(String actionTypeEnableProperty, String excludedHeadersProperty,
                          String excludedParamsProperty, String allowedHeaderProperty, String allowedParamsProperty,
-                         String retiredUpToVersionProperty) {
+                         String retiredUpToVersionProperty, String executionTimeoutProperty) {
 
             this.actionTypeEnableProperty = actionTypeEnableProperty;
             this.excludedHeadersProperty = excludedHeadersProperty;
@@ -436,6 +601,7 @@ public class ActionExecutorConfig {
             this.allowedHeaderProperty = allowedHeaderProperty;
             this.allowedParamsProperty = allowedParamsProperty;
             this.retiredUpToVersionProperty = retiredUpToVersionProperty;
+            this.executionTimeoutProperty = executionTimeoutProperty;
         }
 
         public String getActionTypeEnableProperty() {
@@ -467,5 +633,10 @@ public class ActionExecutorConfig {
 
             return retiredUpToVersionProperty;
         }
+
+        public String getExecutionTimeoutProperty() {
+
+            return executionTimeoutProperty;
+        }
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker which protects the action execution flow from an unresponsive external endpoint.
+ * <p>
+ * The circuit is opened once the configured number of consecutive invocations of the endpoint fail. While the
+ * circuit is open, invocations are rejected without calling the endpoint. After the open duration elapses a single
+ * trial invocation is allowed; the circuit is closed if it succeeds and opened again if it fails.
+ */
+public class EndpointCircuitBreaker {
+
+    /**
+     * States of the circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String endpoint;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long stateChangedAt;
+
+    /**
+     * @param endpoint             Endpoint protected by the circuit breaker.
+     * @param failureThreshold     Number of consecutive failures which opens the circuit.
+     * @param openDurationInMillis Time the circuit stays open before a trial invocation is allowed.
+     */
+    public EndpointCircuitBreaker(String endpoint, int failureThreshold, long openDurationInMillis) {
+
+        this.endpoint = endpoint;
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(openDurationInMillis, 0));
+    }
+
+    /**
+     * Check whether an invocation of the endpoint is allowed. If the open duration of an open circuit has elapsed,
+     * the circuit moves to the half open state and the caller is allowed to make the trial invocation. A trial
+     * invocation which does not report back within the open duration is superseded by a new trial invocation.
+     *
+     * @return true if the endpoint can be invoked, false otherwise.
+     */
+    public synchronized boolean allowRequest() {
+
+        if (state == State.CLOSED) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - stateChangedAt < openDurationNanos) {
+            return false;
+        }
+        state = State.HALF_OPEN;
+        stateChangedAt = now;
+        return true;
+    }
+
+    /**
+     * Record a successful invocation of the endpoint and close the circuit.
+     */
+    public synchronized void recordSuccess() {
+
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Record a failed invocation of the endpoint. Opens the circuit if the failure threshold is reached or if the
+     * failed invocation was the trial invocation of a half open circuit.
+     */
+    public synchronized void recordFailure() {
+
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            stateChangedAt = System.nanoTime();
+        }
+    }
+
+    public synchronized State getState() {
+
+        return state;
+    }
+
+    public String getEndpoint() {
+
+        return endpoint;
+    }
+}
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.action.execution.impl;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.pool.PoolStats;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -79,6 +80,7 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 import org.wso2.carbon.identity.rule.evaluation.api.service.RuleEvaluationService;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -86,6 +88,10 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -94,6 +100,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 
 public class ActionExecutorServiceImplTest {
 
@@ -837,6 +844,27 @@ public class ActionExecutorServiceImplTest {
         return action;
     }
 
+    @Test
+    public void testConnectionPoolStatsArePublishedOverJmx() throws Exception {
+
+        when(apiClient.getConnectionPoolStats()).thenReturn(new PoolStats(3, 1, 2, 20));
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName =
+                new ObjectName("org.wso2.carbon.identity:type=ActionExecutionConnectionPool,name=ActionAPIClient");
+
+        actionExecutorService.registerConnectionPoolMBean();
+        try {
+            CompositeData poolStats = (CompositeData) mBeanServer.getAttribute(objectName, "ConnectionPoolStats");
+            assertEquals(poolStats.get("leased"), 3);
+            assertEquals(poolStats.get("pending"), 1);
+            assertEquals(poolStats.get("available"), 2);
+            assertEquals(poolStats.get("max"), 20);
+        } finally {
+            actionExecutorService.unregisterConnectionPoolMBean();
+        }
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
     private void setField(Object target, String fieldName, Object value) throws Exception {
 
         Field field;
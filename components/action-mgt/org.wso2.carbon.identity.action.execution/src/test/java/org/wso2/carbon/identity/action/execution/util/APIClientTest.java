@@ -91,6 +91,7 @@ public class APIClientTest {
 
     private MockedStatic<ActionExecutorConfig> actionExecutorConfigStatic;
     private MockedStatic<LoggerUtils> loggerUtils;
+    private ActionExecutorConfig actionExecutorConfig;
     private final Map<String, String> headers = new HashMap<>();
 
     @InjectMocks
@@ -108,7 +109,7 @@ public class APIClientTest {
         actionExecutorConfigStatic = mockStatic(ActionExecutorConfig.class);
         loggerUtils = mockStatic(LoggerUtils.class);
         loggerUtils.when(() -> LoggerUtils.isDiagnosticLogsEnabled()).thenReturn(true);
-        ActionExecutorConfig actionExecutorConfig = mock(ActionExecutorConfig.class);
+        actionExecutorConfig = mock(ActionExecutorConfig.class);
         actionExecutorConfigStatic.when(ActionExecutorConfig::getInstance).thenReturn(actionExecutorConfig);
         when(actionExecutorConfig.getHttpConnectionPoolSize()).thenReturn(20);
         MockitoAnnotations.openMocks(this);
@@ -568,6 +569,94 @@ public class APIClientTest {
                 "Failed to execute the action request or maximum retry attempts reached.");
     }
 
+    @Test
+    public void testCallAPIRejectedWhenCircuitIsOpen() throws Exception {
+
+        when(actionExecutorConfig.isCircuitBreakerEnabled()).thenReturn(true);
+        when(actionExecutorConfig.getCircuitBreakerFailureThreshold()).thenReturn(2);
+        when(actionExecutorConfig.getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        when(httpClient.execute(any(HttpPost.class))).thenThrow(new ConnectTimeoutException("Connection Timeout"));
+
+        for (int i = 0; i < 2; i++) {
+            ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                    "http://circuit.example.com", null, headers, "{}");
+            assertEquals(response.getErrorLog(),
+                    "Failed to execute the action request or maximum retry attempts reached.");
+        }
+
+        ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                "http://circuit.example.com", null, headers, "{}");
+
+        assertTrue(response.isError());
+        assertEquals(response.getErrorLog(),
+                "Failed to execute the action request. The endpoint is temporarily unavailable.");
+        verify(httpClient, times(4)).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void testClientErrorsDoNotOpenCircuit() throws Exception {
+
+        when(actionExecutorConfig.isCircuitBreakerEnabled()).thenReturn(true);
+        when(actionExecutorConfig.getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(actionExecutorConfig.getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        when(httpClient.execute(any(HttpPost.class))).thenReturn(httpResponse);
+        when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_BAD_REQUEST);
+        when(httpResponse.getEntity()).thenAnswer(invocation -> {
+            InputStreamEntity entity = new InputStreamEntity(new ByteArrayInputStream(new byte[0]));
+            entity.setContentType(ContentType.DEFAULT_TEXT.getMimeType());
+            return entity;
+        });
+
+        for (int i = 0; i < 3; i++) {
+            ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                    "http://circuit.example.com", null, headers, "{}");
+            assertEquals(response.getErrorLog(), "Failed to execute the action request. Received status code: 400.");
+        }
+        verify(httpClient, times(3)).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void testExecutionTimeoutDoesNotOpenCircuit() throws Exception {
+
+        when(actionExecutorConfig.isCircuitBreakerEnabled()).thenReturn(true);
+        when(actionExecutorConfig.getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(actionExecutorConfig.getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        when(actionExecutorConfig.getActionExecutionTimeoutInMillis(ActionType.PRE_ISSUE_ACCESS_TOKEN))
+                .thenReturn(50);
+        when(httpClient.execute(any(HttpPost.class))).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            throw new SocketTimeoutException("Read Timeout");
+        });
+
+        for (int i = 0; i < 2; i++) {
+            ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                    "http://circuit.example.com", null, headers, "{}");
+            assertEquals(response.getErrorLog(),
+                    "Failed to execute the action request or maximum retry attempts reached.");
+        }
+        verify(httpClient, times(2)).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void testCallAPIStopsRetryingAfterExecutionTimeout() throws Exception {
+
+        when(actionExecutorConfig.getHttpRequestRetryCount()).thenReturn(3);
+        when(actionExecutorConfig.getActionExecutionTimeoutInMillis(ActionType.PRE_ISSUE_ACCESS_TOKEN))
+                .thenReturn(50);
+        when(httpClient.execute(any(HttpPost.class))).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            throw new SocketTimeoutException("Read Timeout");
+        });
+
+        ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                "http://example.com", null, headers, "{}");
+
+        assertTrue(response.isError());
+        assertEquals(response.getErrorLog(), "Failed to execute the action request or maximum retry attempts reached.");
+        verify(httpClient, times(1)).execute(any(HttpPost.class));
+    }
+
     private void setField(Object target, String fieldName, Object value) throws Exception {
 
         Field field = target.getClass().getDeclaredField(fieldName);
@@ -520,4 +520,39 @@ public class ActionExecutorConfigTest {
         when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
         assertTrue(actionExecutorConfig.isCaseInsensitiveHeaderFilteringEnabled());
     }
+
+    @Test
+    public void testGetActionExecutionTimeoutForActionTypeConfig() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.Execution.Timeout", "3000");
+        configMap.put("Actions.Types.PreIssueAccessToken.ExecutionTimeout", "1500");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        assertEquals(actionExecutorConfig.getActionExecutionTimeoutInMillis(ActionType.PRE_ISSUE_ACCESS_TOKEN), 1500);
+        assertEquals(actionExecutorConfig.getActionExecutionTimeoutInMillis(ActionType.AUTHENTICATION), 3000);
+    }
+
+    @Test
+    public void testGetActionExecutionTimeoutWhenNotConfigured() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPReadTimeout", "1000");
+        configMap.put("Actions.HTTPClient.HTTPConnectionTimeout", "500");
+        configMap.put("Actions.HTTPClient.HTTPConnectionRequestTimeout", "500");
+        configMap.put("Actions.HTTPClient.HTTPRequestRetryCount", "3");
+        configMap.put("Actions.HTTPClient.RetryBackoff.MaxInterval", "200");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        // Three attempts of 2000 ms each and two backoff intervals in between.
+        assertEquals(actionExecutorConfig.getActionExecutionTimeoutInMillis(ActionType.PRE_ISSUE_ACCESS_TOKEN), 6400);
+    }
+
+    @Test
+    public void testCircuitBreakerConfigWhenNotConfigured() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        assertFalse(actionExecutorConfig.isCircuitBreakerEnabled());
+        assertEquals(actionExecutorConfig.getCircuitBreakerFailureThreshold(), 5);
+        assertEquals(actionExecutorConfig.getCircuitBreakerOpenDurationInMillis(), 30000);
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.internal.util.EndpointCircuitBreaker;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class EndpointCircuitBreakerTest {
+
+    private static final String ENDPOINT = "http://example.com";
+
+    @Test
+    public void testCircuitOpensAfterConsecutiveFailures() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, 3, 60000);
+
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordFailure();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testCircuitAllowsSingleTrialRequestAfterOpenDuration() throws Exception {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, 1, 50);
+        circuitBreaker.recordFailure();
+        assertFalse(circuitBreaker.allowRequest());
+
+        Thread.sleep(100);
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.HALF_OPEN);
+        assertFalse(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordFailure();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.allowRequest());
+
+        Thread.sleep(100);
+        assertTrue(circuitBreaker.allowRequest());
+        circuitBreaker.recordSuccess();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowRequest());
+    }
+}
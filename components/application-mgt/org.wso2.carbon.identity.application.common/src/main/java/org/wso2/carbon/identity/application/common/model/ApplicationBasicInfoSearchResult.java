@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.common.model;
+
+/**
+ * A page of basic application information returned by cursor based pagination.
+ */
+public class ApplicationBasicInfoSearchResult {
+
+    public static final int TOTAL_COUNT_NOT_CALCULATED = -1;
+
+    private final ApplicationBasicInfo[] applicationBasicInfos;
+    private final String nextCursor;
+    private final int totalCount;
+
+    public ApplicationBasicInfoSearchResult(ApplicationBasicInfo[] applicationBasicInfos, String nextCursor,
+                                            int totalCount) {
+
+        this.applicationBasicInfos = applicationBasicInfos;
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+    }
+
+    public ApplicationBasicInfo[] getApplicationBasicInfos() {
+
+        return applicationBasicInfos;
+    }
+
+    /**
+     * @return Cursor to be used to retrieve the next page. Null if this is the last page.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    /**
+     * @return Total count of the matching applications, or {@link #TOTAL_COUNT_NOT_CALCULATED} if it was not
+     * requested.
+     */
+    public int getTotalCount() {
+
+        return totalCount;
+    }
+}
@@ -130,6 +130,12 @@ public class ApplicationConstants {
             "ApplicationMgt.TrustedAppMaxThumbprintCount";
     public static final String ENABLE_CROSS_TENANT_AUTHORIZED_API_VALIDATION_PROPERTY =
             "ApplicationMgt.EnableCrossTenantAuthorizedApiValidation";
+    public static final String CACHE_WARM_UP_ENABLE_PROPERTY = "ApplicationMgt.CacheWarmUp.Enable";
+    public static final String CACHE_WARM_UP_TENANTS_PROPERTY = "ApplicationMgt.CacheWarmUp.Tenants";
+    public static final String CACHE_WARM_UP_SP_COUNT_PROPERTY = "ApplicationMgt.CacheWarmUp.ServiceProviderCount";
+    public static final String CACHE_WARM_UP_SPS_PROPERTY = "ApplicationMgt.CacheWarmUp.ServiceProviders";
+    public static final String CACHE_WARM_UP_IDP_COUNT_PROPERTY = "ApplicationMgt.CacheWarmUp.IdentityProviderCount";
+    public static final String CACHE_WARM_UP_IDPS_PROPERTY = "ApplicationMgt.CacheWarmUp.IdentityProviders";
 
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
 
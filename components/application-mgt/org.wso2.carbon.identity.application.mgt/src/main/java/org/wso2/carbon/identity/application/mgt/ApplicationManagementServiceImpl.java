@@ -38,6 +38,7 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.application.common.IdentityApplicationRegistrationFailureException;
 import org.wso2.carbon.identity.application.common.exception.AuthenticatorMgtException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfoSearchResult;
 import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.DefaultAuthenticationSequence;
@@ -664,6 +665,110 @@ public class ApplicationManagementServiceImpl extends ApplicationManagementServi
         return applicationBasicInfoArray;
     }
 
+    @Override
+    public ApplicationBasicInfoSearchResult getApplicationBasicInfo(String tenantDomain, String username,
+                                                                    String filter, String after, int limit,
+                                                                    Boolean excludeSystemPortals,
+                                                                    boolean includeTotalCount)
+            throws IdentityApplicationManagementException {
+
+        int afterApplicationId = decodeApplicationCursor(after);
+        ApplicationBasicInfo[] applicationBasicInfoArray;
+        String nextCursor = null;
+
+        try {
+            startTenantFlow(tenantDomain, username);
+            ApplicationDAO appDAO = ApplicationMgtSystemConfig.getInstance().getApplicationDAO();
+
+            if (!(appDAO instanceof PaginatableFilterableApplicationDAO)) {
+                throw new UnsupportedOperationException("Application filtering and pagination not supported in " +
+                        appDAO.getClass().getName() + " with tenant domain: " + tenantDomain);
+            }
+            // Listeners are not aware of cursors, hence they are invoked with a zero offset for every page.
+            Collection<ApplicationMgtListener> listeners = getApplicationMgtListeners();
+            for (ApplicationMgtListener listener : listeners) {
+                if (listener.isEnable() && listener instanceof AbstractApplicationMgtListener &&
+                        !((AbstractApplicationMgtListener) listener).doPreGetApplicationBasicInfo
+                                (tenantDomain, username, filter, 0, limit)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Invoking pre listener: " + listener.getClass().getName());
+                    }
+                    return new ApplicationBasicInfoSearchResult(new ApplicationBasicInfo[0], null,
+                            ApplicationBasicInfoSearchResult.TOTAL_COUNT_NOT_CALCULATED);
+                }
+            }
+
+            // One more application than the limit is fetched to find out whether there is a next page.
+            int fetchLimit = limit > 0 && limit < Integer.MAX_VALUE ? limit + 1 : limit;
+            applicationBasicInfoArray = ((PaginatableFilterableApplicationDAO) appDAO)
+                    .getApplicationBasicInfoAfter(filter, afterApplicationId, fetchLimit, excludeSystemPortals);
+            if (applicationBasicInfoArray == null) {
+                applicationBasicInfoArray = new ApplicationBasicInfo[0];
+            }
+            if (applicationBasicInfoArray.length > limit) {
+                applicationBasicInfoArray = Arrays.copyOf(applicationBasicInfoArray, limit);
+                nextCursor = encodeApplicationCursor(getMinApplicationId(applicationBasicInfoArray));
+            }
+
+            for (ApplicationMgtListener listener : listeners) {
+                if (listener.isEnable() && listener instanceof AbstractApplicationMgtListener &&
+                        !((AbstractApplicationMgtListener) listener).doPostGetApplicationBasicInfo
+                                (tenantDomain, username, filter, 0, limit, applicationBasicInfoArray)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Invoking post listener: " + listener.getClass().getName());
+                    }
+                    return new ApplicationBasicInfoSearchResult(new ApplicationBasicInfo[0], null,
+                            ApplicationBasicInfoSearchResult.TOTAL_COUNT_NOT_CALCULATED);
+                }
+            }
+        } finally {
+            endTenantFlow();
+        }
+
+        // Counting scans every matching row, so it is only done when the caller asks for it.
+        int totalCount = includeTotalCount ?
+                getCountOfApplications(tenantDomain, username, filter, excludeSystemPortals) :
+                ApplicationBasicInfoSearchResult.TOTAL_COUNT_NOT_CALCULATED;
+        return new ApplicationBasicInfoSearchResult(applicationBasicInfoArray, nextCursor, totalCount);
+    }
+
+    /**
+     * The next page starts below the smallest id of the current page, so that no application is skipped even if the
+     * database does not return the page in the descending order of the ids.
+     */
+    private static int getMinApplicationId(ApplicationBasicInfo[] applicationBasicInfoArray) {
+
+        int minApplicationId = Integer.MAX_VALUE;
+        for (ApplicationBasicInfo applicationBasicInfo : applicationBasicInfoArray) {
+            minApplicationId = Math.min(minApplicationId, applicationBasicInfo.getApplicationId());
+        }
+        return minApplicationId;
+    }
+
+    private static String encodeApplicationCursor(int applicationId) {
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(applicationId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeApplicationCursor(String cursor) throws IdentityApplicationManagementClientException {
+
+        if (StringUtils.isBlank(cursor)) {
+            return 0;
+        }
+        try {
+            int applicationId = Integer.parseInt(
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (applicationId > 0) {
+                return applicationId;
+            }
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException. Handled below as an invalid cursor.
+        }
+        throw new IdentityApplicationManagementClientException(Error.INVALID_CURSOR.getCode(),
+                "Invalid cursor: " + cursor);
+    }
+
     @Override
     public ApplicationBasicInfo getApplicationBasicInfoByName(String name, String tenantDomain)
             throws IdentityApplicationManagementException {
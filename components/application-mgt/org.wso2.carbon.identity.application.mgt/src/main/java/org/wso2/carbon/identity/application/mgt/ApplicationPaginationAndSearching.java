@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.mgt;
 
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfoSearchResult;
 
 /**
  * Application pagination and searching API
@@ -121,6 +122,30 @@ public interface ApplicationPaginationAndSearching {
         return new ApplicationBasicInfo[0];
     }
 
+    /**
+     * Get basic application information for a matching filter with cursor based pagination. The cursor of the next
+     * page is returned with the result, and the cost of reading a page does not depend on its position.
+     *
+     * @param tenantDomain         Tenant Domain.
+     * @param username             User name.
+     * @param filter               Application name filter.
+     * @param after                Cursor returned with the previous page. Null for the first page.
+     * @param limit                Counting value.
+     * @param excludeSystemPortals Exclude system portals.
+     * @param includeTotalCount    Whether the total count of the matching applications should be calculated.
+     * @return Applications of the page along with the cursor of the next page.
+     * @throws IdentityApplicationManagementException Error in retrieving basic application information.
+     */
+    default ApplicationBasicInfoSearchResult getApplicationBasicInfo(String tenantDomain, String username,
+                                                                     String filter, String after, int limit,
+                                                                     Boolean excludeSystemPortals,
+                                                                     boolean includeTotalCount)
+            throws IdentityApplicationManagementException {
+
+        return new ApplicationBasicInfoSearchResult(new ApplicationBasicInfo[0], null,
+                ApplicationBasicInfoSearchResult.TOTAL_COUNT_NOT_CALCULATED);
+    }
+
     /**
      * Get count of all Application Basic Information.
      *
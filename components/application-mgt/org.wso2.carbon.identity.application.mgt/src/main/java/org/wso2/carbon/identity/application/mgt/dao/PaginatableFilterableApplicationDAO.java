@@ -113,6 +113,25 @@ public interface PaginatableFilterableApplicationDAO extends ApplicationDAO {
         return null;
     }
 
+    /**
+     * Get basic application information for a matching filter using keyset pagination. Applications are returned in
+     * the descending order of their internal id, starting right after the given id. Unlike offset based pagination,
+     * the cost of reading a page does not grow with the number of preceding pages.
+     *
+     * @param filter               Application name filter. A blank filter or '*' lists all applications.
+     * @param afterApplicationId   Internal id of the last application of the previous page. Zero for the first page.
+     * @param limit                Count value.
+     * @param excludeSystemPortals Exclude system portals.
+     * @return An array of {@link ApplicationBasicInfo} instances matching the given filter within the given limit.
+     * @throws IdentityApplicationManagementException Error in retrieving basic application information.
+     */
+    default ApplicationBasicInfo[] getApplicationBasicInfoAfter(String filter, int afterApplicationId, int limit,
+                                                                Boolean excludeSystemPortals)
+            throws IdentityApplicationManagementException {
+
+        return null;
+    }
+
     /**
      * Get count of applications.
      *
@@ -94,6 +94,8 @@ import org.wso2.carbon.identity.core.model.FilterData;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
 import org.wso2.carbon.identity.core.model.Node;
 import org.wso2.carbon.identity.core.model.OperationNode;
+import org.wso2.carbon.identity.core.util.DatabaseDialect;
+import org.wso2.carbon.identity.core.util.DialectSpecificQuery;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -237,6 +239,10 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private static final String AUDIT_FAIL = "Fail";
     private static final String ASTERISK = "*";
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    private static final int MAX_AUTHENTICATORS_PER_QUERY = 100;
+    private static final DialectSpecificQuery GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY =
+            new DialectSpecificQuery(ApplicationMgtDBQueries.GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY)
+                    .with(ApplicationMgtDBQueries.GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY_H2, DatabaseDialect.H2);
 
     private List<String> standardInboundAuthTypes;
     public static final String USE_DOMAIN_IN_ROLES = "USE_DOMAIN_IN_ROLES";
@@ -2112,6 +2118,44 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
 
         validateAttributesForPagination(offset, limit);
+        return getFilteredApplicationBasicInfo(filter, offset, limit,
+                populateSystemPortalsExcludeQuery(excludeSystemPortals, true));
+    }
+
+    @Override
+    public ApplicationBasicInfo[] getApplicationBasicInfoAfter(String filter, int afterApplicationId, int limit,
+                                                               Boolean excludeSystemPortals)
+            throws IdentityApplicationManagementException {
+
+        validateAttributesForPagination(0, limit);
+        boolean filtered = StringUtils.isNotBlank(filter) && !filter.equals(ASTERISK);
+        /*
+         Applications are listed in the descending order of their id. Starting the page right after the last id of
+         the previous page lets the database seek on the primary key instead of reading and discarding every row of
+         the previous pages, so the existing queries are used with a zero offset.
+         */
+        String conditions = populateSystemPortalsExcludeQuery(excludeSystemPortals, filtered);
+        if (afterApplicationId > 0) {
+            conditions = String.format(filtered ? ApplicationMgtDBQueries.APP_ID_BEFORE_BY_TABLE_NAME :
+                    ApplicationMgtDBQueries.APP_ID_BEFORE, afterApplicationId) + conditions;
+        }
+        return filtered ? getFilteredApplicationBasicInfo(filter, 0, limit, conditions) :
+                getAllApplicationBasicInfo(0, limit, conditions);
+    }
+
+    /**
+     * Get basic application information for a matching filter.
+     *
+     * @param filter               Application name filter.
+     * @param offset               Starting index of the count.
+     * @param limit                Count value.
+     * @param additionalConditions Additional conditions appended to the where clause of the query.
+     * @return An array of {@link ApplicationBasicInfo} instances.
+     * @throws IdentityApplicationManagementException Error in retrieving basic application information.
+     */
+    private ApplicationBasicInfo[] getFilteredApplicationBasicInfo(String filter, int offset, int limit,
+                                                                   String additionalConditions)
+            throws IdentityApplicationManagementException {
 
         int tenantID = CarbonContext.getThreadLocalCarbonContext().getTenantId();
 
@@ -2127,44 +2171,43 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
             List<String> filterValues = filterData.getFilterValues();
             String filterString = filterData.getFilterString();
-            String excludeSystemPortalsQueryString = populateSystemPortalsExcludeQuery(excludeSystemPortals, true);
 
             String databaseProductName = connection.getMetaData().getDatabaseProductName();
             if (databaseProductName.contains("MySQL")
                     || databaseProductName.contains("MariaDB")
                     || databaseProductName.contains("H2")) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_MYSQL,
-                        excludeSystemPortalsQueryString , filterString);
+                        additionalConditions, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, offset, limit);
             } else if (databaseProductName.contains("Oracle")) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_ORACLE,
-                        excludeSystemPortalsQueryString, filterString);
+                        additionalConditions, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, offset + limit, offset);
             } else if (databaseProductName.contains("Microsoft")) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_MSSQL,
-                        excludeSystemPortalsQueryString, filterString);
+                        additionalConditions, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, offset, limit);
             } else if (databaseProductName.contains("PostgreSQL")) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_POSTGRESQL,
-                        excludeSystemPortalsQueryString, filterString);
+                        additionalConditions, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, limit, offset);
             } else if (databaseProductName.contains("DB2")) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_DB2SQL,
-                        excludeSystemPortalsQueryString, filterString);
+                        additionalConditions, filterString);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateApplicationSearchQuery(getAppNamesStmt, tenantID, filterValues, offset, offset + limit);
             } else if (databaseProductName.contains("INFORMIX")) {
                 sqlQuery = String.format(
                         ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_INFORMIX,
-                        excludeSystemPortalsQueryString, filterString);
+                        additionalConditions, filterString);
                 String filterValueResolvedForSQL;
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 getAppNamesStmt.setInt(1, offset);
@@ -2313,9 +2356,9 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
             serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
 
-            // Set role associations.
-            serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
+            // Set role associations. The allowed audience is taken from the already loaded properties.
+            serviceProvider.setAssociatedRolesConfig(getAssociatedRoles(serviceProvider.getApplicationResourceId(),
+                    connection, tenantID, getAllowedRoleAudience(propertyList)));
             // Will be supported with 'Advance Consent Management Feature'.
             /*
             ConsentConfig consentConfig = serviceProvider.getConsentConfig();
@@ -2338,11 +2381,18 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
+        String allowedAudience = getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME,
+                IdentityTenantUtil.getTenantDomain(tenantID));
+        return getAssociatedRoles(applicationId, connection, tenantID, allowedAudience);
+    }
+
+    private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID,
+                                                     String allowedAudience)
+            throws IdentityApplicationManagementException {
+
         String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantID);
         AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
         List<String> associatedRoleIds = new ArrayList<>();
-        String allowedAudience =
-                getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME, tenantDomain);
         if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
             try (NamedPreparedStatement preparedStatement = new NamedPreparedStatement(connection,
                     ApplicationMgtDBQueries.LOAD_ASSOCIATED_ROLES)) {
@@ -2579,6 +2629,15 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                 .orElse(StringUtils.EMPTY);
     }
 
+    private String getAllowedRoleAudience(List<ServiceProviderProperty> propertyList) {
+
+        return propertyList.stream()
+                .filter(property -> ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME.equals(property.getName()))
+                .findFirst()
+                .map(ServiceProviderProperty::getValue)
+                .orElse(StringUtils.EMPTY);
+    }
+
     private String getAppleAppId(List<ServiceProviderProperty> propertyList) {
 
         return propertyList.stream()
@@ -2781,38 +2840,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return "1".equals(booleanValueAsString);
     }
 
-    /**
-     * @param applicationid
-     * @param tenantID
-     * @param connection
-     * @return
-     * @throws SQLException
-     */
-    private String getAuthenticationType(int applicationid, int tenantID, Connection connection)
-            throws SQLException {
-
-        PreparedStatement authTypeStmt = null;
-        ResultSet authTypeResultSet = null;
-        try {
-            authTypeStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_AUTH_TYPE_BY_APP_ID);
-            authTypeStmt.setInt(1, applicationid);
-            authTypeStmt.setInt(2, tenantID);
-            authTypeResultSet = authTypeStmt.executeQuery();
-
-            if (authTypeResultSet.next()) {
-                return authTypeResultSet.getString(1);
-            }
-
-            return ApplicationConstants.AUTH_TYPE_DEFAULT;
-
-        } finally {
-            IdentityApplicationManagementUtil.closeResultSet(authTypeResultSet);
-            IdentityApplicationManagementUtil.closeStatement(authTypeStmt);
-        }
-
-    }
-
     /**
      * This method will be heavily used by the Authentication Framework. The framework would ask for
      * application data with the given client key and secrete
@@ -3148,24 +3175,37 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             Map<String, Map<String, List<FederatedAuthenticatorConfig>>> stepFedIdPAuthenticators = new HashMap<>();
             Map<String, List<LocalAuthenticatorConfig>> stepLocalAuth = new HashMap<>();
 
+            // Read all the step rows first, so that the authenticators of all the steps are loaded in one query.
+            List<Object[]> stepRows = new ArrayList<>();
+            Set<Integer> authenticatorIds = new HashSet<>();
             while (stepInfoResultSet.next()) {
+                int authenticatorId = stepInfoResultSet.getInt(2);
+                stepRows.add(new Object[]{stepInfoResultSet.getInt(1), authenticatorId,
+                        stepInfoResultSet.getString(3), stepInfoResultSet.getString(4)});
+                authenticatorIds.add(authenticatorId);
+            }
+            Set<String> federationHubIdPs = new HashSet<>();
+            Map<Integer, Map<String, String>> authenticatorInfoById = getAuthenticatorInfo(connection, tenantId,
+                    authenticatorIds, federationHubIdPs);
+
+            for (Object[] stepRow : stepRows) {
 
-                String step = String.valueOf(stepInfoResultSet.getInt(1));
+                int stepOrder = (Integer) stepRow[0];
+                String step = String.valueOf(stepOrder);
                 AuthenticationStep authStep;
 
                 if (authSteps.containsKey(step)) {
                     authStep = authSteps.get(step);
                 } else {
                     authStep = new AuthenticationStep();
-                    authStep.setStepOrder(stepInfoResultSet.getInt(1));
+                    authStep.setStepOrder(stepOrder);
                     stepLocalAuth.put(step, new ArrayList<LocalAuthenticatorConfig>());
                     stepFedIdPAuthenticators.put(step,
                             new HashMap<String, List<FederatedAuthenticatorConfig>>());
                 }
 
-                int authenticatorId = stepInfoResultSet.getInt(2);
-                Map<String, String> authenticatorInfo = getAuthenticatorInfo(connection, tenantId,
-                        authenticatorId);
+                Map<String, String> authenticatorInfo = authenticatorInfoById.getOrDefault((Integer) stepRow[1],
+                        new HashMap<>());
 
                 if (authenticatorInfo != null
                         && authenticatorInfo.get(ApplicationConstants.IDP_NAME) != null
@@ -3201,8 +3241,8 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                     idpAuths.add(fedAuthenticator);
                 }
 
-                authStep.setSubjectStep("1".equals(stepInfoResultSet.getString(3)));
-                authStep.setAttributeStep("1".equals(stepInfoResultSet.getString(4)));
+                authStep.setSubjectStep("1".equals(stepRow[2]));
+                authStep.setAttributeStep("1".equals(stepRow[3]));
 
                 authSteps.put(step, authStep);
             }
@@ -3240,7 +3280,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                         List<FederatedAuthenticatorConfig> fedAuthenticators = idpEntry.getValue();
                         IdentityProvider idp = new IdentityProvider();
                         idp.setIdentityProviderName(idpName);
-                        idp.setFederationHub(isFederationHubIdP(idpName, connection, tenantId));
+                        idp.setFederationHub(federationHubIdPs.contains(idpName));
                         idp.setFederatedAuthenticatorConfigs(
                                 fedAuthenticators.toArray(new FederatedAuthenticatorConfig[fedAuthenticators.size()]));
                         idp.setDefaultAuthenticatorConfig(idp.getFederatedAuthenticatorConfigs()[0]);
@@ -3271,7 +3311,38 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
             localAndOutboundConfiguration.setAuthenticationSteps(authenticationSteps);
 
-            String authType = getAuthenticationType(applicationId, tenantId, connection);
+            String authType = ApplicationConstants.AUTH_TYPE_DEFAULT;
+            PreparedStatement localAndOutboundConfigPrepStmt = null;
+            ResultSet localAndOutboundConfigResultSet = null;
+
+            try {
+                // Auth type and the local and outbound configurations are read from the same row of SP_APP.
+                localAndOutboundConfigPrepStmt = connection.prepareStatement(
+                        ApplicationMgtDBQueries.LOAD_AUTH_TYPE_AND_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID);
+                localAndOutboundConfigPrepStmt.setInt(1, tenantId);
+                localAndOutboundConfigPrepStmt.setInt(2, applicationId);
+                localAndOutboundConfigResultSet = localAndOutboundConfigPrepStmt.executeQuery();
+
+                if (localAndOutboundConfigResultSet.next()) {
+                    authType = localAndOutboundConfigResultSet.getString(1);
+                    localAndOutboundConfiguration.setUseTenantDomainInLocalSubjectIdentifier("1"
+                            .equals(localAndOutboundConfigResultSet.getString(2)));
+                    localAndOutboundConfiguration.setUseUserstoreDomainInLocalSubjectIdentifier("1"
+                            .equals(localAndOutboundConfigResultSet.getString(3)));
+                    localAndOutboundConfiguration.setEnableAuthorization("1"
+                            .equals(localAndOutboundConfigResultSet.getString(4)));
+                    localAndOutboundConfiguration.setAlwaysSendBackAuthenticatedListOfIdPs("1"
+                            .equals(localAndOutboundConfigResultSet.getString(5)));
+                    localAndOutboundConfiguration.setSubjectClaimUri(localAndOutboundConfigResultSet
+                            .getString(6));
+
+                    readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfiguration);
+                }
+            } finally {
+                IdentityApplicationManagementUtil.closeStatement(localAndOutboundConfigPrepStmt);
+                IdentityApplicationManagementUtil.closeResultSet(localAndOutboundConfigResultSet);
+            }
+
             if (StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FEDERATED)
                     || StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FLOW)) {
                 if (ArrayUtils.isEmpty(authenticationSteps)) {
@@ -3295,35 +3366,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                 localAndOutboundConfiguration.setAuthenticationScriptConfig(authenticationScriptConfig);
             }
 
-            PreparedStatement localAndOutboundConfigPrepStmt = null;
-            ResultSet localAndOutboundConfigResultSet = null;
-
-            try {
-                localAndOutboundConfigPrepStmt = connection
-                        .prepareStatement(ApplicationMgtDBQueries.LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID);
-                localAndOutboundConfigPrepStmt.setInt(1, tenantId);
-                localAndOutboundConfigPrepStmt.setInt(2, applicationId);
-                localAndOutboundConfigResultSet = localAndOutboundConfigPrepStmt.executeQuery();
-
-                if (localAndOutboundConfigResultSet.next()) {
-                    localAndOutboundConfiguration.setUseTenantDomainInLocalSubjectIdentifier("1"
-                            .equals(localAndOutboundConfigResultSet.getString(1)));
-                    localAndOutboundConfiguration.setUseUserstoreDomainInLocalSubjectIdentifier("1"
-                            .equals(localAndOutboundConfigResultSet.getString(2)));
-                    localAndOutboundConfiguration.setEnableAuthorization("1"
-                            .equals(localAndOutboundConfigResultSet.getString(3)));
-                    localAndOutboundConfiguration.setAlwaysSendBackAuthenticatedListOfIdPs("1"
-                            .equals(localAndOutboundConfigResultSet.getString(4)));
-                    localAndOutboundConfiguration.setSubjectClaimUri(localAndOutboundConfigResultSet
-                            .getString(5));
-
-                    readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfiguration);
-                }
-            } finally {
-                IdentityApplicationManagementUtil.closeStatement(localAndOutboundConfigPrepStmt);
-                IdentityApplicationManagementUtil.closeResultSet(localAndOutboundConfigResultSet);
-            }
-
             return localAndOutboundConfiguration;
         } finally {
             IdentityApplicationManagementUtil.closeStatement(getStepInfoPrepStmt);
@@ -3386,31 +3428,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return null;
     }
 
-    private boolean isFederationHubIdP(String idPName, Connection connection, int tenantId)
-            throws SQLException {
-
-        PreparedStatement get = null;
-        ResultSet resultSet = null;
-
-        try {
-            get = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_HUB_IDP_BY_NAME);
-
-            get.setString(1, idPName);
-            get.setInt(2, tenantId);
-            resultSet = get.executeQuery();
-
-            if (resultSet.next()) {
-                return "1".equals(resultSet.getString(1));
-            }
-
-            return false;
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(get);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
-        }
-
-    }
-
     /**
      * @param applicationId
      * @param connection
@@ -4235,6 +4252,21 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             throws IdentityApplicationManagementException {
 
         validateAttributesForPagination(offset, limit);
+        return getAllApplicationBasicInfo(offset, limit,
+                populateSystemPortalsExcludeQuery(excludeSystemPortals, false));
+    }
+
+    /**
+     * Get all the basic application information based on the offset and the limit.
+     *
+     * @param offset               Starting index of the count.
+     * @param limit                Count value.
+     * @param additionalConditions Additional conditions appended to the where clause of the query.
+     * @return An array of {@link ApplicationBasicInfo} instances.
+     * @throws IdentityApplicationManagementException Error in retrieving basic application information.
+     */
+    private ApplicationBasicInfo[] getAllApplicationBasicInfo(int offset, int limit, String additionalConditions)
+            throws IdentityApplicationManagementException {
 
         int tenantID = CarbonContext.getThreadLocalCarbonContext().getTenantId();
 
@@ -4243,7 +4275,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         ResultSet appNameResultSet = null;
         String sqlQuery;
         ArrayList<ApplicationBasicInfo> appInfo = new ArrayList<ApplicationBasicInfo>();
-        String excludeSystemPortalsQueryString = populateSystemPortalsExcludeQuery(excludeSystemPortals, false);
 
         try {
             String databaseProductName = connection.getMetaData().getDatabaseProductName();
@@ -4251,32 +4282,32 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                     || databaseProductName.contains("MariaDB")
                     || databaseProductName.contains("H2")) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_MYSQL,
-                        excludeSystemPortalsQueryString);
+                        additionalConditions);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, offset, limit, getAppNamesStmt);
             } else if (databaseProductName.contains("Oracle")) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_ORACLE,
-                        excludeSystemPortalsQueryString);
+                        additionalConditions);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, offset + limit, offset, getAppNamesStmt);
             } else if (databaseProductName.contains("Microsoft")) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_MSSQL,
-                        excludeSystemPortalsQueryString);
+                        additionalConditions);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, offset, limit, getAppNamesStmt);
             } else if (databaseProductName.contains("PostgreSQL")) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_POSTGRESQL,
-                        excludeSystemPortalsQueryString);
+                        additionalConditions);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, limit, offset, getAppNamesStmt);
             } else if (databaseProductName.contains("DB2")) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_DB2SQL,
-                        excludeSystemPortalsQueryString);
+                        additionalConditions);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 populateListAppNamesQueryValues(tenantID, offset, offset + limit, getAppNamesStmt);
             } else if (databaseProductName.contains("INFORMIX")) {
                 sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_INFORMIX,
-                        excludeSystemPortalsQueryString);
+                        additionalConditions);
                 getAppNamesStmt = connection.prepareStatement(sqlQuery);
                 getAppNamesStmt.setInt(1, offset);
                 getAppNamesStmt.setInt(2, limit);
@@ -4828,7 +4859,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         String applicationName = null;
 
-        // Reading application name from the database
+        // Reading application name from the database. The primary is used as the result is cached.
         Connection connection = IdentityDatabaseUtil.getDBConnection(false);
         PreparedStatement storeAppPrepStmt = null;
         ResultSet appNameResult = null;
@@ -4869,7 +4900,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         int tenantID = getTenantId(tenantDomain);
         String applicationResourceId = null;
-        // Reading application resource id from the database.
+        // Reading application resource id from the database. The primary is used as the result is cached.
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
             try (PreparedStatement statement =
                          connection.prepareStatement(ApplicationMgtDBQueries.LOAD_APP_UUID_BY_CLIENT_ID_AND_TYPE)) {
@@ -4932,7 +4963,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         PreparedStatement getClaimPreStmt = null;
         ResultSet resultSet = null;
-        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        Connection connection = IdentityDatabaseUtil.getReadOnlyDBConnection();
         try {
             getClaimPreStmt = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_CLAIM_MAPPING_BY_APP_NAME);
             // IDP_CLAIM, SP_CLAIM, IS_REQUESTED
@@ -5004,7 +5035,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         PreparedStatement getClaimPreStmt = null;
         ResultSet resultSet = null;
-        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        Connection connection = IdentityDatabaseUtil.getReadOnlyDBConnection();
         try {
 
             getClaimPreStmt = connection
@@ -5097,38 +5128,54 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     }
 
     /**
-     * @param conn
-     * @param tenantId
-     * @param authenticatorId
-     * @return
-     * @throws SQLException
+     * Load the IdP and authenticator names of the given authenticators with as few queries as possible.
+     *
+     * @param conn              Database connection.
+     * @param tenantId          Tenant ID of the application.
+     * @param authenticatorIds  IDs of the authenticators.
+     * @param federationHubIdPs Names of the federation hub IdPs of the tenant among the loaded IdPs are added to
+     *                          this set.
+     * @return Authenticator information keyed by the authenticator ID.
+     * @throws SQLException If an error occurs while loading the authenticators.
      */
-    private Map<String, String> getAuthenticatorInfo(Connection conn, int tenantId,
-                                                     int authenticatorId) throws SQLException {
+    private Map<Integer, Map<String, String>> getAuthenticatorInfo(Connection conn, int tenantId,
+                                                                   Collection<Integer> authenticatorIds,
+                                                                   Set<String> federationHubIdPs)
+            throws SQLException {
 
-        PreparedStatement prepStmt = null;
-        ResultSet rs = null;
-        String sqlStmt = ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES;
-        Map<String, String> returnData = new HashMap<String, String>();
-        try {
-            prepStmt = conn.prepareStatement(sqlStmt);
-            prepStmt.setInt(1, authenticatorId);
-            prepStmt.setInt(2, tenantId);
-            prepStmt.setInt(3, tenantId);
-            prepStmt.setInt(4, MultitenantConstants.SUPER_TENANT_ID);
-            prepStmt.setInt(5, MultitenantConstants.SUPER_TENANT_ID);
-            rs = prepStmt.executeQuery();
-            while (rs.next()) {
-                returnData.put(ApplicationConstants.IDP_NAME, rs.getString(1));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_NAME, rs.getString(2));
-                returnData
-                        .put(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME, rs.getString(3));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE, rs.getString(4));
+        Map<Integer, Map<String, String>> authenticatorInfo = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(authenticatorIds);
+        for (int from = 0; from < ids.size(); from += MAX_AUTHENTICATORS_PER_QUERY) {
+            List<Integer> batch = ids.subList(from, Math.min(from + MAX_AUTHENTICATORS_PER_QUERY, ids.size()));
+            String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES_BY_IDS,
+                    String.join(", ", Collections.nCopies(batch.size(), "?")));
+            try (PreparedStatement prepStmt = conn.prepareStatement(sqlStmt)) {
+                int index = 1;
+                for (Integer id : batch) {
+                    prepStmt.setInt(index++, id);
+                }
+                prepStmt.setInt(index++, tenantId);
+                prepStmt.setInt(index++, tenantId);
+                prepStmt.setInt(index++, MultitenantConstants.SUPER_TENANT_ID);
+                prepStmt.setInt(index, MultitenantConstants.SUPER_TENANT_ID);
+                try (ResultSet rs = prepStmt.executeQuery()) {
+                    while (rs.next()) {
+                        Map<String, String> returnData = new HashMap<>();
+                        String idpName = rs.getString(2);
+                        returnData.put(ApplicationConstants.IDP_NAME, idpName);
+                        returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_NAME, rs.getString(3));
+                        returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME, rs.getString(4));
+                        returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE, rs.getString(5));
+                        authenticatorInfo.put(rs.getInt(1), returnData);
+                        // Federation hub IdPs are only looked up within the tenant of the application.
+                        if ("1".equals(rs.getString(6)) && rs.getInt(7) == tenantId) {
+                            federationHubIdPs.add(idpName);
+                        }
+                    }
+                }
             }
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
         }
-        return returnData;
+        return authenticatorInfo;
     }
 
     /**
@@ -6356,8 +6403,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
              NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                     isH2DB() ? ApplicationMgtDBQueries.GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY_H2 :
-                             ApplicationMgtDBQueries.GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY)) {
+                     GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY.get(JdbcUtils.Database.IDENTITY))) {
             statement.setString(ApplicationMgtDBQueries.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_APP_ID, applicationId);
             statement.setString(ApplicationMgtDBQueries.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_NAME, propertyName);
             ResultSet resultSet = statement.executeQuery();
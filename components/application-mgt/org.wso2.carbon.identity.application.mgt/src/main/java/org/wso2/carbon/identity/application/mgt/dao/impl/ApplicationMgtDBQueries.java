@@ -135,30 +135,29 @@ public class ApplicationMgtDBQueries {
             "TENANT_ID FROM SP_APP ORDER BY ID DESC) WHERE TENANT_ID = ? AND APP_NAME != ? %s AND rownum <= ?) WHERE " +
             "rnum > ? ";
 
-    public static final String LOAD_APP_NAMES_BY_TENANT_AND_FILTER_ORACLE = "SELECT DISTINCT ID, APP_NAME, " +
-            "VERSION, DESCRIPTION, UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, TENANT_ID FROM " +
-            "(SELECT ID, APP_NAME, VERSION, DESCRIPTION, UUID, IMAGE_URL, ACCESS_URL, INBOUND_AUTH_KEY, " +
-            "INBOUND_AUTH_TYPE, USERNAME, USER_STORE, TENANT_ID, ROWNUM AS rn from " +
-            "(SELECT SP_APP.ID, SP_APP.APP_NAME, SP_APP.VERSION, SP_APP.DESCRIPTION, SP_APP.UUID, " +
-            "SP_APP.ACCESS_URL, SP_INBOUND_AUTH.INBOUND_AUTH_KEY, SP_INBOUND_AUTH.INBOUND_AUTH_TYPE, " +
-            "SP_APP.IMAGE_URL, SP_APP.USERNAME, SP_APP.USER_STORE, SP_APP.TENANT_ID FROM SP_APP " +
+    public static final String LOAD_APP_NAMES_BY_TENANT_AND_FILTER_ORACLE = "SELECT ID, APP_NAME, VERSION, " +
+            "DESCRIPTION, UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, TENANT_ID FROM " +
+            "(SELECT ID, APP_NAME, VERSION, DESCRIPTION, UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, " +
+            "TENANT_ID, ROWNUM AS rn FROM " +
+            "(SELECT DISTINCT SP_APP.ID, SP_APP.APP_NAME, SP_APP.VERSION, SP_APP.DESCRIPTION, SP_APP.UUID, " +
+            "SP_APP.IMAGE_URL, SP_APP.ACCESS_URL, SP_APP.USERNAME, SP_APP.USER_STORE, SP_APP.TENANT_ID FROM SP_APP " +
             "LEFT JOIN SP_INBOUND_AUTH on SP_APP.ID = SP_INBOUND_AUTH.APP_ID " +
             "WHERE SP_APP.TENANT_ID = ? AND SP_APP.APP_NAME <> ? %s AND (%s) ORDER BY SP_APP.ID DESC) " +
-            "WHERE ROWNUM <= ?) WHERE rn > ?";
+            "WHERE ROWNUM <= ?) WHERE rn > ? ORDER BY ID DESC";
 
     public static final String LOAD_APP_NAMES_BY_TENANT_DB2SQL = "SELECT ID, APP_NAME, VERSION, DESCRIPTION, " +
             "UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, TENANT_ID FROM (SELECT " +
             "ROW_NUMBER() OVER(ORDER BY ID DESC) AS rn,SP_APP.* FROM SP_APP WHERE TENANT_ID = ? " +
             "AND APP_NAME != ? %s ) WHERE rn BETWEEN ? AND ?";
 
-    public static final String LOAD_APP_NAMES_BY_TENANT_AND_FILTER_DB2SQL = "SELECT DISTINCT ID, APP_NAME, " +
+    public static final String LOAD_APP_NAMES_BY_TENANT_AND_FILTER_DB2SQL = "SELECT ID, APP_NAME, " +
             "VERSION, DESCRIPTION, UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, TENANT_ID FROM " +
-            "(SELECT SP_APP.ID, SP_APP.APP_NAME, SP_APP.VERSION, SP_APP.DESCRIPTION, SP_APP.UUID, " +
-            "SP_APP.IMAGE_URL, SP_APP.ACCESS_URL, SP_INBOUND_AUTH.INBOUND_AUTH_KEY, " +
-            "SP_INBOUND_AUTH.INBOUND_AUTH_TYPE, SP_APP.USERNAME, SP_APP.USER_STORE, SP_APP.TENANT_ID, ROW_NUMBER() " +
-            "OVER (ORDER BY SP_APP.ID DESC) AS rn FROM SP_APP LEFT JOIN SP_INBOUND_AUTH ON " +
-            "SP_APP.ID = SP_INBOUND_AUTH.APP_ID WHERE SP_APP.TENANT_ID = ? AND " +
-            "SP_APP.APP_NAME <> ? %s AND (%s) ORDER BY SP_APP.ID DESC ) WHERE rn BETWEEN ? AND ?";
+            "(SELECT ID, APP_NAME, VERSION, DESCRIPTION, UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, " +
+            "TENANT_ID, ROW_NUMBER() OVER (ORDER BY ID DESC) AS rn FROM " +
+            "(SELECT DISTINCT SP_APP.ID, SP_APP.APP_NAME, SP_APP.VERSION, SP_APP.DESCRIPTION, SP_APP.UUID, " +
+            "SP_APP.IMAGE_URL, SP_APP.ACCESS_URL, SP_APP.USERNAME, SP_APP.USER_STORE, SP_APP.TENANT_ID FROM SP_APP " +
+            "LEFT JOIN SP_INBOUND_AUTH ON SP_APP.ID = SP_INBOUND_AUTH.APP_ID WHERE SP_APP.TENANT_ID = ? AND " +
+            "SP_APP.APP_NAME <> ? %s AND (%s))) WHERE rn BETWEEN ? AND ? ORDER BY ID DESC";
 
     public static final String LOAD_APP_NAMES_BY_TENANT_MSSQL = "SELECT ID, APP_NAME, VERSION, DESCRIPTION, " +
             "UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, TENANT_ID FROM " +
@@ -221,7 +220,6 @@ public class ApplicationMgtDBQueries {
             "ACCESS_URL, IS_DISCOVERABLE " +
             "FROM SP_APP WHERE ID = ?";
 
-    public static final String LOAD_AUTH_TYPE_BY_APP_ID = "SELECT AUTH_TYPE FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
     public static final String LOAD_APP_NAME_BY_APP_ID = "SELECT APP_NAME FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
     public static final String LOAD_CLIENTS_INFO_BY_APP_ID = "SELECT INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, PROP_NAME, " +
             "PROP_VALUE,INBOUND_CONFIG_TYPE FROM  SP_INBOUND_AUTH WHERE APP_ID = ? AND TENANT_ID = ?";
@@ -231,8 +229,6 @@ public class ApplicationMgtDBQueries {
             + "ON SP_AUTH_STEP.ID=SP_FEDERATED_IDP.ID "
             + "WHERE APP_ID = ?";
     public static final String LOAD_STEP_ID_BY_APP_ID = "SELECT ID FROM SP_AUTH_STEP WHERE APP_ID = ?";
-    public static final String LOAD_HUB_IDP_BY_NAME =
-            "SELECT IS_FEDERATION_HUB FROM IDP WHERE NAME = ? AND TENANT_ID = ?";
 
     public static final String LOAD_CLAIM_MAPPING_BY_APP_ID = "SELECT IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
             "IS_MANDATORY, DEFAULT_VALUE " +
@@ -254,9 +250,9 @@ public class ApplicationMgtDBQueries {
                     " VALUES (?,?,?)";
     public static final String DELETE_SP_DIALECTS_BY_APP_ID = "DELETE FROM SP_CLAIM_DIALECT WHERE" +
             " APP_ID = ? AND TENANT_ID= ?";
-    public static final String LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID = "SELECT IS_USE_TENANT_DOMAIN_SUBJECT, " +
-            "IS_USE_USER_DOMAIN_SUBJECT, ENABLE_AUTHORIZATION, IS_SEND_AUTH_LIST_OF_IDPS, SUBJECT_CLAIM_URI FROM " +
-            "SP_APP WHERE TENANT_ID= ? AND ID = ?";
+    public static final String LOAD_AUTH_TYPE_AND_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID = "SELECT AUTH_TYPE, " +
+            "IS_USE_TENANT_DOMAIN_SUBJECT, IS_USE_USER_DOMAIN_SUBJECT, ENABLE_AUTHORIZATION, " +
+            "IS_SEND_AUTH_LIST_OF_IDPS, SUBJECT_CLAIM_URI FROM SP_APP WHERE TENANT_ID= ? AND ID = ?";
     public static final String LOAD_SCRIPT_BY_APP_ID_QUERY = "SELECT CONTENT, IS_ENABLED" +
             " FROM SP_AUTH_SCRIPT WHERE APP_ID = ?";
     public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_ID = "SELECT AUTHENTICATOR_NAME FROM " +
@@ -277,6 +273,8 @@ public class ApplicationMgtDBQueries {
             "IS_FIDO_TRUSTED FROM SP_TRUSTED_APPS WHERE PLATFORM_TYPE = ?";
     public static final String EXCLUDE_SYSTEM_PORTALS_BY_TABLE_NAME_AND_NAME = "AND SP_APP.APP_NAME NOT IN (%s)";
     public static final String EXCLUDE_SYSTEM_PORTALS_BY_NAME = "AND APP_NAME NOT IN (%s)";
+    public static final String APP_ID_BEFORE_BY_TABLE_NAME = "AND SP_APP.ID < %d ";
+    public static final String APP_ID_BEFORE = "AND ID < %d ";
 
     // DELETE queries
     public static final String REMOVE_APP_FROM_APPMGT_APP = "DELETE FROM SP_APP WHERE APP_NAME = ? AND TENANT_ID = ?";
@@ -309,9 +307,10 @@ public class ApplicationMgtDBQueries {
     public static final String LOAD_IDP_AUTHENTICATOR_ID = "SELECT A.ID FROM IDP_AUTHENTICATOR A JOIN IDP B ON A" +
             ".IDP_ID= B.ID WHERE A.NAME =? AND B.NAME=? AND ((A.TENANT_ID =? AND B.TENANT_ID =?) OR (B.TENANT_ID=? " +
             "AND B.NAME LIKE 'SHARED_%'))";
-    public static final String LOAD_IDP_AND_AUTHENTICATOR_NAMES = "SELECT A.NAME, B.NAME, B.DISPLAY_NAME," +
-            " B.DEFINED_BY FROM IDP A JOIN IDP_AUTHENTICATOR B ON A.ID = B.IDP_ID WHERE B.ID =? AND ((A.TENANT_ID =?" +
-            " AND B.TENANT_ID =?) OR  (A.TENANT_ID=? AND A.NAME LIKE 'SHARED_%' AND B.TENANT_ID=?))";
+    public static final String LOAD_IDP_AND_AUTHENTICATOR_NAMES_BY_IDS = "SELECT B.ID, A.NAME, B.NAME, " +
+            "B.DISPLAY_NAME, B.DEFINED_BY, A.IS_FEDERATION_HUB, A.TENANT_ID FROM IDP A JOIN IDP_AUTHENTICATOR B ON " +
+            "A.ID = B.IDP_ID WHERE B.ID IN (%s) AND ((A.TENANT_ID =? AND B.TENANT_ID =?) OR (A.TENANT_ID=? AND " +
+            "A.NAME LIKE 'SHARED_%%' AND B.TENANT_ID=?))";
     public static final String STORE_LOCAL_AUTHENTICATOR = "INSERT INTO IDP_AUTHENTICATOR (TENANT_ID, IDP_ID, NAME," +
             "IS_ENABLED, DISPLAY_NAME, DEFINED_BY, AUTHENTICATION_TYPE) VALUES " +
             "(?, (SELECT ID FROM IDP WHERE IDP.NAME=? AND IDP.TENANT_ID =?), ?, ?, ?, ?, ?)";
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.application.mgt.dao.impl;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
@@ -57,6 +58,7 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderRe
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppByPlatformTypeCache;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheEntry;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheKey;
+import org.wso2.carbon.identity.core.cache.CacheLoadCoalescer;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -73,6 +75,16 @@ import static org.wso2.carbon.identity.application.common.util.IdentityApplicati
 public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
     private static final Log log = LogFactory.getLog(CacheBackedApplicationDAO.class);
+    private static final String LOAD_BY_NAME = "name";
+    private static final String LOAD_BY_ID = "id";
+    private static final String LOAD_BY_RESOURCE_ID = "resourceId";
+    private static final String LOAD_BY_INBOUND_KEY = "inboundKey";
+
+    // Concurrent cache misses of the same application are served by a single database load. Threads which waited on
+    // the load get their own copy, so that they can modify the application without affecting each other.
+    private static final CacheLoadCoalescer<String, ServiceProvider> applicationLoadCoalescer =
+            new CacheLoadCoalescer<>(SerializationUtils::clone);
+    private static final CacheLoadCoalescer<String, String> appNameLoadCoalescer = new CacheLoadCoalescer<>();
 
     private ApplicationDAO appDAO;
 
@@ -104,10 +116,14 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         ServiceProvider serviceProvider = getApplicationFromCache(applicationName, tenantDomain);
         if (serviceProvider == null) {
             try {
-                serviceProvider = appDAO.getApplication(applicationName, tenantDomain);
-                if (serviceProvider != null) {
-                    addToCache(serviceProvider, tenantDomain);
-                }
+                serviceProvider = applicationLoadCoalescer.load(
+                        getLoadKey(LOAD_BY_NAME, tenantDomain, applicationName), () -> {
+                            ServiceProvider application = appDAO.getApplication(applicationName, tenantDomain);
+                            if (application != null) {
+                                addToCache(application, tenantDomain);
+                            }
+                            return application;
+                        });
             } catch (Exception e) {
                 String error = "Error occurred while retrieving the application, " + applicationName;
                 log.error(error, e);
@@ -119,15 +135,20 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
     public ServiceProvider getApplication(int appId) throws IdentityApplicationManagementException {
 
-        ServiceProvider serviceProvider = getApplicationFromCache(appId,
-                CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        ServiceProvider serviceProvider = getApplicationFromCache(appId, tenantDomain);
         if (serviceProvider == null) {
-            serviceProvider = appDAO.getApplication(appId);
+            serviceProvider = applicationLoadCoalescer.load(getLoadKey(LOAD_BY_ID, tenantDomain, appId), () -> {
+                ServiceProvider application = appDAO.getApplication(appId);
+                if (application != null) {
+                    addToCache(application, application.getTenantDomain());
+                }
+                return application;
+            });
             if (serviceProvider == null) {
                 throw new IdentityApplicationManagementException(
                         "Error while getting the service provider for appId: " + appId);
             }
-            addToCache(serviceProvider, serviceProvider.getTenantDomain());
         }
         return serviceProvider;
     }
@@ -162,13 +183,18 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
             if (log.isDebugEnabled()) {
                 log.debug("Inbound Auth Key Cache is missing for " + clientId);
             }
-            appName = appDAO.getServiceProviderNameByClientId(clientId, type, tenantDomain);
-            if (tenantDomain != null) {
-                ServiceProviderCacheInboundAuthKey clientKey = new ServiceProviderCacheInboundAuthKey(clientId, type);
-                ServiceProviderCacheInboundAuthEntry clientEntry = new ServiceProviderCacheInboundAuthEntry(appName,
-                        tenantDomain);
-                appCacheByInboundAuth.addToCacheOnRead(clientKey, clientEntry, tenantDomain);
-            }
+            appName = appNameLoadCoalescer.load(getLoadKey(LOAD_BY_INBOUND_KEY, tenantDomain, type + ":" + clientId),
+                    () -> {
+                        String name = appDAO.getServiceProviderNameByClientId(clientId, type, tenantDomain);
+                        if (tenantDomain != null) {
+                            ServiceProviderCacheInboundAuthKey clientKey =
+                                    new ServiceProviderCacheInboundAuthKey(clientId, type);
+                            ServiceProviderCacheInboundAuthEntry clientEntry =
+                                    new ServiceProviderCacheInboundAuthEntry(name, tenantDomain);
+                            appCacheByInboundAuth.addToCacheOnRead(clientKey, clientEntry, tenantDomain);
+                        }
+                        return name;
+                    });
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("Inbound Auth Key Cache is present for " + clientId);
@@ -360,6 +386,21 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         }
     }
 
+    @Override
+    public ApplicationBasicInfo[] getApplicationBasicInfoAfter(String filter, int afterApplicationId, int limit,
+                                                               Boolean excludeSystemPortals)
+            throws IdentityApplicationManagementException {
+
+        if (appDAO instanceof PaginatableFilterableApplicationDAO) {
+            // No need to cache the returned list.
+            return ((PaginatableFilterableApplicationDAO) appDAO).getApplicationBasicInfoAfter(filter,
+                    afterApplicationId, limit, excludeSystemPortals);
+        } else {
+            throw new UnsupportedOperationException("This operation only supported in" +
+                    " PaginatableFilterableApplicationDAO only.");
+        }
+    }
+
     public int getCountOfAllApplications() throws IdentityApplicationManagementException {
 
         if (appDAO instanceof PaginatableFilterableApplicationDAO) {
@@ -476,10 +517,15 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         ServiceProvider application = getApplicationFromCacheByResourceId(resourceId, tenantDomain);
         if (application == null) {
             // Cache miss, fetch from DB.
-            application = appDAO.getApplicationByResourceId(resourceId, tenantDomain);
-            if (application != null) {
-                addToCache(application, tenantDomain);
-            }
+            application = applicationLoadCoalescer.load(getLoadKey(LOAD_BY_RESOURCE_ID, tenantDomain, resourceId),
+                    () -> {
+                        ServiceProvider serviceProvider = appDAO.getApplicationByResourceId(resourceId,
+                                tenantDomain);
+                        if (serviceProvider != null) {
+                            addToCache(serviceProvider, tenantDomain);
+                        }
+                        return serviceProvider;
+                    });
         }
         return application;
     }
@@ -809,6 +855,13 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
                 new ApplicationBasicInfoNameCacheKey(serviceProvider.getApplicationName());
         appBasicInfoCacheByName.clearCacheEntry(basicInfoNameKey, tenantDomain);
 
+        // Loads in progress may have read the application before the change.
+        applicationLoadCoalescer.invalidate(getLoadKey(LOAD_BY_NAME, tenantDomain,
+                serviceProvider.getApplicationName()));
+        applicationLoadCoalescer.invalidate(getLoadKey(LOAD_BY_ID, tenantDomain, serviceProvider.getApplicationID()));
+        applicationLoadCoalescer.invalidate(getLoadKey(LOAD_BY_RESOURCE_ID, tenantDomain,
+                serviceProvider.getApplicationResourceId()));
+
         clearAppCacheByInboundKey(serviceProvider, tenantDomain);
     }
 
@@ -817,6 +870,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
         IdentityServiceProviderCacheKey cacheKey = new IdentityServiceProviderCacheKey(updatedName);
         appCacheByName.clearCacheEntry(cacheKey, tenantDomain);
+        applicationLoadCoalescer.invalidate(getLoadKey(LOAD_BY_NAME, tenantDomain, updatedName));
 
         clearAllAppCache(serviceProvider, tenantDomain);
 
@@ -833,6 +887,8 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
                     ServiceProviderCacheInboundAuthKey clientKey = new ServiceProviderCacheInboundAuthKey(
                             config.getInboundAuthKey(), config.getInboundAuthType());
                     appCacheByInboundAuth.clearCacheEntry(clientKey, tenantDomain);
+                    appNameLoadCoalescer.invalidate(getLoadKey(LOAD_BY_INBOUND_KEY, tenantDomain,
+                            config.getInboundAuthType() + ":" + config.getInboundAuthKey()));
 
                     // Clear ApplicationResourceIDByInboundAuthCache.
                     ApplicationResourceIDCacheInboundAuthKey inboundKey = new ApplicationResourceIDCacheInboundAuthKey(
@@ -843,6 +899,11 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         }
     }
 
+    private static String getLoadKey(String loadType, String tenantDomain, Object identifier) {
+
+        return loadType + ":" + tenantDomain + ":" + identifier;
+    }
+
     /**
      * Clear the trusted app cache for the available platform types of all tenants depending on the
      * availability of platform specific data.
@@ -38,6 +38,7 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.core.ServerStartupObserver;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceManager;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
@@ -53,6 +54,7 @@ import org.wso2.carbon.identity.application.mgt.ai.LoginFlowAIManagerImpl;
 import org.wso2.carbon.identity.application.mgt.defaultsequence.DefaultAuthSeqMgtService;
 import org.wso2.carbon.identity.application.mgt.defaultsequence.DefaultAuthSeqMgtServiceImpl;
 import org.wso2.carbon.identity.application.mgt.inbound.protocol.ApplicationInboundAuthConfigHandler;
+import org.wso2.carbon.identity.application.mgt.internal.cache.CacheWarmUp;
 import org.wso2.carbon.identity.application.mgt.internal.impl.DiscoverableApplicationManagerImpl;
 import org.wso2.carbon.identity.application.mgt.listener.AdminRoleListener;
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationClaimMgtListener;
@@ -61,6 +63,7 @@ import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtAuditLogg
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationResourceManagementListener;
 import org.wso2.carbon.identity.application.mgt.listener.AuthorizedAPIManagementListener;
+import org.wso2.carbon.identity.application.mgt.listener.CacheWarmUpTenantLoadObserver;
 import org.wso2.carbon.identity.application.mgt.listener.ConsoleAuthorizedAPIListener;
 import org.wso2.carbon.identity.application.mgt.listener.DefaultApplicationResourceMgtListener;
 import org.wso2.carbon.identity.application.mgt.listener.DefaultRoleManagementListener;
@@ -83,6 +86,7 @@ import org.wso2.carbon.identity.secret.mgt.core.SecretManager;
 import org.wso2.carbon.identity.secret.mgt.core.SecretResolveManager;
 import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.Axis2ConfigurationContextObserver;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
@@ -104,6 +108,7 @@ public class ApplicationManagementServiceComponent {
     private static Log log = LogFactory.getLog(ApplicationManagementServiceComponent.class);
     private static BundleContext bundleContext;
     private static Map<String, ServiceProvider> fileBasedSPs = new HashMap<String, ServiceProvider>();
+    private static CacheWarmUp cacheWarmUp;
 
     public static Map<String, ServiceProvider> getFileBasedSPs() {
         return fileBasedSPs;
@@ -167,6 +172,14 @@ public class ApplicationManagementServiceComponent {
             bundleContext.registerService(AuthorizedAPIManagementListener.class, new MyAccountAuthorizedAPIListener(),
                     null);
 
+            cacheWarmUp = CacheWarmUp.createFromConfig();
+            if (cacheWarmUp != null) {
+                bundleContext.registerService(Axis2ConfigurationContextObserver.class.getName(),
+                        new CacheWarmUpTenantLoadObserver(cacheWarmUp), null);
+                // The startup tenants are warmed up once the server startup is completed.
+                bundleContext.registerService(ServerStartupObserver.class.getName(), cacheWarmUp, null);
+            }
+
             if (log.isDebugEnabled()) {
                 log.debug("Identity ApplicationManagementComponent bundle is activated");
             }
@@ -177,6 +190,10 @@ public class ApplicationManagementServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        if (cacheWarmUp != null) {
+            cacheWarmUp.shutdown();
+            cacheWarmUp = null;
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity ApplicationManagementComponent bundle is deactivated");
         }
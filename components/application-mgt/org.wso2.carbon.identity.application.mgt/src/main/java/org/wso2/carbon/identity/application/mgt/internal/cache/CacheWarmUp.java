@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.internal.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.core.ServerStartupObserver;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtSystemConfig;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
+import org.wso2.carbon.identity.application.mgt.dao.ApplicationDAO;
+import org.wso2.carbon.identity.application.mgt.dao.PaginatableFilterableApplicationDAO;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_ENABLE_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_IDPS_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_IDP_COUNT_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_SPS_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_SP_COUNT_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_TENANTS_PROPERTY;
+
+/**
+ * Preloads the service provider and identity provider caches of a tenant, so that the first requests after a
+ * restart or a tenant load do not all miss the caches and load the same entries from the database.
+ * <p>
+ * The applications and identity providers listed in the configuration are loaded along with the first configured
+ * number of applications and identity providers of the tenant. There is no query which loads several complete
+ * applications or identity providers at once, hence the entries are loaded through the cache backed DAOs by a small
+ * pool of background threads. Concurrent requests for an entry being warmed up wait for that load instead of
+ * starting their own.
+ * <p>
+ * The startup tenants are warmed up once the server startup is completed, since identity provider management may
+ * not be available yet when application management is activated.
+ */
+public class CacheWarmUp implements ServerStartupObserver {
+
+    private static final Log log = LogFactory.getLog(CacheWarmUp.class);
+    private static final int DEFAULT_SERVICE_PROVIDER_COUNT = 100;
+    private static final int DEFAULT_IDENTITY_PROVIDER_COUNT = 50;
+    private static final int LOADER_THREAD_COUNT = 4;
+
+    private final List<String> startupTenants;
+    private final int serviceProviderCount;
+    private final List<String> serviceProviders;
+    private final int identityProviderCount;
+    private final List<String> identityProviders;
+    private final ExecutorService executor;
+    private final ExecutorService loaderExecutor;
+
+    /**
+     * @param startupTenants        Tenants warmed up at server startup.
+     * @param serviceProviderCount  Number of applications of a tenant to be loaded in listing order.
+     * @param serviceProviders      Names of the applications to be loaded.
+     * @param identityProviderCount Number of identity providers of a tenant to be loaded in listing order.
+     * @param identityProviders     Names of the identity providers to be loaded.
+     */
+    public CacheWarmUp(List<String> startupTenants, int serviceProviderCount, List<String> serviceProviders,
+                       int identityProviderCount, List<String> identityProviders) {
+
+        this.startupTenants = startupTenants;
+        this.serviceProviderCount = serviceProviderCount;
+        this.serviceProviders = serviceProviders;
+        this.identityProviderCount = identityProviderCount;
+        this.identityProviders = identityProviders;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> createThread(runnable,
+                "identity-cache-warm-up"));
+        this.loaderExecutor = Executors.newFixedThreadPool(LOADER_THREAD_COUNT, runnable -> createThread(runnable,
+                "identity-cache-warm-up-loader"));
+    }
+
+    /**
+     * Create the cache warm up from the ApplicationMgt.CacheWarmUp configuration.
+     *
+     * @return Cache warm up, or null if it is not enabled.
+     */
+    public static CacheWarmUp createFromConfig() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(CACHE_WARM_UP_ENABLE_PROPERTY))) {
+            return null;
+        }
+        return new CacheWarmUp(getListProperty(CACHE_WARM_UP_TENANTS_PROPERTY),
+                getIntProperty(CACHE_WARM_UP_SP_COUNT_PROPERTY, DEFAULT_SERVICE_PROVIDER_COUNT),
+                getListProperty(CACHE_WARM_UP_SPS_PROPERTY),
+                getIntProperty(CACHE_WARM_UP_IDP_COUNT_PROPERTY, DEFAULT_IDENTITY_PROVIDER_COUNT),
+                getListProperty(CACHE_WARM_UP_IDPS_PROPERTY));
+    }
+
+    @Override
+    public void completingServerStartup() {
+        // Do nothing.
+    }
+
+    @Override
+    public void completedServerStartup() {
+
+        warmUpStartupTenants();
+    }
+
+    /**
+     * Warm up the caches of the tenants configured to be warmed up at startup.
+     */
+    public void warmUpStartupTenants() {
+
+        for (String tenantDomain : startupTenants) {
+            warmUpAsync(tenantDomain);
+        }
+    }
+
+    /**
+     * Warm up the caches of the given tenant on the warm up thread.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void warmUpAsync(String tenantDomain) {
+
+        try {
+            executor.execute(() -> warmUp(tenantDomain));
+        } catch (RejectedExecutionException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache warm up of tenant " + tenantDomain + " was skipped since the server is shutting " +
+                        "down.");
+            }
+        }
+    }
+
+    /**
+     * Load the configured applications and identity providers of the given tenant into the caches.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void warmUp(String tenantDomain) {
+
+        long startTime = System.currentTimeMillis();
+        int loadedServiceProviders = 0;
+        int loadedIdentityProviders = 0;
+        try {
+            ApplicationMgtUtil.startTenantFlow(tenantDomain);
+            loadedServiceProviders = warmUpServiceProviders(tenantDomain);
+            loadedIdentityProviders = warmUpIdentityProviders(tenantDomain);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IdentityApplicationManagementException | IdentityProviderManagementException | RuntimeException e) {
+            log.warn("Error while warming up the service provider and identity provider caches of tenant " +
+                    tenantDomain, e);
+        } finally {
+            ApplicationMgtUtil.endTenantFlow();
+        }
+        log.info("Loaded " + loadedServiceProviders + " service providers and " + loadedIdentityProviders +
+                " identity providers of tenant " + tenantDomain + " into the caches in " +
+                (System.currentTimeMillis() - startTime) + " ms.");
+    }
+
+    /**
+     * Stop the warm up threads. Warm ups in progress are interrupted.
+     */
+    public void shutdown() {
+
+        executor.shutdownNow();
+        loaderExecutor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+            loaderExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int warmUpServiceProviders(String tenantDomain)
+            throws IdentityApplicationManagementException, InterruptedException {
+
+        ApplicationDAO applicationDAO = ApplicationMgtSystemConfig.getInstance().getApplicationDAO();
+        Set<String> names = new LinkedHashSet<>(serviceProviders);
+        if (serviceProviderCount > 0 && applicationDAO instanceof PaginatableFilterableApplicationDAO) {
+            // A single listing query resolves the names of the applications to be loaded.
+            ApplicationBasicInfo[] applications = ((PaginatableFilterableApplicationDAO) applicationDAO)
+                    .getApplicationBasicInfo(0, serviceProviderCount);
+            for (ApplicationBasicInfo application : applications) {
+                names.add(application.getApplicationName());
+            }
+        }
+        return loadConcurrently(tenantDomain, names,
+                name -> applicationDAO.getApplication(name, tenantDomain) != null);
+    }
+
+    private int warmUpIdentityProviders(String tenantDomain)
+            throws IdentityProviderManagementException, InterruptedException {
+
+        IdentityProviderManager identityProviderManager = IdentityProviderManager.getInstance();
+        Set<String> names = new LinkedHashSet<>(identityProviders);
+        if (identityProviderCount > 0) {
+            IdpSearchResult result = identityProviderManager.getIdPs(identityProviderCount, 0, null, null, null,
+                    tenantDomain, new ArrayList<>());
+            for (IdentityProvider identityProvider : result.getIdPs()) {
+                names.add(identityProvider.getIdentityProviderName());
+            }
+        }
+        return loadConcurrently(tenantDomain, names,
+                name -> identityProviderManager.getIdPByName(name, tenantDomain, true) != null);
+    }
+
+    /**
+     * Load the entries of the given names on the loader threads and wait for all of them to complete.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param names        Names of the entries to be loaded.
+     * @param loader       Loads an entry into the cache and tells whether the entry exists.
+     * @return Number of loaded entries.
+     * @throws InterruptedException If the warm up is interrupted.
+     */
+    private int loadConcurrently(String tenantDomain, Set<String> names, EntryLoader loader)
+            throws InterruptedException {
+
+        List<Callable<Boolean>> loads = new ArrayList<>();
+        for (String name : names) {
+            loads.add(() -> {
+                try {
+                    ApplicationMgtUtil.startTenantFlow(tenantDomain);
+                    return loader.load(name);
+                } finally {
+                    ApplicationMgtUtil.endTenantFlow();
+                }
+            });
+        }
+
+        int loaded = 0;
+        for (Future<Boolean> load : loaderExecutor.invokeAll(loads)) {
+            try {
+                if (load.get()) {
+                    loaded++;
+                }
+            } catch (ExecutionException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while loading a cache entry of tenant " + tenantDomain, e.getCause());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static Thread createThread(Runnable runnable, String name) {
+
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static List<String> getListProperty(String property) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>();
+        for (String item : Arrays.asList(value.split(","))) {
+            if (StringUtils.isNotBlank(item)) {
+                values.add(item.trim());
+            }
+        }
+        return values;
+    }
+
+    private static int getIntProperty(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value " + value + " configured for " + property + ". Using the default value " +
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Loads a single cache entry.
+     */
+    @FunctionalInterface
+    private interface EntryLoader {
+
+        boolean load(String name) throws Exception;
+    }
+}
@@ -305,6 +305,8 @@ public abstract class AbstractApplicationMgtListener implements ApplicationMgtLi
      * Define any additional actions before getting all applications' basic information for matching filter with
      * pagination based on the offset and limit.
      * This method will be included in ApplicationMgtListener interface when Java 8 is supported.
+     * For the cursor based listing, the position of a page is not known, hence this is invoked with a zero offset
+     * for every page.
      *
      * @param tenantDomain Tenant Domain.
      * @param username     User name.
@@ -324,6 +326,8 @@ public abstract class AbstractApplicationMgtListener implements ApplicationMgtLi
      * Define any additional actions after getting all applications' basic information for matching filter with
      * pagination based on the offset and limit.
      * This method will be included in ApplicationMgtListener interface when Java 8 is supported.
+     * For the cursor based listing, the position of a page is not known, hence this is invoked with a zero offset
+     * for every page.
      *
      * @param tenantDomain             Tenant Domain.
      * @param username                 User name.
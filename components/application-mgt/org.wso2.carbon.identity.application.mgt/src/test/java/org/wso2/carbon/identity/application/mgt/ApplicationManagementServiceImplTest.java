@@ -39,6 +39,7 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementServerException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfoSearchResult;
 import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.Claim;
@@ -148,6 +149,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.wso2.carbon.CarbonConstants.REGISTRY_SYSTEM_USERNAME;
+import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.INVALID_CURSOR;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.INVALID_REQUEST;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.TEMPLATE_ID_SP_PROPERTY_NAME;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.TEMPLATE_VERSION_SP_PROPERTY_NAME;
@@ -653,6 +655,137 @@ public class ApplicationManagementServiceImplTest {
         applicationManagementService.deleteApplications(SUPER_TENANT_ID);
     }
 
+    @Test
+    public void testGetApplicationBasicInfoWithCursor() throws IdentityApplicationManagementException {
+
+        addApplications();
+
+        ApplicationBasicInfoSearchResult firstPage = applicationManagementService.getApplicationBasicInfo
+                (SUPER_TENANT_DOMAIN_NAME, USERNAME_1, null, null, 1, false, true);
+        Assert.assertEquals(firstPage.getApplicationBasicInfos().length, 1);
+        Assert.assertEquals(firstPage.getApplicationBasicInfos()[0].getApplicationName(), APPLICATION_NAME_2);
+        Assert.assertEquals(firstPage.getTotalCount(), 2);
+        Assert.assertNotNull(firstPage.getNextCursor());
+
+        ApplicationBasicInfoSearchResult secondPage = applicationManagementService.getApplicationBasicInfo
+                (SUPER_TENANT_DOMAIN_NAME, USERNAME_1, null, firstPage.getNextCursor(), 1, false, false);
+        Assert.assertEquals(secondPage.getApplicationBasicInfos().length, 1);
+        Assert.assertEquals(secondPage.getApplicationBasicInfos()[0].getApplicationName(), APPLICATION_NAME_1);
+        Assert.assertEquals(secondPage.getTotalCount(), ApplicationBasicInfoSearchResult.TOTAL_COUNT_NOT_CALCULATED);
+        Assert.assertNull(secondPage.getNextCursor());
+
+        // Deleting all added applications.
+        applicationManagementService.deleteApplications(SUPER_TENANT_ID);
+    }
+
+    @Test
+    public void testGetApplicationBasicInfoWithFilterAndCursor() throws IdentityApplicationManagementException {
+
+        setupExcludeSystemPortalsEnv();
+
+        ApplicationBasicInfoSearchResult firstPage = applicationManagementService.getApplicationBasicInfo
+                (SUPER_TENANT_DOMAIN_NAME, USERNAME_1, "name co application", null, 2, false, true);
+        Assert.assertEquals(firstPage.getApplicationBasicInfos().length, 2);
+        Assert.assertEquals(firstPage.getApplicationBasicInfos()[0].getApplicationName(), APPLICATION_NAME_3);
+        Assert.assertEquals(firstPage.getApplicationBasicInfos()[1].getApplicationName(), APPLICATION_NAME_2);
+        Assert.assertEquals(firstPage.getTotalCount(), 3);
+
+        ApplicationBasicInfoSearchResult secondPage = applicationManagementService.getApplicationBasicInfo
+                (SUPER_TENANT_DOMAIN_NAME, USERNAME_1, "name co application", firstPage.getNextCursor(), 2,
+                        false, false);
+        Assert.assertEquals(secondPage.getApplicationBasicInfos().length, 1);
+        Assert.assertEquals(secondPage.getApplicationBasicInfos()[0].getApplicationName(), APPLICATION_NAME_1);
+        Assert.assertNull(secondPage.getNextCursor());
+
+        // Deleting all added applications.
+        applicationManagementService.deleteApplications(SUPER_TENANT_ID);
+    }
+
+    @Test
+    public void testGetApplicationBasicInfoWithFilterAndCursorDoesNotMissApplications()
+            throws IdentityApplicationManagementException {
+
+        int applicationCount = 7;
+        List<String> expectedApplicationNames = new ArrayList<>();
+        for (int i = 1; i <= applicationCount; i++) {
+            String applicationName = "Paging application" + i;
+            ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setApplicationName(applicationName);
+            // Each inbound configuration adds a row to the join with SP_INBOUND_AUTH.
+            InboundAuthenticationRequestConfig oauth2Config = new InboundAuthenticationRequestConfig();
+            oauth2Config.setInboundAuthKey("paging_client_id" + i);
+            oauth2Config.setInboundAuthType("oauth2");
+            InboundAuthenticationRequestConfig samlConfig = new InboundAuthenticationRequestConfig();
+            samlConfig.setInboundAuthKey("paging_issuer" + i);
+            samlConfig.setInboundAuthType("samlsso");
+            InboundAuthenticationConfig inboundAuthenticationConfig = new InboundAuthenticationConfig();
+            inboundAuthenticationConfig.setInboundAuthenticationRequestConfigs(
+                    new InboundAuthenticationRequestConfig[]{oauth2Config, samlConfig});
+            serviceProvider.setInboundAuthenticationConfig(inboundAuthenticationConfig);
+            applicationManagementService.createApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME, USERNAME_1);
+            expectedApplicationNames.add(0, applicationName);
+        }
+        ServiceProvider otherServiceProvider = new ServiceProvider();
+        otherServiceProvider.setApplicationName(APPLICATION_NAME_1);
+        applicationManagementService.addApplication(otherServiceProvider, SUPER_TENANT_DOMAIN_NAME, USERNAME_1);
+
+        List<String> applicationNames = new ArrayList<>();
+        String cursor = null;
+        int pageCount = 0;
+        do {
+            ApplicationBasicInfoSearchResult page = applicationManagementService.getApplicationBasicInfo
+                    (SUPER_TENANT_DOMAIN_NAME, USERNAME_1, "name co Paging", cursor, 2, false, false);
+            Assert.assertTrue(page.getApplicationBasicInfos().length <= 2);
+            for (ApplicationBasicInfo applicationBasicInfo : page.getApplicationBasicInfos()) {
+                applicationNames.add(applicationBasicInfo.getApplicationName());
+            }
+            cursor = page.getNextCursor();
+            pageCount++;
+        } while (cursor != null && pageCount <= applicationCount);
+
+        Assert.assertEquals(pageCount, 4);
+        Assert.assertEquals(applicationNames, expectedApplicationNames);
+
+        // Deleting all added applications.
+        applicationManagementService.deleteApplications(SUPER_TENANT_ID);
+    }
+
+    @Test
+    public void testGetApplicationBasicInfoWithCursorExcludingSystemPortals()
+            throws IdentityApplicationManagementException {
+
+        setupExcludeSystemPortalsEnv();
+        try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class)) {
+            List<String> systemApp = Arrays.asList(APPLICATION_NAME_3);
+            identityUtil.when(() -> IdentityUtil.getPropertyAsList(PORTAL_NAMES_CONFIG_ELEMENT))
+                    .thenReturn(systemApp);
+            ApplicationBasicInfoSearchResult firstPage = applicationManagementService.getApplicationBasicInfo
+                    (SUPER_TENANT_DOMAIN_NAME, USERNAME_1, "", null, 1, true, true);
+            Assert.assertEquals(firstPage.getApplicationBasicInfos().length, 1);
+            Assert.assertEquals(firstPage.getApplicationBasicInfos()[0].getApplicationName(), APPLICATION_NAME_2);
+            Assert.assertEquals(firstPage.getTotalCount(), 2);
+
+            ApplicationBasicInfoSearchResult secondPage = applicationManagementService.getApplicationBasicInfo
+                    (SUPER_TENANT_DOMAIN_NAME, USERNAME_1, "", firstPage.getNextCursor(), 1, true, false);
+            Assert.assertEquals(secondPage.getApplicationBasicInfos().length, 1);
+            Assert.assertEquals(secondPage.getApplicationBasicInfos()[0].getApplicationName(), APPLICATION_NAME_1);
+        }
+        // Deleting all added applications.
+        applicationManagementService.deleteApplications(SUPER_TENANT_ID);
+    }
+
+    @Test
+    public void testGetApplicationBasicInfoWithInvalidCursor() throws IdentityApplicationManagementException {
+
+        try {
+            applicationManagementService.getApplicationBasicInfo(SUPER_TENANT_DOMAIN_NAME, USERNAME_1, null,
+                    "invalid-cursor", 1, false, false);
+            Assert.fail("Expected an IdentityApplicationManagementClientException for an invalid cursor.");
+        } catch (IdentityApplicationManagementClientException e) {
+            Assert.assertEquals(e.getErrorCode(), INVALID_CURSOR.getCode());
+        }
+    }
+
     @DataProvider(name = "organizationDataProvider")
     public Object[][] getOrganizationDataProvider() {
 
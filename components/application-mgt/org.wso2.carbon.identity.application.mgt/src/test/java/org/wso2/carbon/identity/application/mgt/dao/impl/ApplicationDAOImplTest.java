@@ -28,8 +28,12 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
+import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.DiscoverableGroup;
 import org.wso2.carbon.identity.application.common.model.GroupBasicInfo;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.RoleV2;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
@@ -37,6 +41,7 @@ import org.wso2.carbon.identity.application.mgt.dao.ApplicationDAO;
 import org.wso2.carbon.identity.application.mgt.internal.ApplicationManagementServiceComponentHolder;
 import org.wso2.carbon.identity.application.mgt.provider.ApplicationPermissionProvider;
 import org.wso2.carbon.identity.common.testng.WithH2Database;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
@@ -49,11 +54,22 @@ import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.common.Group;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -423,6 +439,301 @@ public class ApplicationDAOImplTest {
         assertEquals(serviceProvider2.getAssociatedRolesConfig().getRoles().length, 0);
     }
 
+    @Test(description = "Test loading the authentication steps of an application with local and federated " +
+            "authenticators.", dependsOnMethods = {"testUpdateApplicationForFragmentApp"})
+    public void testGetApplicationWithAuthenticationSteps() throws Exception {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("test-steps-app");
+        int applicationId = applicationDAO.createApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME);
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            int localIdpId = addIdp(connection, "LOCAL", false);
+            int hubIdpId = addIdp(connection, "test-hub-idp", true);
+            int federatedIdpId = addIdp(connection, "test-federated-idp", false);
+            int basicAuthenticatorId = addAuthenticator(connection, localIdpId, "BasicAuthenticator");
+            int totpAuthenticatorId = addAuthenticator(connection, localIdpId, "totp");
+            int hubAuthenticatorId = addAuthenticator(connection, hubIdpId, "OpenIDConnectAuthenticator");
+            int federatedAuthenticatorId = addAuthenticator(connection, federatedIdpId, "SAMLSSOAuthenticator");
+
+            addAuthenticationStep(connection, applicationId, 1, true, basicAuthenticatorId, hubAuthenticatorId);
+            addAuthenticationStep(connection, applicationId, 2, false, totpAuthenticatorId,
+                    federatedAuthenticatorId);
+            IdentityDatabaseUtil.commitTransaction(connection);
+        }
+
+        ServiceProvider application = applicationDAO.getApplication("test-steps-app", SUPER_TENANT_DOMAIN_NAME);
+        AuthenticationStep[] steps = application.getLocalAndOutBoundAuthenticationConfig()
+                .getAuthenticationSteps();
+        assertEquals(steps.length, 2);
+
+        assertEquals(steps[0].getStepOrder(), 1);
+        assertTrue(steps[0].isSubjectStep());
+        assertEquals(steps[0].getLocalAuthenticatorConfigs().length, 1);
+        assertEquals(steps[0].getLocalAuthenticatorConfigs()[0].getName(), "BasicAuthenticator");
+        IdentityProvider hubIdp = steps[0].getFederatedIdentityProviders()[0];
+        assertEquals(hubIdp.getIdentityProviderName(), "test-hub-idp");
+        assertTrue(hubIdp.isFederationHub());
+        assertEquals(hubIdp.getDefaultAuthenticatorConfig().getName(), "OpenIDConnectAuthenticator");
+
+        assertEquals(steps[1].getStepOrder(), 2);
+        assertFalse(steps[1].isSubjectStep());
+        assertEquals(steps[1].getLocalAuthenticatorConfigs()[0].getName(), "totp");
+        IdentityProvider federatedIdp = steps[1].getFederatedIdentityProviders()[0];
+        assertEquals(federatedIdp.getIdentityProviderName(), "test-federated-idp");
+        assertFalse(federatedIdp.isFederationHub());
+        assertEquals(federatedIdp.getDefaultAuthenticatorConfig().getName(), "SAMLSSOAuthenticator");
+    }
+
+    @Test(description = "Test loading an application with several authenticators in each authentication step.",
+            dependsOnMethods = {"testGetApplicationWithAuthenticationSteps"})
+    public void testGetMultiStepApplicationWithSeveralAuthenticators() throws Exception {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("test-multi-step-app");
+        int applicationId = applicationDAO.createApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME);
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            int localIdpId = getIdpId(connection, "LOCAL");
+            int googleIdpId = addIdp(connection, "test-google-idp", false);
+            int enterpriseIdpId = addIdp(connection, "test-enterprise-idp", false);
+            int hubIdpId = addIdp(connection, "test-second-hub-idp", true);
+            int emailOtpAuthenticatorId = addAuthenticator(connection, localIdpId, "email-otp");
+            int smsOtpAuthenticatorId = addAuthenticator(connection, localIdpId, "sms-otp");
+            int fidoAuthenticatorId = addAuthenticator(connection, localIdpId, "FIDOAuthenticator");
+            int googleAuthenticatorId = addAuthenticator(connection, googleIdpId, "GoogleOIDCAuthenticator");
+            int enterpriseOidcAuthenticatorId = addAuthenticator(connection, enterpriseIdpId,
+                    "OpenIDConnectAuthenticator");
+            int enterpriseSamlAuthenticatorId = addAuthenticator(connection, enterpriseIdpId,
+                    "SAMLSSOAuthenticator");
+            int hubAuthenticatorId = addAuthenticator(connection, hubIdpId, "OpenIDConnectAuthenticator");
+
+            addAuthenticationStep(connection, applicationId, 1, true, emailOtpAuthenticatorId,
+                    googleAuthenticatorId);
+            addAuthenticationStep(connection, applicationId, 2, false, smsOtpAuthenticatorId, fidoAuthenticatorId,
+                    enterpriseOidcAuthenticatorId, enterpriseSamlAuthenticatorId);
+            addAuthenticationStep(connection, applicationId, 3, false, hubAuthenticatorId, emailOtpAuthenticatorId);
+            IdentityDatabaseUtil.commitTransaction(connection);
+        }
+
+        List<String> preparedQueries = new ArrayList<>();
+        ServiceProvider application;
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockDBConnections(preparedQueries)) {
+            application = applicationDAO.getApplication("test-multi-step-app", SUPER_TENANT_DOMAIN_NAME);
+        }
+
+        AuthenticationStep[] steps = application.getLocalAndOutBoundAuthenticationConfig()
+                .getAuthenticationSteps();
+        assertEquals(steps.length, 3);
+
+        AuthenticationStep firstStep = getStep(steps, 1);
+        assertTrue(firstStep.isSubjectStep());
+        assertEquals(getLocalAuthenticatorNames(firstStep), Collections.singleton("email-otp"));
+        assertEquals(firstStep.getFederatedIdentityProviders().length, 1);
+        assertEquals(firstStep.getFederatedIdentityProviders()[0].getIdentityProviderName(), "test-google-idp");
+        assertEquals(firstStep.getFederatedIdentityProviders()[0].getDefaultAuthenticatorConfig().getName(),
+                "GoogleOIDCAuthenticator");
+
+        AuthenticationStep secondStep = getStep(steps, 2);
+        assertFalse(secondStep.isSubjectStep());
+        assertEquals(getLocalAuthenticatorNames(secondStep),
+                new HashSet<>(Arrays.asList("sms-otp", "FIDOAuthenticator")));
+        assertEquals(secondStep.getFederatedIdentityProviders().length, 1);
+        IdentityProvider enterpriseIdp = secondStep.getFederatedIdentityProviders()[0];
+        assertEquals(enterpriseIdp.getIdentityProviderName(), "test-enterprise-idp");
+        assertFalse(enterpriseIdp.isFederationHub());
+        assertEquals(Arrays.stream(enterpriseIdp.getFederatedAuthenticatorConfigs())
+                        .map(FederatedAuthenticatorConfig::getName).collect(Collectors.toSet()),
+                new HashSet<>(Arrays.asList("OpenIDConnectAuthenticator", "SAMLSSOAuthenticator")));
+
+        AuthenticationStep thirdStep = getStep(steps, 3);
+        assertEquals(getLocalAuthenticatorNames(thirdStep), Collections.singleton("email-otp"));
+        IdentityProvider hubIdp = thirdStep.getFederatedIdentityProviders()[0];
+        assertEquals(hubIdp.getIdentityProviderName(), "test-second-hub-idp");
+        assertTrue(hubIdp.isFederationHub());
+
+        // The authenticators of all the steps and the federation hub flags are loaded with a single query.
+        assertEquals(countQueries(preparedQueries, ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES_BY_IDS),
+                1);
+    }
+
+    @Test(description = "Test loading an application with more authenticators than fit in a single query.",
+            dependsOnMethods = {"testGetMultiStepApplicationWithSeveralAuthenticators"})
+    public void testGetApplicationWithAuthenticatorsOverQueryLimit() throws Exception {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("test-many-authenticators-app");
+        int applicationId = applicationDAO.createApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME);
+
+        int authenticatorCount = 150;
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            int idpId = addIdp(connection, "test-many-authenticators-idp", false);
+            int[] authenticatorIds = new int[authenticatorCount];
+            for (int i = 0; i < authenticatorCount; i++) {
+                authenticatorIds[i] = addAuthenticator(connection, idpId, "test-authenticator-" + i);
+            }
+            addAuthenticationStep(connection, applicationId, 1, true, authenticatorIds);
+            IdentityDatabaseUtil.commitTransaction(connection);
+        }
+
+        List<String> preparedQueries = new ArrayList<>();
+        ServiceProvider application;
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockDBConnections(preparedQueries)) {
+            application = applicationDAO.getApplication("test-many-authenticators-app", SUPER_TENANT_DOMAIN_NAME);
+        }
+
+        AuthenticationStep[] steps = application.getLocalAndOutBoundAuthenticationConfig()
+                .getAuthenticationSteps();
+        assertEquals(steps.length, 1);
+        assertEquals(steps[0].getFederatedIdentityProviders().length, 1);
+        assertEquals(steps[0].getFederatedIdentityProviders()[0].getFederatedAuthenticatorConfigs().length,
+                authenticatorCount);
+        // Loaded in chunks of 100 authenticators.
+        assertEquals(countQueries(preparedQueries, ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES_BY_IDS),
+                2);
+    }
+
+    private AuthenticationStep getStep(AuthenticationStep[] steps, int stepOrder) {
+
+        return Arrays.stream(steps)
+                .filter(step -> step.getStepOrder() == stepOrder)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Authentication step " + stepOrder + " was not loaded."));
+    }
+
+    private Set<String> getLocalAuthenticatorNames(AuthenticationStep step) {
+
+        return Arrays.stream(step.getLocalAuthenticatorConfigs())
+                .map(LocalAuthenticatorConfig::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private long countQueries(List<String> preparedQueries, String queryTemplate) {
+
+        String queryPrefix = queryTemplate.substring(0, queryTemplate.indexOf("%s"));
+        return preparedQueries.stream().filter(query -> query.startsWith(queryPrefix)).count();
+    }
+
+    /**
+     * Mock the database connections to record the SQL of the statements prepared through them.
+     *
+     * @param preparedQueries List to which the prepared SQL is added.
+     * @return Static mock of the database util, which calls the real methods.
+     */
+    private MockedStatic<IdentityDatabaseUtil> mockDBConnections(List<String> preparedQueries) {
+
+        return mockStatic(IdentityDatabaseUtil.class, invocation -> {
+            Object result = invocation.callRealMethod();
+            // Only the method which obtains the connection from the persistence manager is wrapped.
+            if ("getDBConnection".equals(invocation.getMethod().getName()) && invocation.getArguments().length == 1) {
+                return recordPreparedQueries((Connection) result, preparedQueries);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Wrap the given connection to record the SQL of the statements prepared through it.
+     *
+     * @param connection      Connection to be wrapped.
+     * @param preparedQueries List to which the prepared SQL is added.
+     * @return Wrapped connection.
+     */
+    private Connection recordPreparedQueries(Connection connection, List<String> preparedQueries) {
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("prepareStatement".equals(method.getName())) {
+                        preparedQueries.add((String) args[0]);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private int getIdpId(Connection connection, String name) throws SQLException {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement("SELECT ID FROM IDP WHERE TENANT_ID = ? AND " +
+                "NAME = ?")) {
+            prepStmt.setInt(1, SUPER_TENANT_ID);
+            prepStmt.setString(2, name);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    private int addIdp(Connection connection, String name, boolean federationHub) throws SQLException {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement("INSERT INTO IDP (TENANT_ID, NAME, " +
+                "IS_FEDERATION_HUB, UUID) VALUES (?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            prepStmt.setInt(1, SUPER_TENANT_ID);
+            prepStmt.setString(2, name);
+            prepStmt.setString(3, federationHub ? "1" : "0");
+            prepStmt.setString(4, UUID.randomUUID().toString());
+            prepStmt.executeUpdate();
+            return getGeneratedId(prepStmt);
+        }
+    }
+
+    private int addAuthenticator(Connection connection, int idpId, String name) throws SQLException {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement("INSERT INTO IDP_AUTHENTICATOR (TENANT_ID, " +
+                "IDP_ID, NAME, DISPLAY_NAME, DEFINED_BY, AUTHENTICATION_TYPE) VALUES (?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            prepStmt.setInt(1, SUPER_TENANT_ID);
+            prepStmt.setInt(2, idpId);
+            prepStmt.setString(3, name);
+            prepStmt.setString(4, name);
+            prepStmt.setString(5, "SYSTEM");
+            prepStmt.setString(6, "IDENTIFICATION");
+            prepStmt.executeUpdate();
+            return getGeneratedId(prepStmt);
+        }
+    }
+
+    private void addAuthenticationStep(Connection connection, int applicationId, int stepOrder, boolean subjectStep,
+                                       int... authenticatorIds) throws SQLException {
+
+        int stepId;
+        try (PreparedStatement prepStmt = connection.prepareStatement("INSERT INTO SP_AUTH_STEP (TENANT_ID, " +
+                "STEP_ORDER, APP_ID, IS_SUBJECT_STEP, IS_ATTRIBUTE_STEP) VALUES (?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            prepStmt.setInt(1, SUPER_TENANT_ID);
+            prepStmt.setInt(2, stepOrder);
+            prepStmt.setInt(3, applicationId);
+            prepStmt.setString(4, subjectStep ? "1" : "0");
+            prepStmt.setString(5, subjectStep ? "1" : "0");
+            prepStmt.executeUpdate();
+            stepId = getGeneratedId(prepStmt);
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement("INSERT INTO SP_FEDERATED_IDP (ID, " +
+                "TENANT_ID, AUTHENTICATOR_ID) VALUES (?, ?, ?)")) {
+            for (int authenticatorId : authenticatorIds) {
+                prepStmt.setInt(1, stepId);
+                prepStmt.setInt(2, SUPER_TENANT_ID);
+                prepStmt.setInt(3, authenticatorId);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+        }
+    }
+
+    private int getGeneratedId(PreparedStatement prepStmt) throws SQLException {
+
+        try (ResultSet resultSet = prepStmt.getGeneratedKeys()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
     /**
      * Get a new DiscoverableGroup object.
      *
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.internal.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtSystemConfig;
+import org.wso2.carbon.identity.application.mgt.dao.PaginatableFilterableApplicationDAO;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.common.testng.WithRealmService;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_ENABLE_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CACHE_WARM_UP_TENANTS_PROPERTY;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Unit tests for {@link CacheWarmUp}.
+ */
+@WithCarbonHome
+@WithRealmService
+public class CacheWarmUpTest {
+
+    private PaginatableFilterableApplicationDAO applicationDAO;
+    private IdentityProviderManager identityProviderManager;
+    private MockedStatic<ApplicationMgtSystemConfig> applicationMgtSystemConfig;
+    private MockedStatic<IdentityProviderManager> identityProviderManagerStatic;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        applicationDAO = mock(PaginatableFilterableApplicationDAO.class);
+        ApplicationMgtSystemConfig systemConfig = mock(ApplicationMgtSystemConfig.class);
+        when(systemConfig.getApplicationDAO()).thenReturn(applicationDAO);
+        applicationMgtSystemConfig = mockStatic(ApplicationMgtSystemConfig.class);
+        applicationMgtSystemConfig.when(ApplicationMgtSystemConfig::getInstance).thenReturn(systemConfig);
+
+        identityProviderManager = mock(IdentityProviderManager.class);
+        identityProviderManagerStatic = mockStatic(IdentityProviderManager.class);
+        identityProviderManagerStatic.when(IdentityProviderManager::getInstance).thenReturn(identityProviderManager);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        applicationMgtSystemConfig.close();
+        identityProviderManagerStatic.close();
+    }
+
+    @Test
+    public void testWarmUpLoadsConfiguredAndListedEntries() throws Exception {
+
+        when(applicationDAO.getApplicationBasicInfo(0, 2)).thenReturn(new ApplicationBasicInfo[]{
+                createApplicationBasicInfo("sp-listed"), createApplicationBasicInfo("sp-configured")});
+        when(applicationDAO.getApplication(anyString(), eq(SUPER_TENANT_DOMAIN_NAME)))
+                .thenReturn(new ServiceProvider());
+        IdpSearchResult idpSearchResult = new IdpSearchResult();
+        idpSearchResult.setIdpList(Collections.singletonList(createIdentityProvider("idp-listed")));
+        when(identityProviderManager.getIdPs(eq(1), eq(0), isNull(), isNull(), isNull(),
+                eq(SUPER_TENANT_DOMAIN_NAME), anyList())).thenReturn(idpSearchResult);
+        when(identityProviderManager.getIdPByName(anyString(), eq(SUPER_TENANT_DOMAIN_NAME), eq(true)))
+                .thenReturn(new IdentityProvider());
+
+        CacheWarmUp cacheWarmUp = new CacheWarmUp(Collections.emptyList(), 2,
+                Collections.singletonList("sp-configured"), 1, Collections.singletonList("idp-configured"));
+        try {
+            cacheWarmUp.warmUp(SUPER_TENANT_DOMAIN_NAME);
+        } finally {
+            cacheWarmUp.shutdown();
+        }
+
+        // An application which is both configured and listed is loaded once.
+        verify(applicationDAO, times(1)).getApplication("sp-configured", SUPER_TENANT_DOMAIN_NAME);
+        verify(applicationDAO, times(1)).getApplication("sp-listed", SUPER_TENANT_DOMAIN_NAME);
+        verify(identityProviderManager, times(1)).getIdPByName("idp-configured", SUPER_TENANT_DOMAIN_NAME, true);
+        verify(identityProviderManager, times(1)).getIdPByName("idp-listed", SUPER_TENANT_DOMAIN_NAME, true);
+    }
+
+    @Test
+    public void testWarmUpContinuesWhenEntryFailsToLoad() throws Exception {
+
+        when(applicationDAO.getApplication("sp-broken", SUPER_TENANT_DOMAIN_NAME))
+                .thenThrow(new IdentityApplicationManagementException("Error while loading the application."));
+        when(applicationDAO.getApplication("sp-valid", SUPER_TENANT_DOMAIN_NAME)).thenReturn(new ServiceProvider());
+
+        CacheWarmUp cacheWarmUp = new CacheWarmUp(Collections.emptyList(), 0,
+                Arrays.asList("sp-broken", "sp-valid"), 0, Collections.singletonList("idp-configured"));
+        try {
+            cacheWarmUp.warmUp(SUPER_TENANT_DOMAIN_NAME);
+        } finally {
+            cacheWarmUp.shutdown();
+        }
+
+        verify(applicationDAO).getApplication("sp-valid", SUPER_TENANT_DOMAIN_NAME);
+        verify(applicationDAO, never()).getApplicationBasicInfo(0, 0);
+        verify(identityProviderManager).getIdPByName("idp-configured", SUPER_TENANT_DOMAIN_NAME, true);
+    }
+
+    @Test
+    public void testCompletedServerStartupWarmsUpStartupTenants() {
+
+        CacheWarmUp cacheWarmUp = spy(new CacheWarmUp(Arrays.asList("carbon.super", "wso2.com"), 0,
+                Collections.emptyList(), 0, Collections.emptyList()));
+        doNothing().when(cacheWarmUp).warmUpAsync(anyString());
+        try {
+            cacheWarmUp.completingServerStartup();
+            verify(cacheWarmUp, never()).warmUpAsync(anyString());
+
+            cacheWarmUp.completedServerStartup();
+            verify(cacheWarmUp).warmUpAsync("carbon.super");
+            verify(cacheWarmUp).warmUpAsync("wso2.com");
+        } finally {
+            cacheWarmUp.shutdown();
+        }
+    }
+
+    @Test
+    public void testCreateFromConfig() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            assertNull(CacheWarmUp.createFromConfig());
+
+            identityUtil.when(() -> IdentityUtil.getProperty(CACHE_WARM_UP_ENABLE_PROPERTY)).thenReturn("true");
+            identityUtil.when(() -> IdentityUtil.getProperty(CACHE_WARM_UP_TENANTS_PROPERTY))
+                    .thenReturn("carbon.super, ,wso2.com");
+            CacheWarmUp cacheWarmUp = spy(CacheWarmUp.createFromConfig());
+            assertNotNull(cacheWarmUp);
+            doNothing().when(cacheWarmUp).warmUpAsync(anyString());
+            try {
+                cacheWarmUp.warmUpStartupTenants();
+                verify(cacheWarmUp, times(2)).warmUpAsync(anyString());
+                verify(cacheWarmUp).warmUpAsync("carbon.super");
+                verify(cacheWarmUp).warmUpAsync("wso2.com");
+            } finally {
+                cacheWarmUp.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testWarmUpAsyncIsSkippedAfterShutdown() throws Exception {
+
+        CacheWarmUp cacheWarmUp = new CacheWarmUp(Collections.emptyList(), 0,
+                Collections.singletonList("sp-configured"), 0, Collections.emptyList());
+        cacheWarmUp.shutdown();
+
+        // The rejected warm up is skipped without an error.
+        cacheWarmUp.warmUpAsync(SUPER_TENANT_DOMAIN_NAME);
+        verifyNoInteractions(applicationDAO, identityProviderManager);
+    }
+
+    private static ApplicationBasicInfo createApplicationBasicInfo(String name) {
+
+        ApplicationBasicInfo applicationBasicInfo = new ApplicationBasicInfo();
+        applicationBasicInfo.setApplicationName(name);
+        return applicationBasicInfo;
+    }
+
+    private static IdentityProvider createIdentityProvider(String name) {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setIdentityProviderName(name);
+        return identityProvider;
+    }
+}
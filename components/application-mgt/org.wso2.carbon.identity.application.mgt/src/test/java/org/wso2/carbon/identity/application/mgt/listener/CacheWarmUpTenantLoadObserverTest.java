@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.listener;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.mgt.internal.cache.CacheWarmUp;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link CacheWarmUpTenantLoadObserver}.
+ */
+@WithCarbonHome
+public class CacheWarmUpTenantLoadObserverTest {
+
+    @Test
+    public void testTenantLoadWarmsUpLoadedTenant() {
+
+        CacheWarmUp cacheWarmUp = mock(CacheWarmUp.class);
+        CacheWarmUpTenantLoadObserver observer = new CacheWarmUpTenantLoadObserver(cacheWarmUp);
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain("wso2.com");
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(1);
+            observer.createdConfigurationContext(mock(ConfigurationContext.class));
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        verify(cacheWarmUp).warmUpAsync("wso2.com");
+    }
+}
@@ -52,7 +52,9 @@ public enum ErrorMessage {
     ERROR_WHILE_RESOLVING_ORG_ID_FROM_TENANT_DOMAIN("65008", "Error while resolving organization id.",
             "Error while resolving organization id from tenant domain."),
     ERROR_WHILE_RETRIEVING_ASYNC_OPERATION_STATUS_UNIT_COUNT("65009", "Error while retrieving async operation " +
-            "status unit count.", "Error while retrieving Async Operation Status unit count from the system.");
+            "status unit count.", "Error while retrieving Async Operation Status unit count from the system."),
+    ERROR_WHILE_BUFFERING_ASYNC_OPERATION_STATUS_UNIT("65010", "Async operation status unit buffer is full.",
+            "Timed out while waiting for space in the Async Operation Status Unit buffer.");
 
     private final String code;
     private final String message;
@@ -63,6 +63,13 @@ public class AsyncOperationStatusMgtConstants {
     public static final String ASC_SORT_ORDER = "ASC";
     public static final String FILTER_PLACEHOLDER_PREFIX = "FILTER_ID_";
     public static final String ENABLE_DATA_PERSISTENCE = "async_operation_status.enable_data_persistence";
+    public static final String BUFFER_THRESHOLD = "AsyncOperationStatus.Buffer.Threshold";
+    public static final String BUFFER_FLUSH_INTERVAL = "AsyncOperationStatus.Buffer.FlushInterval";
+    public static final String BUFFER_CAPACITY = "AsyncOperationStatus.Buffer.Capacity";
+    public static final String BUFFER_MAX_RETRIES = "AsyncOperationStatus.Buffer.MaxRetries";
+    public static final String BUFFER_ENQUEUE_TIMEOUT = "AsyncOperationStatus.Buffer.EnqueueTimeout";
+    public static final int DEFAULT_BUFFER_THRESHOLD = 100;
+    public static final int DEFAULT_BUFFER_FLUSH_INTERVAL = 3;
 
     private static final Map<String, String> attributeColumnMap = new HashMap<>();
     public static final Map<String, String> ATTRIBURE_COLUMN_MAP = Collections.unmodifiableMap(attributeColumnMap);
@@ -24,43 +24,130 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.excepti
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 
+import java.time.Clock;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.ErrorMessage.ERROR_WHILE_BUFFERING_ASYNC_OPERATION_STATUS_UNIT;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.handleServerException;
 
 /**
  * In-memory queue to store async operations, with database fallback.
+ * <p>
+ * Callers only enqueue records. The records are written to the database in batches by a dedicated flusher thread,
+ * either when the threshold is reached or periodically. The buffer is bounded: once it is full, callers wait for
+ * the flusher to free up space. Batches which could not be written are kept and retried by the periodic flush, with
+ * an exponential backoff. New records are not written while failed batches are waiting, so that an unavailable
+ * database is not hit on every threshold.
  */
 public class AsyncOperationDataBuffer {
 
     private static final Log LOG = LogFactory.getLog(AsyncOperationDataBuffer.class);
+    public static final int DEFAULT_CAPACITY = 10000;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_ENQUEUE_TIMEOUT_MILLIS = 5000L;
+
     private final ConcurrentLinkedQueue<UnitOperationInitDTO> queue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedDeque<FailedBatch> retryQueue = new ConcurrentLinkedDeque<>();
     private final AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO;
     private final int threshold;
     private final int flushIntervalSeconds;
+    private final int maxRetries;
+    private final long enqueueTimeoutMillis;
+    private final Semaphore capacity;
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private final AtomicInteger retryBufferSize = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
     private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Clock clock;
+
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final AtomicLong persistedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong totalFlushDurationNanos = new AtomicLong();
+    private final AtomicLong maxFlushDurationNanos = new AtomicLong();
+    private volatile long lastFlushDurationNanos;
 
     public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
                                     int flushIntervalSeconds) {
 
+        this(asyncOperationStatusMgtDAO, threshold, flushIntervalSeconds, DEFAULT_CAPACITY, DEFAULT_MAX_RETRIES,
+                DEFAULT_ENQUEUE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param asyncOperationStatusMgtDAO Async operation status DAO.
+     * @param threshold                  Number of buffered records which triggers a flush. Also the batch size.
+     * @param flushIntervalSeconds       Interval of the periodic flush.
+     * @param capacity                   Maximum number of records held in the buffer, including failed batches.
+     * @param maxRetries                 Number of times a failed batch is retried before it is dropped.
+     * @param enqueueTimeoutMillis       Maximum time a caller waits for space when the buffer is full.
+     */
+    public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
+                                    int flushIntervalSeconds, int capacity, int maxRetries,
+                                    long enqueueTimeoutMillis) {
+
+        this(asyncOperationStatusMgtDAO, threshold, flushIntervalSeconds, capacity, maxRetries, enqueueTimeoutMillis,
+                Clock.systemUTC());
+    }
+
+    /**
+     * @param asyncOperationStatusMgtDAO Async operation status DAO.
+     * @param threshold                  Number of buffered records which triggers a flush. Also the batch size.
+     * @param flushIntervalSeconds       Interval of the periodic flush. Also the delay before the first retry of a
+     *                                   failed batch, which is doubled for each further retry.
+     * @param capacity                   Maximum number of records held in the buffer, including failed batches.
+     * @param maxRetries                 Number of times a failed batch is retried before it is dropped.
+     * @param enqueueTimeoutMillis       Maximum time a caller waits for space when the buffer is full.
+     * @param clock                      Clock used to schedule the retries of failed batches.
+     */
+    public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
+                                    int flushIntervalSeconds, int capacity, int maxRetries,
+                                    long enqueueTimeoutMillis, Clock clock) {
+
+        this.clock = clock;
         this.asyncOperationStatusMgtDAO = asyncOperationStatusMgtDAO;
         this.threshold = threshold;
         this.flushIntervalSeconds = flushIntervalSeconds;
+        this.capacity = new Semaphore(Math.max(capacity, threshold));
+        this.maxRetries = maxRetries;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
 
         startPeriodicFlushTask();
     }
 
     /**
-     * Add an operation to the queue. If queue exceeds threshold, persist to DB.
+     * Add an operation to the queue. If queue exceeds threshold, a flush is triggered on the flusher thread.
+     * If the buffer is full, waits until the flusher frees up space.
      *
      * @param operation The operation to add.
+     * @throws AsyncOperationStatusMgtException If the buffer stays full for longer than the enqueue timeout.
      */
-    public synchronized void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
+    public void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
 
+        if (!capacity.tryAcquire()) {
+            requestFlush();
+            try {
+                if (!capacity.tryAcquire(enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw handleServerException(ERROR_WHILE_BUFFERING_ASYNC_OPERATION_STATUS_UNIT, null);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw handleServerException(ERROR_WHILE_BUFFERING_ASYNC_OPERATION_STATUS_UNIT, e);
+            }
+        }
         queue.offer(operation);
-        if (queue.size() >= threshold) {
-            persistToDatabase();
+        if (bufferSize.incrementAndGet() >= threshold) {
+            requestFlush();
         }
     }
 
@@ -75,32 +162,244 @@ public class AsyncOperationDataBuffer {
     }
 
     /**
-     * Retrieve and remove an operation from the queue.
-     *
-     * @return The next operation, or null if the queue is empty.
+     * Retry the failed batches which are due and, if none are left, write the buffered records to the database.
+     * Called periodically by the flusher thread.
      */
-    public synchronized UnitOperationInitDTO dequeue() {
+    public synchronized void flush() {
 
-        return queue.poll();
+        try {
+            if (retryFailedBatches(false)) {
+                writeBufferedRecords();
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Unexpected error while flushing unit operation records to the database.", e);
+        }
     }
 
     /**
-     * Shuts down the scheduled task.
+     * Shuts down the scheduled task and writes the remaining records to the database.
      */
     public void shutdown() {
 
         scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(flushIntervalSeconds, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flushOnShutdown();
+        if (retryBufferSize.get() > 0) {
+            LOG.warn(retryBufferSize.get() + " unit operation records could not be written to the database " +
+                    "before shutdown.");
+        }
+    }
+
+    /**
+     * @return Number of records waiting to be flushed.
+     */
+    public int getBufferSize() {
+
+        return bufferSize.get();
+    }
+
+    /**
+     * @return Number of records in failed batches waiting to be retried.
+     */
+    public int getRetryBufferSize() {
+
+        return retryBufferSize.get();
+    }
+
+    public long getFlushCount() {
+
+        return flushCount.get();
+    }
+
+    public long getFailedFlushCount() {
+
+        return failedFlushCount.get();
+    }
+
+    public long getPersistedCount() {
+
+        return persistedCount.get();
+    }
+
+    /**
+     * @return Number of records dropped after exhausting the retries.
+     */
+    public long getDroppedCount() {
+
+        return droppedCount.get();
+    }
+
+    public long getLastFlushDurationMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(lastFlushDurationNanos);
+    }
+
+    public long getMaxFlushDurationMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxFlushDurationNanos.get());
+    }
+
+    public double getAverageFlushDurationMillis() {
+
+        long count = flushCount.get() + failedFlushCount.get();
+        return count == 0 ? 0 : (double) totalFlushDurationNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
     }
 
     /**
-     * Persist queued operations to the database in batch.
+     * Schedule a flush on the flusher thread unless one is already pending.
      */
-    private synchronized void persistToDatabase() throws AsyncOperationStatusMgtException {
+    private void requestFlush() {
 
-        if (!queue.isEmpty()) {
-            asyncOperationStatusMgtDAO.registerAsyncStatusUnit(queue);
-            queue.clear();
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushOnThreshold);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * Write the buffered records once the threshold is reached. Failed batches are left to the periodic flush, and
+     * nothing is written while they are waiting, since the database was unavailable on the last attempt.
+     */
+    private synchronized void flushOnThreshold() {
+
+        flushRequested.set(false);
+        if (!retryQueue.isEmpty()) {
+            return;
+        }
+        try {
+            writeBufferedRecords();
+        } catch (RuntimeException e) {
+            LOG.error("Unexpected error while flushing unit operation records to the database.", e);
+        }
+    }
+
+    /**
+     * Make a last attempt to write the failed batches and the buffered records, regardless of the backoff. Runs on
+     * the caller of {@link #shutdown()} once the flusher thread has stopped.
+     */
+    private synchronized void flushOnShutdown() {
+
+        try {
+            if (retryFailedBatches(true)) {
+                writeBufferedRecords();
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Unexpected error while flushing unit operation records to the database.", e);
+        }
+    }
+
+    /**
+     * Write the buffered records to the database in threshold sized batches. Stops at the first failed batch, which
+     * is kept for a retry.
+     */
+    private void writeBufferedRecords() {
+
+        while (bufferSize.get() > 0) {
+            ConcurrentLinkedQueue<UnitOperationInitDTO> batch = drainBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (!persistBatch(batch)) {
+                retryQueue.offerLast(new FailedBatch(batch, clock.millis() + getRetryDelayMillis(1)));
+                retryBufferSize.addAndGet(batch.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retry the batches which could not be written earlier, oldest first. Stops at the first batch which is not due
+     * yet or fails again, so that the batches are written in order.
+     *
+     * @param ignoreBackoff Whether to retry the batches which are not due yet.
+     * @return True if there are no failed batches left.
+     */
+    private boolean retryFailedBatches(boolean ignoreBackoff) {
+
+        FailedBatch failedBatch;
+        while ((failedBatch = retryQueue.peekFirst()) != null) {
+            if (!ignoreBackoff && clock.millis() < failedBatch.nextAttemptTime) {
+                return false;
+            }
+            if (persistBatch(failedBatch.records)) {
+                retryQueue.pollFirst();
+                retryBufferSize.addAndGet(-failedBatch.records.size());
+                continue;
+            }
+            if (++failedBatch.attempts > maxRetries) {
+                retryQueue.pollFirst();
+                int size = failedBatch.records.size();
+                retryBufferSize.addAndGet(-size);
+                droppedCount.addAndGet(size);
+                capacity.release(size);
+                LOG.error("Dropped " + size + " unit operation records after " + maxRetries +
+                        " failed attempts to write them to the database.");
+                continue;
+            }
+            failedBatch.nextAttemptTime = clock.millis() + getRetryDelayMillis(failedBatch.attempts);
+            return false;
+        }
+        return true;
+    }
+
+    private long getRetryDelayMillis(int attempts) {
+
+        return TimeUnit.SECONDS.toMillis(flushIntervalSeconds) << Math.min(attempts - 1, 16);
+    }
+
+    private ConcurrentLinkedQueue<UnitOperationInitDTO> drainBatch() {
+
+        ConcurrentLinkedQueue<UnitOperationInitDTO> batch = new ConcurrentLinkedQueue<>();
+        UnitOperationInitDTO operation;
+        int count = 0;
+        while (count < threshold && (operation = queue.poll()) != null) {
+            batch.offer(operation);
+            count++;
+        }
+        bufferSize.addAndGet(-count);
+        return batch;
+    }
+
+    /**
+     * Write a batch to the database. Space held by the batch is released only once it is written.
+     *
+     * @param batch Records to be written.
+     * @return True if the batch was written.
+     */
+    private boolean persistBatch(ConcurrentLinkedQueue<UnitOperationInitDTO> batch) {
+
+        long startTime = System.nanoTime();
+        boolean persisted = false;
+        try {
+            asyncOperationStatusMgtDAO.registerAsyncStatusUnit(batch);
+            persisted = true;
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while flushing " + batch.size() + " unit operation records to the database. " +
+                    "The records will be retried.", e);
+        } finally {
+            long duration = System.nanoTime() - startTime;
+            lastFlushDurationNanos = duration;
+            totalFlushDurationNanos.addAndGet(duration);
+            maxFlushDurationNanos.accumulateAndGet(duration, Math::max);
+        }
+        if (persisted) {
+            flushCount.incrementAndGet();
+            persistedCount.addAndGet(batch.size());
+            capacity.release(batch.size());
+        } else {
+            failedFlushCount.incrementAndGet();
         }
+        return persisted;
     }
 
     /**
@@ -108,17 +407,26 @@ public class AsyncOperationDataBuffer {
      */
     private void startPeriodicFlushTask() {
 
-        scheduler.scheduleAtFixedRate(() -> {
-            if (!queue.isEmpty()) {
-                try {
-                    persistToDatabase();
-                } catch (AsyncOperationStatusMgtException e) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.error("Error while flushing unit operation records to the database.", e);
-                    }
-                }
+        scheduler.scheduleWithFixedDelay(() -> {
+            if (!queue.isEmpty() || !retryQueue.isEmpty()) {
+                flush();
             }
         }, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
     }
 
+    /**
+     * Batch of records which could not be written to the database.
+     */
+    private static class FailedBatch {
+
+        private final ConcurrentLinkedQueue<UnitOperationInitDTO> records;
+        private int attempts = 1;
+        private long nextAttemptTime;
+
+        FailedBatch(ConcurrentLinkedQueue<UnitOperationInitDTO> records, long nextAttemptTime) {
+
+            this.records = records;
+            this.nextAttemptTime = nextAttemptTime;
+        }
+    }
 }
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.service.impl;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.annotation.bundle.Capability;
@@ -58,6 +59,13 @@ import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.ErrorMessage.ERROR_WHILE_RETRIEVING_BASIC_ORG_DETAILS;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.ErrorMessage.ERROR_WHILE_RETRIEVING_ORG_NAME_FROM_ORG_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.AND;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.BUFFER_CAPACITY;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.BUFFER_ENQUEUE_TIMEOUT;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.BUFFER_FLUSH_INTERVAL;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.BUFFER_MAX_RETRIES;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.BUFFER_THRESHOLD;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.DEFAULT_BUFFER_FLUSH_INTERVAL;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.DEFAULT_BUFFER_THRESHOLD;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.DESC_SORT_ORDER;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.AsyncOperationStatusMgtConstants.ENABLE_DATA_PERSISTENCE;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.handleClientException;
@@ -83,7 +91,7 @@ public class AsyncOperationStatusMgtServiceImpl implements AsyncOperationStatusM
     private static final AsyncOperationStatusMgtDAO
             ASYNC_OPERATION_STATUS_MGT_DAO = new AsyncOperationOperationStatusMgtDAOImpl();
     private static final AsyncOperationDataBuffer operationDataBuffer =
-            new AsyncOperationDataBuffer(ASYNC_OPERATION_STATUS_MGT_DAO, 100, 3);
+            createOperationDataBuffer();
 
     public static AsyncOperationStatusMgtServiceImpl getInstance() {
 
@@ -346,4 +354,27 @@ public class AsyncOperationStatusMgtServiceImpl implements AsyncOperationStatusM
 
         return AsyncOperationStatusMgtDataHolder.getInstance().getOrganizationManager();
     }
+
+    /**
+     * Shuts down the unit operation buffer after writing the buffered records to the database.
+     */
+    public static void shutdownOperationDataBuffer() {
+
+        operationDataBuffer.shutdown();
+    }
+
+    private static AsyncOperationDataBuffer createOperationDataBuffer() {
+
+        int threshold = NumberUtils.toInt(IdentityUtil.getProperty(BUFFER_THRESHOLD), DEFAULT_BUFFER_THRESHOLD);
+        int flushInterval = NumberUtils.toInt(IdentityUtil.getProperty(BUFFER_FLUSH_INTERVAL),
+                DEFAULT_BUFFER_FLUSH_INTERVAL);
+        int capacity = NumberUtils.toInt(IdentityUtil.getProperty(BUFFER_CAPACITY),
+                AsyncOperationDataBuffer.DEFAULT_CAPACITY);
+        int maxRetries = NumberUtils.toInt(IdentityUtil.getProperty(BUFFER_MAX_RETRIES),
+                AsyncOperationDataBuffer.DEFAULT_MAX_RETRIES);
+        long enqueueTimeout = NumberUtils.toLong(IdentityUtil.getProperty(BUFFER_ENQUEUE_TIMEOUT),
+                AsyncOperationDataBuffer.DEFAULT_ENQUEUE_TIMEOUT_MILLIS);
+        return new AsyncOperationDataBuffer(ASYNC_OPERATION_STATUS_MGT_DAO, threshold, flushInterval, capacity,
+                maxRetries, enqueueTimeout);
+    }
 }
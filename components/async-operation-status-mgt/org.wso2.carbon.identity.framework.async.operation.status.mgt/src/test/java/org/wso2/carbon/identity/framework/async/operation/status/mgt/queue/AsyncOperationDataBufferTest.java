@@ -18,23 +18,28 @@
 
 package org.wso2.carbon.identity.framework.async.operation.status.mgt.queue;
 
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtServerException;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.queue.AsyncOperationDataBuffer;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Clock;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for AsyncOperationDataBufferTest.
@@ -46,17 +51,17 @@ public class AsyncOperationDataBufferTest {
     private final int threshold = 100;
     private final int flushIntervalSeconds = 3;
 
-    @BeforeClass
+    @BeforeMethod
     void setUp() {
 
         mockDAO = mock(AsyncOperationStatusMgtDAO.class);
         dataBuffer = new AsyncOperationDataBuffer(mockDAO, threshold, flushIntervalSeconds);
     }
 
-    @BeforeMethod
-    void beforeEach() {
+    @AfterMethod
+    void tearDown() {
 
-        emptyBuffer();
+        dataBuffer.shutdown();
     }
 
     @Test
@@ -76,27 +81,153 @@ public class AsyncOperationDataBufferTest {
             dataBuffer.add(new UnitOperationInitDTO());
         }
 
-        TimeUnit.MILLISECONDS.sleep(2000);
-
-        verify(mockDAO, times(1)).registerAsyncStatusUnit(any());
+        verify(mockDAO, timeout(2000).times(1)).registerAsyncStatusUnit(any());
         assertTrue(dataBuffer.isEmpty());
     }
+
     @Test
     void testPeriodicFlush() throws Exception {
 
         UnitOperationInitDTO record = new UnitOperationInitDTO();
         dataBuffer.add(record);
 
-        TimeUnit.SECONDS.sleep(flushIntervalSeconds + 1);
-
-        verify(mockDAO, atLeastOnce()).registerAsyncStatusUnit(any());
+        verify(mockDAO, timeout((flushIntervalSeconds + 1) * 1000L).atLeastOnce()).registerAsyncStatusUnit(any());
         assertTrue(dataBuffer.isEmpty());
     }
 
-    private void emptyBuffer() {
+    @Test
+    void testFailedFlushIsRetried() throws Exception {
+
+        AsyncOperationStatusMgtDAO failingDAO = mock(AsyncOperationStatusMgtDAO.class);
+        doThrow(new AsyncOperationStatusMgtServerException("error"))
+                .doNothing()
+                .when(failingDAO).registerAsyncStatusUnit(any());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(failingDAO, 10, 60, 10, 3, 1000, clock);
+        try {
+            buffer.add(new UnitOperationInitDTO());
+            buffer.add(new UnitOperationInitDTO());
+
+            buffer.flush();
+            assertEquals(2, buffer.getRetryBufferSize());
+
+            // The failed batch is not retried before the backoff has elapsed.
+            when(clock.millis()).thenReturn(59000L);
+            buffer.flush();
+            verify(failingDAO, times(1)).registerAsyncStatusUnit(any());
+
+            when(clock.millis()).thenReturn(60000L);
+            buffer.flush();
+            verify(failingDAO, times(2)).registerAsyncStatusUnit(any());
+            assertEquals(1, buffer.getFailedFlushCount());
+            assertEquals(2, buffer.getPersistedCount());
+            assertEquals(0, buffer.getRetryBufferSize());
+            assertEquals(0, buffer.getDroppedCount());
+        } finally {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    void testFailedBatchIsDroppedAfterMaxRetries() throws Exception {
+
+        AsyncOperationStatusMgtDAO failingDAO = mock(AsyncOperationStatusMgtDAO.class);
+        doThrow(new AsyncOperationStatusMgtServerException("error"))
+                .when(failingDAO).registerAsyncStatusUnit(any());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(failingDAO, 10, 60, 10, 1, 1000, clock);
+        try {
+            buffer.add(new UnitOperationInitDTO());
+
+            buffer.flush();
+            when(clock.millis()).thenReturn(60000L);
+            buffer.flush();
+
+            verify(failingDAO, times(2)).registerAsyncStatusUnit(any());
+            assertEquals(1, buffer.getDroppedCount());
+            assertEquals(0, buffer.getRetryBufferSize());
+        } finally {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    void testRetryDelayIsDoubled() throws Exception {
+
+        AsyncOperationStatusMgtDAO failingDAO = mock(AsyncOperationStatusMgtDAO.class);
+        doThrow(new AsyncOperationStatusMgtServerException("error"))
+                .when(failingDAO).registerAsyncStatusUnit(any());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(failingDAO, 10, 60, 10, 3, 1000, clock);
+        try {
+            buffer.add(new UnitOperationInitDTO());
+            buffer.flush();
+            when(clock.millis()).thenReturn(60000L);
+            buffer.flush();
+            verify(failingDAO, times(2)).registerAsyncStatusUnit(any());
+
+            // The second retry is due 120 seconds after the first retry.
+            when(clock.millis()).thenReturn(179000L);
+            buffer.flush();
+            verify(failingDAO, times(2)).registerAsyncStatusUnit(any());
+
+            when(clock.millis()).thenReturn(180000L);
+            buffer.flush();
+            verify(failingDAO, times(3)).registerAsyncStatusUnit(any());
+            assertEquals(1, buffer.getRetryBufferSize());
+        } finally {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    void testThresholdFlushWaitsForFailedBatches() throws Exception {
+
+        AsyncOperationStatusMgtDAO failingDAO = mock(AsyncOperationStatusMgtDAO.class);
+        doThrow(new AsyncOperationStatusMgtServerException("error"))
+                .doNothing()
+                .when(failingDAO).registerAsyncStatusUnit(any());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(failingDAO, 2, 60, 10, 3, 1000, clock);
+        try {
+            buffer.add(new UnitOperationInitDTO());
+            buffer.flush();
+            assertEquals(1, buffer.getRetryBufferSize());
+
+            // Reaching the threshold does not write to the database while a failed batch is waiting.
+            buffer.add(new UnitOperationInitDTO());
+            buffer.add(new UnitOperationInitDTO());
+            buffer.flush();
+            verify(failingDAO, times(1)).registerAsyncStatusUnit(any());
+            assertEquals(2, buffer.getBufferSize());
+
+            when(clock.millis()).thenReturn(60000L);
+            buffer.flush();
+            verify(failingDAO, times(3)).registerAsyncStatusUnit(any());
+            assertEquals(3, buffer.getPersistedCount());
+            assertTrue(buffer.isEmpty());
+        } finally {
+            buffer.shutdown();
+        }
+    }
 
-        while (!dataBuffer.isEmpty()) {
-            dataBuffer.dequeue();
+    @Test(expectedExceptions = AsyncOperationStatusMgtException.class)
+    void testAddFailsWhenBufferStaysFull() throws Exception {
+
+        AsyncOperationStatusMgtDAO blockedDAO = mock(AsyncOperationStatusMgtDAO.class);
+        doThrow(new AsyncOperationStatusMgtServerException("error"))
+                .when(blockedDAO).registerAsyncStatusUnit(any());
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(blockedDAO, 2, 60, 2, 10, 100);
+        try {
+            buffer.add(new UnitOperationInitDTO());
+            buffer.add(new UnitOperationInitDTO());
+            buffer.add(new UnitOperationInitDTO());
+        } finally {
+            buffer.shutdown();
         }
     }
 
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Latency and memory histograms of the adaptive authentication script executions, kept per service provider.
+ * <p>
+ * Every execution reported by the {@link JSExecutionSupervisor} is recorded against the service provider of the
+ * script. Recording only updates atomic counters, so it does not block the script executing threads. The statistics
+ * are published over JMX once {@link #registerMBean()} is called.
+ */
+public class JSExecutionStatistics implements JSExecutionStatisticsMXBean {
+
+    private static final Log log = LogFactory.getLog(JSExecutionStatistics.class);
+
+    static final String MBEAN_NAME =
+            "org.wso2.carbon.identity:type=AdaptiveAuthentication,name=ScriptExecutionStatistics";
+
+    static final long[] LATENCY_BUCKETS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+    static final long[] MEMORY_BUCKETS_BYTES = {64L * 1024, 256L * 1024, 1024L * 1024, 4L * 1024 * 1024,
+            16L * 1024 * 1024, 64L * 1024 * 1024, 256L * 1024 * 1024};
+
+    private final Map<String, ServiceProviderStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Record an execution of the script of a service provider.
+     *
+     * @param serviceProvider Service provider of the script.
+     * @param tenantDomain    Tenant domain of the service provider.
+     * @param executionData   Elapsed time and consumed memory of the execution.
+     * @param memoryMeasured  Whether the consumed memory of the execution was measured.
+     */
+    public void record(String serviceProvider, String tenantDomain, JSExecutionMonitorData executionData,
+                       boolean memoryMeasured) {
+
+        String key = getKey(serviceProvider, tenantDomain);
+        ServiceProviderStatistics spStatistics = statistics.get(key);
+        if (spStatistics == null) {
+            spStatistics = statistics.computeIfAbsent(key,
+                    k -> new ServiceProviderStatistics(serviceProvider, tenantDomain));
+        }
+        spStatistics.getLatencyHistogram().record(executionData.getElapsedTime());
+        if (memoryMeasured) {
+            spStatistics.getMemoryHistogram().record(executionData.getConsumedMemory());
+        }
+    }
+
+    /**
+     * Get the statistics of a service provider.
+     *
+     * @param serviceProvider Service provider name.
+     * @param tenantDomain    Tenant domain of the service provider.
+     * @return Statistics of the service provider. Null if no script execution was recorded for it.
+     */
+    public ServiceProviderStatistics getStatistics(String serviceProvider, String tenantDomain) {
+
+        return statistics.get(getKey(serviceProvider, tenantDomain));
+    }
+
+    /**
+     * @return Statistics of all the service providers keyed by tenant domain and service provider name.
+     */
+    public Map<String, ServiceProviderStatistics> getAllStatistics() {
+
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Remove the statistics of a service provider, such as when it is deleted.
+     *
+     * @param serviceProvider Service provider name.
+     * @param tenantDomain    Tenant domain of the service provider.
+     */
+    public void clear(String serviceProvider, String tenantDomain) {
+
+        statistics.remove(getKey(serviceProvider, tenantDomain));
+    }
+
+    @Override
+    public List<ServiceProviderStatistics> getServiceProviderStatistics() {
+
+        return new ArrayList<>(statistics.values());
+    }
+
+    @Override
+    public long getLatencyPercentile(String serviceProvider, String tenantDomain, double percentile) {
+
+        ServiceProviderStatistics spStatistics = getStatistics(serviceProvider, tenantDomain);
+        return spStatistics == null ? 0 : spStatistics.getLatencyHistogram().getPercentile(percentile);
+    }
+
+    @Override
+    public long getMemoryPercentile(String serviceProvider, String tenantDomain, double percentile) {
+
+        ServiceProviderStatistics spStatistics = getStatistics(serviceProvider, tenantDomain);
+        return spStatistics == null ? 0 : spStatistics.getMemoryHistogram().getPercentile(percentile);
+    }
+
+    /**
+     * Register the statistics in the platform MBean server, replacing the statistics registered earlier.
+     */
+    public void registerMBean() {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(this, objectName);
+        } catch (JMException e) {
+            log.error("Error while registering the adaptive authentication script execution statistics MBean.", e);
+        }
+    }
+
+    /**
+     * Unregister the statistics from the platform MBean server.
+     */
+    public void unregisterMBean() {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            log.error("Error while unregistering the adaptive authentication script execution statistics MBean.",
+                    e);
+        }
+    }
+
+    private static String getKey(String serviceProvider, String tenantDomain) {
+
+        return StringUtils.defaultString(tenantDomain) + ":" + StringUtils.defaultString(serviceProvider);
+    }
+
+    /**
+     * Script execution statistics of a service provider.
+     */
+    public static class ServiceProviderStatistics {
+
+        private final String serviceProvider;
+        private final String tenantDomain;
+        private final Histogram latencyHistogram = new Histogram(LATENCY_BUCKETS_MILLIS);
+        private final Histogram memoryHistogram = new Histogram(MEMORY_BUCKETS_BYTES);
+
+        ServiceProviderStatistics(String serviceProvider, String tenantDomain) {
+
+            this.serviceProvider = serviceProvider;
+            this.tenantDomain = tenantDomain;
+        }
+
+        public String getServiceProvider() {
+
+            return serviceProvider;
+        }
+
+        public String getTenantDomain() {
+
+            return tenantDomain;
+        }
+
+        /**
+         * @return Histogram of the script execution time in milliseconds.
+         */
+        public Histogram getLatencyHistogram() {
+
+            return latencyHistogram;
+        }
+
+        /**
+         * @return Histogram of the memory allocated by the script executions in bytes. Only recorded when memory
+         * supervision is enabled.
+         */
+        public Histogram getMemoryHistogram() {
+
+            return memoryHistogram;
+        }
+    }
+
+    /**
+     * Histogram with fixed bucket upper bounds. The last bucket counts the values above the largest bound.
+     */
+    public static class Histogram {
+
+        private final long[] bounds;
+        private final AtomicLongArray bucketCounts;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        Histogram(long[] bounds) {
+
+            this.bounds = bounds;
+            this.bucketCounts = new AtomicLongArray(bounds.length + 1);
+        }
+
+        void record(long value) {
+
+            int index = Arrays.binarySearch(bounds, value);
+            bucketCounts.incrementAndGet(index >= 0 ? index : -index - 1);
+            count.incrementAndGet();
+            sum.addAndGet(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        /**
+         * @return Inclusive upper bounds of the buckets, except the last bucket which has no upper bound.
+         */
+        public long[] getBucketBounds() {
+
+            return bounds.clone();
+        }
+
+        /**
+         * @return Number of values in each bucket. Has one more element than the bucket bounds.
+         */
+        public long[] getBucketCounts() {
+
+            long[] counts = new long[bucketCounts.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = bucketCounts.get(i);
+            }
+            return counts;
+        }
+
+        public long getCount() {
+
+            return count.get();
+        }
+
+        public long getSum() {
+
+            return sum.get();
+        }
+
+        public long getMax() {
+
+            return max.get();
+        }
+
+        public double getMean() {
+
+            long total = count.get();
+            return total == 0 ? 0 : (double) sum.get() / total;
+        }
+
+        /**
+         * Get the upper bound of the bucket which contains the given percentile. The maximum recorded value is
+         * returned if the percentile falls in the last bucket.
+         *
+         * @param percentile Percentile between 0 and 100.
+         * @return Upper bound of the percentile.
+         */
+        public long getPercentile(double percentile) {
+
+            long[] counts = getBucketCounts();
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bounds[i], max.get());
+                }
+            }
+            return max.get();
+        }
+    }
+}
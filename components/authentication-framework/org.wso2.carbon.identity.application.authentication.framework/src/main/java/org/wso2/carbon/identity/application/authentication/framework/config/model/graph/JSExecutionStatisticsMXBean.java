@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
+
+import java.util.List;
+
+/**
+ * Management interface through which the adaptive authentication script execution statistics are published over JMX.
+ */
+public interface JSExecutionStatisticsMXBean {
+
+    /**
+     * @return Latency and memory histograms of the script executions of every service provider.
+     */
+    List<JSExecutionStatistics.ServiceProviderStatistics> getServiceProviderStatistics();
+
+    /**
+     * Get the upper bound of the given percentile of the script execution time of a service provider.
+     *
+     * @param serviceProvider Service provider name.
+     * @param tenantDomain    Tenant domain of the service provider.
+     * @param percentile      Percentile between 0 and 100.
+     * @return Upper bound of the percentile in milliseconds. 0 if no execution was recorded.
+     */
+    long getLatencyPercentile(String serviceProvider, String tenantDomain, double percentile);
+
+    /**
+     * Get the upper bound of the given percentile of the memory allocated by the script executions of a service
+     * provider.
+     *
+     * @param serviceProvider Service provider name.
+     * @param tenantDomain    Tenant domain of the service provider.
+     * @param percentile      Percentile between 0 and 100.
+     * @return Upper bound of the percentile in bytes. 0 if no execution was recorded.
+     */
+    long getMemoryPercentile(String serviceProvider, String tenantDomain, double percentile);
+}
@@ -21,15 +21,19 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.lang.management.ManagementFactory;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Supervises the execution of any script engine, and kills the thread if the time taken is too much.
+ * <p>
+ * Monitored executions are kept in a concurrent registry which is swept by a single monitoring thread on every clock
+ * tick, so starting and completing the monitoring of an execution only adds and removes a registry entry. The
+ * elapsed time and the consumed memory of every completed execution are recorded in the per service provider
+ * {@link JSExecutionStatistics}.
  */
 public class JSExecutionSupervisor {
 
@@ -39,8 +43,11 @@ public class JSExecutionSupervisor {
     private final long memoryLimitInBytes;
     private final boolean timeoutCheckEnabled;
     private long taskExecutionRateInMillis = 50L;
-    private Map<String, TaskHolder> currentScriptExecutions = new HashMap<>();
+    private final Map<String, MonitoringTask> currentScriptExecutions = new ConcurrentHashMap<>();
+    private final JSExecutionStatistics executionStatistics = new JSExecutionStatistics();
     private ScheduledExecutorService monitoringService;
+    private ThreadMXBean memoryCounter;
+    private boolean memoryCountingEnabledBySupervisor;
     private static final int MONITOR_TYPE_TIME = 0;
     private static final int MONITOR_TYPE_MEMORY = 1;
     private static final int WARN_THRESHOLD = 70;
@@ -59,7 +66,8 @@ public class JSExecutionSupervisor {
      * Create JS execution supervisor with timeout check. If timeoutCheckEnabled is false, no time based supervision
      * will be done.
      *
-     * @param threadCount         Thread count for the monitoring service.
+     * @param threadCount         Thread count for the monitoring service. All the executions are swept by a single
+     *                            thread, hence this value is no longer used.
      * @param timeoutCheckEnabled Whether time based supervision should be done.
      * @param timeoutInMillis     Timeout in milliseconds. If the `timeoutCheckEnabled` is false, this value will
      *                            be ignored.
@@ -67,7 +75,7 @@ public class JSExecutionSupervisor {
      */
     public JSExecutionSupervisor(int threadCount, boolean timeoutCheckEnabled, long timeoutInMillis, long memoryLimit) {
 
-        if (taskExecutionRateInMillis > timeoutInMillis) {
+        if (taskExecutionRateInMillis > timeoutInMillis && timeoutInMillis > 0) {
             taskExecutionRateInMillis = timeoutInMillis;
         }
 
@@ -76,12 +84,15 @@ public class JSExecutionSupervisor {
 
         if (memoryLimit > 0) {
             this.memoryLimitInBytes = memoryLimit;
+            turnOnThreadMemoryCounting();
         } else {
             // We are not checking for memory usage.
             memoryLimitInBytes = -1;
         }
 
-        monitoringService = new ScheduledThreadPoolExecutor(threadCount, r -> new Thread(r, JS_EXECUTION_MONITOR));
+        monitoringService = new ScheduledThreadPoolExecutor(1, r -> new Thread(r, JS_EXECUTION_MONITOR));
+        monitoringService.scheduleWithFixedDelay(this::sweep, taskExecutionRateInMillis, taskExecutionRateInMillis,
+                TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -90,6 +101,10 @@ public class JSExecutionSupervisor {
     public void shutdown() {
 
         monitoringService.shutdown();
+        currentScriptExecutions.clear();
+        if (memoryCountingEnabledBySupervisor) {
+            memoryCounter.setThreadAllocatedMemoryEnabled(false);
+        }
     }
 
     /**
@@ -120,12 +135,8 @@ public class JSExecutionSupervisor {
     public void monitor(String identifier, String serviceProvider, String tenantDomain, long elapsedTimeInMillis,
                         long consumedMemoryInBytes) {
 
-        MonitoringTask monitoringTask = new MonitoringTask(Thread.currentThread(), identifier, serviceProvider,
-                tenantDomain, elapsedTimeInMillis, consumedMemoryInBytes);
-        ScheduledFuture<?> monitoredFuture = monitoringService.
-                scheduleAtFixedRate(monitoringTask, taskExecutionRateInMillis, taskExecutionRateInMillis,
-                        TimeUnit.MILLISECONDS);
-        currentScriptExecutions.put(identifier, new TaskHolder(monitoringTask, monitoredFuture));
+        currentScriptExecutions.put(identifier, new MonitoringTask(Thread.currentThread(), identifier,
+                serviceProvider, tenantDomain, elapsedTimeInMillis, consumedMemoryInBytes));
     }
 
     /**
@@ -136,68 +147,88 @@ public class JSExecutionSupervisor {
      */
     public JSExecutionMonitorData completed(String identifier) {
 
-        TaskHolder taskHolder = currentScriptExecutions.remove(identifier);
-        if (taskHolder == null) {
+        MonitoringTask task = currentScriptExecutions.remove(identifier);
+        if (task == null) {
             // Nothing to be done as there was no such task with the given identifier.
             return null;
         }
 
-        ScheduledFuture<?> monitoredFuture = taskHolder.getScheduledFuture();
-        if (taskHolder.getScheduledFuture() != null) {
-            monitoredFuture.cancel(true);
-        }
+        long executionTime = task.getExecutionTime(System.currentTimeMillis());
+        long executionMemory = task.getExecutionMemory();
+        executionStatistics.record(task.serviceProvider, task.tenantDomain,
+                new JSExecutionMonitorData(executionTime, executionMemory), task.isMemoryMeasured());
+        return new JSExecutionMonitorData(executionTime + task.elapsedTimeInMillis,
+                executionMemory + task.consumedMemoryInBytes);
+    }
 
-        MonitoringTask task = taskHolder.getMonitoringTask();
-        long elapsedTime = 0L;
-        long consumedMemory = 0L;
-        if (task != null) {
-            elapsedTime = task.getTotalElapsedTime();
-            consumedMemory = task.getTotalConsumedMemory();
-            task.turnOffThreadMemoryCounting();
-        }
+    /**
+     * @return Latency and memory histograms of the completed script executions per service provider.
+     */
+    public JSExecutionStatistics getExecutionStatistics() {
 
-        return new JSExecutionMonitorData(elapsedTime, consumedMemory);
+        return executionStatistics;
     }
 
-    private class TaskHolder {
+    /**
+     * @return Number of script executions being monitored at the moment.
+     */
+    public int getMonitoredExecutionCount() {
 
-        private MonitoringTask monitoringTask;
-        private ScheduledFuture<?> scheduledFuture;
+        return currentScriptExecutions.size();
+    }
 
-        public TaskHolder(MonitoringTask monitoringTask, ScheduledFuture<?> scheduledFuture) {
+    private void sweep() {
 
-            this.monitoringTask = monitoringTask;
-            this.scheduledFuture = scheduledFuture;
+        if (currentScriptExecutions.isEmpty()) {
+            return;
         }
-
-        public MonitoringTask getMonitoringTask() {
-
-            return monitoringTask;
+        // A single clock reading is used for all the executions of a tick.
+        long now = System.currentTimeMillis();
+        for (MonitoringTask task : currentScriptExecutions.values()) {
+            try {
+                task.check(now);
+            } catch (RuntimeException e) {
+                LOG.error("Error while monitoring the script execution of the service provider: " +
+                        task.serviceProvider + " in tenant: " + task.tenantDomain, e);
+            }
         }
+    }
 
-        public ScheduledFuture<?> getScheduledFuture() {
+    private void turnOnThreadMemoryCounting() {
 
-            return scheduledFuture;
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
+                    "supervision will not be done for adaptive auth script executions.");
+            return;
+        }
+        ThreadMXBean counter = (ThreadMXBean) threadMXBean;
+        try {
+            // Memory counting is a JVM wide setting. Hence it is kept on while the supervisor is running instead
+            // of switching it for each execution.
+            if (!counter.isThreadAllocatedMemoryEnabled()) {
+                counter.setThreadAllocatedMemoryEnabled(true);
+                memoryCountingEnabledBySupervisor = true;
+            }
+            memoryCounter = counter;
+        } catch (UnsupportedOperationException e) {
+            LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
+                    "supervision will not be done for adaptive auth script executions.", e);
         }
     }
 
-    private class MonitoringTask implements Runnable {
-
-        private Thread originalThread;
-        private String id;
-        private String serviceProvider;
-        private String tenantDomain;
-        private long timeCreated;
-        private long elapsedTimeInMillis;
-        private long startMemoryInBytes;
-        private long consumedMemoryInBytes;
-        private ThreadMXBean memoryCounter = null;
-
-        public MonitoringTask(Thread originalThread, String id, String serviceProvider, String tenantDomain,
-                              long elapsedTimeInMillis) {
+    private class MonitoringTask {
 
-            this(originalThread, id, serviceProvider, tenantDomain, elapsedTimeInMillis, 0L);
-        }
+        private final Thread originalThread;
+        private final String id;
+        private final String serviceProvider;
+        private final String tenantDomain;
+        private final long timeCreated;
+        private final long elapsedTimeInMillis;
+        private final long startMemoryInBytes;
+        private final long consumedMemoryInBytes;
+        private boolean timeWarningLogged;
+        private boolean memoryWarningLogged;
 
         public MonitoringTask(Thread originalThread, String id, String serviceProvider, String tenantDomain,
                               long elapsedTimeInMillis, long consumedMemoryInBytes) {
@@ -209,61 +240,56 @@ public class JSExecutionSupervisor {
             this.timeCreated = System.currentTimeMillis();
             this.elapsedTimeInMillis = elapsedTimeInMillis;
             this.consumedMemoryInBytes = consumedMemoryInBytes;
-
-            if (memoryLimitInBytes > 0) {
-                java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
-                if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
-                    memoryCounter = (ThreadMXBean) threadMXBean;
-                    try {
-                        turnOnThreadMemoryCounting();
-                        startMemoryInBytes = getCurrentMemory(originalThread.getId());
-                    } catch (UnsupportedOperationException e) {
-                        LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
-                                "supervision will not be done for adaptive auth script executions.", e);
-                    }
-                } else {
-                    LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
-                            "supervision will not be done for adaptive auth script executions.");
-                }
-            }
+            this.startMemoryInBytes = getCurrentMemory();
         }
 
-        @Override
-        public void run() {
+        /**
+         * Check the resource usage of the execution. Only called by the monitoring thread.
+         *
+         * @param now Current time in milliseconds.
+         */
+        void check(long now) {
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug(String.format("JS execution monitoring task running. Thread: %s, service " +
                         "provider: %s, tenant: %s.", originalThread.getName(), serviceProvider, tenantDomain));
             }
 
-            long elapsedTime = getTotalElapsedTime();
+            long elapsedTime = getExecutionTime(now) + elapsedTimeInMillis;
 
             if (timeoutCheckEnabled && elapsedTime > timeoutInMillis) {
                 terminateScriptExecutingThread(MONITOR_TYPE_TIME, elapsedTime);
                 return;
             }
 
-            if (timeoutCheckEnabled && isTimeBasedWarnThresholdReached(elapsedTime)) {
+            if (timeoutCheckEnabled && !timeWarningLogged && isTimeBasedWarnThresholdReached(elapsedTime)) {
+                timeWarningLogged = true;
                 printThresholdReachedWarnLog(MONITOR_TYPE_TIME, elapsedTime);
                 return;
             }
 
-            if (memoryLimitInBytes > 0 && memoryCounter != null) {
-                long consumedMemory = getTotalConsumedMemory();
+            if (isMemoryMeasured()) {
+                long consumedMemory = getExecutionMemory() + consumedMemoryInBytes;
                 if (consumedMemory > memoryLimitInBytes) {
                     terminateScriptExecutingThread(MONITOR_TYPE_MEMORY, consumedMemory);
                     return;
                 }
 
-                if (isMemoryBasedWarnThresholdReached(consumedMemory)) {
+                if (!memoryWarningLogged && isMemoryBasedWarnThresholdReached(consumedMemory)) {
+                    memoryWarningLogged = true;
                     printThresholdReachedWarnLog(MONITOR_TYPE_MEMORY, consumedMemory);
-                    return;
                 }
             }
         }
 
         private void terminateScriptExecutingThread(int monitorType, long consumedResourceValue) {
 
+            // Marking current monitoring task as complete. The thread has already completed the execution if the
+            // task is no longer registered.
+            if (!currentScriptExecutions.remove(id, this)) {
+                return;
+            }
+
             String warnLog;
             if (MONITOR_TYPE_TIME == monitorType) {
                 warnLog = String.format("The script took too much time to execute. Thread: %s, service provider: %s, " +
@@ -281,9 +307,6 @@ public class JSExecutionSupervisor {
             LOG.warn(warnLog, throwable);
             originalThread.interrupt();
             originalThread.stop();
-
-            // Marking current monitoring task as complete.
-            completed(id);
         }
 
         private void printThresholdReachedWarnLog(int monitorType, long consumedResourceValue) {
@@ -302,36 +325,27 @@ public class JSExecutionSupervisor {
             LOG.warn(warnLog);
         }
 
-        private long getTotalElapsedTime() {
-
-            return (System.currentTimeMillis() - timeCreated) + elapsedTimeInMillis;
-        }
-
-        private long getTotalConsumedMemory() {
+        private long getExecutionTime(long now) {
 
-            return (getCurrentMemory(originalThread.getId()) - startMemoryInBytes) + consumedMemoryInBytes;
+            return now - timeCreated;
         }
 
-        private long getCurrentMemory(long threadId) {
+        private long getExecutionMemory() {
 
-            if (memoryCounter != null) {
-                return memoryCounter.getThreadAllocatedBytes(threadId);
-            }
-            return 0L;
+            return getCurrentMemory() - startMemoryInBytes;
         }
 
-        private void turnOnThreadMemoryCounting() {
+        private boolean isMemoryMeasured() {
 
-            if (memoryCounter != null) {
-                memoryCounter.setThreadAllocatedMemoryEnabled(true);
-            }
+            return memoryLimitInBytes > 0 && memoryCounter != null;
         }
 
-        private void turnOffThreadMemoryCounting() {
+        private long getCurrentMemory() {
 
-            if (memoryCounter != null) {
-                memoryCounter.setThreadAllocatedMemoryEnabled(false);
+            if (isMemoryMeasured()) {
+                return memoryCounter.getThreadAllocatedBytes(originalThread.getId());
             }
+            return 0L;
         }
 
         private boolean isTimeBasedWarnThresholdReached(long elapsedTime) {
@@ -43,4 +43,11 @@ public interface JsGenericGraphBuilderFactory<T> {
     JsGenericSerializer getJsUtil();
 
     JsBaseGraphBuilder getCurrentBuilder();
+
+    /**
+     * Release the resources held by the factory.
+     */
+    default void shutdown() {
+
+    }
 }
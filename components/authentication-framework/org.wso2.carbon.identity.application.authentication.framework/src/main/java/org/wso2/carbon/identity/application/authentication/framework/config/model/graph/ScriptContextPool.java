@@ -0,0 +1,584 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_SCRIPT_CONTEXT_POOL_IDLE_TIMEOUT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_SCRIPT_CONTEXT_POOL_MAX_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_SCRIPT_CONTEXT_POOL_MAX_WAIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.SCRIPT_CONTEXT_POOL_ENABLE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.SCRIPT_CONTEXT_POOL_IDLE_TIMEOUT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.SCRIPT_CONTEXT_POOL_MAX_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.SCRIPT_CONTEXT_POOL_MAX_WAIT;
+
+/**
+ * Bounded pool of script contexts used to execute the adaptive authentication scripts.
+ * <p>
+ * At most {@code maxSize} contexts are borrowed at a time. A borrower waits up to {@code maxWait} for a context to
+ * be returned, after which it gets a context outside the pool which is discarded after use. At most {@code maxSize}
+ * such overflow contexts exist at a time, and a borrower is rejected with a {@link ContextPoolExhaustedException}
+ * once they are in use as well. Returned contexts are reset by the {@link ContextLifecycle} and kept idle in the
+ * partition they were borrowed from, so a context is only reused by the borrowers of the same partition. Idle
+ * contexts which are not used within the idle timeout are evicted the next time the pool is used. Memory used by the
+ * script contexts therefore depends on the number of concurrent script executions instead of the number of request
+ * threads.
+ *
+ * @param <T> Type of the script context.
+ */
+public class ScriptContextPool<T> {
+
+    private static final Log LOG = LogFactory.getLog(ScriptContextPool.class);
+
+    private final String name;
+    private final int maxSize;
+    private final long maxWaitNanos;
+    private final long idleTimeoutNanos;
+    private final ContextLifecycle<T> lifecycle;
+    private final Semaphore permits;
+    private final Semaphore overflowPermits;
+    private final Map<String, Deque<IdleContext<T>>> idleContexts = new ConcurrentHashMap<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private volatile boolean closed;
+
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong waitCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitTimeNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong totalCreationNanos = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong resetFailureCount = new AtomicLong();
+
+    /**
+     * @param name              Name of the pool used in logs.
+     * @param maxSize           Maximum number of contexts borrowed at a time. Also the maximum number of idle
+     *                          contexts and of the overflow contexts.
+     * @param maxWaitMillis     Maximum time to wait for a context when all the contexts are in use.
+     * @param idleTimeoutMillis Time after which an idle context is evicted. Zero or a negative value keeps the idle
+     *                          contexts until the pool is closed.
+     * @param lifecycle         Creates, resets and destroys the contexts.
+     */
+    public ScriptContextPool(String name, int maxSize, long maxWaitMillis, long idleTimeoutMillis,
+                             ContextLifecycle<T> lifecycle) {
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size of the script context pool should be positive.");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(maxWaitMillis, 0));
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.lifecycle = lifecycle;
+        this.permits = new Semaphore(maxSize, true);
+        this.overflowPermits = new Semaphore(maxSize);
+    }
+
+    /**
+     * Check whether the script context pool is enabled in the configuration.
+     *
+     * @return True if the pool is enabled.
+     */
+    public static boolean isEnabledInConfig() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(SCRIPT_CONTEXT_POOL_ENABLE));
+    }
+
+    /**
+     * Create a pool with the size, wait and idle timeout configured for the script context pool.
+     *
+     * @param name      Name of the pool used in logs.
+     * @param lifecycle Creates, resets and destroys the contexts.
+     * @param <T>       Type of the script context.
+     * @return Script context pool.
+     */
+    public static <T> ScriptContextPool<T> createFromConfig(String name, ContextLifecycle<T> lifecycle) {
+
+        int maxSize = (int) getConfig(SCRIPT_CONTEXT_POOL_MAX_SIZE, DEFAULT_SCRIPT_CONTEXT_POOL_MAX_SIZE);
+        if (maxSize <= 0) {
+            maxSize = DEFAULT_SCRIPT_CONTEXT_POOL_MAX_SIZE;
+        }
+        long maxWait = getConfig(SCRIPT_CONTEXT_POOL_MAX_WAIT, DEFAULT_SCRIPT_CONTEXT_POOL_MAX_WAIT);
+        long idleTimeout = getConfig(SCRIPT_CONTEXT_POOL_IDLE_TIMEOUT, DEFAULT_SCRIPT_CONTEXT_POOL_IDLE_TIMEOUT);
+        LOG.info("Adaptive authentication scripts are executed on the pooled " + name + " contexts. Maximum pool " +
+                "size: " + maxSize + ", maximum wait: " + maxWait + " ms, idle timeout: " + idleTimeout + " ms.");
+        return new ScriptContextPool<>(name, maxSize, maxWait, idleTimeout, lifecycle);
+    }
+
+    /**
+     * Borrow a context of the given partition. An idle context returned by a borrower of the same partition is
+     * reused if available.
+     *
+     * @param partition Partition of the context, such as the service provider the script belongs to.
+     * @return Borrowed context. Should be returned with {@link #release(PooledContext)}.
+     * @throws ContextPoolExhaustedException If all the pooled and overflow contexts are in use.
+     */
+    public PooledContext<T> borrow(String partition) {
+
+        if (partition == null) {
+            throw new IllegalArgumentException("Partition of the script context cannot be null.");
+        }
+        return borrowContext(partition);
+    }
+
+    /**
+     * Return a borrowed context. A pooled context is reset and kept idle if the reset succeeds, and destroyed
+     * otherwise. A context created outside the pool is destroyed.
+     *
+     * @param pooledContext Borrowed context.
+     */
+    public void release(PooledContext<T> pooledContext) {
+
+        if (pooledContext == null || !pooledContext.released.compareAndSet(false, true)) {
+            return;
+        }
+        if (!pooledContext.pooled) {
+            try {
+                destroy(pooledContext.context);
+            } finally {
+                if (pooledContext.overflow) {
+                    overflowPermits.release();
+                }
+            }
+            return;
+        }
+
+        try {
+            if (!closed && reset(pooledContext.context)) {
+                addIdleContext(pooledContext.partition, pooledContext.context);
+            } else {
+                destroy(pooledContext.context);
+            }
+        } finally {
+            permits.release();
+        }
+        evictIdleContexts();
+    }
+
+    /**
+     * Destroy the idle contexts which exceeded the idle timeout.
+     */
+    public void evictIdleContexts() {
+
+        if (idleTimeoutNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (Deque<IdleContext<T>> contexts : idleContexts.values()) {
+            IdleContext<T> idleContext;
+            // Contexts are added to the head of the deque, hence the oldest context is at the tail.
+            while ((idleContext = contexts.peekLast()) != null && idleContext.isExpired(now, idleTimeoutNanos)) {
+                if (contexts.removeLastOccurrence(idleContext)) {
+                    idleCount.decrementAndGet();
+                    evictedCount.incrementAndGet();
+                    destroy(idleContext.context);
+                }
+            }
+        }
+    }
+
+    /**
+     * Close the pool and destroy the idle contexts. Contexts borrowed at the time are destroyed when returned.
+     */
+    public void close() {
+
+        closed = true;
+        destroyIdleContexts();
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public int getMaxSize() {
+
+        return maxSize;
+    }
+
+    /**
+     * @return Number of pooled contexts borrowed at the moment.
+     */
+    public int getActiveCount() {
+
+        return maxSize - permits.availablePermits();
+    }
+
+    public int getIdleCount() {
+
+        return idleCount.get();
+    }
+
+    public long getBorrowCount() {
+
+        return borrowCount.get();
+    }
+
+    /**
+     * @return Number of borrowers which had to wait for a context to be returned.
+     */
+    public long getWaitCount() {
+
+        return waitCount.get();
+    }
+
+    public double getAverageWaitMillis() {
+
+        long count = waitCount.get();
+        return count == 0 ? 0 : (double) totalWaitNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public long getMaxWaitMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTimeNanos.get());
+    }
+
+    /**
+     * @return Number of borrowers which did not get a pooled context within the maximum wait time.
+     */
+    public long getTimeoutCount() {
+
+        return timeoutCount.get();
+    }
+
+    /**
+     * @return Number of contexts created outside the pool which are in use at the moment.
+     */
+    public int getOverflowCount() {
+
+        return maxSize - overflowPermits.availablePermits();
+    }
+
+    /**
+     * @return Number of borrowers which were rejected since all the pooled and overflow contexts were in use.
+     */
+    public long getRejectedCount() {
+
+        return rejectedCount.get();
+    }
+
+    public long getCreatedCount() {
+
+        return createdCount.get();
+    }
+
+    public double getAverageCreationMillis() {
+
+        long count = createdCount.get();
+        return count == 0 ? 0 : (double) totalCreationNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public long getDestroyedCount() {
+
+        return destroyedCount.get();
+    }
+
+    public long getEvictedCount() {
+
+        return evictedCount.get();
+    }
+
+    /**
+     * @return Number of returned contexts which were destroyed since they could not be reset.
+     */
+    public long getResetFailureCount() {
+
+        return resetFailureCount.get();
+    }
+
+    private PooledContext<T> borrowContext(String partition) {
+
+        borrowCount.incrementAndGet();
+        if (closed) {
+            return new PooledContext<>(create(), partition, false, false);
+        }
+        if (!permits.tryAcquire() && !waitForPermit()) {
+            timeoutCount.incrementAndGet();
+            return borrowOverflowContext(partition);
+        }
+
+        try {
+            T context = pollIdleContext(partition);
+            return new PooledContext<>(context != null ? context : create(), partition, true, false);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private PooledContext<T> borrowOverflowContext(String partition) {
+
+        if (!overflowPermits.tryAcquire()) {
+            rejectedCount.incrementAndGet();
+            throw new ContextPoolExhaustedException("All the " + maxSize + " contexts of the " + name +
+                    " context pool and the " + maxSize + " contexts outside the pool are in use.");
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("All the " + maxSize + " contexts of the " + name + " context pool are in use. Using a " +
+                    "context outside the pool.");
+        }
+        try {
+            return new PooledContext<>(create(), partition, false, true);
+        } catch (RuntimeException e) {
+            overflowPermits.release();
+            throw e;
+        }
+    }
+
+    private boolean waitForPermit() {
+
+        waitCount.incrementAndGet();
+        long startTime = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long waitTime = System.nanoTime() - startTime;
+        totalWaitNanos.addAndGet(waitTime);
+        maxWaitTimeNanos.accumulateAndGet(waitTime, Math::max);
+        return acquired;
+    }
+
+    private T pollIdleContext(String partition) {
+
+        Deque<IdleContext<T>> contexts = idleContexts.get(partition);
+        if (contexts == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        IdleContext<T> idleContext;
+        while ((idleContext = contexts.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (idleTimeoutNanos > 0 && idleContext.isExpired(now, idleTimeoutNanos)) {
+                evictedCount.incrementAndGet();
+                destroy(idleContext.context);
+                continue;
+            }
+            return idleContext.context;
+        }
+        return null;
+    }
+
+    private void addIdleContext(String partition, T context) {
+
+        if (idleCount.incrementAndGet() > maxSize && !evictOldestIdleContext()) {
+            idleCount.decrementAndGet();
+            destroy(context);
+            return;
+        }
+        idleContexts.computeIfAbsent(partition, key -> new ConcurrentLinkedDeque<>())
+                .offerFirst(new IdleContext<>(context, System.nanoTime()));
+        if (closed) {
+            destroyIdleContexts();
+        }
+    }
+
+    private boolean evictOldestIdleContext() {
+
+        IdleContext<T> oldest = null;
+        Deque<IdleContext<T>> oldestPartition = null;
+        for (Deque<IdleContext<T>> contexts : idleContexts.values()) {
+            IdleContext<T> candidate = contexts.peekLast();
+            if (candidate != null && (oldest == null || candidate.returnedTime - oldest.returnedTime < 0)) {
+                oldest = candidate;
+                oldestPartition = contexts;
+            }
+        }
+        if (oldest == null || !oldestPartition.removeLastOccurrence(oldest)) {
+            return false;
+        }
+        idleCount.decrementAndGet();
+        evictedCount.incrementAndGet();
+        destroy(oldest.context);
+        return true;
+    }
+
+    private void destroyIdleContexts() {
+
+        for (Deque<IdleContext<T>> contexts : idleContexts.values()) {
+            IdleContext<T> idleContext;
+            while ((idleContext = contexts.pollFirst()) != null) {
+                idleCount.decrementAndGet();
+                destroy(idleContext.context);
+            }
+        }
+    }
+
+    private T create() {
+
+        long startTime = System.nanoTime();
+        T context = lifecycle.create();
+        totalCreationNanos.addAndGet(System.nanoTime() - startTime);
+        createdCount.incrementAndGet();
+        return context;
+    }
+
+    private boolean reset(T context) {
+
+        boolean reset;
+        try {
+            reset = lifecycle.reset(context);
+        } catch (RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error while resetting a context of the " + name + " context pool.", e);
+            }
+            reset = false;
+        }
+        if (!reset) {
+            resetFailureCount.incrementAndGet();
+        }
+        return reset;
+    }
+
+    private void destroy(T context) {
+
+        destroyedCount.incrementAndGet();
+        try {
+            lifecycle.destroy(context);
+        } catch (RuntimeException e) {
+            LOG.warn("Error while destroying a context of the " + name + " context pool.", e);
+        }
+    }
+
+    private static long getConfig(String key, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid value: " + value + " for " + key + ". Defaulting to " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Creates, resets and destroys the contexts of a {@link ScriptContextPool}.
+     *
+     * @param <T> Type of the script context.
+     */
+    public interface ContextLifecycle<T> {
+
+        /**
+         * Create a new context.
+         *
+         * @return Script context.
+         */
+        T create();
+
+        /**
+         * Reset the state left by the previous borrower of the context.
+         *
+         * @param context Returned context.
+         * @return True if the context can be reused. The context is destroyed otherwise.
+         */
+        boolean reset(T context);
+
+        /**
+         * Release the resources held by the context.
+         *
+         * @param context Context which is removed from the pool.
+         */
+        void destroy(T context);
+    }
+
+    /**
+     * Context borrowed from a {@link ScriptContextPool}.
+     *
+     * @param <T> Type of the script context.
+     */
+    public static class PooledContext<T> {
+
+        private final T context;
+        private final String partition;
+        private final boolean pooled;
+        private final boolean overflow;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PooledContext(T context, String partition, boolean pooled, boolean overflow) {
+
+            this.context = context;
+            this.partition = partition;
+            this.pooled = pooled;
+            this.overflow = overflow;
+        }
+
+        public T get() {
+
+            return context;
+        }
+
+        /**
+         * @return False if the context was created outside the pool since the pool was exhausted or closed.
+         */
+        public boolean isPooled() {
+
+            return pooled;
+        }
+    }
+
+    /**
+     * Thrown when a context cannot be borrowed since all the pooled and overflow contexts are in use.
+     */
+    public static class ContextPoolExhaustedException extends RuntimeException {
+
+        private static final long serialVersionUID = -2718637440713462871L;
+
+        public ContextPoolExhaustedException(String message) {
+
+            super(message);
+        }
+    }
+
+    private static class IdleContext<T> {
+
+        private final T context;
+        private final long returnedTime;
+
+        IdleContext(T context, long returnedTime) {
+
+            this.context = context;
+            this.returnedTime = returnedTime;
+        }
+
+        boolean isExpired(long now, long idleTimeoutNanos) {
+
+            return now - returnedTime > idleTimeoutNanos;
+        }
+    }
+}
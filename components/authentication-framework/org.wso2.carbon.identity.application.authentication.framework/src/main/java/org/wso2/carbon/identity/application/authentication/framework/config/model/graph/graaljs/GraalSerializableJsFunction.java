@@ -74,8 +74,22 @@ public class GraalSerializableJsFunction implements GenericSerializableJsFunctio
 
     public Object apply(Context polyglotContext, Object... params) {
 
+        return apply(polyglotContext, null, params);
+    }
+
+    /**
+     * Evaluate the function in the given context and execute it with the given parameters.
+     *
+     * @param polyglotContext Polyglot context.
+     * @param tenantDomain    Tenant domain the function belongs to. Used to look up the cached function source.
+     * @param params          Parameters of the function.
+     * @return Result of the function. Null if the serialized object is not a function.
+     */
+    public Object apply(Context polyglotContext, String tenantDomain, Object[] params) {
+
         if (isPolyglotFunction) {
-            Value jsFunction = polyglotContext.eval("js", "(" + getSource() + ")");
+            Value jsFunction = polyglotContext.eval(
+                    GraalSourceCache.getInstance().getSource(tenantDomain, "(" + getSource() + ")"));
             return jsFunction.execute(params);
         }
 
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.graalvm.polyglot.Source;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * Bounded cache of the GraalJS {@link Source} objects of the adaptive authentication scripts.
+ * <p>
+ * GraalJS keeps the parsed and compiled code of a source in its engine for as long as an equal source object is
+ * reachable. When the polyglot contexts are attached to a shared engine, holding the sources of the hot scripts here
+ * lets every new context reuse that code instead of parsing the script again. Sources are keyed by the tenant and the
+ * script itself, so a lookup only costs the hash code of the script and a comparison with the cached script, and the
+ * least recently used source is evicted once the cache is full.
+ * <p>
+ * The cache is disabled by default, in which case a new source is built for every evaluation.
+ */
+public class GraalSourceCache {
+
+    private static final Log LOG = LogFactory.getLog(GraalSourceCache.class);
+    private static final GraalSourceCache INSTANCE = new GraalSourceCache();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private volatile Map<SourceKey, Source> sources;
+
+    private GraalSourceCache() {
+
+    }
+
+    public static GraalSourceCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Enable the cache. Any previously cached source is discarded.
+     *
+     * @param maxSize Maximum number of sources kept in the cache. Zero or a negative value disables the cache.
+     */
+    public void enable(int maxSize) {
+
+        if (maxSize <= 0) {
+            disable();
+            return;
+        }
+        sources = Collections.synchronizedMap(new LinkedHashMap<SourceKey, Source>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 4816382301265087149L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SourceKey, Source> eldest) {
+
+                return size() > maxSize;
+            }
+        });
+        hitCount.set(0);
+        missCount.set(0);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("GraalJS source cache is enabled with a maximum size of " + maxSize);
+        }
+    }
+
+    /**
+     * Disable the cache and release the cached sources.
+     */
+    public void disable() {
+
+        sources = null;
+    }
+
+    public boolean isEnabled() {
+
+        return sources != null;
+    }
+
+    /**
+     * Get the source of the given script. The cached source is returned when the cache is enabled and the script
+     * has been seen for the tenant before.
+     *
+     * @param tenantDomain Tenant domain the script belongs to. Null for the scripts provided by the server.
+     * @param script       Javascript code.
+     * @return Source of the script.
+     */
+    public Source getSource(String tenantDomain, String script) {
+
+        Map<SourceKey, Source> cache = sources;
+        if (cache == null) {
+            return buildSource(script);
+        }
+
+        SourceKey key = new SourceKey(tenantDomain, script);
+        Source source = cache.get(key);
+        if (source != null) {
+            hitCount.incrementAndGet();
+            return source;
+        }
+        missCount.incrementAndGet();
+        source = buildSource(script);
+        Source existingSource = cache.putIfAbsent(key, source);
+        return existingSource != null ? existingSource : source;
+    }
+
+    /**
+     * @return Number of sources in the cache.
+     */
+    public int getSize() {
+
+        Map<SourceKey, Source> cache = sources;
+        return cache != null ? cache.size() : 0;
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    private Source buildSource(String script) {
+
+        return Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).cached(true).buildLiteral();
+    }
+
+    /**
+     * Key of a cached source. The script is kept in the key, so that scripts with the same hash code are told apart
+     * by comparing them instead of hashing them with a digest on every lookup.
+     */
+    private static final class SourceKey {
+
+        private final String tenantDomain;
+        private final String script;
+        private final int hashCode;
+
+        private SourceKey(String tenantDomain, String script) {
+
+            this.tenantDomain = tenantDomain;
+            this.script = script;
+            this.hashCode = 31 * Objects.hashCode(tenantDomain) + script.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SourceKey)) {
+                return false;
+            }
+            SourceKey sourceKey = (SourceKey) o;
+            return hashCode == sourceKey.hashCode && script.length() == sourceKey.script.length() &&
+                    Objects.equals(tenantDomain, sourceKey.tenantDomain) && script.equals(sourceKey.script);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hashCode;
+        }
+    }
+}
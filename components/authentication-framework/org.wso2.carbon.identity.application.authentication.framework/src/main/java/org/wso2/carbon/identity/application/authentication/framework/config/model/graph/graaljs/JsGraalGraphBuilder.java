@@ -25,7 +25,6 @@ import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.PolyglotException;
-import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.wso2.carbon.identity.application.authentication.framework.AsyncProcess;
 import org.wso2.carbon.identity.application.authentication.framework.AuthenticationDecisionEvaluator;
@@ -41,13 +40,13 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGraphBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.LongWaitNode;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.ScriptContextPool;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.ShowPromptNode;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.StepConfigGraphNode;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.graaljs.JsGraalAuthenticationContext;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 
-import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
@@ -68,7 +67,6 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SEND_ERROR;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SHOW_PROMPT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
-import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.PROP_CURRENT_NODE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.STEP_OPTIONS;
 
@@ -82,8 +80,9 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
 
     private static final Log log = LogFactory.getLog(JsGraalGraphBuilder.class);
     protected Context context;
+    private ScriptContextPool<Context> contextPool;
 
-    private static final String REMOVE_FUNCTIONS = "var quit=function(){};" +
+    static final String REMOVE_FUNCTIONS = "var quit=function(){};" +
             "var exit=function(){};" +
             "var print=function(){};" +
             "var echo=function(){};" +
@@ -140,7 +139,10 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
     @Override
     public JsGraalGraphBuilder createWith(String script) {
 
+        ScriptContextPool.PooledContext<Context> pooledContext = null;
         try {
+            // A context in which the script declared global let or const variables is not reused.
+            pooledContext = borrowContext(getContextPoolPartition(authenticationContext));
             currentBuilder.set(this);
             Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
 
@@ -156,23 +158,18 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
                 functionMap.forEach(bindings::putMember);
             }
             currentBuilder.set(this);
-            context.eval(Source
-                    .newBuilder(POLYGLOT_LANGUAGE,
-                            FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction(),
-                            POLYGLOT_SOURCE)
-                    .build());
-            context.eval(Source
-                    .newBuilder(POLYGLOT_LANGUAGE,
-                            FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction(),
-                            POLYGLOT_SOURCE)
-                    .build());
+            GraalSourceCache sourceCache = GraalSourceCache.getInstance();
+            context.eval(sourceCache.getSource(null,
+                    FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction()));
+            context.eval(sourceCache.getSource(null,
+                    FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction()));
 
             String identifier = UUID.randomUUID().toString();
             Optional<JSExecutionMonitorData> optionalScriptExecutionData;
 
             try {
                 startScriptExecutionMonitor(identifier, authenticationContext);
-                context.eval(Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).build());
+                context.eval(sourceCache.getSource(authenticationContext.getTenantDomain(), script));
 
                 Value onLoginRequestFn = bindings.getMember(JS_FUNC_ON_LOGIN_REQUEST);
                 if (onLoginRequestFn == null) {
@@ -197,18 +194,65 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
             if (log.isDebugEnabled()) {
                 log.debug("Error in executing the Javascript.", e);
             }
-        } catch (IOException e) {
+        } catch (ScriptContextPool.ContextPoolExhaustedException e) {
             result.setBuildSuccessful(false);
-            result.setErrorReason("Error in building  the Javascript source" + e.getMessage());
-            if (log.isDebugEnabled()) {
-                log.debug("Error in building the Javascript source", e);
-            }
+            result.setErrorReason("Error in executing the Javascript. " + e.getMessage());
+            log.warn("Could not execute the adaptive authentication script of the service provider: " +
+                    authenticationContext.getServiceProviderName() + ". " + e.getMessage());
         } finally {
-            clearCurrentBuilder(context);
+            releaseContext(pooledContext);
         }
         return this;
     }
 
+    /**
+     * Set the pool to borrow the polyglot context from when the script is executed. The context given at the
+     * construction is not used when a pool is set.
+     *
+     * @param contextPool Pool of polyglot contexts.
+     */
+    void setContextPool(ScriptContextPool<Context> contextPool) {
+
+        this.contextPool = contextPool;
+    }
+
+    private ScriptContextPool.PooledContext<Context> borrowContext(String partition) {
+
+        if (contextPool == null) {
+            return null;
+        }
+        ScriptContextPool.PooledContext<Context> pooledContext = contextPool.borrow(partition);
+        context = pooledContext.get();
+        return pooledContext;
+    }
+
+    /**
+     * Get the partition of the context pool for the script of the service provider. Contexts are only reused for
+     * the same service provider, since the scripts of different service providers may leave state in the context
+     * which is not reset, such as changes to the built-in objects.
+     *
+     * @param authenticationContext Authentication context.
+     * @return Partition of the context pool.
+     */
+    private static String getContextPoolPartition(AuthenticationContext authenticationContext) {
+
+        return StringUtils.defaultString(authenticationContext.getTenantDomain()) + ":" +
+                StringUtils.defaultString(authenticationContext.getServiceProviderName());
+    }
+
+    private void releaseContext(ScriptContextPool.PooledContext<Context> pooledContext) {
+
+        if (contextPool == null) {
+            clearCurrentBuilder(context);
+            return;
+        }
+        clearCurrentBuilder();
+        if (pooledContext != null) {
+            context = null;
+            contextPool.release(pooledContext);
+        }
+    }
+
     @Override
     public AuthenticationDecisionEvaluator getScriptEvaluator(BaseSerializableJsFunction fn) {
 
@@ -592,7 +636,9 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
             if (!jsFunction.isFunction()) {
                 return jsFunction.getSource();
             }
+            ScriptContextPool.PooledContext<Context> pooledContext = null;
             try {
+                pooledContext = borrowContext(getContextPoolPartition(authenticationContext));
                 currentBuilder.set(graphBuilder);
                 JsGraalGraphBuilderFactory.restoreCurrentContext(authenticationContext, context);
                 Context context = getContext();
@@ -608,11 +654,8 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
                 TODO: Need to improve the JsSerializable implementation to persist this function in the context
                  without re-evaluating.
                  */
-                context.eval(Source
-                        .newBuilder(POLYGLOT_LANGUAGE,
-                                FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction(),
-                                POLYGLOT_SOURCE)
-                        .build());
+                context.eval(GraalSourceCache.getInstance().getSource(null,
+                        FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction()));
                 JsFunctionRegistry jsFunctionRegistrar =
                         FrameworkServiceDataHolder.getInstance().getJsFunctionRegistry();
                 if (jsFunctionRegistrar != null) {
@@ -629,7 +672,7 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
                 try {
                     startScriptExecutionMonitor(identifier, authenticationContext,
                             optionalScriptExecutionData.orElse(null));
-                    result = jsFunction.apply(context, params);
+                    result = jsFunction.apply(context, authenticationContext.getTenantDomain(), params);
                 } finally {
                     optionalScriptExecutionData = Optional.ofNullable(endScriptExecutionMonitor(identifier));
                 }
@@ -655,7 +698,7 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
             } finally {
                 contextForJs.remove();
                 dynamicallyBuiltBaseNode.remove();
-                clearCurrentBuilder(context);
+                releaseContext(pooledContext);
             }
             return result;
         }
@@ -749,9 +792,9 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
         }
     }
 
-    private void removeDefaultFunctions(Context context) throws IOException {
+    private void removeDefaultFunctions(Context context) {
 
-        context.eval(Source.newBuilder(POLYGLOT_LANGUAGE, REMOVE_FUNCTIONS, POLYGLOT_SOURCE).build());
+        context.eval(GraalSourceCache.getInstance().getSource(null, REMOVE_FUNCTIONS));
     }
 
     private JSExecutionSupervisor getJSExecutionSupervisor() {
@@ -21,7 +21,9 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.ResourceLimits;
 import org.graalvm.polyglot.Value;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
@@ -29,6 +31,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsBaseGraphBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGenericGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGenericSerializer;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.ScriptContextPool;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.AbstractJSObjectWrapper;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.JsAuthenticatedUser;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.JsAuthenticationContext;
@@ -40,13 +43,22 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
 import org.wso2.carbon.identity.application.authentication.framework.handler.sequence.impl.GraalSelectAcrFromFunction;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SOURCE_CACHE_SIZE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
@@ -56,16 +68,103 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
  * This factory is there to reuse of GraalJS Polyglot Context and any related expensive objects.
  * <p>
  * Since Nashorn is deprecated in JDK 11 and onwards. We are introducing GraalJS engine.
+ * <p>
+ * By default every polyglot context gets its own engine. When the shared engine is enabled, all the contexts are
+ * attached to a single engine and the script sources are kept in the {@link GraalSourceCache}, so the parsed and
+ * compiled code of the frequently used scripts is reused across authentication requests.
+ * <p>
+ * When the script context pool is enabled, the builders borrow their contexts from a {@link ScriptContextPool}
+ * instead of getting a context at creation. See {@link GraalContextLifecycle} for how the contexts are reused.
  */
 public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<Context> {
 
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
+    private static final String OPTION_WARN_INTERPRETER_ONLY = "engine.WarnInterpreterOnly";
     private int javascriptResourceLimit = 0;
+    private HostAccess sharedHostAccess;
+    private ResourceLimits sharedResourceLimits;
+    private volatile Engine sharedEngine;
+    private volatile ScriptContextPool<Context> contextPool;
 
     public void init() {
 
         setJavascriptResourceLimit();
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE))) {
+            enableSharedEngine(getSourceCacheSize());
+        }
+        if (ScriptContextPool.isEnabledInConfig()) {
+            contextPool = ScriptContextPool.createFromConfig("GraalJS", new GraalContextLifecycle());
+        }
+    }
+
+    /**
+     * Borrow the contexts of the builders created from now on from a pool of the given size.
+     *
+     * @param maxSize           Maximum number of contexts borrowed at a time.
+     * @param maxWaitMillis     Maximum time to wait for a context when all the contexts are in use.
+     * @param idleTimeoutMillis Time after which an idle context is closed.
+     */
+    public synchronized void enableContextPool(int maxSize, long maxWaitMillis, long idleTimeoutMillis) {
+
+        if (contextPool != null) {
+            contextPool.close();
+        }
+        contextPool = new ScriptContextPool<>("GraalJS", maxSize, maxWaitMillis, idleTimeoutMillis,
+                new GraalContextLifecycle());
+    }
+
+    /**
+     * @return Pool of the polyglot contexts. Null if the pool is not enabled.
+     */
+    public ScriptContextPool<Context> getContextPool() {
+
+        return contextPool;
+    }
+
+    /**
+     * Attach the polyglot contexts created from now on to a single shared engine and enable the source cache.
+     *
+     * @param sourceCacheSize Maximum number of script sources kept in the source cache.
+     */
+    public synchronized void enableSharedEngine(int sourceCacheSize) {
+
+        if (sharedEngine == null) {
+            // All the contexts of an engine should use the same resource limits.
+            sharedHostAccess = getHostAccess();
+            sharedResourceLimits = getResourceLimits();
+            sharedEngine = Engine.newBuilder()
+                    .option(OPTION_WARN_INTERPRETER_ONLY, "false")
+                    .build();
+        }
+        GraalSourceCache.getInstance().enable(sourceCacheSize);
+        LOG.info("Adaptive authentication scripts are executed on a shared GraalJS engine with a source cache " +
+                "of size " + sourceCacheSize);
+    }
+
+    public boolean isSharedEngineEnabled() {
+
+        return sharedEngine != null;
+    }
+
+    @Override
+    public synchronized void shutdown() {
+
+        if (contextPool != null) {
+            contextPool.close();
+            contextPool = null;
+        }
+        Engine engine = sharedEngine;
+        if (engine == null) {
+            return;
+        }
+        sharedEngine = null;
+        GraalSourceCache.getInstance().disable();
+        try {
+            engine.close();
+        } catch (IllegalStateException e) {
+            LOG.warn("Error while closing the shared GraalJS engine.", e);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -106,16 +205,30 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
-                .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+        Context context;
+        Engine engine = sharedEngine;
+        if (engine != null) {
+            context = Context.newBuilder(POLYGLOT_LANGUAGE)
+                    .engine(engine)
+                    .allowHostAccess(sharedHostAccess)
+                    .resourceLimits(sharedResourceLimits)
+                    .build();
+        } else {
+            context = Context.newBuilder(POLYGLOT_LANGUAGE)
+                    .allowHostAccess(getHostAccess())
+                    .resourceLimits(getResourceLimits())
+                    .option(OPTION_WARN_INTERPRETER_ONLY, "false")
+                    .build();
+        }
+
+        addDefaultBindings(context.getBindings(POLYGLOT_LANGUAGE));
+        return context;
+    }
+
+    private void addDefaultBindings(Value bindings) {
 
-        Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
         bindings.putMember(JS_LOG, new JsLogger());
-        return context;
     }
 
     public ResourceLimits getResourceLimits() {
@@ -166,12 +279,25 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
     public JsGraalGraphBuilder createBuilder(AuthenticationContext authenticationContext,
                                              Map<Integer, StepConfig> stepConfigMap) {
 
+        ScriptContextPool<Context> pool = contextPool;
+        if (pool != null) {
+            JsGraalGraphBuilder builder = new JsGraalGraphBuilder(authenticationContext, stepConfigMap, null);
+            builder.setContextPool(pool);
+            return builder;
+        }
         return new JsGraalGraphBuilder(authenticationContext, stepConfigMap, createEngine(authenticationContext));
     }
 
     public JsGraalGraphBuilder createBuilder(AuthenticationContext authenticationContext,
                                              Map<Integer, StepConfig> stepConfigMap, AuthGraphNode currentNode) {
 
+        ScriptContextPool<Context> pool = contextPool;
+        if (pool != null) {
+            JsGraalGraphBuilder builder = new JsGraalGraphBuilder(authenticationContext, stepConfigMap, null,
+                    currentNode);
+            builder.setContextPool(pool);
+            return builder;
+        }
         return new JsGraalGraphBuilder(authenticationContext, stepConfigMap, createEngine(authenticationContext),
                 currentNode);
     }
@@ -195,4 +321,117 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
             javascriptResourceLimit = DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
         }
     }
+
+    private int getSourceCacheSize() {
+
+        String sourceCacheSize = IdentityUtil.getProperty(GRAALJS_SOURCE_CACHE_SIZE);
+        if (sourceCacheSize != null) {
+            try {
+                return Integer.parseInt(sourceCacheSize.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Error while parsing the GraalJS source cache size. Defaulting to " +
+                        DEFAULT_GRAALJS_SOURCE_CACHE_SIZE, e);
+            }
+        }
+        return DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
+    }
+
+    /**
+     * Lifecycle of the pooled polyglot contexts.
+     * <p>
+     * A returned context is reset by removing the bindings added while it was borrowed. Global variables and
+     * functions declared with var and function cannot be removed from a context, so their values are cleared instead.
+     * This keeps the contexts of the usual scripts, which declare their functions as top level variables, reusable.
+     * The declarations left behind are harmless since the next borrower runs the script of the same service provider,
+     * which declares them again. Global let and const declarations cannot be cleared or declared again in the same
+     * context, so a context with such declarations is not reused. Since the pool only reuses a context within the
+     * service provider it was borrowed for, state outside the bindings, such as changes to the built-in objects, is
+     * never shared between the scripts of different service providers.
+     */
+    private class GraalContextLifecycle implements ScriptContextPool.ContextLifecycle<Context> {
+
+        private static final String CLEAR_GLOBAL_VARIABLE_FUNCTION = "(function(name) {" +
+                "var descriptor = Object.getOwnPropertyDescriptor(globalThis, name);" +
+                "if (!descriptor || !descriptor.writable) { return false; }" +
+                "globalThis[name] = undefined;" +
+                "return true; })";
+
+        private volatile Set<String> retainedBindings;
+
+        @Override
+        public Context create() {
+
+            return createEngine(null);
+        }
+
+        @Override
+        public boolean reset(Context context) {
+
+            Set<String> retained = getRetainedBindings();
+            Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
+            Value clearGlobalVariable = null;
+            for (String key : new ArrayList<>(bindings.getMemberKeys())) {
+                if (retained.contains(key) || removeBinding(bindings, key)) {
+                    continue;
+                }
+                if (clearGlobalVariable == null) {
+                    clearGlobalVariable = context.eval(GraalSourceCache.getInstance().getSource(null,
+                            CLEAR_GLOBAL_VARIABLE_FUNCTION));
+                }
+                if (!clearGlobalVariable.execute(key).asBoolean()) {
+                    return false;
+                }
+            }
+            addDefaultBindings(bindings);
+            context.resetLimits();
+            return true;
+        }
+
+        @Override
+        public void destroy(Context context) {
+
+            context.close();
+        }
+
+        private boolean removeBinding(Value bindings, String key) {
+
+            try {
+                return bindings.removeMember(key);
+            } catch (UnsupportedOperationException e) {
+                // Global variables and functions are not removable.
+                return false;
+            }
+        }
+
+        private Set<String> getRetainedBindings() {
+
+            Set<String> retained = retainedBindings;
+            if (retained != null) {
+                return retained;
+            }
+            // Find the bindings of a new context and the global variables declared by the server provided code.
+            retained = new HashSet<>();
+            Context context = createEngine(null);
+            try {
+                Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
+                retained.addAll(bindings.getMemberKeys());
+                for (String code : Arrays.asList(FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction(),
+                        FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction(),
+                        JsGraalGraphBuilder.REMOVE_FUNCTIONS)) {
+                    if (code != null) {
+                        context.eval(GraalSourceCache.getInstance().getSource(null, code));
+                    }
+                }
+                retained.addAll(bindings.getMemberKeys());
+            } catch (PolyglotException e) {
+                LOG.warn("Error while evaluating the server provided script code. Pooled contexts which use it " +
+                        "will not be reused.", e);
+            } finally {
+                context.close();
+            }
+            retained = Collections.unmodifiableSet(retained);
+            retainedBindings = retained;
+            return retained;
+        }
+    }
 }
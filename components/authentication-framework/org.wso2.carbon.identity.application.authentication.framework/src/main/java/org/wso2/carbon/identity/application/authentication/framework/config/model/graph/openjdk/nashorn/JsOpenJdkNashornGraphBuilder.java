@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGraphBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.LongWaitNode;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.ScriptContextPool;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.ShowPromptNode;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.StepConfigGraphNode;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.openjdk.nashorn.JsOpenJdkNashornAuthenticationContext;
@@ -88,6 +89,7 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
     private AuthenticationGraph result = new AuthenticationGraph();
     private AuthGraphNode currentNode = null;
     private ScriptEngine engine;
+    private ScriptContextPool<ScriptEngine> enginePool;
     private static ThreadLocal<AuthenticationContext> contextForJs = new ThreadLocal<>();
     private static ThreadLocal<AuthGraphNode> dynamicallyBuiltBaseNode = new ThreadLocal<>();
     private static ThreadLocal<JsOpenJdkNashornGraphBuilder> currentBuilder = new ThreadLocal<>();
@@ -103,6 +105,8 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
             "var $ARG=null;var $ENV=null;var $EXEC=null;" +
             "var $OPTIONS=null;var $OUT=null;var $ERR=null;var $EXIT=null;" +
             "Object.defineProperty(this, 'engine', {});";
+    // Pooled engines get new global bindings when returned, so an engine can be shared by every tenant.
+    private static final String ENGINE_POOL_PARTITION = "";
 
     /**
      * Constructs the builder with the given authentication context.
@@ -178,7 +182,9 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
      */
     public JsOpenJdkNashornGraphBuilder createWith(String script) {
 
+        ScriptContextPool.PooledContext<ScriptEngine> pooledEngine = null;
         try {
+            pooledEngine = borrowEngine();
             currentBuilder.set(this);
             Bindings globalBindings = engine.getBindings(ScriptContext.GLOBAL_SCOPE);
             globalBindings.put(FrameworkConstants.JSAttributes.JS_FUNC_EXECUTE_STEP, (StepExecutor) this::executeStep);
@@ -227,12 +233,46 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
             if (log.isDebugEnabled()) {
                 log.debug("Error in executing the Javascript.", e);
             }
+        } catch (ScriptContextPool.ContextPoolExhaustedException e) {
+            result.setBuildSuccessful(false);
+            result.setErrorReason("Error in executing the Javascript. " + e.getMessage());
+            log.warn("Could not execute the adaptive authentication script of the service provider: " +
+                    authenticationContext.getServiceProviderName() + ". " + e.getMessage());
         } finally {
             clearCurrentBuilder();
+            releaseEngine(pooledEngine);
         }
         return this;
     }
 
+    /**
+     * Borrow the script engines of this builder from the given pool instead of using a fixed engine.
+     *
+     * @param enginePool Pool of script engines.
+     */
+    void setEnginePool(ScriptContextPool<ScriptEngine> enginePool) {
+
+        this.enginePool = enginePool;
+    }
+
+    private ScriptContextPool.PooledContext<ScriptEngine> borrowEngine() {
+
+        if (enginePool == null) {
+            return null;
+        }
+        ScriptContextPool.PooledContext<ScriptEngine> pooledEngine = enginePool.borrow(ENGINE_POOL_PARTITION);
+        engine = pooledEngine.get();
+        return pooledEngine;
+    }
+
+    private void releaseEngine(ScriptContextPool.PooledContext<ScriptEngine> pooledEngine) {
+
+        if (pooledEngine != null) {
+            engine = null;
+            enginePool.release(pooledEngine);
+        }
+    }
+
     public static void clearCurrentBuilder() {
 
         currentBuilder.remove();
@@ -1132,8 +1172,15 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
                 return null;
             }
             if (jsFunction.isFunction()) {
-                ScriptEngine scriptEngine = getEngine(authenticationContext);
+                ScriptContextPool.PooledContext<ScriptEngine> pooledEngine = null;
                 try {
+                    ScriptEngine scriptEngine;
+                    if (enginePool != null) {
+                        pooledEngine = enginePool.borrow(ENGINE_POOL_PARTITION);
+                        scriptEngine = pooledEngine.get();
+                    } else {
+                        scriptEngine = getEngine(authenticationContext);
+                    }
                     currentBuilder.set(graphBuilder);
                     JsOpenJdkNashornGraphBuilderFactory.restoreCurrentContext(authenticationContext, scriptEngine);
                     Bindings globalBindings = scriptEngine.getBindings(ScriptContext.GLOBAL_SCOPE);
@@ -1206,6 +1253,9 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
                     contextForJs.remove();
                     dynamicallyBuiltBaseNode.remove();
                     clearCurrentBuilder();
+                    if (pooledEngine != null) {
+                        enginePool.release(pooledEngine);
+                    }
                 }
 
             } else {
@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsBaseGraphBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsBaseGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsSerializer;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.ScriptContextPool;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.AbstractJSObjectWrapper;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.JsLogger;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
@@ -50,6 +51,10 @@ import javax.script.ScriptEngine;
  * This factory is there to reuse of Open JDk Nashorn engine and any related expnsive objects.
  * <p>
  * Since Nashorn is deprecated in JDK 11 and onwards. We are introducing OpenJDK Nashorn engine.
+ * <p>
+ * When the script context pool is enabled, the builders borrow their script engines from a {@link ScriptContextPool}
+ * instead of getting an engine at creation. A returned engine gets new global and engine scope bindings, so no state
+ * of a script is visible to the next borrower.
  */
 public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFactory {
 
@@ -62,12 +67,49 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
     @SuppressWarnings("removal")
     private NashornScriptEngineFactory factory;
     private boolean useThreadLocalScriptEngine = false;
+    private volatile ScriptContextPool<ScriptEngine> enginePool;
 
     public void init() {
 
         factory = new NashornScriptEngineFactory();
         classFilter = new OpenJdkNashornRestrictedClassFilter();
         setUseThreadLocalScriptEngine();
+        if (ScriptContextPool.isEnabledInConfig()) {
+            enginePool = ScriptContextPool.createFromConfig("OpenJDK Nashorn", new NashornEngineLifecycle());
+        }
+    }
+
+    /**
+     * Borrow the script engines of the builders created from now on from a pool of the given size.
+     *
+     * @param maxSize           Maximum number of engines borrowed at a time.
+     * @param maxWaitMillis     Maximum time to wait for an engine when all the engines are in use.
+     * @param idleTimeoutMillis Time after which an idle engine is removed from the pool.
+     */
+    public synchronized void enableEnginePool(int maxSize, long maxWaitMillis, long idleTimeoutMillis) {
+
+        if (enginePool != null) {
+            enginePool.close();
+        }
+        enginePool = new ScriptContextPool<>("OpenJDK Nashorn", maxSize, maxWaitMillis, idleTimeoutMillis,
+                new NashornEngineLifecycle());
+    }
+
+    /**
+     * @return Pool of the script engines. Null if the pool is not enabled.
+     */
+    public ScriptContextPool<ScriptEngine> getEnginePool() {
+
+        return enginePool;
+    }
+
+    @Override
+    public synchronized void shutdown() {
+
+        if (enginePool != null) {
+            enginePool.close();
+            enginePool = null;
+        }
     }
 
     public static void restoreCurrentContext(AuthenticationContext context, ScriptEngine engine)
@@ -101,19 +143,29 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
     public ScriptEngine createEngine(AuthenticationContext authenticationContext) {
 
         ScriptEngine engine;
-        Bindings globalBindings;
         if (useThreadLocalScriptEngine) {
             Optional<ScriptEngine> optionalScriptEngine =
                     new OpenJdkNashornThreadLocalScriptEngineHolder().getScriptEngine();
             engine = optionalScriptEngine.orElseThrow(
                     () -> new IdentityRuntimeException("Script engine is not available"));
-            globalBindings = engine.getBindings(ScriptContext.GLOBAL_SCOPE);
+            addDefaultBindings(engine.getBindings(ScriptContext.GLOBAL_SCOPE));
         } else {
             engine = factory.getScriptEngine(NASHORN_ARGS, getClassLoader(), classFilter);
-            globalBindings = engine.createBindings();
-            engine.setBindings(globalBindings, ScriptContext.GLOBAL_SCOPE);
-            engine.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
+            resetBindings(engine);
         }
+        return engine;
+    }
+
+    private void resetBindings(ScriptEngine engine) {
+
+        Bindings globalBindings = engine.createBindings();
+        engine.setBindings(globalBindings, ScriptContext.GLOBAL_SCOPE);
+        engine.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
+        addDefaultBindings(globalBindings);
+    }
+
+    private void addDefaultBindings(Bindings globalBindings) {
+
         OpenJdkSelectAcrFromFunction selectAcrFromFunction = new OpenJdkSelectAcrFromFunction();
 //        todo move to functions registry
         globalBindings.put(FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM,
@@ -121,7 +173,6 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
 
         JsLogger jsLogger = new JsLogger();
         globalBindings.put(FrameworkConstants.JSAttributes.JS_LOG, jsLogger);
-        return engine;
     }
 
     private ClassLoader getClassLoader() {
@@ -133,6 +184,13 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
     public JsOpenJdkNashornGraphBuilder createBuilder(AuthenticationContext authenticationContext,
                                         Map<Integer, StepConfig> stepConfigMap) {
 
+        ScriptContextPool<ScriptEngine> pool = enginePool;
+        if (pool != null) {
+            JsOpenJdkNashornGraphBuilder builder = new JsOpenJdkNashornGraphBuilder(authenticationContext,
+                    stepConfigMap, null);
+            builder.setEnginePool(pool);
+            return builder;
+        }
         return new JsOpenJdkNashornGraphBuilder(authenticationContext, stepConfigMap,
                 createEngine(authenticationContext));
     }
@@ -140,6 +198,13 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
     public JsOpenJdkNashornGraphBuilder createBuilder(AuthenticationContext authenticationContext,
                                         Map<Integer, StepConfig> stepConfigMap, AuthGraphNode currentNode) {
 
+        ScriptContextPool<ScriptEngine> pool = enginePool;
+        if (pool != null) {
+            JsOpenJdkNashornGraphBuilder builder = new JsOpenJdkNashornGraphBuilder(authenticationContext,
+                    stepConfigMap, null, currentNode);
+            builder.setEnginePool(pool);
+            return builder;
+        }
         return new JsOpenJdkNashornGraphBuilder(authenticationContext, stepConfigMap,
                 createEngine(authenticationContext), currentNode);
     }
@@ -161,4 +226,32 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
         useThreadLocalScriptEngine =
                 Boolean.parseBoolean(IdentityUtil.getProperty(FrameworkConstants.THREAD_LOCAL_SCRIPT_ENGINE_CONFIG));
     }
+
+    /**
+     * Lifecycle of the pooled script engines. Engines are reset by replacing their bindings, which also replaces the
+     * global object of the scripts, so an engine can be reused by any tenant.
+     */
+    private class NashornEngineLifecycle implements ScriptContextPool.ContextLifecycle<ScriptEngine> {
+
+        @Override
+        public ScriptEngine create() {
+
+            ScriptEngine engine = factory.getScriptEngine(NASHORN_ARGS, getClassLoader(), classFilter);
+            resetBindings(engine);
+            return engine;
+        }
+
+        @Override
+        public boolean reset(ScriptEngine engine) {
+
+            resetBindings(engine);
+            return true;
+        }
+
+        @Override
+        public void destroy(ScriptEngine engine) {
+
+            // Nothing to release. The engine is garbage collected.
+        }
+    }
 }
@@ -40,6 +40,7 @@ import java.util.concurrent.ExecutorService;
 public class AsyncSequenceExecutor {
 
     private static final Log log = LogFactory.getLog(AsyncSequenceExecutor.class);
+    private static final String POOL_NAME = "AsyncSequenceExecutor";
 
     private ExecutorService executorService;
 
@@ -53,7 +54,7 @@ public class AsyncSequenceExecutor {
             poolSize = 5;
         }
 
-        executorService = ThreadLocalAwareExecutors.newFixedThreadPool(poolSize);
+        executorService = ThreadLocalAwareExecutors.newThreadPool(POOL_NAME, poolSize);
     }
 
     public void exec(AsyncCaller caller, AsyncReturn returnFunction, AuthenticationContext authenticationContext)
@@ -79,12 +79,12 @@ import org.wso2.carbon.identity.application.authentication.framework.internal.im
 import org.wso2.carbon.identity.application.authentication.framework.internal.impl.ServerSessionManagementServiceImpl;
 import org.wso2.carbon.identity.application.authentication.framework.internal.impl.UserSessionManagementServiceImpl;
 import org.wso2.carbon.identity.application.authentication.framework.listener.AuthenticationEndpointTenantActivityListener;
+import org.wso2.carbon.identity.application.authentication.framework.listener.JSExecutionStatisticsAppMgtListener;
 import org.wso2.carbon.identity.application.authentication.framework.listener.SessionContextMgtListener;
 import org.wso2.carbon.identity.application.authentication.framework.services.PostAuthenticationMgtService;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
-import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.PushedAuthDataStore;
 import org.wso2.carbon.identity.application.authentication.framework.store.SessionDataStore;
@@ -97,6 +97,7 @@ import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfi
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.model.RequestPathAuthenticatorConfig;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants.DefinedByType;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
@@ -264,6 +265,8 @@ public class FrameworkServiceComponent {
         bundleContext.registerService(IdentityProviderMgtListener.class.getName(),
                 jitProvisioningIDPMgtListener, null);
         bundleContext.registerService(ClaimFilter.class.getName(), new DefaultClaimFilter(), null);
+        bundleContext.registerService(ApplicationMgtListener.class.getName(),
+                new JSExecutionStatisticsAppMgtListener(), null);
 
         // This is done to load SessionDataStore and PushedAuthDataStore classes and start the cleanup tasks.
         SessionDataStore.getInstance();
@@ -319,7 +322,8 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(
+                    FrameworkUtils.getConfiguredSessionSerializer());
         }
 
         // Set skip local user search for authentication flow handlers enabled.
@@ -392,9 +396,10 @@ public class FrameworkServiceComponent {
             }
         }
 
-        FrameworkServiceDataHolder.getInstance()
-                .setJsExecutionSupervisor(new JSExecutionSupervisor(threadCount, timeOutEnabled, timeoutInMillis,
-                        memoryLimitInBytes));
+        JSExecutionSupervisor jsExecutionSupervisor = new JSExecutionSupervisor(threadCount, timeOutEnabled,
+                timeoutInMillis, memoryLimitInBytes);
+        jsExecutionSupervisor.getExecutionStatistics().registerMBean();
+        FrameworkServiceDataHolder.getInstance().setJsExecutionSupervisor(jsExecutionSupervisor);
     }
 
     @Deactivate
@@ -408,6 +413,11 @@ public class FrameworkServiceComponent {
         SessionDataStore.getInstance().stopService();
         if (FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor() != null) {
             FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().shutdown();
+            FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().getExecutionStatistics()
+                    .unregisterMBean();
+        }
+        if (FrameworkServiceDataHolder.getInstance().getJsGenericGraphBuilderFactory() != null) {
+            FrameworkServiceDataHolder.getInstance().getJsGenericGraphBuilderFactory().shutdown();
         }
     }
 
@@ -526,7 +536,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(FrameworkUtils.getConfiguredSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
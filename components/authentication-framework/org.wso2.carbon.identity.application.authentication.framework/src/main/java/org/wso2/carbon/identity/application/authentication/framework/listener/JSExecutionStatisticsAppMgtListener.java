@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.mgt.listener.AbstractApplicationMgtListener;
+
+/**
+ * Removes the adaptive authentication script execution statistics of a service provider when it is deleted.
+ */
+public class JSExecutionStatisticsAppMgtListener extends AbstractApplicationMgtListener {
+
+    private static final Log log = LogFactory.getLog(JSExecutionStatisticsAppMgtListener.class);
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return 250;
+    }
+
+    @Override
+    public boolean doPostDeleteApplication(String applicationName, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        JSExecutionSupervisor jsExecutionSupervisor = FrameworkServiceDataHolder.getInstance()
+                .getJsExecutionSupervisor();
+        if (jsExecutionSupervisor != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Removing the script execution statistics of the application: " + applicationName +
+                        " of tenant domain: " + tenantDomain);
+            }
+            jsExecutionSupervisor.getExecutionStatistics().clear(applicationName, tenantDomain);
+        }
+        return true;
+    }
+}
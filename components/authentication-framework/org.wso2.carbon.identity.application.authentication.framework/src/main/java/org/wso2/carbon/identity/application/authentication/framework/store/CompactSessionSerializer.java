@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session serializer which writes session objects in a compact, versioned binary format.
+ * <p>
+ * Class descriptors of the framework model classes listed in {@link SessionSerializerSchema} are written as a numeric
+ * id and the layout version of the class instead of the full class name and field layout, and the payload can
+ * optionally be deflate compressed. A row written with an earlier layout of a class is read with the descriptor of
+ * that layout, so changing a model class does not invalidate the stored sessions.
+ * The object graph is still written with Java serialization, so the serializer reduces the size of the stored rows
+ * rather than the CPU time spent on serializing them.
+ * Every serialized object starts with a header carrying a magic number, the format version and format flags.
+ * Objects without the header are read with plain Java serialization, so rows written by the
+ * {@link JavaSessionSerializer} can still be read after switching serializers.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    static final int MAGIC = 0x5753;
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_COMPRESSED = 0x01;
+    private static final int HEADER_LENGTH = 4;
+    private static final int JAVA_STREAM_MAGIC = 0xACED;
+    private static final int DESCRIPTOR_INLINE = 0;
+    private static final int DESCRIPTOR_SCHEMA = 1;
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+    private final SessionSerializerSchema schema;
+
+    public CompactSessionSerializer() {
+
+        this(false, 0);
+    }
+
+    /**
+     * @param compressionEnabled   Whether the payload should be compressed.
+     * @param compressionThreshold Minimum payload size in bytes for compression to be applied.
+     */
+    public CompactSessionSerializer(boolean compressionEnabled, int compressionThreshold) {
+
+        this(compressionEnabled, compressionThreshold, SessionSerializerSchema.DEFAULT);
+    }
+
+    CompactSessionSerializer(boolean compressionEnabled, int compressionThreshold, SessionSerializerSchema schema) {
+
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+        this.schema = schema;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        ExposedByteArrayOutputStream payload = new ExposedByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+        writeHeader(payload, 0);
+        try (ObjectOutputStream oos = new SchemaObjectOutputStream(payload, schema)) {
+            oos.writeObject(value);
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        }
+
+        int payloadLength = payload.size() - HEADER_LENGTH;
+        if (!compressionEnabled || payloadLength < compressionThreshold) {
+            return payload.toInputStream();
+        }
+
+        ExposedByteArrayOutputStream compressed = new ExposedByteArrayOutputStream(payloadLength / 2);
+        writeHeader(compressed, FLAG_COMPRESSED);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream dos = new DeflaterOutputStream(compressed, deflater)) {
+            dos.write(payload.getBuffer(), HEADER_LENGTH, payloadLength);
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while compressing the session object", e);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toInputStream();
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        try {
+            InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+            in.mark(HEADER_LENGTH);
+            DataInputStream header = new DataInputStream(in);
+            int magic = header.readUnsignedShort();
+            if (magic != MAGIC) {
+                in.reset();
+                if (magic != JAVA_STREAM_MAGIC) {
+                    throw new SessionSerializerException("Unknown session object format.", null);
+                }
+                // Written by the Java session serializer.
+                return new ObjectInputStream(in).readObject();
+            }
+
+            int version = header.readUnsignedByte();
+            int flags = header.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new SessionSerializerException("Unsupported session object format version: " + version, null);
+            }
+            InputStream payload = (flags & FLAG_COMPRESSED) != 0 ? new InflaterInputStream(in) : in;
+            try (ObjectInputStream ois = new SchemaObjectInputStream(payload, schema)) {
+                return ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    private static void writeHeader(ByteArrayOutputStream out, int flags) {
+
+        out.write(MAGIC >>> 8);
+        out.write(MAGIC & 0xFF);
+        out.write(FORMAT_VERSION);
+        out.write(flags);
+    }
+
+    /**
+     * Object output stream which replaces the class descriptors of schema classes with their schema id and layout
+     * version.
+     */
+    private static class SchemaObjectOutputStream extends ObjectOutputStream {
+
+        private final SessionSerializerSchema schema;
+
+        SchemaObjectOutputStream(OutputStream out, SessionSerializerSchema schema) throws IOException {
+
+            super(out);
+            this.schema = schema;
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+
+            int classId = schema.getClassId(desc.getName());
+            if (classId < 0) {
+                writeByte(DESCRIPTOR_INLINE);
+                super.writeClassDescriptor(desc);
+            } else {
+                writeByte(DESCRIPTOR_SCHEMA);
+                writeShort(classId);
+                writeInt(schema.getCurrentVersion(classId));
+            }
+        }
+    }
+
+    /**
+     * Object input stream which resolves the class descriptors written by {@link SchemaObjectOutputStream}.
+     */
+    private static class SchemaObjectInputStream extends ObjectInputStream {
+
+        private final SessionSerializerSchema schema;
+
+        SchemaObjectInputStream(InputStream in, SessionSerializerSchema schema) throws IOException {
+
+            super(in);
+            this.schema = schema;
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+
+            int descriptorType = readByte();
+            if (descriptorType == DESCRIPTOR_INLINE) {
+                return super.readClassDescriptor();
+            }
+            int classId = readUnsignedShort();
+            int version = readInt();
+            Class<?> schemaClass = schema.getClass(classId);
+            if (schemaClass == null) {
+                throw new ClassNotFoundException("Unknown session serializer schema class id: " + classId);
+            }
+            ObjectStreamClass descriptor = schema.getDescriptor(classId, version);
+            if (descriptor == null) {
+                throw new InvalidClassException(schemaClass.getName(), "Layout version " + version +
+                        " of the class is not known to this node.");
+            }
+            return descriptor;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            Class<?> schemaClass = schema.getClass(schema.getClassId(desc.getName()));
+            if (schemaClass != null) {
+                return schemaClass;
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+    /**
+     * Byte array output stream which hands over its buffer without copying it.
+     */
+    private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        ExposedByteArrayOutputStream(int size) {
+
+            super(Math.max(size, 32));
+        }
+
+        byte[] getBuffer() {
+
+            return buf;
+        }
+
+        InputStream toInputStream() {
+
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
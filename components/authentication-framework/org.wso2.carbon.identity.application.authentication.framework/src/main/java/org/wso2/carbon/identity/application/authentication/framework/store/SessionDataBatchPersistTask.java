@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task to persist and remove session data in batches.
+ * Items are drained from the queue until either the batch size or the flush interval is reached. Repeated STORE and
+ * DELETE operations for the same session id and type within a batch are collapsed so that only the latest operation
+ * is written, and the remaining operations are written to the database as a single JDBC batch.
+ */
+public class SessionDataBatchPersistTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersistTask.class);
+    private static final String KEY_SEPARATOR = ":";
+    private final BlockingDeque<SessionContextDO> sessionContextQueue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private static volatile boolean running;
+
+    public SessionDataBatchPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize,
+                                       long flushIntervalMillis) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    @Override
+    public void run() {
+
+        log.debug("Session Context batch persist consumer is started");
+
+        running = true;
+        while (running) {
+            try {
+                List<SessionContextDO> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                log.error("Session Context batch persist consumer was interrupted.", e);
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // Drain whatever is left in the queue so that accepted operations are not lost on shutdown.
+        List<SessionContextDO> remaining = new ArrayList<>();
+        sessionContextQueue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    /**
+     * Collect a batch of session context operations. Waits for the first item up to the flush interval and then
+     * keeps collecting until the batch is full or the flush interval has elapsed.
+     *
+     * @return Collected operations. Empty if no operation arrived within the flush interval.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    private List<SessionContextDO> collectBatch() throws InterruptedException {
+
+        List<SessionContextDO> batch = new ArrayList<>(batchSize);
+        SessionContextDO first = sessionContextQueue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            sessionContextQueue.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                break;
+            }
+            SessionContextDO next = sessionContextQueue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<SessionContextDO> batch) {
+
+        SessionDataPersistMetrics metrics = SessionDataStore.getInstance().getSessionDataPersistMetrics();
+        Collection<SessionContextDO> coalesced = coalesce(batch);
+        long startTime = System.nanoTime();
+        SessionDataStore.getInstance().persistSessionDataBatch(coalesced);
+        long flushLatency = System.nanoTime() - startTime;
+        metrics.recordFlush(batch.size(), coalesced.size(), flushLatency);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Flushed %d session data operations (%d received) in %d ms.",
+                    coalesced.size(), batch.size(), TimeUnit.NANOSECONDS.toMillis(flushLatency)));
+        }
+    }
+
+    /**
+     * Collapse the operations of a batch so that only the latest operation for a given session id and session type
+     * is kept. The latest operation is decided using the operation timestamp since the queue is not strictly FIFO.
+     *
+     * @param batch Operations drained from the queue.
+     * @return Latest operation per session id and session type.
+     */
+    static Collection<SessionContextDO> coalesce(List<SessionContextDO> batch) {
+
+        Map<String, SessionContextDO> latestOperations = new LinkedHashMap<>();
+        for (SessionContextDO sessionContextDO : batch) {
+            String operationKey = sessionContextDO.getKey() + KEY_SEPARATOR + sessionContextDO.getType();
+            SessionContextDO existing = latestOperations.get(operationKey);
+            if (existing == null || existing.getNanoTime() <= sessionContextDO.getNanoTime()) {
+                latestOperations.put(operationKey, sessionContextDO);
+            }
+        }
+        return latestOperations.values();
+    }
+
+    public static void shutdown() {
+
+        running = false;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Groups the session store records into time buckets by their expiry time, so that the cleanup task can drop whole
+ * buckets instead of searching for individual expired records.
+ * <p>
+ * The bucket of a record is written to the EXPIRY_BUCKET column. On MySQL, if the session store table is partitioned
+ * by EXPIRY_BUCKET, expired buckets are removed by dropping their partitions and the partitions for the upcoming
+ * buckets are created ahead of time. Partitions of buckets are named P&lt;bucket&gt;, and an optional P_MAX partition
+ * holds the records beyond the created buckets. Other partitions are never touched. Once the expired partitions are
+ * dropped, the remaining expired records are removed from the legacy and the current bucket partitions only. Without
+ * partitions, or on the other databases, the buckets are only recorded and the expired records are removed by the
+ * regular cleanup.
+ */
+public class SessionDataExpiryBuckets {
+
+    private static final Log log = LogFactory.getLog(SessionDataExpiryBuckets.class);
+
+    static final String MAX_PARTITION = "P_MAX";
+    // Bucket of the records written before the table was partitioned. They are kept in the P_LEGACY partition.
+    static final long LEGACY_BUCKET = 0;
+    private static final String BUCKET_PARTITION_PREFIX = "P";
+    private static final String BUCKET_PARTITION = "PARTITION P%d VALUES LESS THAN (%d)";
+    private static final String SQL_SELECT_PARTITIONS_MYSQL = "SELECT PARTITION_NAME FROM " +
+            "INFORMATION_SCHEMA.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND " +
+            "PARTITION_NAME IS NOT NULL";
+    private static final String SQL_DROP_PARTITIONS_MYSQL = "ALTER TABLE %s DROP PARTITION %s";
+    private static final String SQL_SPLIT_MAX_PARTITION_MYSQL = "ALTER TABLE %s REORGANIZE PARTITION " +
+            MAX_PARTITION + " INTO (%s, PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)";
+    private static final String SQL_ADD_PARTITIONS_MYSQL = "ALTER TABLE %s ADD PARTITION (%s)";
+    private static final String SQL_DELETE_EXPIRED_DATA_OF_BUCKETS_MYSQL = "DELETE FROM %s WHERE EXPIRY_BUCKET IN " +
+            "(?, ?) AND EXPIRY_TIME < ? LIMIT %d";
+    private static final String SQL_GET_LOCK_MYSQL = "SELECT GET_LOCK(?, 0)";
+    private static final String SQL_RELEASE_LOCK_MYSQL = "SELECT RELEASE_LOCK(?)";
+    private static final String PARTITION_MAINTENANCE_LOCK_SUFFIX = "_PARTITION_MAINTENANCE";
+    private static final String MYSQL_DATABASE = "MySQL";
+    private static final String MARIA_DATABASE = "MariaDB";
+
+    private final long bucketIntervalNanos;
+    private final boolean dropPartitions;
+    private final int partitionsAhead;
+    private volatile boolean partitioned = true;
+
+    /**
+     * @param bucketIntervalNanos Time span of a bucket in nanoseconds.
+     * @param dropPartitions      Whether expired buckets should be removed by dropping table partitions.
+     * @param partitionsAhead     Number of partitions to be created ahead of the current bucket.
+     */
+    public SessionDataExpiryBuckets(long bucketIntervalNanos, boolean dropPartitions, int partitionsAhead) {
+
+        if (bucketIntervalNanos <= 0) {
+            throw new IllegalArgumentException("Expiry bucket interval should be a positive value.");
+        }
+        this.bucketIntervalNanos = bucketIntervalNanos;
+        this.dropPartitions = dropPartitions;
+        this.partitionsAhead = Math.max(partitionsAhead, 0);
+    }
+
+    /**
+     * Get the bucket of a record which expires at the given time.
+     *
+     * @param expiryTime Expiry time in nanoseconds.
+     * @return Expiry bucket.
+     */
+    public long getBucket(long expiryTime) {
+
+        return Math.floorDiv(expiryTime, bucketIntervalNanos);
+    }
+
+    /**
+     * Create the partitions of the upcoming buckets and drop the partitions of the expired buckets. This is only done
+     * when partition dropping is enabled and the table is a partitioned MySQL table. The partitions are altered under
+     * a MySQL named lock, so that only one node maintains them at a time. The other nodes skip the maintenance.
+     *
+     * @param connection    Session database connection.
+     * @param tableName     Session store table name.
+     * @param currentBucket Bucket of the current time. Buckets before it have fully expired.
+     * @return True if the partitions were maintained by this node.
+     * @throws SQLException If an error occurs while reading or altering the partitions.
+     */
+    public boolean dropExpiredPartitions(Connection connection, String tableName, long currentBucket)
+            throws SQLException {
+
+        if (!dropPartitions || !partitioned || !isMySQL(connection)) {
+            return false;
+        }
+        String lockName = tableName + PARTITION_MAINTENANCE_LOCK_SUFFIX;
+        if (!acquireLock(connection, lockName)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Partitions of " + tableName + " are being maintained by another node.");
+            }
+            return false;
+        }
+        try {
+            return maintainPartitions(connection, tableName, currentBucket);
+        } finally {
+            releaseLock(connection, lockName);
+        }
+    }
+
+    /**
+     * Remove a chunk of the expired records which remain after the partitions of the expired buckets are dropped.
+     * Only the legacy partition and the partition of the current bucket can hold such records, hence the other
+     * partitions are not scanned. Should only be called after {@link #dropExpiredPartitions} returned true.
+     *
+     * @param connection    Session database connection.
+     * @param tableName     Session store table name.
+     * @param currentBucket Bucket of the current time, as given to {@link #dropExpiredPartitions}.
+     * @param currentTime   Current time in nanoseconds.
+     * @param chunkSize     Maximum number of records to remove.
+     * @return Number of removed records.
+     * @throws SQLException If an error occurs while removing the records.
+     */
+    public int removeExpiredData(Connection connection, String tableName, long currentBucket, long currentTime,
+                                 int chunkSize) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                String.format(SQL_DELETE_EXPIRED_DATA_OF_BUCKETS_MYSQL, tableName, chunkSize))) {
+            statement.setLong(1, LEGACY_BUCKET);
+            statement.setLong(2, currentBucket);
+            statement.setLong(3, currentTime);
+            return statement.executeUpdate();
+        }
+    }
+
+    private boolean maintainPartitions(Connection connection, String tableName, long currentBucket)
+            throws SQLException {
+
+        List<String> partitionNames = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(SQL_SELECT_PARTITIONS_MYSQL)) {
+            statement.setString(1, tableName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    partitionNames.add(resultSet.getString(1));
+                }
+            }
+        }
+        if (partitionNames.isEmpty()) {
+            partitioned = false;
+            log.warn("Session store table " + tableName + " is not partitioned. Expired session data would be " +
+                    "removed by the regular cleanup.");
+            return false;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String query : getPartitionMaintenanceQueries(tableName, partitionNames, currentBucket)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Session store partition maintenance query: " + query);
+                }
+                statement.execute(query);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Build the queries which create the partitions up to the configured number of buckets ahead of the current
+     * bucket and drop the partitions of the expired buckets.
+     *
+     * @param tableName      Session store table name.
+     * @param partitionNames Existing partitions of the table.
+     * @param currentBucket  Bucket of the current time.
+     * @return Partition maintenance queries in the order they should be executed.
+     */
+    List<String> getPartitionMaintenanceQueries(String tableName, Collection<String> partitionNames,
+                                                long currentBucket) {
+
+        TreeSet<Long> buckets = new TreeSet<>();
+        boolean hasMaxPartition = false;
+        for (String partitionName : partitionNames) {
+            String name = partitionName.toUpperCase(Locale.ENGLISH);
+            if (MAX_PARTITION.equals(name)) {
+                hasMaxPartition = true;
+            } else if (name.length() > BUCKET_PARTITION_PREFIX.length() &&
+                    name.startsWith(BUCKET_PARTITION_PREFIX) &&
+                    StringUtils.isNumeric(name.substring(BUCKET_PARTITION_PREFIX.length()))) {
+                buckets.add(Long.parseLong(name.substring(BUCKET_PARTITION_PREFIX.length())));
+            }
+        }
+
+        List<String> queries = new ArrayList<>();
+        long firstNewBucket = buckets.isEmpty() ? currentBucket : Math.max(buckets.last() + 1, currentBucket);
+        List<String> newPartitions = new ArrayList<>();
+        for (long bucket = firstNewBucket; bucket <= currentBucket + partitionsAhead; bucket++) {
+            newPartitions.add(String.format(BUCKET_PARTITION, bucket, bucket + 1));
+        }
+        if (!newPartitions.isEmpty()) {
+            queries.add(String.format(hasMaxPartition ? SQL_SPLIT_MAX_PARTITION_MYSQL : SQL_ADD_PARTITIONS_MYSQL,
+                    tableName, String.join(", ", newPartitions)));
+        }
+
+        // Expired partitions are dropped after creating the new ones, since a table cannot lose all its partitions.
+        List<String> expiredPartitions = new ArrayList<>();
+        for (Long bucket : buckets.headSet(currentBucket)) {
+            expiredPartitions.add(BUCKET_PARTITION_PREFIX + bucket);
+        }
+        if (!expiredPartitions.isEmpty()) {
+            queries.add(String.format(SQL_DROP_PARTITIONS_MYSQL, tableName, String.join(", ", expiredPartitions)));
+        }
+        return queries;
+    }
+
+    private boolean acquireLock(Connection connection, String lockName) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(SQL_GET_LOCK_MYSQL)) {
+            statement.setString(1, lockName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection, String lockName) {
+
+        try (PreparedStatement statement = connection.prepareStatement(SQL_RELEASE_LOCK_MYSQL)) {
+            statement.setString(1, lockName);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            log.error("Error while releasing the session store partition maintenance lock: " + lockName, e);
+        }
+    }
+
+    private boolean isMySQL(Connection connection) throws SQLException {
+
+        String driverName = connection.getMetaData().getDriverName();
+        return driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE);
+    }
+}
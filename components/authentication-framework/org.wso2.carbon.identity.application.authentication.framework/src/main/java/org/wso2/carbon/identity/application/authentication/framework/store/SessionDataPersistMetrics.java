@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the runtime statistics of the session data persistence queue and the batched session data writer.
+ */
+public class SessionDataPersistMetrics {
+
+    private final BlockingDeque<SessionContextDO> sessionContextQueue;
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong receivedOperationCount = new AtomicLong();
+    private final AtomicLong writtenOperationCount = new AtomicLong();
+    private final AtomicLong totalFlushLatencyNanos = new AtomicLong();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+    private volatile int lastBatchSize;
+
+    SessionDataPersistMetrics(BlockingDeque<SessionContextDO> sessionContextQueue) {
+
+        this.sessionContextQueue = sessionContextQueue;
+    }
+
+    void recordFlush(int receivedOperations, int writtenOperations, long flushLatencyNanos) {
+
+        flushCount.incrementAndGet();
+        receivedOperationCount.addAndGet(receivedOperations);
+        writtenOperationCount.addAndGet(writtenOperations);
+        totalFlushLatencyNanos.addAndGet(flushLatencyNanos);
+        maxFlushLatencyNanos.accumulateAndGet(flushLatencyNanos, Math::max);
+        lastBatchSize = writtenOperations;
+    }
+
+    /**
+     * Get the number of session data operations waiting in the persistence queue.
+     *
+     * @return Current queue depth.
+     */
+    public int getQueueDepth() {
+
+        return sessionContextQueue.size();
+    }
+
+    /**
+     * Get the number of batches flushed to the database.
+     *
+     * @return Flush count.
+     */
+    public long getFlushCount() {
+
+        return flushCount.get();
+    }
+
+    /**
+     * Get the number of operations taken from the queue by the batched writer.
+     *
+     * @return Received operation count.
+     */
+    public long getReceivedOperationCount() {
+
+        return receivedOperationCount.get();
+    }
+
+    /**
+     * Get the number of operations written to the database after coalescing.
+     *
+     * @return Written operation count.
+     */
+    public long getWrittenOperationCount() {
+
+        return writtenOperationCount.get();
+    }
+
+    /**
+     * Get the number of operations that were dropped because a later operation for the same session superseded them.
+     *
+     * @return Coalesced operation count.
+     */
+    public long getCoalescedOperationCount() {
+
+        return receivedOperationCount.get() - writtenOperationCount.get();
+    }
+
+    /**
+     * Get the size of the most recently flushed batch.
+     *
+     * @return Last batch size.
+     */
+    public int getLastBatchSize() {
+
+        return lastBatchSize;
+    }
+
+    /**
+     * Get the average number of operations written per batch.
+     *
+     * @return Average batch size.
+     */
+    public double getAverageBatchSize() {
+
+        long flushes = flushCount.get();
+        return flushes == 0 ? 0 : (double) writtenOperationCount.get() / flushes;
+    }
+
+    /**
+     * Get the average flush latency in milliseconds.
+     *
+     * @return Average flush latency.
+     */
+    public double getAverageFlushLatencyMillis() {
+
+        long flushes = flushCount.get();
+        return flushes == 0 ? 0 : (double) totalFlushLatencyNanos.get() / flushes / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get the maximum flush latency in milliseconds.
+     *
+     * @return Maximum flush latency.
+     */
+    public long getMaxFlushLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxFlushLatencyNanos.get());
+    }
+}
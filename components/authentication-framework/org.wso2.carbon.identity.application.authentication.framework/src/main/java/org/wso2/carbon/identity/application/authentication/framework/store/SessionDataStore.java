@@ -30,6 +30,9 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.cache.CacheEntry;
 import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
+import org.wso2.carbon.identity.core.util.DatabaseDialect;
+import org.wso2.carbon.identity.core.util.DatabaseDialectRegistry;
+import org.wso2.carbon.identity.core.util.DialectSpecificQuery;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -42,6 +45,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
@@ -67,6 +75,12 @@ public class SessionDataStore {
     private static final String SQL_INSERT_DELETE_OPERATION =
             "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE,OPERATION, TIME_CREATED, EXPIRY_TIME) " +
                     "VALUES (?,?,?,?,?)";
+    private static final String SQL_INSERT_STORE_OPERATION_WITH_BUCKET =
+            "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE, OPERATION, SESSION_OBJECT, TIME_CREATED, " +
+                    "EXPIRY_TIME, TENANT_ID, EXPIRY_BUCKET) VALUES (?,?,?,?,?,?,?,?)";
+    private static final String SQL_INSERT_DELETE_OPERATION_WITH_BUCKET =
+            "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, EXPIRY_TIME, " +
+                    "EXPIRY_BUCKET) VALUES (?,?,?,?,?,?)";
     private static final String SQL_DELETE_STORE_OPERATIONS_TASK =
             "DELETE FROM IDN_AUTH_SESSION_STORE WHERE OPERATION = '" + OPERATION_STORE +
                     "' AND EXISTS (" +
@@ -167,23 +181,60 @@ public class SessionDataStore {
             "DELETE FROM IDN_AUTH_SESSION_STORE WHERE (SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED) IN " +
                     "(SELECT SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE " +
                     "EXPIRY_TIME < ? FETCH FIRST %d ROWS ONLY)";
-    private static final String MYSQL_DATABASE = "MySQL";
-    private static final String MARIA_DATABASE = "MariaDB";
-    private static final String H2_DATABASE = "H2";
-    private static final String DB2_DATABASE = "DB2";
-    private static final String MS_SQL_DATABASE = "MS SQL";
-    private static final String MICROSOFT_DATABASE = "Microsoft";
-    private static final String POSTGRESQL_DATABASE = "PostgreSQL";
-    private static final String INFORMIX_DATABASE = "Informix";
+
+    private static final DialectSpecificQuery SELECT_SESSION_OBJECT =
+            new DialectSpecificQuery(SQL_DESERIALIZE_OBJECT_ORACLE)
+                    .with(SQL_DESERIALIZE_OBJECT_MYSQL, DatabaseDialect.MYSQL, DatabaseDialect.MARIADB,
+                            DatabaseDialect.H2)
+                    .with(SQL_DESERIALIZE_OBJECT_DB2SQL, DatabaseDialect.DB2)
+                    .with(SQL_DESERIALIZE_OBJECT_MSSQL, DatabaseDialect.MSSQL)
+                    .with(SQL_DESERIALIZE_OBJECT_POSTGRESQL, DatabaseDialect.POSTGRESQL)
+                    .with(SQL_DESERIALIZE_OBJECT_INFORMIX, DatabaseDialect.INFORMIX);
+    private static final DialectSpecificQuery SELECT_SESSION_OBJECT_BY_OPERATION =
+            new DialectSpecificQuery(SQL_DESERIALIZE_OBJECT_BY_OPERATION_ORACLE)
+                    .with(SQL_DESERIALIZE_OBJECT_BY_BY_OPERATION_MYSQL, DatabaseDialect.MYSQL,
+                            DatabaseDialect.MARIADB, DatabaseDialect.H2)
+                    .with(SQL_DESERIALIZE_OBJECT_BY_OPERATION_DB2SQL, DatabaseDialect.DB2)
+                    .with(SQL_DESERIALIZE_OBJECT_BY_OPERATION_MSSQL, DatabaseDialect.MSSQL)
+                    .with(SQL_DESERIALIZE_OBJECT_BY_OPERATION_POSTGRESQL, DatabaseDialect.POSTGRESQL)
+                    .with(SQL_DESERIALIZE_OBJECT_BY_OPERATION_INFORMIX, DatabaseDialect.INFORMIX);
+    private static final DialectSpecificQuery SELECT_LAST_SESSION_DATA_OPERATION =
+            new DialectSpecificQuery(SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_ORACLE)
+                    .with(SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_MYSQL, DatabaseDialect.MYSQL,
+                            DatabaseDialect.MARIADB, DatabaseDialect.H2)
+                    .with(SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_DB2SQL, DatabaseDialect.DB2)
+                    .with(SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_MSSQL, DatabaseDialect.MSSQL)
+                    .with(SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_POSTGRESQL, DatabaseDialect.POSTGRESQL)
+                    .with(SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_INFORMIX, DatabaseDialect.INFORMIX);
+    private static final DialectSpecificQuery DELETE_EXPIRED_DATA_TASK =
+            new DialectSpecificQuery(SQL_DELETE_EXPIRED_DATA_TASK_ORACLE)
+                    .with(SQL_DELETE_EXPIRED_DATA_TASK_MYSQL, DatabaseDialect.MYSQL, DatabaseDialect.MARIADB,
+                            DatabaseDialect.H2)
+                    .with(SQL_DELETE_EXPIRED_DATA_TASK_DB2SQL, DatabaseDialect.DB2)
+                    .with(SQL_DELETE_EXPIRED_DATA_TASK_MSSQL, DatabaseDialect.MSSQL)
+                    .with(SQL_DELETE_EXPIRED_DATA_TASK_POSTGRESQL, DatabaseDialect.POSTGRESQL)
+                    .with(SQL_DELETE_EXPIRED_DATA_TASK_INFOMIXSQL, DatabaseDialect.INFORMIX);
+    private static final DialectSpecificQuery DELETE_STORE_OPERATIONS_TASK =
+            new DialectSpecificQuery(SQL_DELETE_STORE_OPERATIONS_TASK)
+                    .with(SQL_DELETE_STORE_OPERATIONS_TASK_MYSQL, DatabaseDialect.MYSQL, DatabaseDialect.MARIADB);
 
     private static final int DEFAULT_DELETE_LIMIT = 50000;
+    private static final int DEFAULT_BATCH_PERSIST_SIZE = 100;
+    private static final long DEFAULT_BATCH_PERSIST_FLUSH_INTERVAL = 100L;
+    private static final int DEFAULT_EXPIRY_BUCKET_INTERVAL = 1440;
+    private static final int DEFAULT_EXPIRY_BUCKET_PARTITIONS_AHEAD = 15;
     public static final String DEFAULT_SESSION_STORE_TABLE_NAME = "IDN_AUTH_SESSION_STORE";
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
     private static int maxSessionDataPoolSize = 100;
     private static int maxTempDataPoolSize = 50;
+    private static boolean batchPersistEnabled = false;
+    private static int batchPersistSize = DEFAULT_BATCH_PERSIST_SIZE;
+    private static long batchPersistFlushInterval = DEFAULT_BATCH_PERSIST_FLUSH_INTERVAL;
     private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
+    private static final SessionDataPersistMetrics sessionDataPersistMetrics =
+            new SessionDataPersistMetrics(sessionContextQueue);
     private static volatile SessionDataStore instance;
     private boolean enablePersist;
     private String sqlInsertSTORE;
@@ -196,6 +247,7 @@ public class SessionDataStore {
     private String sqlDeleteExpiredDataTask;
     private String sqlGetLastOperation;
     private int deleteChunkSize = DEFAULT_DELETE_LIMIT;
+    private SessionDataExpiryBuckets expiryBuckets;
     private boolean sessionDataCleanupEnabled = true;
     private boolean operationDataCleanupEnabled = false;
     private static boolean tempDataCleanupEnabled = false;
@@ -237,6 +289,24 @@ public class SessionDataStore {
                 maxTempDataPoolSize = Integer.parseInt(maxTempDataPoolSizeValue);
             }
 
+            batchPersistEnabled = Boolean.parseBoolean(
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.BatchPersist.Enable"));
+            String batchPersistSizeValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.BatchPersist.BatchSize");
+            if (StringUtils.isNotBlank(batchPersistSizeValue)) {
+                batchPersistSize = Integer.parseInt(batchPersistSizeValue);
+            }
+            String batchPersistFlushIntervalValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.BatchPersist.FlushInterval");
+            if (StringUtils.isNotBlank(batchPersistFlushIntervalValue)) {
+                batchPersistFlushInterval = Long.parseLong(batchPersistFlushIntervalValue);
+            }
+            if (batchPersistSize <= 0 || batchPersistFlushInterval <= 0) {
+                log.warn("Invalid session data batch persist configurations. Default values would be used");
+                batchPersistSize = DEFAULT_BATCH_PERSIST_SIZE;
+                batchPersistFlushInterval = DEFAULT_BATCH_PERSIST_FLUSH_INTERVAL;
+            }
+
         } catch (NumberFormatException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Exception ignored : ", e);
@@ -246,8 +316,17 @@ public class SessionDataStore {
         if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
+            if (batchPersistEnabled) {
+                log.info(String.format("Session data batch persistence is enabled with batch size : %d and flush " +
+                        "interval : %d ms", batchPersistSize, batchPersistFlushInterval));
+            }
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
-                threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                if (batchPersistEnabled) {
+                    threadPool.execute(new SessionDataBatchPersistTask(sessionContextQueue, batchPersistSize,
+                            batchPersistFlushInterval));
+                } else {
+                    threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                }
             }
         }
         if (tempDataCleanupEnabled && maxTempDataPoolSize > 0) {
@@ -317,6 +396,16 @@ public class SessionDataStore {
             sqlDeleteExpiredDataTask = String.format(deleteExpiredDataTaskSQL, deleteChunkSize);
         }
 
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(
+                "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.ExpiryBuckets.Enable"))) {
+            if (StringUtils.isNotBlank(insertSTORESQL) || StringUtils.isNotBlank(insertDELETESQL)) {
+                log.warn("Session data expiry buckets are not supported with custom session data insert queries. " +
+                        "Expired session data would be removed record by record.");
+            } else {
+                expiryBuckets = buildExpiryBuckets();
+            }
+        }
+
         if (!enablePersist) {
             log.info("Session Data Persistence of Authentication framework is not enabled.");
         }
@@ -403,23 +492,7 @@ public class SessionDataStore {
         ResultSet resultSet = null;
         try {
             if (StringUtils.isBlank(sqlSelect)) {
-                String driverName = connection.getMetaData().getDriverName();
-                if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
-                        || driverName.contains(H2_DATABASE)) {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_MYSQL;
-                } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_DB2SQL;
-                } else if (driverName.contains(MS_SQL_DATABASE)
-                        || driverName.contains(MICROSOFT_DATABASE)) {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_MSSQL;
-                } else if (driverName.contains(POSTGRESQL_DATABASE)) {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_POSTGRESQL;
-                } else if (driverName.contains(INFORMIX_DATABASE)) {
-                    // Driver name = "IBM Informix JDBC Driver for IBM Informix Dynamic Server"
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_INFORMIX;
-                } else {
-                    sqlSelect = SQL_DESERIALIZE_OBJECT_ORACLE;
-                }
+                sqlSelect = SELECT_SESSION_OBJECT.get(DatabaseDialectRegistry.getDialect(connection));
             }
             preparedStatement = connection.prepareStatement(getSessionStoreDBQuery(sqlSelect, type));
             preparedStatement.setString(1, key);
@@ -463,23 +536,8 @@ public class SessionDataStore {
 
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false)) {
             if (StringUtils.isBlank(sqlOperationSelect)) {
-                String driverName = connection.getMetaData().getDriverName();
-                if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
-                        || driverName.contains(H2_DATABASE)) {
-                    sqlOperationSelect = SQL_DESERIALIZE_OBJECT_BY_BY_OPERATION_MYSQL;
-                } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
-                    sqlOperationSelect = SQL_DESERIALIZE_OBJECT_BY_OPERATION_DB2SQL;
-                } else if (driverName.contains(MS_SQL_DATABASE)
-                        || driverName.contains(MICROSOFT_DATABASE)) {
-                    sqlOperationSelect = SQL_DESERIALIZE_OBJECT_BY_OPERATION_MSSQL;
-                } else if (driverName.contains(POSTGRESQL_DATABASE)) {
-                    sqlOperationSelect = SQL_DESERIALIZE_OBJECT_BY_OPERATION_POSTGRESQL;
-                } else if (driverName.contains(INFORMIX_DATABASE)) {
-                    // Driver name = "IBM Informix JDBC Driver for IBM Informix Dynamic Server"
-                    sqlOperationSelect = SQL_DESERIALIZE_OBJECT_BY_OPERATION_INFORMIX;
-                } else {
-                    sqlOperationSelect = SQL_DESERIALIZE_OBJECT_BY_OPERATION_ORACLE;
-                }
+                sqlOperationSelect = SELECT_SESSION_OBJECT_BY_OPERATION.get(
+                        DatabaseDialectRegistry.getDialect(connection));
             }
             try (PreparedStatement preparedStatement = connection.prepareStatement(
                     getSessionStoreDBQuery(sqlOperationSelect, type))) {
@@ -550,25 +608,7 @@ public class SessionDataStore {
 
     private String getSqlGetLastOperation(Connection connection) throws SQLException {
 
-        String sqlGetLastOperationQuery;
-        String driverName = connection.getMetaData().getDriverName();
-        if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
-                || driverName.contains(H2_DATABASE)) {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_MYSQL;
-        } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_DB2SQL;
-        } else if (driverName.contains(MS_SQL_DATABASE)
-                || driverName.contains(MICROSOFT_DATABASE)) {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_MSSQL;
-        } else if (driverName.contains(POSTGRESQL_DATABASE)) {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_POSTGRESQL;
-        } else if (driverName.contains(INFORMIX_DATABASE)) {
-            // Driver name = "IBM Informix JDBC Driver for IBM Informix Dynamic Server"
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_INFORMIX;
-        } else {
-            sqlGetLastOperationQuery = SQL_RETRIEVE_LAST_SESSION_DATA_OPERATION_ORACLE;
-        }
-        return sqlGetLastOperationQuery;
+        return SELECT_LAST_SESSION_DATA_OPERATION.get(DatabaseDialectRegistry.getDialect(connection));
     }
 
     public void storeSessionData(String key, String type, Object entry) {
@@ -607,6 +647,7 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        SessionDataBatchPersistTask.shutdown();
     }
 
     /**
@@ -621,23 +662,7 @@ public class SessionDataStore {
         Connection connection = null;
         try {
             connection = IdentityDatabaseUtil.getSessionDBConnection(true);
-            String nonFormattedQuery;
-            String driverName = connection.getMetaData().getDriverName();
-            if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
-                    || driverName.contains(H2_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_MYSQL;
-            } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_DB2SQL;
-            } else if (driverName.contains(MS_SQL_DATABASE)
-                    || driverName.contains(MICROSOFT_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_MSSQL;
-            } else if (driverName.contains(POSTGRESQL_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_POSTGRESQL;
-            } else if (driverName.contains(INFORMIX_DATABASE)) {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_INFOMIXSQL;
-            } else {
-                nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_ORACLE;
-            }
+            String nonFormattedQuery = DELETE_EXPIRED_DATA_TASK.get(DatabaseDialectRegistry.getDialect(connection));
             IdentityDatabaseUtil.commitTransaction(connection);
             return String.format(nonFormattedQuery, deleteChunkSize);
         } catch (SQLException e) {
@@ -694,7 +719,9 @@ public class SessionDataStore {
             }
         }
         if (sessionDataCleanupEnabled) {
-            removeExpiredSessionData(sqlDeleteExpiredDataTask);
+            if (expiryBuckets == null || !removeExpiredBuckets()) {
+                removeExpiredSessionData(sqlDeleteExpiredDataTask);
+            }
         }
         if (tempDataCleanupEnabled && periodicTempDataCleanupEnabled) {
             removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask));
@@ -704,6 +731,49 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Removes the buckets of session data in which every record has expired by dropping their table partitions, and
+     * then the expired records of the legacy and the current bucket partitions. Nothing is done if the partitions
+     * could not be maintained, e.g. when the session store table is not a partitioned MySQL table, or another node
+     * is maintaining them. The regular cleanup removes the expired records in that case.
+     *
+     * @return True if the expired session data was removed.
+     */
+    private boolean removeExpiredBuckets() {
+
+        long currentTime = FrameworkUtils.getCurrentStandardNano();
+        long currentBucket = expiryBuckets.getBucket(currentTime);
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            boolean maintained = expiryBuckets.dropExpiredPartitions(connection, DEFAULT_SESSION_STORE_TABLE_NAME,
+                    currentBucket);
+            IdentityDatabaseUtil.commitTransaction(connection);
+            if (!maintained) {
+                return false;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Dropped the session data partitions of the buckets before: " + currentBucket);
+            }
+            int totalDeletedEntries = 0;
+            int noOfDeletedRecords;
+            do {
+                noOfDeletedRecords = expiryBuckets.removeExpiredData(connection, DEFAULT_SESSION_STORE_TABLE_NAME,
+                        currentBucket, currentTime, deleteChunkSize);
+                totalDeletedEntries += noOfDeletedRecords;
+                // Commit the chunk deletion.
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } while (noOfDeletedRecords >= deleteChunkSize);
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Deleted total of %d expired entries of the current bucket",
+                        totalDeletedEntries));
+            }
+            return true;
+        } catch (SQLException | IdentityRuntimeException e) {
+            log.error("Error while dropping the expired session data partitions. Expired session data would be " +
+                    "removed by the regular cleanup.", e);
+            return false;
+        }
+    }
+
     /**
      * @deprecated This is now run as a part of the {@link #removeExpiredSessionData()} due to a possible deadlock as
      * mentioned in IDENTITY-5131
@@ -737,7 +807,7 @@ public class SessionDataStore {
 
         PreparedStatement preparedStatement = null;
         try {
-            String sqlQuery = getSessionStoreDBQuery(sqlInsertSTORE, type);
+            String sqlQuery = getInsertSTOREQuery(type);
             preparedStatement = connection.prepareStatement(sqlQuery);
             preparedStatement.setString(1, key);
             preparedStatement.setString(2, type);
@@ -746,6 +816,9 @@ public class SessionDataStore {
             preparedStatement.setLong(5, nanoTime);
             preparedStatement.setLong(6, nanoTime + validityPeriodNano);
             preparedStatement.setInt(7, tenantId);
+            if (isExpiryBucketed(type)) {
+                preparedStatement.setLong(8, expiryBuckets.getBucket(nanoTime + validityPeriodNano));
+            }
             preparedStatement.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException | IOException | SessionSerializerException e) {
@@ -785,12 +858,15 @@ public class SessionDataStore {
 
         long timeoutNano = nanoTime + getCleanupTimeout(type, MultitenantConstants.INVALID_TENANT_ID);
         try {
-            preparedStatement = connection.prepareStatement(getSessionStoreDBQuery(sqlInsertDELETE, type));
+            preparedStatement = connection.prepareStatement(getInsertDELETEQuery(type));
             preparedStatement.setString(1, key);
             preparedStatement.setString(2, type);
             preparedStatement.setString(3, OPERATION_DELETE);
             preparedStatement.setLong(4, nanoTime);
             preparedStatement.setLong(5, timeoutNano);
+            if (isExpiryBucketed(type)) {
+                preparedStatement.setLong(6, expiryBuckets.getBucket(timeoutNano));
+            }
             preparedStatement.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (Exception e) {
@@ -805,6 +881,146 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persist a batch of STORE and DELETE operations using a single connection. Operations targeting the same table
+     * are sent to the database as a single JDBC batch. If the batch write fails, the operations are written one by
+     * one so that a single faulty entry does not discard the rest of the batch.
+     *
+     * @param sessionContextDOs Session data operations to be persisted. An operation with a null entry is considered
+     *                          as a DELETE operation.
+     */
+    public void persistSessionDataBatch(Collection<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<SessionContextDO>> storeOperations = new HashMap<>();
+        Map<String, List<SessionContextDO>> deleteOperations = new HashMap<>();
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            String type = sessionContextDO.getType();
+            if (sessionContextDO.getEntry() != null) {
+                storeOperations.computeIfAbsent(getInsertSTOREQuery(type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+            } else if ((tempDataCleanupEnabled && maxTempDataPoolSize > 0 && isTempCache(type)) ||
+                    checkExistingEntryForDeleteOperationInsert) {
+                // These DELETE operations need per entry handling.
+                removeSessionData(sessionContextDO.getKey(), type, sessionContextDO.getNanoTime());
+            } else {
+                deleteOperations.computeIfAbsent(getInsertDELETEQuery(type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+            }
+        }
+        if (storeOperations.isEmpty() && deleteOperations.isEmpty()) {
+            return;
+        }
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+        try {
+            for (Map.Entry<String, List<SessionContextDO>> storeOperation : storeOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(storeOperation.getKey())) {
+                    for (SessionContextDO sessionContextDO : storeOperation.getValue()) {
+                        addStoreOperationToBatch(preparedStatement, sessionContextDO);
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            for (Map.Entry<String, List<SessionContextDO>> deleteOperation : deleteOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(deleteOperation.getKey())) {
+                    for (SessionContextDO sessionContextDO : deleteOperation.getValue()) {
+                        addDeleteOperationToBatch(preparedStatement, sessionContextDO);
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted a batch of " + sessionContextDOs.size() + " session data operations to DB.");
+            }
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while persisting session data batch. Retrying the operations individually.", e);
+            persistSessionDataIndividually(storeOperations, deleteOperations);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Get the runtime statistics of the session data persistence queue.
+     *
+     * @return Session data persistence metrics.
+     */
+    public SessionDataPersistMetrics getSessionDataPersistMetrics() {
+
+        return sessionDataPersistMetrics;
+    }
+
+    private void addStoreOperationToBatch(PreparedStatement preparedStatement, SessionContextDO sessionContextDO)
+            throws SQLException, IOException, SessionSerializerException {
+
+        Object entry = sessionContextDO.getEntry();
+        long validityPeriodNano = 0L;
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(sessionContextDO.getType(), sessionContextDO.getTenantId());
+        }
+        long expiryTime = sessionContextDO.getNanoTime() + validityPeriodNano;
+        preparedStatement.setString(1, sessionContextDO.getKey());
+        preparedStatement.setString(2, sessionContextDO.getType());
+        preparedStatement.setString(3, OPERATION_STORE);
+        setBlobObject(preparedStatement, entry, 4);
+        preparedStatement.setLong(5, sessionContextDO.getNanoTime());
+        preparedStatement.setLong(6, expiryTime);
+        preparedStatement.setInt(7, sessionContextDO.getTenantId());
+        if (isExpiryBucketed(sessionContextDO.getType())) {
+            preparedStatement.setLong(8, expiryBuckets.getBucket(expiryTime));
+        }
+        preparedStatement.addBatch();
+    }
+
+    private void addDeleteOperationToBatch(PreparedStatement preparedStatement, SessionContextDO sessionContextDO)
+            throws SQLException {
+
+        long nanoTime = sessionContextDO.getNanoTime();
+        long expiryTime = nanoTime + getCleanupTimeout(sessionContextDO.getType(),
+                MultitenantConstants.INVALID_TENANT_ID);
+        preparedStatement.setString(1, sessionContextDO.getKey());
+        preparedStatement.setString(2, sessionContextDO.getType());
+        preparedStatement.setString(3, OPERATION_DELETE);
+        preparedStatement.setLong(4, nanoTime);
+        preparedStatement.setLong(5, expiryTime);
+        if (isExpiryBucketed(sessionContextDO.getType())) {
+            preparedStatement.setLong(6, expiryBuckets.getBucket(expiryTime));
+        }
+        preparedStatement.addBatch();
+    }
+
+    private void persistSessionDataIndividually(Map<String, List<SessionContextDO>> storeOperations,
+                                                Map<String, List<SessionContextDO>> deleteOperations) {
+
+        for (List<SessionContextDO> operations : storeOperations.values()) {
+            for (SessionContextDO sessionContextDO : operations) {
+                persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getEntry(),
+                        sessionContextDO.getNanoTime(), sessionContextDO.getTenantId());
+            }
+        }
+        for (List<SessionContextDO> operations : deleteOperations.values()) {
+            for (SessionContextDO sessionContextDO : operations) {
+                removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(),
+                        sessionContextDO.getNanoTime());
+            }
+        }
+    }
+
     /**
      * Removes temporary authn context data from the table if temporary data cleanup is enabled.
      *
@@ -889,12 +1105,8 @@ public class SessionDataStore {
 
         try {
             if (StringUtils.isBlank(sqlDeleteSTORETask)) {
-                String driverName = connection.getMetaData().getDriverName();
-                if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)) {
-                    sqlDeleteSTORETask = SQL_DELETE_STORE_OPERATIONS_TASK_MYSQL;
-                } else {
-                    sqlDeleteSTORETask = SQL_DELETE_STORE_OPERATIONS_TASK;
-                }
+                sqlDeleteSTORETask = DELETE_STORE_OPERATIONS_TASK.get(
+                        DatabaseDialectRegistry.getDialect(connection));
             }
             statement = connection.prepareStatement(sqlDeleteSTORETask);
             statement.execute();
@@ -922,12 +1134,71 @@ public class SessionDataStore {
 
     private String getSessionStoreDBQuery(String query, String type) {
 
-        if ((sessionAndTempDataSeparationEnabled || tempDataCleanupEnabled) && isTempCache(type)) {
+        if (isStoredInTempTable(type)) {
             query = replaceTableName(query);
         }
         return query;
     }
 
+    private boolean isStoredInTempTable(String type) {
+
+        return (sessionAndTempDataSeparationEnabled || tempDataCleanupEnabled) && isTempCache(type);
+    }
+
+    /**
+     * Check whether the expiry bucket is written for the records of the given type. Records of the temporary
+     * session store table are not bucketed.
+     */
+    private boolean isExpiryBucketed(String type) {
+
+        return expiryBuckets != null && !isStoredInTempTable(type);
+    }
+
+    private String getInsertSTOREQuery(String type) {
+
+        return isExpiryBucketed(type) ? SQL_INSERT_STORE_OPERATION_WITH_BUCKET :
+                getSessionStoreDBQuery(sqlInsertSTORE, type);
+    }
+
+    private String getInsertDELETEQuery(String type) {
+
+        return isExpiryBucketed(type) ? SQL_INSERT_DELETE_OPERATION_WITH_BUCKET :
+                getSessionStoreDBQuery(sqlInsertDELETE, type);
+    }
+
+    private SessionDataExpiryBuckets buildExpiryBuckets() {
+
+        int bucketInterval = DEFAULT_EXPIRY_BUCKET_INTERVAL;
+        int partitionsAhead = DEFAULT_EXPIRY_BUCKET_PARTITIONS_AHEAD;
+        try {
+            String bucketIntervalValue = IdentityUtil.getProperty(
+                    "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.ExpiryBuckets.BucketInterval");
+            if (StringUtils.isNotBlank(bucketIntervalValue)) {
+                bucketInterval = Integer.parseInt(bucketIntervalValue);
+            }
+            String partitionsAheadValue = IdentityUtil.getProperty(
+                    "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.ExpiryBuckets.PartitionsAhead");
+            if (StringUtils.isNotBlank(partitionsAheadValue)) {
+                partitionsAhead = Integer.parseInt(partitionsAheadValue);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid session data expiry bucket configurations. Default values would be used.");
+            bucketInterval = DEFAULT_EXPIRY_BUCKET_INTERVAL;
+            partitionsAhead = DEFAULT_EXPIRY_BUCKET_PARTITIONS_AHEAD;
+        }
+        if (bucketInterval <= 0) {
+            log.warn("Invalid session data expiry bucket interval: " + bucketInterval + ". Default value would " +
+                    "be used.");
+            bucketInterval = DEFAULT_EXPIRY_BUCKET_INTERVAL;
+        }
+        boolean dropPartitions = Boolean.parseBoolean(IdentityUtil.getProperty(
+                "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.ExpiryBuckets.DropPartitions"));
+        log.info(String.format("Session data expiry buckets are enabled with a bucket interval of %d minutes. " +
+                "Partition dropping is %s.", bucketInterval, dropPartitions ? "enabled" : "disabled"));
+        return new SessionDataExpiryBuckets(TimeUnit.MINUTES.toNanos(bucketInterval), dropPartitions,
+                partitionsAhead);
+    }
+
     private String replaceTableName(String query) {
 
         query = query.replace(DEFAULT_SESSION_STORE_TABLE_NAME, DEFAULT_TEMP_SESSION_STORE_TABLE_NAME);
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SessionContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ExternalIdPConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedSequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedStepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.AuthenticationGraph;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.OptimizedSessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionAuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedOrgData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.model.FederatedToken;
+import org.wso2.carbon.identity.application.authentication.framework.model.ImpersonatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.model.OptimizedAuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.OptimizedAuthenticatedOrgData;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schema of the framework model classes known to the {@link CompactSessionSerializer}.
+ * Class descriptors of these classes are written as a numeric id and a layout version instead of the full class name
+ * and field layout.
+ * <p>
+ * The ids are positional. New classes must only be appended to the end of the list, and a class must never be
+ * removed or reordered, otherwise rows written with an earlier schema can no longer be read.
+ * <p>
+ * The layout version of a class is derived from its serialized field layout, so it changes whenever a serializable
+ * field of the class is added, removed or retyped. It does not depend on the serialVersionUID, so a class which does
+ * not declare one stays readable as long as its fields are unchanged. Rows written with an earlier layout are read
+ * with the descriptor of that layout, which has to be registered in {@link #PREVIOUS_VERSIONS} before the class is
+ * changed. The descriptor can be obtained with {@link #encodeDescriptor(Class)} on the unchanged class. Fields are
+ * then matched with the usual Java serialization rules for compatible class changes. The layouts of the schema
+ * classes are pinned in SessionSerializerSchemaTest, which fails if a layout changes without the earlier layout
+ * being registered.
+ */
+final class SessionSerializerSchema {
+
+    private static final List<Class<?>> SCHEMA_CLASSES = Collections.unmodifiableList(Arrays.asList(
+            // JDK types commonly found in the session graphs.
+            HashMap.class,
+            LinkedHashMap.class,
+            ConcurrentHashMap.class,
+            ArrayList.class,
+            LinkedList.class,
+            HashSet.class,
+            Boolean.class,
+            Integer.class,
+            Long.class,
+            Number.class,
+            String[].class,
+            // Framework model classes.
+            CacheEntry.class,
+            SessionContextCacheEntry.class,
+            AuthenticationContextCacheEntry.class,
+            MessageContext.class,
+            AuthenticationContext.class,
+            SessionContext.class,
+            OptimizedSessionContext.class,
+            SessionAuthHistory.class,
+            AuthHistory.class,
+            User.class,
+            AuthenticatedUser.class,
+            ImpersonatedUser.class,
+            AuthenticatedIdPData.class,
+            OptimizedAuthenticatedIdPData.class,
+            AuthenticatedOrgData.class,
+            OptimizedAuthenticatedOrgData.class,
+            FederatedToken.class,
+            SequenceConfig.class,
+            OptimizedSequenceConfig.class,
+            StepConfig.class,
+            OptimizedStepConfig.class,
+            AuthenticatorConfig.class,
+            OptimizedAuthenticatorConfig.class,
+            ApplicationConfig.class,
+            OptimizedApplicationConfig.class,
+            ExternalIdPConfig.class,
+            AuthenticationGraph.class,
+            ClaimMapping.class,
+            Claim.class
+    ));
+
+    /**
+     * Base64 encoded descriptors of the earlier layouts of the schema classes, keyed by the schema id.
+     */
+    private static final Map<Integer, List<String>> PREVIOUS_VERSIONS = Collections.emptyMap();
+
+    static final SessionSerializerSchema DEFAULT = new SessionSerializerSchema(SCHEMA_CLASSES, PREVIOUS_VERSIONS);
+
+    private final List<Class<?>> classes;
+    private final Map<String, Integer> classIds = new HashMap<>();
+    private final int[] currentVersions;
+    private final Map<Long, ObjectStreamClass> previousDescriptors = new HashMap<>();
+
+    /**
+     * @param classes          Schema classes in the order of their schema ids.
+     * @param previousVersions Base64 encoded descriptors of the earlier layouts of the schema classes, keyed by the
+     *                         schema id.
+     */
+    SessionSerializerSchema(List<Class<?>> classes, Map<Integer, List<String>> previousVersions) {
+
+        this.classes = new ArrayList<>(classes);
+        this.currentVersions = new int[classes.size()];
+        for (int i = 0; i < classes.size(); i++) {
+            classIds.put(classes.get(i).getName(), i);
+            currentVersions[i] = getVersion(ObjectStreamClass.lookup(classes.get(i)));
+        }
+        for (Map.Entry<Integer, List<String>> entry : previousVersions.entrySet()) {
+            for (String encodedDescriptor : entry.getValue()) {
+                ObjectStreamClass descriptor = decodeDescriptor(encodedDescriptor);
+                previousDescriptors.put(toKey(entry.getKey(), getVersion(descriptor)), descriptor);
+            }
+        }
+    }
+
+    /**
+     * Get the schema id of the given class.
+     *
+     * @param className Fully qualified class name.
+     * @return Schema id or -1 if the class is not part of the schema.
+     */
+    int getClassId(String className) {
+
+        Integer classId = classIds.get(className);
+        return classId == null ? -1 : classId;
+    }
+
+    /**
+     * Get the class registered against the given schema id.
+     *
+     * @param classId Schema id.
+     * @return Registered class or null if the id is unknown.
+     */
+    Class<?> getClass(int classId) {
+
+        if (classId < 0 || classId >= classes.size()) {
+            return null;
+        }
+        return classes.get(classId);
+    }
+
+    /**
+     * Get the layout version of the local class registered against the given schema id.
+     *
+     * @param classId Schema id.
+     * @return Layout version.
+     */
+    int getCurrentVersion(int classId) {
+
+        return currentVersions[classId];
+    }
+
+    /**
+     * Get the descriptor of the given layout version of a schema class.
+     *
+     * @param classId Schema id.
+     * @param version Layout version.
+     * @return Descriptor or null if the layout version is not known to this node.
+     */
+    ObjectStreamClass getDescriptor(int classId, int version) {
+
+        Class<?> schemaClass = getClass(classId);
+        if (schemaClass == null) {
+            return null;
+        }
+        if (version == currentVersions[classId]) {
+            return ObjectStreamClass.lookup(schemaClass);
+        }
+        return previousDescriptors.get(toKey(classId, version));
+    }
+
+    /**
+     * Get the descriptors of all the layouts of a schema class known to this node.
+     *
+     * @param classId Schema id.
+     * @return Descriptor of the current layout followed by the descriptors of the registered earlier layouts.
+     */
+    List<ObjectStreamClass> getDescriptors(int classId) {
+
+        List<ObjectStreamClass> descriptors = new ArrayList<>();
+        Class<?> schemaClass = getClass(classId);
+        if (schemaClass == null) {
+            return descriptors;
+        }
+        descriptors.add(ObjectStreamClass.lookup(schemaClass));
+        for (Map.Entry<Long, ObjectStreamClass> entry : previousDescriptors.entrySet()) {
+            if ((int) (entry.getKey() >>> 32) == classId) {
+                descriptors.add(entry.getValue());
+            }
+        }
+        return descriptors;
+    }
+
+    /**
+     * Encode the descriptor of the current layout of the given class, to be registered as a previous version before
+     * the class is changed.
+     *
+     * @param schemaClass Schema class.
+     * @return Base64 encoded descriptor.
+     */
+    static String encodeDescriptor(Class<?> schemaClass) {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(ObjectStreamClass.lookup(schemaClass));
+        } catch (IOException e) {
+            throw new IllegalStateException("Error while encoding the descriptor of " + schemaClass.getName(), e);
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    private ObjectStreamClass decodeDescriptor(String encodedDescriptor) {
+
+        byte[] bytes = Base64.getDecoder().decode(encodedDescriptor);
+        try (ObjectInputStream ois = new DescriptorInputStream(new ByteArrayInputStream(bytes))) {
+            return (ObjectStreamClass) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Invalid session serializer schema descriptor: " + encodedDescriptor, e);
+        }
+    }
+
+    private static long toKey(int classId, int version) {
+
+        return ((long) classId << 32) | (version & 0xFFFFFFFFL);
+    }
+
+    private static int getVersion(ObjectStreamClass descriptor) {
+
+        int hash = descriptor.getName().hashCode();
+        for (ObjectStreamField field : descriptor.getFields()) {
+            hash = 31 * hash + field.getName().hashCode();
+            hash = 31 * hash + field.getTypeCode();
+            if (field.getTypeString() != null) {
+                hash = 31 * hash + field.getTypeString().hashCode();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Object input stream which resolves schema classes without going through the class loader of the caller.
+     */
+    private class DescriptorInputStream extends ObjectInputStream {
+
+        DescriptorInputStream(InputStream in) throws IOException {
+
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            Class<?> schemaClass = SessionSerializerSchema.this.getClass(getClassId(desc.getName()));
+            if (schemaClass != null) {
+                return schemaClass;
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -417,6 +417,18 @@ public abstract class FrameworkConstants {
         public static final String SESSION_DATA_STORAGE_OPTIMIZATION_ENABLED =
                 "JDBCPersistenceManager.SessionDataPersist.SessionDataStorageOptimization.Enable";
 
+        /**
+         * Configurations used to select the session serializer.
+         */
+        public static final String SESSION_SERIALIZER_TYPE =
+                "JDBCPersistenceManager.SessionDataPersist.SessionSerializer.Type";
+        public static final String SESSION_SERIALIZER_COMPRESSION_ENABLED =
+                "JDBCPersistenceManager.SessionDataPersist.SessionSerializer.Compression.Enable";
+        public static final String SESSION_SERIALIZER_COMPRESSION_THRESHOLD =
+                "JDBCPersistenceManager.SessionDataPersist.SessionSerializer.Compression.Threshold";
+        public static final String COMPACT_SESSION_SERIALIZER = "compact";
+        public static final int DEFAULT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD = 1024;
+
         /**
          * Configuration to enable publishing the active session count in analytics event.
          */
@@ -743,6 +755,18 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE_ENABLE
+                = "AdaptiveAuth.GraalJS.SharedEngine.Enable";
+        public static final String GRAALJS_SOURCE_CACHE_SIZE
+                = "AdaptiveAuth.GraalJS.SharedEngine.SourceCacheSize";
+        public static final int DEFAULT_GRAALJS_SOURCE_CACHE_SIZE = 500;
+        public static final String SCRIPT_CONTEXT_POOL_ENABLE = "AdaptiveAuth.ScriptContextPool.Enable";
+        public static final String SCRIPT_CONTEXT_POOL_MAX_SIZE = "AdaptiveAuth.ScriptContextPool.MaxSize";
+        public static final String SCRIPT_CONTEXT_POOL_MAX_WAIT = "AdaptiveAuth.ScriptContextPool.MaxWait";
+        public static final String SCRIPT_CONTEXT_POOL_IDLE_TIMEOUT = "AdaptiveAuth.ScriptContextPool.IdleTimeout";
+        public static final int DEFAULT_SCRIPT_CONTEXT_POOL_MAX_SIZE = 100;
+        public static final long DEFAULT_SCRIPT_CONTEXT_POOL_MAX_WAIT = 1000L;
+        public static final long DEFAULT_SCRIPT_CONTEXT_POOL_IDLE_TIMEOUT = 300000L;
     }
 
     /**
@@ -109,6 +109,9 @@ import org.wso2.carbon.identity.application.authentication.framework.model.Authe
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticationResult;
 import org.wso2.carbon.identity.application.authentication.framework.model.ImpersonatedUser;
 import org.wso2.carbon.identity.application.authentication.framework.model.OrganizationDiscoveryInput;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompactSessionSerializer;
+import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
+import org.wso2.carbon.identity.application.authentication.framework.store.SessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
 import org.wso2.carbon.identity.application.common.model.Claim;
 import org.wso2.carbon.identity.application.common.model.ClaimConfig;
@@ -211,6 +214,11 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.CONTEXT_PROP_INVALID_EMAIL_USERNAME;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.CREATED_TIMESTAMP;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.AUTHENTICATION_CONTEXT_EXPIRY_VALIDATION;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.COMPACT_SESSION_SERIALIZER;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.DEFAULT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.SESSION_SERIALIZER_COMPRESSION_ENABLED;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.SESSION_SERIALIZER_COMPRESSION_THRESHOLD;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.SESSION_SERIALIZER_TYPE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.SKIP_LOCAL_USER_SEARCH_FOR_AUTHENTICATION_FLOW_HANDLERS;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.USER_SESSION_MAPPING_ENABLED;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.ENABLE_CONFIGURED_IDP_SUB_FOR_FEDERATED_USER_ASSOCIATION;
@@ -3625,6 +3633,34 @@ public class FrameworkUtils {
                 "IDN_AUTH_USER") && isTableExistsInSessionDB("IDN_AUTH_USER_SESSION_MAPPING");
     }
 
+    /**
+     * Create the session serializer selected through the configuration. The Java session serializer is used unless
+     * the compact session serializer is configured.
+     *
+     * @return Configured session serializer.
+     */
+    public static SessionSerializer getConfiguredSessionSerializer() {
+
+        String serializerType = IdentityUtil.getProperty(SESSION_SERIALIZER_TYPE);
+        if (!COMPACT_SESSION_SERIALIZER.equalsIgnoreCase(StringUtils.trim(serializerType))) {
+            return new JavaSessionSerializer();
+        }
+
+        boolean compressionEnabled = Boolean.parseBoolean(
+                IdentityUtil.getProperty(SESSION_SERIALIZER_COMPRESSION_ENABLED));
+        int compressionThreshold = DEFAULT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD;
+        String compressionThresholdValue = IdentityUtil.getProperty(SESSION_SERIALIZER_COMPRESSION_THRESHOLD);
+        if (StringUtils.isNotBlank(compressionThresholdValue)) {
+            try {
+                compressionThreshold = Integer.parseInt(compressionThresholdValue.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid session serializer compression threshold: " + compressionThresholdValue +
+                        ". Default value: " + DEFAULT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD + " will be used.");
+            }
+        }
+        return new CompactSessionSerializer(compressionEnabled, compressionThreshold);
+    }
+
     /**
      * Get the server config for skip user local search during federated authentication flow
      *
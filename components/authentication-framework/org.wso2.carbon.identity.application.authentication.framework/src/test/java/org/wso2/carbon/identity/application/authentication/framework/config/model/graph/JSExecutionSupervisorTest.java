@@ -20,10 +20,17 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.junit.Assert;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.application.authentication.framework.listener.JSExecutionStatisticsAppMgtListener;
 
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.UUID;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
 /**
  * Test class for JSExecutionSupervisor.
  */
@@ -167,4 +174,114 @@ public class JSExecutionSupervisorTest {
             supervisor.shutdown();
         }
     }
+
+    @Test
+    public void testExecutionStatisticsAreRecordedPerServiceProvider() throws InterruptedException {
+
+        JSExecutionSupervisor supervisor = new JSExecutionSupervisor(1, 2000L, 60000000L);
+        try {
+            for (int i = 0; i < 3; i++) {
+                String identifier = UUID.randomUUID().toString();
+                supervisor.monitor(identifier, "dummySP", "dummyTenant", 1000L, 0L);
+                Assert.assertEquals(1, supervisor.getMonitoredExecutionCount());
+                Thread.sleep(10L);
+                JSExecutionMonitorData result = supervisor.completed(identifier);
+                Assert.assertTrue("Total elapsed time should include the previous executions.",
+                        result.getElapsedTime() >= 1010L);
+            }
+            supervisor.monitor(UUID.randomUUID().toString(), "otherSP", "dummyTenant", 0L, 0L);
+
+            JSExecutionStatistics.ServiceProviderStatistics statistics = supervisor.getExecutionStatistics()
+                    .getStatistics("dummySP", "dummyTenant");
+            Assert.assertNotNull(statistics);
+            JSExecutionStatistics.Histogram latency = statistics.getLatencyHistogram();
+            Assert.assertEquals(3, latency.getCount());
+            Assert.assertTrue("Only the time of each execution should be recorded. Max: " + latency.getMax(),
+                    latency.getMax() >= 10L && latency.getMax() < 1000L);
+            Assert.assertEquals(3, statistics.getMemoryHistogram().getCount());
+            Assert.assertNull("Executions in progress should not be recorded.",
+                    supervisor.getExecutionStatistics().getStatistics("otherSP", "dummyTenant"));
+            Assert.assertEquals(1, supervisor.getMonitoredExecutionCount());
+        } finally {
+            supervisor.shutdown();
+        }
+    }
+
+    @Test
+    public void testExecutionStatisticsHistogram() {
+
+        JSExecutionStatistics executionStatistics = new JSExecutionStatistics();
+        for (long elapsedTime = 1; elapsedTime <= 100; elapsedTime++) {
+            executionStatistics.record("dummySP", "dummyTenant", new JSExecutionMonitorData(elapsedTime, 0L),
+                    false);
+        }
+        executionStatistics.record("dummySP", "dummyTenant", new JSExecutionMonitorData(9000L, 0L), false);
+
+        JSExecutionStatistics.ServiceProviderStatistics statistics =
+                executionStatistics.getStatistics("dummySP", "dummyTenant");
+        JSExecutionStatistics.Histogram latency = statistics.getLatencyHistogram();
+        long[] counts = latency.getBucketCounts();
+        Assert.assertEquals(latency.getBucketBounds().length + 1, counts.length);
+        Assert.assertEquals(1, counts[0]);
+        Assert.assertEquals(1, counts[counts.length - 1]);
+        Assert.assertEquals(101, latency.getCount());
+        Assert.assertEquals(9000L, latency.getMax());
+        Assert.assertEquals(50L, latency.getPercentile(49));
+        Assert.assertEquals(100L, latency.getPercentile(99));
+        Assert.assertEquals(9000L, latency.getPercentile(100));
+        Assert.assertEquals(0, statistics.getMemoryHistogram().getCount());
+
+        executionStatistics.clear("dummySP", "dummyTenant");
+        Assert.assertTrue(executionStatistics.getAllStatistics().isEmpty());
+    }
+
+    @Test
+    public void testExecutionStatisticsArePublishedOverJmx() throws Exception {
+
+        JSExecutionStatistics executionStatistics = new JSExecutionStatistics();
+        executionStatistics.record("dummySP", "dummyTenant", new JSExecutionMonitorData(20L, 1024L), false);
+        executionStatistics.registerMBean();
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(JSExecutionStatistics.MBEAN_NAME);
+        try {
+            CompositeData[] published =
+                    (CompositeData[]) mBeanServer.getAttribute(objectName, "ServiceProviderStatistics");
+            Assert.assertEquals(1, published.length);
+            Assert.assertEquals("dummySP", published[0].get("serviceProvider"));
+            Assert.assertEquals("dummyTenant", published[0].get("tenantDomain"));
+            CompositeData latency = (CompositeData) published[0].get("latencyHistogram");
+            Assert.assertEquals(1L, latency.get("count"));
+            Assert.assertEquals(20L, latency.get("max"));
+
+            Object percentile = mBeanServer.invoke(objectName, "getLatencyPercentile",
+                    new Object[]{"dummySP", "dummyTenant", 100d},
+                    new String[]{String.class.getName(), String.class.getName(), double.class.getName()});
+            Assert.assertEquals(executionStatistics.getLatencyPercentile("dummySP", "dummyTenant", 100), percentile);
+        } finally {
+            executionStatistics.unregisterMBean();
+        }
+        Assert.assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    @Test
+    public void testExecutionStatisticsAreClearedOnApplicationDeletion() throws Exception {
+
+        JSExecutionSupervisor supervisor = new JSExecutionSupervisor(1, 0L);
+        JSExecutionSupervisor previousSupervisor = FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor();
+        FrameworkServiceDataHolder.getInstance().setJsExecutionSupervisor(supervisor);
+        try {
+            JSExecutionStatistics executionStatistics = supervisor.getExecutionStatistics();
+            executionStatistics.record("dummySP", "dummyTenant", new JSExecutionMonitorData(20L, 0L), false);
+            executionStatistics.record("otherSP", "dummyTenant", new JSExecutionMonitorData(20L, 0L), false);
+
+            Assert.assertTrue(new JSExecutionStatisticsAppMgtListener()
+                    .doPostDeleteApplication("dummySP", "dummyTenant", "admin"));
+
+            Assert.assertNull(executionStatistics.getStatistics("dummySP", "dummyTenant"));
+            Assert.assertNotNull(executionStatistics.getStatistics("otherSP", "dummyTenant"));
+        } finally {
+            FrameworkServiceDataHolder.getInstance().setJsExecutionSupervisor(previousSupervisor);
+            supervisor.shutdown();
+        }
+    }
 }
@@ -18,6 +18,9 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.graalvm.polyglot.Context;
 import org.mockito.Mock;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeTest;
@@ -28,6 +31,7 @@ import org.wso2.carbon.identity.application.authentication.framework.FederatedAp
 import org.wso2.carbon.identity.application.authentication.framework.LocalApplicationAuthenticator;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.GraalSourceCache;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
@@ -44,19 +48,40 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 @Test
 public class JsGraalGraphBuilderTest extends AbstractFrameworkTest {
 
+    private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderTest.class);
+    private static final String CONDITIONAL_AUTH_SCRIPT = "var rolesToStepUp = ['admin', 'manager'];\n" +
+            "var onLoginRequest = function(context) {\n" +
+            "    executeStep(1, {\n" +
+            "        onSuccess: function (context) {\n" +
+            "            var user = context.currentKnownSubject;\n" +
+            "            var roles = user != null ? user.roles : [];\n" +
+            "            var stepUp = roles.some(function (role) {\n" +
+            "                return rolesToStepUp.indexOf(role) >= 0;\n" +
+            "            });\n" +
+            "            if (stepUp) {\n" +
+            "                executeStep(2);\n" +
+            "            }\n" +
+            "        }\n" +
+            "    });\n" +
+            "};";
+
     private JsGraalGraphBuilderFactory jsGraphBuilderFactory;
     @Mock
     private LocalApplicationAuthenticator localApplicationAuthenticator;
@@ -142,6 +167,158 @@ public class JsGraalGraphBuilderTest extends AbstractFrameworkTest {
         assertTrue(firstStep.getNext() instanceof DynamicDecisionNode);
     }
 
+    @Test
+    public void testCreateJavascriptWithSharedEngine() throws Exception {
+
+        JsGraalGraphBuilderFactory sharedEngineFactory = new JsGraalGraphBuilderFactory();
+        sharedEngineFactory.enableSharedEngine(10);
+        try {
+            ServiceProvider sp1 = getTestServiceProvider("js-sp-1.xml");
+            for (int i = 0; i < 2; i++) {
+                AuthenticationGraph graph = buildGraph(sharedEngineFactory, getAuthenticationContext(sp1));
+                assertTrue(graph.isBuildSuccessful());
+                assertTrue(graph.getStartNode() instanceof StepConfigGraphNode);
+                StepConfigGraphNode firstStep = (StepConfigGraphNode) graph.getStartNode();
+                assertTrue(firstStep.getNext() instanceof DynamicDecisionNode);
+            }
+            assertTrue(sharedEngineFactory.isSharedEngineEnabled());
+            assertTrue(GraalSourceCache.getInstance().getHitCount() > 0);
+        } finally {
+            sharedEngineFactory.shutdown();
+        }
+        assertFalse(GraalSourceCache.getInstance().isEnabled());
+    }
+
+    @Test
+    public void testRepeatedLoginsReuseCachedSourcesWithSharedEngine() throws Exception {
+
+        JsGraalGraphBuilderFactory sharedEngineFactory = new JsGraalGraphBuilderFactory();
+        sharedEngineFactory.enableSharedEngine(10);
+        try {
+            GraalSourceCache sourceCache = GraalSourceCache.getInstance();
+            runLogins(sharedEngineFactory, 1);
+            int cachedSources = sourceCache.getSize();
+            long missCount = sourceCache.getMissCount();
+            long hitCount = sourceCache.getHitCount();
+
+            runLogins(sharedEngineFactory, 10);
+
+            // Every source evaluated after the first login is served from the cache.
+            assertTrue(cachedSources > 0);
+            assertEquals(sourceCache.getSize(), cachedSources);
+            assertEquals(sourceCache.getMissCount(), missCount);
+            assertTrue(sourceCache.getHitCount() >= hitCount + 10);
+        } finally {
+            sharedEngineFactory.shutdown();
+        }
+    }
+
+    @Test
+    public void testPooledContextIsReusedForScriptsWithGlobalVariables() throws Exception {
+
+        JsGraalGraphBuilderFactory pooledFactory = new JsGraalGraphBuilderFactory();
+        pooledFactory.enableContextPool(1, 1000, 0);
+        try {
+            runLogins(pooledFactory, 5);
+
+            ScriptContextPool<Context> pool = pooledFactory.getContextPool();
+            assertEquals(pool.getCreatedCount(), 1);
+            assertEquals(pool.getResetFailureCount(), 0);
+            assertEquals(pool.getIdleCount(), 1);
+        } finally {
+            pooledFactory.shutdown();
+        }
+    }
+
+    @Test
+    public void testPooledContextIsResetOnReturn() {
+
+        JsGraalGraphBuilderFactory pooledFactory = new JsGraalGraphBuilderFactory();
+        pooledFactory.enableContextPool(1, 1000, 0);
+        try {
+            ScriptContextPool<Context> pool = pooledFactory.getContextPool();
+            ScriptContextPool.PooledContext<Context> pooledContext = pool.borrow("sp");
+            Context context = pooledContext.get();
+            context.getBindings("js").putMember("hostValue", "value");
+            context.eval("js", CONDITIONAL_AUTH_SCRIPT + "function helper() { return 1; }");
+            pool.release(pooledContext);
+
+            pooledContext = pool.borrow("sp");
+            assertSame(pooledContext.get(), context);
+            assertEquals(context.eval("js", "typeof hostValue").asString(), "undefined");
+            assertEquals(context.eval("js", "typeof rolesToStepUp").asString(), "undefined");
+            assertEquals(context.eval("js", "typeof onLoginRequest").asString(), "undefined");
+            assertEquals(context.eval("js", "typeof helper").asString(), "undefined");
+            // The script can be evaluated again in the reused context.
+            context.eval("js", CONDITIONAL_AUTH_SCRIPT);
+            pool.release(pooledContext);
+            assertEquals(pool.getResetFailureCount(), 0);
+
+            // Global let and const declarations cannot be declared again, hence the context is not reused.
+            pooledContext = pool.borrow("sp");
+            pooledContext.get().eval("js", "const limit = 1; let attempts = 0;");
+            pool.release(pooledContext);
+            assertEquals(pool.getResetFailureCount(), 1);
+
+            pooledContext = pool.borrow("sp");
+            assertNotSame(pooledContext.get(), context);
+            pooledContext.get().eval("js", "const limit = 1; let attempts = 0;");
+            pool.release(pooledContext);
+        } finally {
+            pooledFactory.shutdown();
+        }
+    }
+
+    /**
+     * Compares the login throughput of a typical conditional authentication script when each context has its own
+     * engine and when the contexts share an engine. Every login is asserted to build successfully in both modes. The
+     * timings are only logged, since a threshold would depend on the build machine.
+     */
+    @Test
+    public void testLoginThroughputWithSharedEngine() throws Exception {
+
+        int iterations = 200;
+        JsGraalGraphBuilderFactory sharedEngineFactory = new JsGraalGraphBuilderFactory();
+        sharedEngineFactory.enableSharedEngine(10);
+        try {
+            // Warm up both modes before measuring.
+            runLogins(jsGraphBuilderFactory, iterations / 10);
+            runLogins(sharedEngineFactory, iterations / 10);
+
+            long perContextEngineTime = runLogins(jsGraphBuilderFactory, iterations);
+            long sharedEngineTime = runLogins(sharedEngineFactory, iterations);
+
+            LOG.info(String.format("Built the authentication graph of a conditional authentication script %d " +
+                    "times. Engine per context: %.1f logins/s, shared engine: %.1f logins/s.", iterations,
+                    getThroughput(iterations, perContextEngineTime), getThroughput(iterations, sharedEngineTime)));
+        } finally {
+            sharedEngineFactory.shutdown();
+        }
+    }
+
+    private long runLogins(JsGraalGraphBuilderFactory factory, int iterations) throws Exception {
+
+        ServiceProvider sp1 = getTestServiceProvider("js-sp-1.xml");
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertTrue(buildGraph(factory, getAuthenticationContext(sp1)).isBuildSuccessful());
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    private double getThroughput(int iterations, long timeNanos) {
+
+        return iterations * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(timeNanos, 1);
+    }
+
+    private AuthenticationGraph buildGraph(JsGraalGraphBuilderFactory factory, AuthenticationContext context) {
+
+        Map<Integer, StepConfig> stepConfigMap = new HashMap<>();
+        stepConfigMap.put(1, new StepConfig());
+        stepConfigMap.put(2, new StepConfig());
+        return factory.createBuilder(context, stepConfigMap).createWith(CONDITIONAL_AUTH_SCRIPT).build();
+    }
+
     @Test(dataProvider = "filterOptionsDataProvider")
     public void testFilterOptions(Map<String, Map<String, String>> options, StepConfig stepConfig,
                                   int expectedStepsAfterFilter) throws Exception {
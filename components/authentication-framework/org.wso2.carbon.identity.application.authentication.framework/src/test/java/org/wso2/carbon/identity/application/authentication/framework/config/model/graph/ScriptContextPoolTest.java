@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link ScriptContextPool}.
+ */
+public class ScriptContextPoolTest {
+
+    private static final String TENANT_1 = "tenant1.com";
+    private static final String TENANT_2 = "tenant2.com";
+
+    @Test
+    public void testContextIsReusedWithinPartition() {
+
+        TestLifecycle lifecycle = new TestLifecycle();
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 2, 100, 0, lifecycle);
+
+        ScriptContextPool.PooledContext<TestContext> first = pool.borrow(TENANT_1);
+        TestContext context = first.get();
+        context.state = "dirty";
+        assertTrue(first.isPooled());
+        assertEquals(pool.getActiveCount(), 1);
+        pool.release(first);
+
+        ScriptContextPool.PooledContext<TestContext> second = pool.borrow(TENANT_1);
+        assertSame(second.get(), context);
+        assertEquals(second.get().state, null, "Context should be reset when returned.");
+        pool.release(second);
+
+        assertEquals(pool.getCreatedCount(), 1);
+        assertEquals(pool.getBorrowCount(), 2);
+        assertEquals(pool.getIdleCount(), 1);
+        assertEquals(pool.getActiveCount(), 0);
+        assertEquals(lifecycle.resetCount.get(), 2);
+    }
+
+    @Test
+    public void testContextIsNotSharedAcrossPartitions() {
+
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 2, 100, 0, new TestLifecycle());
+
+        ScriptContextPool.PooledContext<TestContext> first = pool.borrow(TENANT_1);
+        TestContext context = first.get();
+        pool.release(first);
+
+        ScriptContextPool.PooledContext<TestContext> second = pool.borrow(TENANT_2);
+        assertNotSame(second.get(), context);
+        pool.release(second);
+        assertEquals(pool.getCreatedCount(), 2);
+        assertEquals(pool.getIdleCount(), 2);
+    }
+
+    @Test
+    public void testContextIsDestroyedWhenResetFails() {
+
+        TestLifecycle lifecycle = new TestLifecycle();
+        lifecycle.resetResult = false;
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 2, 100, 0, lifecycle);
+
+        ScriptContextPool.PooledContext<TestContext> borrowed = pool.borrow(TENANT_1);
+        pool.release(borrowed);
+
+        assertTrue(borrowed.get().destroyed);
+        assertEquals(pool.getIdleCount(), 0);
+        assertEquals(pool.getResetFailureCount(), 1);
+        assertNotSame(pool.borrow(TENANT_1).get(), borrowed.get());
+    }
+
+    @Test
+    public void testReleaseIsIdempotent() {
+
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 1, 100, 0, new TestLifecycle());
+
+        ScriptContextPool.PooledContext<TestContext> borrowed = pool.borrow(TENANT_1);
+        pool.release(borrowed);
+        pool.release(borrowed);
+
+        assertEquals(pool.getIdleCount(), 1);
+        assertEquals(pool.getActiveCount(), 0);
+    }
+
+    @Test
+    public void testExhaustedPoolGivesContextOutsidePool() {
+
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 1, 10, 0, new TestLifecycle());
+
+        ScriptContextPool.PooledContext<TestContext> first = pool.borrow(TENANT_1);
+        ScriptContextPool.PooledContext<TestContext> second = pool.borrow(TENANT_1);
+        assertTrue(first.isPooled());
+        assertFalse(second.isPooled());
+        assertEquals(pool.getWaitCount(), 1);
+        assertEquals(pool.getTimeoutCount(), 1);
+        assertTrue(pool.getMaxWaitMillis() >= 0);
+
+        assertEquals(pool.getOverflowCount(), 1);
+
+        pool.release(second);
+        assertTrue(second.get().destroyed);
+        assertEquals(pool.getOverflowCount(), 0);
+        assertEquals(pool.getActiveCount(), 1);
+        pool.release(first);
+        assertEquals(pool.getIdleCount(), 1);
+        assertEquals(pool.getActiveCount(), 0);
+    }
+
+    @Test
+    public void testBorrowIsRejectedWhenOverflowIsExhausted() {
+
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 1, 10, 0, new TestLifecycle());
+
+        ScriptContextPool.PooledContext<TestContext> pooled = pool.borrow(TENANT_1);
+        ScriptContextPool.PooledContext<TestContext> overflow = pool.borrow(TENANT_1);
+        try {
+            pool.borrow(TENANT_1);
+            fail("Borrowing should fail when the pooled and overflow contexts are in use.");
+        } catch (ScriptContextPool.ContextPoolExhaustedException e) {
+            // Expected.
+        }
+        assertEquals(pool.getRejectedCount(), 1);
+
+        pool.release(overflow);
+        ScriptContextPool.PooledContext<TestContext> nextOverflow = pool.borrow(TENANT_1);
+        assertFalse(nextOverflow.isPooled());
+        pool.release(nextOverflow);
+        pool.release(pooled);
+        assertEquals(pool.getOverflowCount(), 0);
+        assertEquals(pool.getActiveCount(), 0);
+    }
+
+    @Test
+    public void testWaitingBorrowerGetsReturnedContext() throws Exception {
+
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 1, 5000, 0, new TestLifecycle());
+        ScriptContextPool.PooledContext<TestContext> first = pool.borrow(TENANT_1);
+
+        List<ScriptContextPool.PooledContext<TestContext>> borrowed = new ArrayList<>();
+        Thread waiter = new Thread(() -> borrowed.add(pool.borrow(TENANT_1)));
+        waiter.start();
+        while (pool.getWaitCount() == 0 && waiter.isAlive()) {
+            Thread.sleep(5);
+        }
+        pool.release(first);
+        waiter.join(5000);
+
+        assertEquals(borrowed.size(), 1);
+        assertTrue(borrowed.get(0).isPooled());
+        assertSame(borrowed.get(0).get(), first.get());
+        assertEquals(pool.getTimeoutCount(), 0);
+        pool.release(borrowed.get(0));
+    }
+
+    @Test
+    public void testIdleContextsAreEvicted() throws Exception {
+
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 2, 100, 10, new TestLifecycle());
+
+        ScriptContextPool.PooledContext<TestContext> borrowed = pool.borrow(TENANT_1);
+        pool.release(borrowed);
+        assertEquals(pool.getIdleCount(), 1);
+
+        Thread.sleep(50);
+        pool.evictIdleContexts();
+        assertEquals(pool.getIdleCount(), 0);
+        assertEquals(pool.getEvictedCount(), 1);
+        assertTrue(borrowed.get().destroyed);
+    }
+
+    @Test
+    public void testIdleContextsAreBounded() {
+
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 2, 100, 0, new TestLifecycle());
+
+        ScriptContextPool.PooledContext<TestContext> first = pool.borrow(TENANT_1);
+        ScriptContextPool.PooledContext<TestContext> second = pool.borrow(TENANT_2);
+        pool.release(first);
+        pool.release(second);
+        ScriptContextPool.PooledContext<TestContext> third = pool.borrow("tenant3.com");
+        pool.release(third);
+
+        assertEquals(pool.getIdleCount(), 2);
+        assertEquals(pool.getEvictedCount(), 1);
+        assertTrue(first.get().destroyed, "Oldest idle context should be evicted.");
+        assertFalse(second.get().destroyed);
+    }
+
+    @Test
+    public void testClosedPoolDestroysContexts() {
+
+        ScriptContextPool<TestContext> pool = new ScriptContextPool<>("test", 2, 100, 0, new TestLifecycle());
+
+        ScriptContextPool.PooledContext<TestContext> idle = pool.borrow(TENANT_1);
+        ScriptContextPool.PooledContext<TestContext> active = pool.borrow(TENANT_1);
+        pool.release(idle);
+        pool.close();
+
+        assertTrue(idle.get().destroyed);
+        pool.release(active);
+        assertTrue(active.get().destroyed);
+        assertEquals(pool.getIdleCount(), 0);
+
+        ScriptContextPool.PooledContext<TestContext> afterClose = pool.borrow(TENANT_1);
+        assertFalse(afterClose.isPooled());
+    }
+
+    private static class TestContext {
+
+        private String state;
+        private boolean destroyed;
+    }
+
+    private static class TestLifecycle implements ScriptContextPool.ContextLifecycle<TestContext> {
+
+        private final AtomicInteger resetCount = new AtomicInteger();
+        private boolean resetResult = true;
+
+        @Override
+        public TestContext create() {
+
+            return new TestContext();
+        }
+
+        @Override
+        public boolean reset(TestContext context) {
+
+            resetCount.incrementAndGet();
+            context.state = null;
+            return resetResult;
+        }
+
+        @Override
+        public void destroy(TestContext context) {
+
+            context.destroyed = true;
+        }
+    }
+}
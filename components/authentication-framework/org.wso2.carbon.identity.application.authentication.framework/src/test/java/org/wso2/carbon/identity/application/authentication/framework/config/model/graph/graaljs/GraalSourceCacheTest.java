@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Source;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link GraalSourceCache}.
+ */
+public class GraalSourceCacheTest {
+
+    private static final String SCRIPT = "var onLoginRequest = function(context) { executeStep(1); };";
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    @AfterMethod
+    public void tearDown() {
+
+        GraalSourceCache.getInstance().disable();
+    }
+
+    @Test
+    public void testDisabledCacheBuildsNewSource() {
+
+        GraalSourceCache sourceCache = GraalSourceCache.getInstance();
+        sourceCache.disable();
+
+        Source source = sourceCache.getSource(TENANT_DOMAIN, SCRIPT);
+        assertFalse(sourceCache.isEnabled());
+        assertNotSame(sourceCache.getSource(TENANT_DOMAIN, SCRIPT), source);
+        assertEquals(source.getCharacters().toString(), SCRIPT);
+        assertEquals(sourceCache.getSize(), 0);
+    }
+
+    @Test
+    public void testSourceIsCachedPerTenant() {
+
+        GraalSourceCache sourceCache = GraalSourceCache.getInstance();
+        sourceCache.enable(10);
+
+        Source source = sourceCache.getSource(TENANT_DOMAIN, SCRIPT);
+        assertTrue(sourceCache.isEnabled());
+        assertSame(sourceCache.getSource(TENANT_DOMAIN, SCRIPT), source);
+        assertNotSame(sourceCache.getSource("wso2.com", SCRIPT), source);
+        assertNotSame(sourceCache.getSource(TENANT_DOMAIN, SCRIPT + " "), source);
+        assertEquals(sourceCache.getSize(), 3);
+        assertEquals(sourceCache.getHitCount(), 1);
+        assertEquals(sourceCache.getMissCount(), 3);
+    }
+
+    @Test
+    public void testEqualScriptInstanceHitsCache() {
+
+        GraalSourceCache sourceCache = GraalSourceCache.getInstance();
+        sourceCache.enable(10);
+
+        Source source = sourceCache.getSource(TENANT_DOMAIN, "(" + SCRIPT + ")");
+        // A script built again for the next evaluation is an equal but different string instance.
+        assertSame(sourceCache.getSource(TENANT_DOMAIN, new StringBuilder("(").append(SCRIPT).append(")")
+                .toString()), source);
+        assertEquals(sourceCache.getHitCount(), 1);
+        assertEquals(sourceCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSourceIsEvicted() {
+
+        GraalSourceCache sourceCache = GraalSourceCache.getInstance();
+        sourceCache.enable(2);
+
+        Source first = sourceCache.getSource(TENANT_DOMAIN, "var a = 1;");
+        Source second = sourceCache.getSource(TENANT_DOMAIN, "var b = 2;");
+        // Access the first source so that the second one becomes the least recently used.
+        assertSame(sourceCache.getSource(TENANT_DOMAIN, "var a = 1;"), first);
+        sourceCache.getSource(TENANT_DOMAIN, "var c = 3;");
+
+        assertEquals(sourceCache.getSize(), 2);
+        assertSame(sourceCache.getSource(TENANT_DOMAIN, "var a = 1;"), first);
+        assertNotSame(sourceCache.getSource(TENANT_DOMAIN, "var b = 2;"), second);
+    }
+
+    @Test
+    public void testEnableWithNonPositiveSizeDisablesCache() {
+
+        GraalSourceCache sourceCache = GraalSourceCache.getInstance();
+        sourceCache.enable(10);
+        sourceCache.enable(0);
+
+        assertFalse(sourceCache.isEnabled());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.openjdk.nashorn;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.ScriptContextPool;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+
+import javax.script.ScriptEngine;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for the script engine pool of {@link JsOpenJdkNashornGraphBuilderFactory}.
+ */
+@WithCarbonHome
+public class JsOpenJdkNashornGraphBuilderFactoryTest {
+
+    private static final String SCRIPT = "var rolesToStepUp = ['admin'];\n" +
+            "var attempts = 0;\n" +
+            "function helper() { return attempts; }\n" +
+            "var onLoginRequest = function(context) { executeStep(1); };\n" +
+            "Object.prototype.leaked = 'leaked';";
+
+    private JsOpenJdkNashornGraphBuilderFactory factory;
+
+    @BeforeMethod
+    public void setUp() {
+
+        factory = new JsOpenJdkNashornGraphBuilderFactory();
+        factory.init();
+        factory.enableEnginePool(1, 1000, 0);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        factory.shutdown();
+    }
+
+    @Test
+    public void testPooledEngineIsResetOnReturn() throws Exception {
+
+        ScriptContextPool<ScriptEngine> pool = factory.getEnginePool();
+        ScriptContextPool.PooledContext<ScriptEngine> pooledEngine = pool.borrow("");
+        ScriptEngine engine = pooledEngine.get();
+        engine.eval(SCRIPT);
+        pool.release(pooledEngine);
+
+        pooledEngine = pool.borrow("");
+        assertSame(pooledEngine.get(), engine);
+        // Variables of the script and changes made to the built-in objects are discarded with the global object.
+        assertEquals(engine.eval("[typeof rolesToStepUp, typeof attempts, typeof helper, typeof onLoginRequest, " +
+                "typeof ({}).leaked].join()"), "undefined,undefined,undefined,undefined,undefined");
+        engine.eval(SCRIPT);
+        assertEquals(engine.eval("typeof onLoginRequest"), "function");
+        assertEquals(engine.eval("({}).leaked"), "leaked");
+        pool.release(pooledEngine);
+
+        assertEquals(pool.getCreatedCount(), 1);
+        assertEquals(pool.getResetFailureCount(), 0);
+    }
+}
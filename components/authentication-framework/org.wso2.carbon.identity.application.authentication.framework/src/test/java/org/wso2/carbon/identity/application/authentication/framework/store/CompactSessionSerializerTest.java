@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CompactSessionSerializer}.
+ */
+public class CompactSessionSerializerTest {
+
+    private static final String IDP_NAME = "LOCAL";
+    private static final String APP_NAME = "travelocity.com";
+    private static final List<Class<?>> VERSIONED_SCHEMA_CLASSES = Arrays.asList(HashMap.class, VersionedModel.class);
+    private static final int VERSIONED_MODEL_CLASS_ID = 1;
+
+    /*
+     * A HashMap holding a VersionedModel under the key "model", written before the tenantDomain field was added to
+     * VersionedModel, and the descriptor of VersionedModel at that time.
+     */
+    private static final String ROW_WRITTEN_BEFORE_MODEL_CHANGE =
+            "V1MBAKztAAVzcgEAANbhHr14cD9AAAAAAAAMdwgAAAAQAAAAAXQABW1vZGVsc3IBAAEupDXxeHAAAAADdAAEam9obng=";
+    private static final String DESCRIPTOR_BEFORE_MODEL_CHANGE =
+            "rO0ABXIAb29yZy53c28yLmNhcmJvbi5pZGVudGl0eS5hcHBsaWNhdGlvbi5hdXRoZW50aWNhdGlvbi5mcmFtZXdvcmsuc3RvcmUuQ2" +
+            "9tcGFjdFNlc3Npb25TZXJpYWxpemVyVGVzdCRWZXJzaW9uZWRNb2RlbAAAAAAAAAABAgACSQAFY291bnRMAARuYW1ldAASTGphdmEv" +
+            "bGFuZy9TdHJpbmc7eHA=";
+
+    @DataProvider
+    public Object[][] getSerializers() {
+
+        return new Object[][]{
+                {new CompactSessionSerializer()},
+                {new CompactSessionSerializer(true, 0)},
+        };
+    }
+
+    @Test(dataProvider = "getSerializers")
+    public void testRoundTrip(CompactSessionSerializer serializer) throws Exception {
+
+        SessionContext sessionContext = buildSessionContext();
+
+        Object deserialized = serializer.deSerializeSessionObject(serializer.serializeSessionObject(sessionContext));
+
+        assertSessionContext((SessionContext) deserialized);
+    }
+
+    @Test
+    public void testReadJavaSerializedObject() throws Exception {
+
+        InputStream javaSerialized = new JavaSessionSerializer().serializeSessionObject(buildSessionContext());
+
+        Object deserialized = new CompactSessionSerializer(true, 0).deSerializeSessionObject(javaSerialized);
+
+        assertSessionContext((SessionContext) deserialized);
+    }
+
+    @Test
+    public void testSerializedSizeIsSmallerThanJavaSerialization() throws Exception {
+
+        SessionContext sessionContext = buildSessionContext();
+
+        int javaSize = new JavaSessionSerializer().serializeSessionObject(sessionContext).available();
+        int compactSize = new CompactSessionSerializer().serializeSessionObject(sessionContext).available();
+        int compressedSize = new CompactSessionSerializer(true, 0).serializeSessionObject(sessionContext).available();
+
+        assertTrue(compactSize < javaSize, "Compact size: " + compactSize + ", Java size: " + javaSize);
+        assertTrue(compressedSize < compactSize, "Compressed size: " + compressedSize + ", Compact size: " +
+                compactSize);
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testUnsupportedFormatVersion() throws Exception {
+
+        byte[] serialized = readAll(new CompactSessionSerializer().serializeSessionObject(buildSessionContext()));
+        serialized[2] = (byte) (CompactSessionSerializer.FORMAT_VERSION + 1);
+
+        new CompactSessionSerializer().deSerializeSessionObject(new ByteArrayInputStream(serialized));
+    }
+
+    @Test
+    public void testReadObjectWrittenBeforeModelChange() throws Exception {
+
+        SessionSerializerSchema schema = new SessionSerializerSchema(VERSIONED_SCHEMA_CLASSES,
+                Collections.singletonMap(VERSIONED_MODEL_CLASS_ID,
+                        Collections.singletonList(DESCRIPTOR_BEFORE_MODEL_CHANGE)));
+
+        Map<?, ?> deserialized = (Map<?, ?>) new CompactSessionSerializer(false, 0, schema)
+                .deSerializeSessionObject(new ByteArrayInputStream(
+                        Base64.getDecoder().decode(ROW_WRITTEN_BEFORE_MODEL_CHANGE)));
+
+        VersionedModel model = (VersionedModel) deserialized.get("model");
+        assertEquals(model.name, "john");
+        assertEquals(model.count, 3);
+        assertNull(model.tenantDomain);
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testReadObjectWithUnknownClassLayout() throws Exception {
+
+        SessionSerializerSchema schema = new SessionSerializerSchema(VERSIONED_SCHEMA_CLASSES,
+                Collections.emptyMap());
+
+        new CompactSessionSerializer(false, 0, schema).deSerializeSessionObject(new ByteArrayInputStream(
+                Base64.getDecoder().decode(ROW_WRITTEN_BEFORE_MODEL_CHANGE)));
+    }
+
+    @Test
+    public void testRoundTripWithCurrentClassLayout() throws Exception {
+
+        SessionSerializerSchema schema = new SessionSerializerSchema(VERSIONED_SCHEMA_CLASSES,
+                Collections.singletonMap(VERSIONED_MODEL_CLASS_ID,
+                        Collections.singletonList(DESCRIPTOR_BEFORE_MODEL_CHANGE)));
+        CompactSessionSerializer serializer = new CompactSessionSerializer(false, 0, schema);
+        VersionedModel model = new VersionedModel();
+        model.name = "john";
+        model.count = 3;
+        model.tenantDomain = "carbon.super";
+
+        VersionedModel deserialized = (VersionedModel) serializer.deSerializeSessionObject(
+                serializer.serializeSessionObject(model));
+
+        assertEquals(deserialized.name, "john");
+        assertEquals(deserialized.count, 3);
+        assertEquals(deserialized.tenantDomain, "carbon.super");
+    }
+
+    private SessionContext buildSessionContext() {
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName("john");
+        authenticatedUser.setTenantDomain("carbon.super");
+        authenticatedUser.setUserStoreDomain("PRIMARY");
+        authenticatedUser.setAuthenticatedSubjectIdentifier("john@carbon.super");
+        Map<ClaimMapping, String> userAttributes = new HashMap<>();
+        userAttributes.put(ClaimMapping.build("http://wso2.org/claims/emailaddress",
+                "http://wso2.org/claims/emailaddress", null, true), "john@wso2.com");
+        userAttributes.put(ClaimMapping.build("http://wso2.org/claims/givenname",
+                "http://wso2.org/claims/givenname", null, true), "John");
+        authenticatedUser.setUserAttributes(userAttributes);
+
+        AuthenticatorConfig authenticatorConfig = new AuthenticatorConfig();
+        authenticatorConfig.setName("BasicAuthenticator");
+        authenticatorConfig.setEnabled(true);
+
+        StepConfig stepConfig = new StepConfig();
+        stepConfig.setOrder(1);
+        stepConfig.setAuthenticatedUser(authenticatedUser);
+        stepConfig.getAuthenticatorList().add(authenticatorConfig);
+
+        SequenceConfig sequenceConfig = new SequenceConfig();
+        sequenceConfig.setName(APP_NAME);
+        sequenceConfig.setApplicationId(APP_NAME);
+        sequenceConfig.setAuthenticatedUser(authenticatedUser);
+        sequenceConfig.getStepMap().put(1, stepConfig);
+
+        AuthenticatedIdPData authenticatedIdPData = new AuthenticatedIdPData();
+        authenticatedIdPData.setIdpName(IDP_NAME);
+        authenticatedIdPData.setUser(authenticatedUser);
+        authenticatedIdPData.addAuthenticator(authenticatorConfig);
+
+        SessionContext sessionContext = new SessionContext();
+        sessionContext.getAuthenticatedSequences().put(APP_NAME, sequenceConfig);
+        sessionContext.getAuthenticatedIdPs().put(IDP_NAME, authenticatedIdPData);
+        sessionContext.setRememberMe(true);
+        sessionContext.addProperty("AuthenticatedUser", authenticatedUser);
+        return sessionContext;
+    }
+
+    private void assertSessionContext(SessionContext sessionContext) {
+
+        AuthenticatedIdPData authenticatedIdPData = sessionContext.getAuthenticatedIdPs().get(IDP_NAME);
+        assertEquals(authenticatedIdPData.getUser().getUserName(), "john");
+        assertEquals(authenticatedIdPData.getUser().getUserAttributes().size(), 2);
+        assertEquals(authenticatedIdPData.getAuthenticators().get(0).getName(), "BasicAuthenticator");
+        SequenceConfig sequenceConfig = sessionContext.getAuthenticatedSequences().get(APP_NAME);
+        assertEquals(sequenceConfig.getStepMap().get(1).getAuthenticatorList().size(), 1);
+        assertTrue(sessionContext.isRememberMe());
+        // Shared references must be preserved across serialization.
+        assertTrue(sequenceConfig.getAuthenticatedUser() == authenticatedIdPData.getUser());
+    }
+
+    private byte[] readAll(InputStream inputStream) throws IOException {
+
+        byte[] bytes = new byte[inputStream.available()];
+        int read = inputStream.read(bytes);
+        assertEquals(read, bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Model class whose layout changed after {@link #ROW_WRITTEN_BEFORE_MODEL_CHANGE} was written. The tenantDomain
+     * field was added.
+     */
+    private static class VersionedModel implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String name;
+        private int count;
+        private String tenantDomain;
+    }
+}
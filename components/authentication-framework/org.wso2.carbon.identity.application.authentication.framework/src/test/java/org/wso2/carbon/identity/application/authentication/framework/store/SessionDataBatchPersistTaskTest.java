@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionDataBatchPersistTask}.
+ */
+public class SessionDataBatchPersistTaskTest {
+
+    private static final String SESSION_TYPE = "AppAuthFrameworkSessionContextCache";
+
+    @Test
+    public void testCoalesceKeepsLatestOperationPerSession() {
+
+        Object firstEntry = new Object();
+        Object secondEntry = new Object();
+        List<SessionContextDO> batch = Arrays.asList(
+                new SessionContextDO("session1", SESSION_TYPE, firstEntry, 100L, 1),
+                new SessionContextDO("session2", SESSION_TYPE, firstEntry, 101L, 1),
+                new SessionContextDO("session1", SESSION_TYPE, secondEntry, 102L, 1),
+                new SessionContextDO("session2", SESSION_TYPE, null, 103L));
+
+        List<SessionContextDO> coalesced = new ArrayList<>(SessionDataBatchPersistTask.coalesce(batch));
+
+        assertEquals(coalesced.size(), 2);
+        assertEquals(coalesced.get(0).getKey(), "session1");
+        assertEquals(coalesced.get(0).getEntry(), secondEntry);
+        assertEquals(coalesced.get(1).getKey(), "session2");
+        assertNull(coalesced.get(1).getEntry());
+    }
+
+    @Test
+    public void testCoalesceUsesOperationTimeInsteadOfQueueOrder() {
+
+        Object latestEntry = new Object();
+        List<SessionContextDO> batch = Arrays.asList(
+                new SessionContextDO("session1", SESSION_TYPE, latestEntry, 200L, 1),
+                new SessionContextDO("session1", SESSION_TYPE, null, 150L));
+
+        Collection<SessionContextDO> coalesced = SessionDataBatchPersistTask.coalesce(batch);
+
+        assertEquals(coalesced.size(), 1);
+        assertEquals(coalesced.iterator().next().getEntry(), latestEntry);
+    }
+
+    @Test
+    public void testCoalesceKeepsDifferentSessionTypes() {
+
+        List<SessionContextDO> batch = Arrays.asList(
+                new SessionContextDO("session1", SESSION_TYPE, new Object(), 100L, 1),
+                new SessionContextDO("session1", "AuthenticationContextCache", new Object(), 101L, 1));
+
+        Collection<SessionContextDO> coalesced = SessionDataBatchPersistTask.coalesce(batch);
+
+        assertEquals(coalesced.size(), 2);
+        assertTrue(coalesced.containsAll(batch));
+    }
+}
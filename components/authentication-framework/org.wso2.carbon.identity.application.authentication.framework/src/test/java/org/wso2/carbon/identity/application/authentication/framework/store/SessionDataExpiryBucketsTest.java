@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionDataExpiryBuckets}.
+ */
+public class SessionDataExpiryBucketsTest extends DataStoreBaseTest {
+
+    private static final String DB_NAME = "SESSION_DATA_EXPIRY_BUCKETS";
+    private static final String TABLE_NAME = "IDN_AUTH_SESSION_STORE";
+    private static final long BUCKET_INTERVAL = TimeUnit.HOURS.toNanos(1);
+
+    private final SessionDataExpiryBuckets expiryBuckets = new SessionDataExpiryBuckets(BUCKET_INTERVAL, true, 2);
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        initH2DB(DB_NAME, getDatabaseScriptFilePath("session_data_expiry_buckets_h2.sql"));
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        closeH2DB(DB_NAME);
+    }
+
+    @Test
+    public void testGetBucket() {
+
+        assertEquals(expiryBuckets.getBucket(0), 0);
+        assertEquals(expiryBuckets.getBucket(BUCKET_INTERVAL - 1), 0);
+        assertEquals(expiryBuckets.getBucket(BUCKET_INTERVAL), 1);
+        assertEquals(expiryBuckets.getBucket(BUCKET_INTERVAL * 5 + 10), 5);
+    }
+
+    @Test
+    public void testPartitionMaintenanceQueriesSplitMaxPartition() {
+
+        List<String> queries = expiryBuckets.getPartitionMaintenanceQueries(TABLE_NAME,
+                Arrays.asList("P_LEGACY", "p8", "P9", "P10", "P_MAX"), 10);
+
+        assertEquals(queries.size(), 2);
+        assertEquals(queries.get(0), "ALTER TABLE IDN_AUTH_SESSION_STORE REORGANIZE PARTITION P_MAX INTO " +
+                "(PARTITION P11 VALUES LESS THAN (12), PARTITION P12 VALUES LESS THAN (13), " +
+                "PARTITION P_MAX VALUES LESS THAN MAXVALUE)");
+        assertEquals(queries.get(1), "ALTER TABLE IDN_AUTH_SESSION_STORE DROP PARTITION P8, P9");
+    }
+
+    @Test
+    public void testPartitionMaintenanceQueriesWithoutMaxPartition() {
+
+        List<String> queries = expiryBuckets.getPartitionMaintenanceQueries(TABLE_NAME,
+                Collections.singletonList("P_LEGACY"), 10);
+
+        assertEquals(queries, Collections.singletonList("ALTER TABLE IDN_AUTH_SESSION_STORE ADD PARTITION " +
+                "(PARTITION P10 VALUES LESS THAN (11), PARTITION P11 VALUES LESS THAN (12), " +
+                "PARTITION P12 VALUES LESS THAN (13))"));
+    }
+
+    @Test
+    public void testPartitionMaintenanceQueriesWhenUpToDate() {
+
+        List<String> queries = expiryBuckets.getPartitionMaintenanceQueries(TABLE_NAME,
+                Arrays.asList("P10", "P11", "P12", "P_MAX"), 10);
+
+        assertTrue(queries.isEmpty());
+    }
+
+    @Test
+    public void testDropExpiredPartitionsSkippedForNonMySQLDatabase() throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            assertFalse(expiryBuckets.dropExpiredPartitions(connection, TABLE_NAME, 10));
+        }
+    }
+
+    @Test
+    public void testDropExpiredPartitionsSkippedWhenAnotherNodeHoldsTheLock() throws Exception {
+
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDriverName()).thenReturn("MySQL Connector/J");
+        PreparedStatement lockStatement = mock(PreparedStatement.class);
+        ResultSet lockResult = mock(ResultSet.class);
+        when(connection.prepareStatement("SELECT GET_LOCK(?, 0)")).thenReturn(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getInt(1)).thenReturn(0);
+
+        assertFalse(expiryBuckets.dropExpiredPartitions(connection, TABLE_NAME, 10));
+        verify(connection, never()).prepareStatement("SELECT RELEASE_LOCK(?)");
+        verify(connection, never()).createStatement();
+        verify(lockStatement).setString(1, TABLE_NAME + "_PARTITION_MAINTENANCE");
+    }
+
+    @Test
+    public void testRemoveExpiredDataOnlyFromLegacyAndCurrentBuckets() throws Exception {
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement deleteStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("DELETE FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_BUCKET IN (?, ?) AND " +
+                "EXPIRY_TIME < ? LIMIT 500")).thenReturn(deleteStatement);
+        when(deleteStatement.executeUpdate()).thenReturn(20);
+
+        assertEquals(expiryBuckets.removeExpiredData(connection, TABLE_NAME, 10, BUCKET_INTERVAL * 10 + 5, 500), 20);
+        verify(deleteStatement).setLong(1, SessionDataExpiryBuckets.LEGACY_BUCKET);
+        verify(deleteStatement).setLong(2, 10);
+        verify(deleteStatement).setLong(3, BUCKET_INTERVAL * 10 + 5);
+    }
+}
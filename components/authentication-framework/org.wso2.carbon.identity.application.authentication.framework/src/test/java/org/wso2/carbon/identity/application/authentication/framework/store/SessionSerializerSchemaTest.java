@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SessionContextCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ExternalIdPConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedSequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedStepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.AuthenticationGraph;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.OptimizedSessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionAuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedOrgData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.model.FederatedToken;
+import org.wso2.carbon.identity.application.authentication.framework.model.ImpersonatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.model.OptimizedAuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.OptimizedAuthenticatedOrgData;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionSerializerSchema}.
+ */
+public class SessionSerializerSchemaTest {
+
+    /*
+     * Serialized field layouts of the schema classes, keyed by the class name. When a schema class is changed, the
+     * descriptor of its earlier layout has to be registered in SessionSerializerSchema.PREVIOUS_VERSIONS and the new
+     * layout has to be pinned with another pin call. Earlier layouts must not be removed, since rows written with
+     * them may still be stored.
+     */
+    private static final Map<String, List<List<String>>> PINNED_LAYOUTS = new HashMap<>();
+
+    static {
+        pin(HashMap.class, "float loadFactor", "int threshold");
+        pin(LinkedHashMap.class, "boolean accessOrder");
+        pin(ConcurrentHashMap.class, "int segmentMask", "int segmentShift", "ConcurrentHashMap$Segment[] segments");
+        pin(ArrayList.class, "int size");
+        pin(LinkedList.class);
+        pin(HashSet.class);
+        pin(Boolean.class, "boolean value");
+        pin(Integer.class, "int value");
+        pin(Long.class, "long value");
+        pin(Number.class);
+        pin(String[].class);
+        pin(CacheEntry.class, "long validityPeriod");
+        pin(SessionContextCacheEntry.class, "long accessedTime", "SessionContext context", "String contextIdentifier",
+                "String loggedInUser", "OptimizedSessionContext optimizedSessionContext");
+        pin(AuthenticationContextCacheEntry.class, "AuthenticationContext context", "String loggedInUser");
+        pin(MessageContext.class, "Map parameters");
+        pin(AuthenticationContext.class, "boolean activeInAThread", "int currentPostAuthHandlerIndex",
+                "int currentStep", "long expiryTimeNano", "boolean forceAuthenticate", "boolean isLogoutRequest",
+                "boolean isSharedAppLogin", "boolean orgApplicationLogin", "boolean passiveAuthenticate",
+                "boolean passwordResetComplete", "boolean previousAuthTime", "boolean previousSessionFound",
+                "boolean reAuthenticate", "boolean rememberMe", "boolean requestAuthenticated", "int retryCount",
+                "boolean retrying", "boolean returning", "boolean sendToMultiOptionPage",
+                "boolean sharedAppLoginContextUpdateRequired", "AcrRule acrRule", "Map authenticatedIdPsOfApp",
+                "AuthenticationRequest authenticationRequest", "List authenticationStepHistory",
+                "Map authenticatorProperties", "String callerPath", "String callerSessionKey",
+                "String contextIdIncludedQueryParams", "String contextIdentifier", "Map currentAuthenticatedIdPs",
+                "String currentAuthenticator", "Map endpointParams", "List executedPostAuthHandlers",
+                "ExternalIdPConfig externalIdP", "String externalIdPResourceId",
+                "AuthenticatedUser lastAuthenticatedUser", "Map loggedOutAuthenticators", "String loginTenantDomain",
+                "OrganizationLoginData organizationLoginData", "Map previousAuthenticatedIdPs", "String queryParams",
+                "String redirectURL", "String relyingParty", "String requestType", "List requestedAcr",
+                "String selectedAcr", "SequenceConfig sequenceConfig", "String serviceProviderName",
+                "String serviceProviderResourceId", "String sessionIdentifier", "AuthenticatorStateInfo stateInfo",
+                "AuthenticatedUser subject", "String tenantDomain", "String userTenantDomainHint");
+        pin(SessionContext.class, "boolean isRememberMe", "Map authenticatedIdPs", "Map authenticatedIdPsOfApp",
+                "Map authenticatedOrgData", "Map authenticatedSequences", "String authenticatedSharedAppOrgId",
+                "String impersonatedUser", "Map properties", "SessionAuthHistory sessionAuthHistory");
+        pin(OptimizedSessionContext.class, "boolean isRememberMe", "String impersonatedUser",
+                "Map optimizedAuthenticatedIdPs", "Map optimizedAuthenticatedIdPsOfApp",
+                "Map optimizedAuthenticatedSequences", "Map properties", "SessionAuthHistory sessionAuthHistory");
+        pin(SessionAuthHistory.class, "LinkedList authenticationStepHistory", "String selectedAcrValue",
+                "DateTime sessionCreatedTime");
+        pin(AuthHistory.class, "long duration", "boolean success", "String authenticatorName", "String code",
+                "String idpName", "String idpSessionIndex", "String requestType");
+        pin(User.class, "boolean isUsernameCaseSensitive", "String tenantDomain", "String userName",
+                "String userStoreDomain");
+        pin(AuthenticatedUser.class, "boolean isFederatedUser", "String accessingOrganization",
+                "String authenticatedSubjectIdentifier", "String federatedIdPName",
+                "ImpersonatedUser impersonatedUser", "String sharedUserId", "Map userAttributes", "String userId",
+                "String userResidentOrganization", "String userSharedOrganizationId");
+        pin(ImpersonatedUser.class);
+        pin(AuthenticatedIdPData.class, "AuthenticatorConfig authenticator", "List authenticators", "String idpName",
+                "AuthenticatedUser user");
+        pin(OptimizedAuthenticatedIdPData.class, "String idpName", "List optimizedAuthenticators",
+                "AuthenticatedUser user");
+        pin(AuthenticatedOrgData.class, "boolean isRememberMe", "Map authenticatedIdPs", "Map authenticatedIdPsOfApp",
+                "Map authenticatedSequences", "SessionAuthHistory sessionAuthHistory");
+        pin(OptimizedAuthenticatedOrgData.class, "boolean isRememberMe", "Map optimizedAuthenticatedIdPs",
+                "Map optimizedAuthenticatedIdPsOfApp", "Map optimizedAuthenticatedSequences",
+                "SessionAuthHistory sessionAuthHistory");
+        pin(FederatedToken.class, "String accessToken", "String idp", "String refreshToken", "String scope",
+                "String tokenValidityPeriod");
+        pin(SequenceConfig.class, "boolean completed", "boolean isCheckAuthn", "boolean isForceAuthn",
+                "ApplicationConfig applicationConfig", "String applicationId", "String authenticatedIdPs",
+                "AuthenticatorConfig authenticatedReqPathAuthenticator", "AuthenticatedUser authenticatedUser",
+                "AuthenticationGraph authenticationGraph", "String name",
+                "OptimizedApplicationConfig optimizedApplicationConfig", "List reqPathAuthenticators",
+                "List requestedAcr", "Map stepMap");
+        pin(OptimizedSequenceConfig.class, "boolean completed", "boolean isCheckAuthn", "boolean isForceAuthn",
+                "String applicationId", "String applicationResourceId", "String authenticatedIdPs",
+                "AuthenticatorConfig authenticatedReqPathAuthenticator", "AuthenticatedUser authenticatedUser",
+                "AuthenticationGraph authenticationGraph", "String name", "Map optimizedStepMap",
+                "List reqPathAuthenticators", "List requestedAcr", "String tenantDomain");
+        pin(StepConfig.class, "boolean completed", "boolean forced", "boolean multiOption", "int order",
+                "boolean retrying", "boolean skipPrompt", "boolean subjectAttributeStep",
+                "boolean subjectIdentifierStep", "AuthenticatorConfig authenticatedAutenticator",
+                "String authenticatedAuthenticatorName", "String authenticatedIdP",
+                "AuthenticatedUser authenticatedUser", "List authenticatorList", "List authenticatorMappings",
+                "String loginPage");
+        pin(OptimizedStepConfig.class, "boolean completed", "boolean forced", "boolean multiOption", "int order",
+                "boolean retrying", "boolean subjectAttributeStep", "boolean subjectIdentifierStep",
+                "String authenticatedAuthenticatorName", "String authenticatedIdP",
+                "AuthenticatedUser authenticatedUser", "List authenticatorMappings", "String loginPage",
+                "List optimizedAuthenticatorList");
+        pin(AuthenticatorConfig.class, "boolean enabled", "ApplicationAuthenticator applicationAuthenticator",
+                "AuthenticatorStateInfo authenticatorStateInfo", "List idPResourceIds", "List idpNames", "Map idps",
+                "String name", "Map parameterMap", "String tenantDomain");
+        pin(OptimizedAuthenticatorConfig.class, "boolean enabled", "AuthenticatorStateInfo authenticatorStateInfo",
+                "List idPResourceIds", "String name", "Map parameterMap", "String tenantDomain");
+        pin(ApplicationConfig.class, "boolean alwaysSendMappedLocalSubjectId", "int applicationID",
+                "boolean enableAuthorization", "boolean isSaaSApp", "boolean mappedSubjectIDSelected",
+                "boolean useTenantDomainInLocalSubjectIdentifier", "boolean useUserIdForDefaultSubject",
+                "boolean useUserstoreDomainInLocalSubjectIdentifier", "boolean useUserstoreDomainInRole",
+                "String applicationName", "Map claimMappings", "Map mandatoryClaims", "String[] permissions",
+                "Map requestedClaims", "String roleClaim", "Map roleMappings", "ServiceProvider serviceProvider",
+                "String subjectClaimUri");
+        pin(OptimizedApplicationConfig.class, "boolean mappedSubjectIDSelected", "Map claimMappings",
+                "Map mandatoryClaims", "List optimizedAuthSteps", "Map requestedClaims", "Map roleMappings",
+                "String serviceProviderResourceId");
+        pin(ExternalIdPConfig.class, "ClaimConfig claimConfiguration", "IdentityProvider identityProvider",
+                "JustInTimeProvisioningConfig justInTimeProConfig", "Map parameterMap",
+                "PermissionsAndRoleConfig roleConfiguration", "Map roleMappings");
+        pin(AuthenticationGraph.class, "boolean buildSuccessful", "boolean enabled", "String errorReason",
+                "String name", "AuthGraphNode startNode", "Map stepMap");
+        pin(ClaimMapping.class, "boolean isMandatory", "boolean requested", "String defaultValue", "Claim localClaim",
+                "Claim remoteClaim");
+        pin(Claim.class, "int claimId", "String claimUri");
+    }
+
+    @Test
+    public void testCurrentLayoutsArePinned() {
+
+        SessionSerializerSchema schema = SessionSerializerSchema.DEFAULT;
+        for (int classId = 0; schema.getClass(classId) != null; classId++) {
+            Class<?> schemaClass = schema.getClass(classId);
+            List<List<String>> pinnedLayouts = PINNED_LAYOUTS.get(schemaClass.getName());
+            assertNotNull(pinnedLayouts, "The layout of " + schemaClass.getName() + " is not pinned.");
+            List<String> currentLayout = getLayout(ObjectStreamClass.lookup(schemaClass));
+            assertTrue(pinnedLayouts.contains(currentLayout), "The layout of " + schemaClass.getName() +
+                    " changed to " + currentLayout + ". Register the descriptor of the earlier layout in " +
+                    "SessionSerializerSchema.PREVIOUS_VERSIONS and pin the new layout.");
+        }
+    }
+
+    @Test
+    public void testPinnedLayoutsAreKnownToSchema() {
+
+        SessionSerializerSchema schema = SessionSerializerSchema.DEFAULT;
+        int classCount = 0;
+        for (int classId = 0; schema.getClass(classId) != null; classId++) {
+            Class<?> schemaClass = schema.getClass(classId);
+            List<List<String>> knownLayouts = new ArrayList<>();
+            for (ObjectStreamClass descriptor : schema.getDescriptors(classId)) {
+                knownLayouts.add(getLayout(descriptor));
+            }
+            for (List<String> pinnedLayout : PINNED_LAYOUTS.getOrDefault(schemaClass.getName(),
+                    new ArrayList<>())) {
+                assertTrue(knownLayouts.contains(pinnedLayout), "Rows written with the layout " + pinnedLayout +
+                        " of " + schemaClass.getName() + " can no longer be read. Register the descriptor of the " +
+                        "layout in SessionSerializerSchema.PREVIOUS_VERSIONS.");
+            }
+            classCount++;
+        }
+        // Schema classes must never be removed, otherwise rows written with them can no longer be read.
+        assertEquals(classCount, PINNED_LAYOUTS.size());
+    }
+
+    private static void pin(Class<?> schemaClass, String... fields) {
+
+        PINNED_LAYOUTS.computeIfAbsent(schemaClass.getName(), name -> new ArrayList<>()).add(Arrays.asList(fields));
+    }
+
+    /**
+     * Get the serialized fields of a class descriptor in the order they are written, as "type name" pairs with the
+     * simple name of the field type.
+     */
+    private static List<String> getLayout(ObjectStreamClass descriptor) {
+
+        List<String> layout = new ArrayList<>();
+        for (ObjectStreamField field : descriptor.getFields()) {
+            layout.add(getTypeName(field) + " " + field.getName());
+        }
+        return layout;
+    }
+
+    private static String getTypeName(ObjectStreamField field) {
+
+        if (field.isPrimitive()) {
+            return field.getType().getName();
+        }
+        String typeString = field.getTypeString();
+        int dimensions = 0;
+        while (typeString.charAt(dimensions) == '[') {
+            dimensions++;
+        }
+        String typeName = typeString.substring(dimensions);
+        if (typeName.startsWith("L")) {
+            typeName = typeName.substring(Math.max(typeName.lastIndexOf('/'), 0) + 1, typeName.length() - 1);
+        }
+        StringBuilder builder = new StringBuilder(typeName);
+        for (int i = 0; i < dimensions; i++) {
+            builder.append("[]");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,13 @@
+CREATE TABLE IDN_AUTH_SESSION_STORE (
+            SESSION_ID VARCHAR (100) NOT NULL,
+            SESSION_TYPE VARCHAR(100) NOT NULL,
+            OPERATION VARCHAR(10) NOT NULL,
+            SESSION_OBJECT BLOB,
+            TIME_CREATED BIGINT,
+            TENANT_ID INTEGER DEFAULT -1,
+            EXPIRY_TIME BIGINT,
+            EXPIRY_BUCKET BIGINT,
+            PRIMARY KEY (SESSION_ID, SESSION_TYPE, TIME_CREATED, OPERATION)
+);
+
+CREATE INDEX IDX_IDN_AUTH_SSTR_ET_ID ON IDN_AUTH_SESSION_STORE (EXPIRY_TIME, SESSION_ID);
@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.MergedClaimView;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.internal.IdentityClaimManagementServiceDataHolder;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
@@ -120,29 +121,39 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     @Override
     public List<LocalClaim> getLocalClaims(int tenantId) throws ClaimMetadataException {
 
-        List<LocalClaim> localClaimList = localClaimCache.getValueFromCache(tenantId, tenantId);
+        return new ArrayList<>(getLocalClaimView(tenantId).getClaims());
+    }
 
-        if (localClaimList == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache miss for local claim list for tenant: " + tenantId);
-            }
-            localClaimList = super.getLocalClaims(tenantId);
-            localClaimCache.addToCacheOnRead(tenantId, new ArrayList<>(localClaimList), tenantId);
-        } else {
+    @Override
+    public Optional<LocalClaim> getLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
+
+        return Optional.ofNullable(getLocalClaimView(tenantId).getClaim(localClaimURI));
+    }
+
+    /**
+     * Get the merged local claim view of the tenant. The view is built from the system default claims, the claims of
+     * the tenant and the claims inherited from its ancestor organizations on a cache miss.
+     *
+     * @param tenantId Tenant ID.
+     * @return Merged local claim view.
+     * @throws ClaimMetadataException If an error occurs while resolving the local claims.
+     */
+    private MergedClaimView<LocalClaim> getLocalClaimView(int tenantId) throws ClaimMetadataException {
+
+        MergedClaimView<LocalClaim> localClaimView = localClaimCache.getValueFromCache(tenantId, tenantId);
+        if (localClaimView != null) {
             if (log.isDebugEnabled()) {
                 log.debug("Cache hit for local claim list for tenant: " + tenantId);
             }
+            return localClaimView;
         }
 
-        return localClaimList;
-    }
-
-    @Override
-    public Optional<LocalClaim> getLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
-
-        return getLocalClaims(tenantId).stream()
-                .filter(localClaim -> localClaimURI.equals(localClaim.getClaimURI()))
-                .findFirst();
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for local claim list for tenant: " + tenantId);
+        }
+        localClaimView = new MergedClaimView<>(super.getLocalClaims(tenantId));
+        localClaimCache.addToCacheOnRead(tenantId, localClaimView, tenantId);
+        return localClaimView;
     }
 
     @Override
@@ -202,33 +213,44 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public List<ExternalClaim> getExternalClaims(String externalClaimDialectURI, int tenantId)
             throws ClaimMetadataException {
 
-        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-        List<ExternalClaim> externalClaimList = externalClaimCache.getValueFromCache(cacheKey, tenantId);
+        return new ArrayList<>(getExternalClaimView(externalClaimDialectURI, tenantId).getClaims());
+    }
 
-        if (externalClaimList == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache miss for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
-                        tenantId);
-            }
-            externalClaimList = super.getExternalClaims(externalClaimDialectURI, tenantId);
-            externalClaimCache.addToCacheOnRead(cacheKey, new ArrayList<>(externalClaimList), tenantId);
-        } else {
+    @Override
+    public Optional<ExternalClaim> getExternalClaim(String externalClaimDialectURI, String externalClaimURI,
+                                                    int tenantId) throws ClaimMetadataException {
+
+        return Optional.ofNullable(getExternalClaimView(externalClaimDialectURI, tenantId).getClaim(externalClaimURI));
+    }
+
+    /**
+     * Get the merged external claim view of a claim dialect in the tenant.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @param tenantId                Tenant ID.
+     * @return Merged external claim view.
+     * @throws ClaimMetadataException If an error occurs while resolving the external claims.
+     */
+    private MergedClaimView<ExternalClaim> getExternalClaimView(String externalClaimDialectURI, int tenantId)
+            throws ClaimMetadataException {
+
+        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
+        MergedClaimView<ExternalClaim> externalClaimView = externalClaimCache.getValueFromCache(cacheKey, tenantId);
+        if (externalClaimView != null) {
             if (log.isDebugEnabled()) {
                 log.debug("Cache hit for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
                         tenantId);
             }
+            return externalClaimView;
         }
 
-        return externalClaimList;
-    }
-
-    @Override
-    public Optional<ExternalClaim> getExternalClaim(String externalClaimDialectURI, String externalClaimURI,
-                                                    int tenantId) throws ClaimMetadataException {
-
-        return getExternalClaims(externalClaimDialectURI, tenantId).stream()
-                .filter(externalClaim -> externalClaimURI.equals(externalClaim.getClaimURI()))
-                .findFirst();
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
+                    tenantId);
+        }
+        externalClaimView = new MergedClaimView<>(super.getExternalClaims(externalClaimDialectURI, tenantId));
+        externalClaimCache.addToCacheOnRead(cacheKey, externalClaimView, tenantId);
+        return externalClaimView;
     }
 
     @Override
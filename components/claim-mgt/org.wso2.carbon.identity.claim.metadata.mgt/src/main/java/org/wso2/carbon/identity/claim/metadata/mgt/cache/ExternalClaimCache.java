@@ -21,12 +21,10 @@ package org.wso2.carbon.identity.claim.metadata.mgt.cache;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.core.cache.BaseCache;
 
-import java.util.ArrayList;
-
 /**
- * Cache implementation for ExternalClaims.
+ * Cache implementation for the merged external claim view of a claim dialect in a tenant.
  */
-public class ExternalClaimCache extends BaseCache<ExternalClaimCacheKey, ArrayList<ExternalClaim>> {
+public class ExternalClaimCache extends BaseCache<ExternalClaimCacheKey, MergedClaimView<ExternalClaim>> {
 
     private static final String CACHE_NAME = "ExternalClaimCache";
     private static final ExternalClaimCache instance = new ExternalClaimCache();
@@ -21,12 +21,10 @@ package org.wso2.carbon.identity.claim.metadata.mgt.cache;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.core.cache.BaseCache;
 
-import java.util.ArrayList;
-
 /**
- * Cache implementation for LocalClaims.
+ * Cache implementation for the merged local claim view of a tenant.
  */
-public class LocalClaimCache extends BaseCache<Integer, ArrayList<LocalClaim>> {
+public class LocalClaimCache extends BaseCache<Integer, MergedClaimView<LocalClaim>> {
 
     private static final LocalClaimCache instance = new LocalClaimCache();
     private static final String CACHE_NAME = "LocalClaimCache";
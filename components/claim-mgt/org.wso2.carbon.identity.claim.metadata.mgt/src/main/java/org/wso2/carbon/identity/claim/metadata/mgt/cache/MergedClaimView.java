@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the merged claims of a tenant, keyed by the claim URI.
+ * <p>
+ * The view is materialized once from the system default claims, the claims of the tenant and, for organizations,
+ * the claims inherited from the ancestor organizations. It is never modified after it is built. When a claim of the
+ * tenant or of one of its ancestors changes, the view of every affected tenant is dropped and rebuilt on the next
+ * read.
+ *
+ * @param <T> Type of the claims in the view.
+ */
+public class MergedClaimView<T extends Claim> implements Serializable {
+
+    private static final long serialVersionUID = 7127450311528146103L;
+
+    private final List<T> claims;
+    private final Map<String, T> claimsByURI;
+
+    public MergedClaimView(List<T> claims) {
+
+        Map<String, T> claimMap = new LinkedHashMap<>(claims.size() * 2);
+        for (T claim : claims) {
+            claimMap.putIfAbsent(claim.getClaimURI(), claim);
+        }
+        this.claims = Collections.unmodifiableList(new ArrayList<>(claims));
+        this.claimsByURI = Collections.unmodifiableMap(claimMap);
+    }
+
+    /**
+     * @return Merged claims in the order they were resolved.
+     */
+    public List<T> getClaims() {
+
+        return claims;
+    }
+
+    /**
+     * Get a claim of the view.
+     *
+     * @param claimURI Claim URI.
+     * @return The claim, or null if the view does not contain a claim with the given URI.
+     */
+    public T getClaim(String claimURI) {
+
+        return claimsByURI.get(claimURI);
+    }
+
+    public int size() {
+
+        return claims.size();
+    }
+}
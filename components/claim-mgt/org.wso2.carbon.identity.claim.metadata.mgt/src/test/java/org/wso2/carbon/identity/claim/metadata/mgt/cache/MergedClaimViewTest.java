@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Unit test class for MergedClaimView.
+ */
+public class MergedClaimViewTest {
+
+    private static final String EMAIL_CLAIM_URI = "http://wso2.org/claims/emailaddress";
+    private static final String USERNAME_CLAIM_URI = "http://wso2.org/claims/username";
+
+    /**
+     * Test to verify that claims are looked up by URI and listed in the resolved order.
+     */
+    @Test
+    public void testGetClaim() {
+
+        LocalClaim emailClaim = new LocalClaim(EMAIL_CLAIM_URI);
+        LocalClaim usernameClaim = new LocalClaim(USERNAME_CLAIM_URI);
+        MergedClaimView<LocalClaim> view = new MergedClaimView<>(Arrays.asList(emailClaim, usernameClaim));
+
+        assertSame(view.getClaim(EMAIL_CLAIM_URI), emailClaim);
+        assertSame(view.getClaim(USERNAME_CLAIM_URI), usernameClaim);
+        assertNull(view.getClaim("http://wso2.org/claims/country"));
+        assertEquals(view.getClaims(), Arrays.asList(emailClaim, usernameClaim));
+        assertEquals(view.size(), 2);
+    }
+
+    /**
+     * Test to verify that the first claim is returned when the same URI is resolved more than once.
+     */
+    @Test
+    public void testGetClaimWithDuplicateURI() {
+
+        LocalClaim firstClaim = new LocalClaim(EMAIL_CLAIM_URI);
+        LocalClaim secondClaim = new LocalClaim(EMAIL_CLAIM_URI);
+        MergedClaimView<LocalClaim> view = new MergedClaimView<>(Arrays.asList(firstClaim, secondClaim));
+
+        assertSame(view.getClaim(EMAIL_CLAIM_URI), firstClaim);
+    }
+
+    /**
+     * Test to verify that the view cannot be modified.
+     */
+    @Test
+    public void testViewIsImmutable() {
+
+        List<LocalClaim> claims = new ArrayList<>(Arrays.asList(new LocalClaim(EMAIL_CLAIM_URI)));
+        MergedClaimView<LocalClaim> view = new MergedClaimView<>(claims);
+        claims.add(new LocalClaim(USERNAME_CLAIM_URI));
+
+        assertEquals(view.size(), 1);
+        assertNull(view.getClaim(USERNAME_CLAIM_URI));
+        assertThrows(UnsupportedOperationException.class,
+                () -> view.getClaims().add(new LocalClaim(USERNAME_CLAIM_URI)));
+    }
+}
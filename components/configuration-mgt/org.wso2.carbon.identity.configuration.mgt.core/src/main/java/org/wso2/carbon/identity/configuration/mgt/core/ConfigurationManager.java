@@ -339,6 +339,24 @@ public interface ConfigurationManager {
     InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException;
 
+    /**
+     * This API is used to get a range of the given file. Only the requested range is streamed, which allows large
+     * files to be served in parts.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id representing the file.
+     * @param offset       Position of the first byte to return.
+     * @param length       Maximum number of bytes to return. A negative value returns the rest of the file.
+     * @return {@link InputStream} of the requested range of the file.
+     * @throws ConfigurationManagementException Resource management exception.
+     */
+    default InputStream getFileById(String resourceType, String resourceName, String fileId, long offset, long length)
+            throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * This API is used to delete the given file.
      *
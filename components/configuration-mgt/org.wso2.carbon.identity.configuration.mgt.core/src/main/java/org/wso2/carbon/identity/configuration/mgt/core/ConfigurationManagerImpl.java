@@ -25,11 +25,13 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileDiskCache;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
+import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementServerException;
 import org.wso2.carbon.identity.configuration.mgt.core.internal.ConfigurationManagerComponentDataHolder;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ConfigurationManagerConfigurationHolder;
@@ -43,6 +45,7 @@ import org.wso2.carbon.identity.configuration.mgt.core.search.ComplexCondition;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
 import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveCondition;
 import org.wso2.carbon.identity.configuration.mgt.core.search.constant.ConditionType;
+import org.wso2.carbon.identity.configuration.mgt.core.util.BoundedInputStream;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.LambdaExceptionUtils;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -54,6 +57,7 @@ import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstFoundAggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.MergeAllAggregationStrategy;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -75,8 +79,12 @@ import static org.wso2.carbon.identity.configuration.mgt.core.constant.Configura
         .ERROR_CODE_FILE_DOES_NOT_EXISTS;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
         .ERROR_CODE_FILE_IDENTIFIERS_REQUIRED;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
+        .ERROR_CODE_FILE_SIZE_LIMIT_EXCEEDED;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
         .ERROR_CODE_GET_DAO;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
+        .ERROR_CODE_INVALID_FILE_RANGE;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
         .ERROR_CODE_INVALID_RESOURCE_ID;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages.ERROR_CODE_RESOLVING_TENANT_DOMAIN;
@@ -121,10 +129,14 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
 
     private static final Log log = LogFactory.getLog(ConfigurationManagerImpl.class);
     private List<ConfigurationDAO> configurationDAOS;
+    private final ResourceFileDiskCache resourceFileCache;
+    private final long maximumFileSize;
 
     public ConfigurationManagerImpl(ConfigurationManagerConfigurationHolder configurationManagerConfigurationHolder) {
 
         this.configurationDAOS = configurationManagerConfigurationHolder.getConfigurationDAOS();
+        this.resourceFileCache = configurationManagerConfigurationHolder.getResourceFileCache();
+        this.maximumFileSize = configurationManagerConfigurationHolder.getMaximumFileSize();
     }
 
     /**
@@ -1077,7 +1089,18 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
             log.debug("File id generated: " + fileId + " for the resource name: " + resourceName + " resource type "
                     + "name: " + resourceTypeName);
         }
-        getConfigurationDAO().addFile(fileId, resourceId, fileName, fileStream);
+        // Enforce the size limit while the file is streamed to the database instead of buffering it up front.
+        BoundedInputStream boundedFileStream = maximumFileSize > 0 ?
+                new BoundedInputStream(fileStream, maximumFileSize, true) : null;
+        try {
+            getConfigurationDAO().addFile(fileId, resourceId, fileName,
+                    boundedFileStream != null ? boundedFileStream : fileStream);
+        } catch (ConfigurationManagementServerException e) {
+            if (boundedFileStream != null && boundedFileStream.isLimitExceeded()) {
+                throw handleClientException(ERROR_CODE_FILE_SIZE_LIMIT_EXCEEDED, fileName);
+            }
+            throw e;
+        }
         if (log.isDebugEnabled()) {
             log.debug("File: " + fileId + " successfully added for resource name: " + resourceName
                     + " resource type name: " + resourceTypeName);
@@ -1138,13 +1161,27 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
     public InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
 
+        return getFileById(resourceType, resourceName, fileId, 0, -1);
+    }
+
+    @Override
+    public InputStream getFileById(String resourceType, String resourceName, String fileId, long offset, long length)
+            throws ConfigurationManagementException {
+
         validateRequest(resourceType, resourceName, fileId);
-        InputStream fileStream = getConfigurationDAO().getFileById(resourceType, resourceName, fileId);
-        if (fileStream == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Resource File: " + fileId + " does not exists.");
+        if (offset < 0) {
+            throw handleClientException(ERROR_CODE_INVALID_FILE_RANGE, fileId);
+        }
+        if (resourceFileCache != null) {
+            InputStream cachedFileStream = getCachedFile(resourceType, resourceName, fileId, offset, length);
+            if (cachedFileStream != null) {
+                return cachedFileStream;
             }
-            throw handleClientException(ERROR_CODE_FILE_DOES_NOT_EXISTS, fileId);
+        }
+        InputStream fileStream = getConfigurationDAO().getFileById(resourceType, resourceName, fileId, offset,
+                length);
+        if (fileStream == null) {
+            throw handleFileNotExists(fileId);
         }
         if (log.isDebugEnabled()) {
             log.debug("Resource file: " + fileId + " retrieved successfully.");
@@ -1152,6 +1189,54 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         return fileStream;
     }
 
+    /**
+     * Serve the file from the disk backed file cache, loading it from the database on a cache miss.
+     *
+     * @return Stream of the requested range or null if the file should be read from the database.
+     */
+    private InputStream getCachedFile(String resourceType, String resourceName, String fileId, long offset,
+                                      long length) throws ConfigurationManagementException {
+
+        ResourceFileDiskCache.CachedFile cachedFile = resourceFileCache.get(fileId);
+        if (cachedFile != null) {
+            // The content of a file never changes, but the file may have been deleted through another node.
+            if (!getConfigurationDAO().isFileExists(resourceType, resourceName, fileId)) {
+                resourceFileCache.remove(fileId);
+                throw handleFileNotExists(fileId);
+            }
+        } else {
+            InputStream fileStream = getConfigurationDAO().getFileById(resourceType, resourceName, fileId);
+            if (fileStream == null) {
+                throw handleFileNotExists(fileId);
+            }
+            try {
+                cachedFile = resourceFileCache.put(fileId, fileStream);
+            } catch (IOException e) {
+                log.warn("Error while caching the resource file: " + fileId + ". Reading it from the database.", e);
+                return null;
+            }
+        }
+        try {
+            InputStream fileStream = cachedFile.openStream(offset, length);
+            if (log.isDebugEnabled()) {
+                log.debug("Resource file: " + fileId + " retrieved from the file cache.");
+            }
+            return fileStream;
+        } catch (IOException e) {
+            // The cached content was evicted in between. Read it from the database instead.
+            resourceFileCache.remove(fileId);
+            return null;
+        }
+    }
+
+    private ConfigurationManagementClientException handleFileNotExists(String fileId) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Resource File: " + fileId + " does not exists.");
+        }
+        return handleClientException(ERROR_CODE_FILE_DOES_NOT_EXISTS, fileId);
+    }
+
     @Override
     public void deleteFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
@@ -1159,6 +1244,9 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         validateRequest(resourceType, resourceName, fileId);
         validateFileExistence(resourceType, resourceName, fileId);
         getConfigurationDAO().deleteFileById(resourceType, resourceName, fileId);
+        if (resourceFileCache != null) {
+            resourceFileCache.remove(fileId);
+        }
         if (log.isDebugEnabled()) {
             log.debug("File: " + fileId + " successfully deleted.");
         }
@@ -1220,20 +1308,7 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
     private boolean isFileExists(String resourceTypeName, String resourceName, String fileId)
             throws ConfigurationManagementException {
 
-        try {
-            getFileById(resourceTypeName, resourceName, fileId);
-        } catch (ConfigurationManagementClientException e) {
-            if (isFileNotExistsError(e)) {
-                return false;
-            }
-            throw e;
-        }
-        return true;
-    }
-
-    private boolean isFileNotExistsError(ConfigurationManagementClientException e) {
-
-        return ERROR_CODE_FILE_DOES_NOT_EXISTS.getCode().equals(e.getErrorCode());
+        return getConfigurationDAO().isFileExists(resourceTypeName, resourceName, fileId);
     }
 
     @Override
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.configuration.mgt.core.util.BoundedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Disk backed cache of recently read resource files, keyed by the file id.
+ * <p>
+ * File contents are stored once per content hash, so identical files added to several resources share a single
+ * copy on disk. Entries are evicted in least recently used order once the total size of the stored contents exceeds
+ * the configured limit. The content of a file id never changes after it is added, hence entries only have to be
+ * removed when the file is deleted.
+ * <p>
+ * Every cache stores its files in a directory of its own, created inside the given parent directory, so that caches
+ * sharing the parent directory, e.g. several nodes using the same temporary directory, never touch each other's
+ * files.
+ */
+public class ResourceFileDiskCache {
+
+    private static final Log log = LogFactory.getLog(ResourceFileDiskCache.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String CONTENT_FILE_SUFFIX = ".bin";
+    private static final String SPOOL_FILE_PREFIX = "spool-";
+    private static final String CACHE_DIRECTORY_PREFIX = "cache-";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final LinkedHashMap<String, String> hashByFileId = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CachedFile> contentByHash = new HashMap<>();
+    private long totalSizeInBytes;
+
+    /**
+     * @param parentDirectory Directory in which the directory of this cache is created.
+     * @param maxSizeInBytes  Maximum total size of the stored file contents.
+     * @throws IOException If the directory cannot be created.
+     */
+    public ResourceFileDiskCache(Path parentDirectory, long maxSizeInBytes) throws IOException {
+
+        this.directory = Files.createTempDirectory(Files.createDirectories(parentDirectory), CACHE_DIRECTORY_PREFIX);
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Get the cached file for the given file id.
+     *
+     * @param fileId Id of the file.
+     * @return Cached file or null if the file is not cached.
+     */
+    public synchronized CachedFile get(String fileId) {
+
+        String hash = hashByFileId.get(fileId);
+        return hash != null ? contentByHash.get(hash) : null;
+    }
+
+    /**
+     * Store the content of the given file. The content is spooled to disk while computing its hash, so it is never
+     * held in memory as a whole. The stream is closed once it is consumed.
+     *
+     * @param fileId  Id of the file.
+     * @param content Content of the file.
+     * @return Cached file.
+     * @throws IOException If the content cannot be read or stored.
+     */
+    public CachedFile put(String fileId, InputStream content) throws IOException {
+
+        MessageDigest digest = getMessageDigest();
+        Path spoolFile = Files.createTempFile(directory, SPOOL_FILE_PREFIX, null);
+        long size = 0;
+        try (InputStream in = content; OutputStream out = Files.newOutputStream(spoolFile)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                size += read;
+            }
+        } catch (IOException e) {
+            deleteQuietly(spoolFile);
+            throw e;
+        }
+        String hash = toHex(digest.digest());
+
+        synchronized (this) {
+            CachedFile cachedFile = contentByHash.get(hash);
+            if (cachedFile == null) {
+                Path contentFile = directory.resolve(hash + CONTENT_FILE_SUFFIX);
+                Files.move(spoolFile, contentFile, StandardCopyOption.REPLACE_EXISTING);
+                cachedFile = new CachedFile(hash, size, contentFile);
+                contentByHash.put(hash, cachedFile);
+                totalSizeInBytes += size;
+            } else {
+                deleteQuietly(spoolFile);
+                if (log.isDebugEnabled()) {
+                    log.debug("Content of the file: " + fileId + " is already cached with the hash: " + hash);
+                }
+            }
+            String previousHash = hashByFileId.put(fileId, hash);
+            if (!hash.equals(previousHash)) {
+                cachedFile.references++;
+                if (previousHash != null) {
+                    release(previousHash);
+                }
+            }
+            evict(fileId);
+            return cachedFile;
+        }
+    }
+
+    /**
+     * Remove the given file from the cache.
+     *
+     * @param fileId Id of the file.
+     */
+    public synchronized void remove(String fileId) {
+
+        String hash = hashByFileId.remove(fileId);
+        if (hash != null) {
+            release(hash);
+        }
+    }
+
+    /**
+     * Remove all the files from the cache.
+     */
+    public synchronized void clear() {
+
+        for (CachedFile cachedFile : contentByHash.values()) {
+            deleteQuietly(cachedFile.path);
+        }
+        hashByFileId.clear();
+        contentByHash.clear();
+        totalSizeInBytes = 0;
+    }
+
+    /**
+     * Remove all the files from the cache and delete the directory of the cache. The cache cannot be used afterwards.
+     */
+    public synchronized void close() {
+
+        clear();
+        deleteQuietly(directory);
+    }
+
+    /**
+     * @return Directory in which the file contents are stored.
+     */
+    public Path getDirectory() {
+
+        return directory;
+    }
+
+    public synchronized long getSizeInBytes() {
+
+        return totalSizeInBytes;
+    }
+
+    private void evict(String retainedFileId) {
+
+        Iterator<Map.Entry<String, String>> iterator = hashByFileId.entrySet().iterator();
+        while (totalSizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            Map.Entry<String, String> entry = iterator.next();
+            // Keep the file which was just added even if it alone exceeds the limit, since it is about to be read.
+            if (entry.getKey().equals(retainedFileId)) {
+                continue;
+            }
+            iterator.remove();
+            release(entry.getValue());
+        }
+    }
+
+    private void release(String hash) {
+
+        CachedFile cachedFile = contentByHash.get(hash);
+        if (cachedFile == null || --cachedFile.references > 0) {
+            return;
+        }
+        contentByHash.remove(hash);
+        totalSizeInBytes -= cachedFile.size;
+        deleteQuietly(cachedFile.path);
+    }
+
+    private static void deleteQuietly(Path file) {
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to delete the cached resource file: " + file, e);
+            }
+        }
+    }
+
+    private static MessageDigest getMessageDigest() throws IOException {
+
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Hash algorithm: " + HASH_ALGORITHM + " is not available.", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Content of a cached file.
+     */
+    public static class CachedFile {
+
+        private final String contentHash;
+        private final long size;
+        private final Path path;
+        private int references;
+
+        CachedFile(String contentHash, long size, Path path) {
+
+            this.contentHash = contentHash;
+            this.size = size;
+            this.path = path;
+        }
+
+        /**
+         * @return SHA-256 hash of the file content in hex.
+         */
+        public String getContentHash() {
+
+            return contentHash;
+        }
+
+        public long getSize() {
+
+            return size;
+        }
+
+        /**
+         * Open the given range of the file content.
+         *
+         * @param offset Position of the first byte to read.
+         * @param length Maximum number of bytes to read. A negative value reads until the end of the file.
+         * @return Stream of the requested range.
+         * @throws IOException If the content is no longer available on disk.
+         */
+        public InputStream openStream(long offset, long length) throws IOException {
+
+            SeekableByteChannel channel = Files.newByteChannel(path);
+            try {
+                channel.position(Math.max(offset, 0));
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            InputStream in = Channels.newInputStream(channel);
+            return length < 0 ? in : new BoundedInputStream(in, length);
+        }
+    }
+}
@@ -68,6 +68,11 @@ public class ConfigurationConstants {
     public static final String DB_SCHEMA_COLUMN_NAME_RESOURCE_NAME = "RESOURCE_NAME";
     public static final String DB_SCHEMA_COLUMN_NAME_RESOURCE_TYPE_NAME = "TYPE_NAME";
     public static final String FILE = "file";
+    public static final String MAXIMUM_FILE_SIZE = "ConfigurationStore.File.MaximumSize";
+    public static final String FILE_CACHE_ENABLED = "ConfigurationStore.File.Cache.Enable";
+    public static final String FILE_CACHE_MAXIMUM_SIZE = "ConfigurationStore.File.Cache.MaximumSize";
+    public static final String FILE_CACHE_DIRECTORY = "ConfigurationStore.File.Cache.Directory";
+    public static final long DEFAULT_FILE_CACHE_MAXIMUM_SIZE = 104857600L;
     public static final String SERVER_API_PATH_COMPONENT = "/api/identity/config-mgt/v1.0";
     public static final String TENANT_CONTEXT_PATH_COMPONENT = "/t/%s";
     public static final String TENANT_NAME_FROM_CONTEXT = "TenantNameFromContext";
@@ -190,7 +195,9 @@ public class ConfigurationConstants {
         ERROR_CODE_RESOLVING_TENANT_DOMAIN("CONFIGM_00050", "Error occurred while resolving the tenant domain " +
                 "for the organization id: %s."),
         ERROR_CODE_RESOLVING_TENANT_ID("CONFIGM_00051", "Error occurred while resolving the tenant id " +
-                "for the organization id: %s.");
+                "for the organization id: %s."),
+        ERROR_CODE_FILE_SIZE_LIMIT_EXCEEDED("CONFIGM_00052", "File: %s exceeds the maximum allowed file size."),
+        ERROR_CODE_INVALID_FILE_RANGE("CONFIGM_00053", "Invalid range requested for the file: %s.");
 
 
         private final String code;
@@ -500,6 +500,10 @@ public class SQLConstants {
             + "IDN_CONFIG_FILE.RESOURCE_ID = IDN_CONFIG_RESOURCE.ID INNER JOIN IDN_CONFIG_TYPE ON "
             + "IDN_CONFIG_RESOURCE.TYPE_ID = IDN_CONFIG_TYPE.ID where IDN_CONFIG_FILE.ID = ? and "
             + "IDN_CONFIG_RESOURCE.NAME = ? and IDN_CONFIG_TYPE.NAME = ?";
+    public static final String IS_FILE_EXISTS_SQL = "SELECT IDN_CONFIG_FILE.ID FROM IDN_CONFIG_FILE INNER JOIN "
+            + "IDN_CONFIG_RESOURCE ON IDN_CONFIG_FILE.RESOURCE_ID = IDN_CONFIG_RESOURCE.ID INNER JOIN IDN_CONFIG_TYPE "
+            + "ON IDN_CONFIG_RESOURCE.TYPE_ID = IDN_CONFIG_TYPE.ID where IDN_CONFIG_FILE.ID = ? and "
+            + "IDN_CONFIG_RESOURCE.NAME = ? and IDN_CONFIG_TYPE.NAME = ?";
     public static final String GET_FILES_BY_RESOURCE_ID_SQL = "SELECT\n" +
             "  ID,\n" +
             "  NAME\n" +
@@ -24,10 +24,16 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
+import org.wso2.carbon.identity.configuration.mgt.core.util.BoundedInputStream;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
+        .ERROR_CODE_GET_FILE;
+import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleServerException;
+
 /**
  * Perform CRUD operations for {@link Resource}.
  *
@@ -240,6 +246,63 @@ public interface ConfigurationDAO {
     InputStream getFileById(String resourceType, String resourceName, String fileId) throws
             ConfigurationManagementException;
 
+    /**
+     * Get a range of the file.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id of the file.
+     * @param offset       Position of the first byte to read.
+     * @param length       Maximum number of bytes to read. A negative value reads until the end of the file.
+     * @return {@link InputStream} for the requested range of the file or null if the file does not exist.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default InputStream getFileById(String resourceType, String resourceName, String fileId, long offset,
+                                    long length) throws ConfigurationManagementException {
+
+        InputStream fileStream = getFileById(resourceType, resourceName, fileId);
+        if (fileStream == null || (offset == 0 && length < 0)) {
+            return fileStream;
+        }
+        try {
+            long skipped = 0;
+            while (skipped < offset) {
+                long count = fileStream.skip(offset - skipped);
+                if (count <= 0) {
+                    break;
+                }
+                skipped += count;
+            }
+        } catch (IOException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+        return length < 0 ? fileStream : new BoundedInputStream(fileStream, length);
+    }
+
+    /**
+     * Check whether the file exists without reading its content.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id of the file.
+     * @return True if the file exists.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default boolean isFileExists(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        InputStream fileStream = getFileById(resourceType, resourceName, fileId);
+        if (fileStream == null) {
+            return false;
+        }
+        try {
+            fileStream.close();
+        } catch (IOException e) {
+            // The stream was only opened to check the existence of the file.
+        }
+        return true;
+    }
+
     /**
      * Get files for the {@link Resource}.
      *
@@ -236,6 +236,20 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         return configurationDAO.getFileById(resourceType, resourceName, fileId);
     }
 
+    @Override
+    public InputStream getFileById(String resourceType, String resourceName, String fileId, long offset, long length)
+            throws ConfigurationManagementException {
+
+        return configurationDAO.getFileById(resourceType, resourceName, fileId, offset, length);
+    }
+
+    @Override
+    public boolean isFileExists(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        return configurationDAO.isFileExists(resourceType, resourceName, fileId);
+    }
+
     @Override
     public List<ResourceFile> getFiles(String resourceId, String resourceTypeName, String resourceName)
             throws ConfigurationManagementException {
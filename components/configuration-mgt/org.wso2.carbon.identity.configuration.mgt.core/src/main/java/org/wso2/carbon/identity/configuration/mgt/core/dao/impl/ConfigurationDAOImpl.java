@@ -43,6 +43,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
 import org.wso2.carbon.identity.core.util.LambdaExceptionUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.sql.Blob;
 import java.sql.PreparedStatement;
@@ -170,6 +171,7 @@ import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConsta
         .GET_RESOURCE_CREATED_TIME_BY_NAME_SQL;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.GET_RESOURCE_ID_BY_NAME_SQL;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.GET_RESOURCE_NAME_BY_ID;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.IS_FILE_EXISTS_SQL;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
         .GET_TENANT_RESOURCES_SELECT_COLUMNS_MYSQL;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
@@ -1465,6 +1467,51 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
         }
     }
 
+    @Override
+    public InputStream getFileById(String resourceType, String resourceName, String fileId, long offset, long length)
+            throws ConfigurationManagementException {
+
+        if ((offset == 0 && length < 0) || isPostgreSQLDB()) {
+            // A bytea value is fetched as a whole, so there is nothing to gain from reading a range of it.
+            return ConfigurationDAO.super.getFileById(resourceType, resourceName, fileId, offset, length);
+        }
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            Blob fileBlob = jdbcTemplate.withTransaction((template) -> template.fetchSingleRecord(getFileGetByIdSQL(),
+                    (resultSet, rowNumber) -> resultSet.getBlob(DB_SCHEMA_COLUMN_NAME_VALUE), preparedStatement ->
+                            setPreparedStatementForFileGetById(resourceType, resourceName, fileId,
+                                    preparedStatement)));
+            if (fileBlob == null) {
+                return null;
+            }
+            // Only the requested range is read from the blob, instead of skipping over the bytes before it.
+            long fileLength = fileBlob.length();
+            long rangeLength = length < 0 ? fileLength - offset : Math.min(length, fileLength - offset);
+            if (rangeLength <= 0) {
+                return new ByteArrayInputStream(new byte[0]);
+            }
+            return fileBlob.getBinaryStream(offset + 1, rangeLength);
+        } catch (TransactionException | DataAccessException | SQLException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+    }
+
+    @Override
+    public boolean isFileExists(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            String existingFileId = jdbcTemplate.fetchSingleRecord(IS_FILE_EXISTS_SQL,
+                    (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID), preparedStatement ->
+                            setPreparedStatementForFileGetById(resourceType, resourceName, fileId,
+                                    preparedStatement));
+            return existingFileId != null;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+    }
+
     @Override
     public void deleteFileById(String resourceType, String resourceName, String fileId) throws ConfigurationManagementException {
 
@@ -22,12 +22,14 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManagerImpl;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileDiskCache;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.impl.CachedBackedConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.impl.ConfigurationDAOImpl;
@@ -54,6 +56,7 @@ public class ConfigurationManagerComponent {
 
     private static final Log log = LogFactory.getLog(ConfigurationManagerComponent.class);
     private List<ConfigurationDAO> configurationDAOs = new ArrayList<>();
+    private ResourceFileDiskCache resourceFileCache;
 
     /**
      * Register ConfigurationManager as an OSGI service.
@@ -77,6 +80,9 @@ public class ConfigurationManagerComponent {
             ConfigurationManagerConfigurationHolder configurationManagerConfigurationHolder =
                     new ConfigurationManagerConfigurationHolder();
             configurationManagerConfigurationHolder.setConfigurationDAOS(configurationDAOs);
+            configurationManagerConfigurationHolder.setMaximumFileSize(ConfigurationUtils.getMaximumFileSize());
+            resourceFileCache = ConfigurationUtils.buildResourceFileCache();
+            configurationManagerConfigurationHolder.setResourceFileCache(resourceFileCache);
 
             bundleContext.registerService(ConfigurationManager.class.getName(),
                     new ConfigurationManagerImpl(configurationManagerConfigurationHolder), null);
@@ -85,6 +91,15 @@ public class ConfigurationManagerComponent {
         }
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        if (resourceFileCache != null) {
+            resourceFileCache.close();
+            resourceFileCache = null;
+        }
+    }
+
     @Reference(
             name = "configuration.context.service",
             service = ConfigurationContextService.class,
@@ -16,6 +16,7 @@
 
 package org.wso2.carbon.identity.configuration.mgt.core.model;
 
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileDiskCache;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 
 import java.util.List;
@@ -26,6 +27,8 @@ import java.util.List;
 public class ConfigurationManagerConfigurationHolder {
 
     private List<ConfigurationDAO> configurationDAOS;
+    private ResourceFileDiskCache resourceFileCache;
+    private long maximumFileSize;
 
     public List<ConfigurationDAO> getConfigurationDAOS() {
 
@@ -36,4 +39,30 @@ public class ConfigurationManagerConfigurationHolder {
 
         this.configurationDAOS = configurationDAOS;
     }
+
+    /**
+     * @return Disk backed cache for resource files or null if files should always be read from the database.
+     */
+    public ResourceFileDiskCache getResourceFileCache() {
+
+        return resourceFileCache;
+    }
+
+    public void setResourceFileCache(ResourceFileDiskCache resourceFileCache) {
+
+        this.resourceFileCache = resourceFileCache;
+    }
+
+    /**
+     * @return Maximum size of a resource file in bytes. Zero or a negative value if the size is not limited.
+     */
+    public long getMaximumFileSize() {
+
+        return maximumFileSize;
+    }
+
+    public void setMaximumFileSize(long maximumFileSize) {
+
+        this.maximumFileSize = maximumFileSize;
+    }
 }
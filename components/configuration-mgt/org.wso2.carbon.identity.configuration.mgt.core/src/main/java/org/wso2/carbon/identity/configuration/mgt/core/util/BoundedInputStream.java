@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream which reads up to a given number of bytes from the underlying stream.
+ * <p>
+ * In the truncating mode the stream ends once the limit is reached, which is used to serve a range of a file. In
+ * the strict mode reading past the limit fails with an {@link IOException}, which is used to enforce the maximum
+ * size of a file while it is streamed to the database.
+ */
+public class BoundedInputStream extends FilterInputStream {
+
+    private final long limit;
+    private final boolean strict;
+    private long remaining;
+    private boolean limitExceeded;
+
+    /**
+     * Create a truncating stream.
+     *
+     * @param in    Underlying stream.
+     * @param limit Maximum number of bytes to read.
+     */
+    public BoundedInputStream(InputStream in, long limit) {
+
+        this(in, limit, false);
+    }
+
+    /**
+     * @param in     Underlying stream.
+     * @param limit  Maximum number of bytes to read.
+     * @param strict Whether reading past the limit should fail instead of ending the stream.
+     */
+    public BoundedInputStream(InputStream in, long limit, boolean strict) {
+
+        super(in);
+        this.limit = limit;
+        this.strict = strict;
+        this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        if (remaining <= 0 && !strict) {
+            return -1;
+        }
+        int value = super.read();
+        if (value != -1) {
+            consumed(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+
+        if (len == 0) {
+            return 0;
+        }
+        if (remaining <= 0 && !strict) {
+            return -1;
+        }
+        int read = super.read(b, off, strict ? len : (int) Math.min(len, remaining));
+        if (read > 0) {
+            consumed(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+
+        long skipped = super.skip(strict ? n : Math.min(n, remaining));
+        consumed(skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+
+        return (int) Math.min(super.available(), Math.max(remaining, 0));
+    }
+
+    @Override
+    public boolean markSupported() {
+
+        return false;
+    }
+
+    /**
+     * @return True if the stream failed since the underlying stream had more bytes than the limit.
+     */
+    public boolean isLimitExceeded() {
+
+        return limitExceeded;
+    }
+
+    private void consumed(long count) throws IOException {
+
+        remaining -= count;
+        if (remaining < 0) {
+            limitExceeded = true;
+            throw new IOException("Stream exceeded the maximum allowed size of " + limit + " bytes.");
+        }
+    }
+}
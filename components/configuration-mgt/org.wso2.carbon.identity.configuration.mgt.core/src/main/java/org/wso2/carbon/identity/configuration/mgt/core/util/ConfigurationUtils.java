@@ -22,6 +22,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileDiskCache;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementRuntimeException;
@@ -33,7 +34,10 @@ import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -41,7 +45,12 @@ import java.sql.SQLException;
 import java.util.UUID;
 
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DB_SCHEMA_COLUMN_NAME_CREATED_TIME;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_FILE_CACHE_MAXIMUM_SIZE;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE_CACHE_DIRECTORY;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE_CACHE_ENABLED;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE_CACHE_MAXIMUM_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.MAXIMUM_FILE_SIZE;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.PATH_SEPARATOR;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.RESOURCE_PATH;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.SERVER_API_PATH_COMPONENT;
@@ -172,6 +181,54 @@ public class ConfigurationUtils {
         return StringUtils.isEmpty(MAX_QUERY_LENGTH_IN_BYTES_SQL) ? 4194304 : Integer.parseInt(MAX_QUERY_LENGTH_IN_BYTES_SQL);
     }
 
+    /**
+     * Get the maximum size of a resource file in bytes.
+     *
+     * @return Maximum file size in bytes. Zero or a negative value if the size is not limited.
+     */
+    public static long getMaximumFileSize() {
+
+        return getLongProperty(MAXIMUM_FILE_SIZE, 0);
+    }
+
+    /**
+     * Build the disk backed cache for resource files if it is enabled.
+     *
+     * @return Resource file cache or null if the cache is disabled or cannot be created.
+     */
+    public static ResourceFileDiskCache buildResourceFileCache() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(FILE_CACHE_ENABLED))) {
+            return null;
+        }
+        String directory = IdentityUtil.getProperty(FILE_CACHE_DIRECTORY);
+        Path cacheDirectory = StringUtils.isNotBlank(directory) ? Paths.get(directory) :
+                Paths.get(System.getProperty("java.io.tmpdir"), "configuration-store-files");
+        try {
+            return new ResourceFileDiskCache(cacheDirectory,
+                    getLongProperty(FILE_CACHE_MAXIMUM_SIZE, DEFAULT_FILE_CACHE_MAXIMUM_SIZE));
+        } catch (IOException e) {
+            log.error("Error while creating the resource file cache in: " + cacheDirectory + ". Files will be " +
+                    "read from the database.", e);
+            return null;
+        }
+    }
+
+    private static long getLongProperty(String propertyName, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for " + propertyName + ". Using the default value: " +
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
     /**
      * Checks whether the configuration management is enabled by checking the existence of the required tables.
      *
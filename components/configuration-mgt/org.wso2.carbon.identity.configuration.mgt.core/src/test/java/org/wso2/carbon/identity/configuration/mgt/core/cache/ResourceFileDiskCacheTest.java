@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for ResourceFileDiskCache class.
+ */
+public class ResourceFileDiskCacheTest {
+
+    private static final String FILE_ID_1 = "file-1";
+    private static final String FILE_ID_2 = "file-2";
+    private static final String FILE_ID_3 = "file-3";
+
+    private Path directory;
+    private ResourceFileDiskCache cache;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+
+        directory = Files.createTempDirectory("resource-file-cache-test");
+        cache = new ResourceFileDiskCache(directory, 10);
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+
+        cache.close();
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void testPutAndReadRange() throws IOException {
+
+        cache.put(FILE_ID_1, stream("0123456789"));
+
+        ResourceFileDiskCache.CachedFile cachedFile = cache.get(FILE_ID_1);
+        Assert.assertNotNull(cachedFile);
+        Assert.assertEquals(cachedFile.getSize(), 10);
+        Assert.assertEquals(read(cachedFile.openStream(0, -1)), "0123456789");
+        Assert.assertEquals(read(cachedFile.openStream(3, 4)), "3456");
+        Assert.assertEquals(read(cachedFile.openStream(8, 10)), "89");
+    }
+
+    @Test
+    public void testIdenticalContentIsStoredOnce() throws IOException {
+
+        ResourceFileDiskCache.CachedFile first = cache.put(FILE_ID_1, stream("abcd"));
+        ResourceFileDiskCache.CachedFile second = cache.put(FILE_ID_2, stream("abcd"));
+
+        Assert.assertEquals(second.getContentHash(), first.getContentHash());
+        Assert.assertEquals(cache.getSizeInBytes(), 4);
+
+        // The shared content is kept until the last file referring to it is removed.
+        cache.remove(FILE_ID_1);
+        Assert.assertNull(cache.get(FILE_ID_1));
+        Assert.assertEquals(read(cache.get(FILE_ID_2).openStream(0, -1)), "abcd");
+        cache.remove(FILE_ID_2);
+        Assert.assertEquals(cache.getSizeInBytes(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFileIsEvicted() throws IOException {
+
+        cache.put(FILE_ID_1, stream("aaaa"));
+        cache.put(FILE_ID_2, stream("bbbb"));
+        cache.get(FILE_ID_1);
+        cache.put(FILE_ID_3, stream("cccc"));
+
+        Assert.assertNotNull(cache.get(FILE_ID_1));
+        Assert.assertNull(cache.get(FILE_ID_2));
+        Assert.assertNotNull(cache.get(FILE_ID_3));
+        Assert.assertEquals(cache.getSizeInBytes(), 8);
+    }
+
+    @Test
+    public void testFileLargerThanCacheIsServed() throws IOException {
+
+        cache.put(FILE_ID_1, stream("aaaa"));
+        ResourceFileDiskCache.CachedFile cachedFile = cache.put(FILE_ID_2, stream("0123456789abcdef"));
+
+        Assert.assertNull(cache.get(FILE_ID_1));
+        Assert.assertEquals(read(cachedFile.openStream(10, -1)), "abcdef");
+    }
+
+    @Test
+    public void testCachesSharingParentDirectoryKeepTheirOwnFiles() throws IOException {
+
+        Path foreignFile = Files.write(directory.resolve("foreign.txt"), "foreign".getBytes(StandardCharsets.UTF_8));
+        cache.put(FILE_ID_1, stream("aaaa"));
+
+        ResourceFileDiskCache other = new ResourceFileDiskCache(directory, 10);
+        try {
+            Assert.assertNotEquals(other.getDirectory(), cache.getDirectory());
+            Assert.assertEquals(other.getDirectory().getParent(), directory);
+
+            other.put(FILE_ID_1, stream("bbbb"));
+            other.clear();
+
+            Assert.assertNull(other.get(FILE_ID_1));
+            Assert.assertEquals(read(cache.get(FILE_ID_1).openStream(0, -1)), "aaaa");
+            Assert.assertTrue(Files.exists(foreignFile));
+        } finally {
+            other.close();
+        }
+
+        Assert.assertFalse(Files.exists(other.getDirectory()));
+        Assert.assertTrue(Files.exists(cache.getDirectory()));
+        Assert.assertTrue(Files.exists(foreignFile));
+        Files.delete(foreignFile);
+    }
+
+    private static InputStream stream(String content) {
+
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+
+        try (InputStream in = inputStream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -43,6 +43,8 @@ import org.wso2.carbon.identity.core.util.JdbcUtils;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
@@ -192,8 +194,26 @@ public class ConfigurationDAOImplTest {
         }
     }
 
+    @Test(description = "Test for getFileById method with a range", dependsOnMethods = "testAddResource")
+    public void testGetFileRangeById() throws Exception {
+
+        assertEquals("is a", read(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID, 5, 4)));
+        assertEquals("content.", read(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID, 20,
+                100)));
+        assertEquals("file content.", read(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID,
+                15, -1)));
+        assertEquals("", read(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID, 100, 4)));
+        assertNull(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, "wrong-id", 5, 4));
+
+        try (MockedStatic<JdbcUtils> mockedStatic = mockStatic(JdbcUtils.class, CALLS_REAL_METHODS)) {
+            mockedStatic.when(JdbcUtils::isPostgreSQLDB).thenReturn(true);
+            assertEquals("is a", read(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID, 5, 4)));
+            assertEquals("", read(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID, 100, 4)));
+        }
+    }
+
     @Test(description = "Test deleteResourceByName method", dependsOnMethods = {"testAddResource", "testGetFileById",
-            "testGetFiles"})
+            "testGetFileRangeById", "testGetFiles"})
     public void testDeleteResourceByName() throws Exception {
 
         // Successfully delete a resource by its name.
@@ -282,4 +302,17 @@ public class ConfigurationDAOImplTest {
                     () -> configurationDAO.replaceResourceWithFiles(resource));
         }
     }
+
+    private static String read(InputStream inputStream) throws IOException {
+
+        try (InputStream in = inputStream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
 }
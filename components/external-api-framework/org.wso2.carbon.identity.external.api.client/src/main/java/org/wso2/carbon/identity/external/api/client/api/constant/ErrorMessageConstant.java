@@ -53,7 +53,9 @@ public class ErrorMessageConstant {
         ERROR_CODE_INVALID_RESPONSE_LIMIT("APICLIENT-65012", "Invalid response size limit.",
                 "The response size limit %s must be a positive number."),
         ERROR_CODE_RESPONSE_SIZE_LIMIT_EXCEEDED("APICLIENT-65013", "Response size limit exceeded.",
-                "The response body size exceeded the configured limit for endpoint: %s");
+                "The response body size exceeded the configured limit for endpoint: %s"),
+        ERROR_CODE_INVALID_CONNECTION_ROUTE("APICLIENT-65014", "Invalid connection pool route.",
+                "The endpoint %s must be an absolute HTTP or HTTPS URL to set a per route connection limit.");
 
         private final String code;
         private final String message;
@@ -21,7 +21,12 @@ package org.wso2.carbon.identity.external.api.client.api.model;
 import org.wso2.carbon.identity.external.api.client.api.exception.APIClientConfigException;
 import org.wso2.carbon.identity.external.api.client.internal.util.APIClientUtils;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.wso2.carbon.identity.external.api.client.api.constant.ErrorMessageConstant.ErrorMessage.ERROR_CODE_INVALID_CONFIG_VALUE;
+import static org.wso2.carbon.identity.external.api.client.api.constant.ErrorMessageConstant.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_ROUTE;
 
 /**
  * Model class for API Client Configuration.
@@ -34,6 +39,8 @@ public class APIClientConfig {
     private final int poolSizeToBeSet;
     private final int maxPerRoute;
     private final long responseLimitInBytes;
+    private final int idleConnectionTimeoutInMillis;
+    private final Map<String, Integer> maxPerRouteOverrides;
 
     public APIClientConfig(Builder builder) {
 
@@ -43,6 +50,8 @@ public class APIClientConfig {
         this.poolSizeToBeSet = builder.poolSizeToBeSet;
         this.maxPerRoute = builder.defaultMaxPerRoute;
         this.responseLimitInBytes = builder.responseLimitInBytes;
+        this.idleConnectionTimeoutInMillis = builder.idleConnectionTimeoutInMillis;
+        this.maxPerRouteOverrides = Collections.unmodifiableMap(new LinkedHashMap<>(builder.maxPerRouteOverrides));
     }
 
     /**
@@ -105,6 +114,26 @@ public class APIClientConfig {
         return responseLimitInBytes;
     }
 
+    /**
+     * Get the time after which idle pooled connections are evicted.
+     *
+     * @return idle connection timeout in milliseconds.
+     */
+    public int getIdleConnectionTimeoutInMillis() {
+
+        return idleConnectionTimeoutInMillis;
+    }
+
+    /**
+     * Get the connection limits of the routes which override the default max per route.
+     *
+     * @return map of endpoint URL to the max connections for the route of the endpoint.
+     */
+    public Map<String, Integer> getMaxPerRouteOverrides() {
+
+        return maxPerRouteOverrides;
+    }
+
     /**
      * Builder class for APIClientConfig.
      */
@@ -117,6 +146,8 @@ public class APIClientConfig {
         protected int poolSizeToBeSet = APIClientUtils.getDefaultPoolSizeToBeSet();
         protected int defaultMaxPerRoute = APIClientUtils.getDefaultMaxPerRoute();
         protected long responseLimitInBytes = APIClientUtils.getDefaultResponseLimit();
+        protected int idleConnectionTimeoutInMillis = APIClientUtils.getDefaultIdleConnectionTimeoutInMillis();
+        protected final Map<String, Integer> maxPerRouteOverrides = new LinkedHashMap<>();
 
         public APIClientConfig.Builder httpReadTimeoutInMillis(int httpReadTimeoutInMillis) {
 
@@ -160,6 +191,32 @@ public class APIClientConfig {
             return this;
         }
 
+        /**
+         * Set the time after which idle pooled connections are evicted.
+         *
+         * @param idleConnectionTimeoutInMillis idle connection timeout in milliseconds.
+         * @return this builder.
+         */
+        public APIClientConfig.Builder idleConnectionTimeoutInMillis(int idleConnectionTimeoutInMillis) {
+
+            this.idleConnectionTimeoutInMillis = idleConnectionTimeoutInMillis;
+            return this;
+        }
+
+        /**
+         * Set the max connections for the route of the given endpoint, overriding the default max per route.
+         * Endpoints with the same scheme, host and port share a route.
+         *
+         * @param endpointUrl Absolute HTTP or HTTPS endpoint URL.
+         * @param maxPerRoute max connections for the route.
+         * @return this builder.
+         */
+        public APIClientConfig.Builder maxPerRoute(String endpointUrl, int maxPerRoute) {
+
+            this.maxPerRouteOverrides.put(endpointUrl, maxPerRoute);
+            return this;
+        }
+
         public APIClientConfig build() throws APIClientConfigException {
 
             validateConfigurationValues(httpReadTimeoutInMillis);
@@ -168,6 +225,11 @@ public class APIClientConfig {
             validateConfigurationValues(poolSizeToBeSet);
             validateConfigurationValues(defaultMaxPerRoute);
             validateConfigurationValues(responseLimitInBytes);
+            validateConfigurationValues(idleConnectionTimeoutInMillis);
+            for (Map.Entry<String, Integer> routeLimit : maxPerRouteOverrides.entrySet()) {
+                validateRoute(routeLimit.getKey());
+                validateConfigurationValues(routeLimit.getValue());
+            }
             return new APIClientConfig(this);
         }
 
@@ -178,6 +240,15 @@ public class APIClientConfig {
             }
         }
 
+        private void validateRoute(String endpointUrl) throws APIClientConfigException {
+
+            try {
+                APIClientUtils.buildHttpRoute(endpointUrl);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new APIClientConfigException(ERROR_CODE_INVALID_CONNECTION_ROUTE, endpointUrl);
+            }
+        }
+
         private void validateConfigurationValues(long value) throws APIClientConfigException {
 
             if (value <= 0) {
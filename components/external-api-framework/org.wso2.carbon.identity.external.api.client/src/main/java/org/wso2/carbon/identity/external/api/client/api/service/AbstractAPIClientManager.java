@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.external.api.client.api.service;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.pool.PoolStats;
 import org.wso2.carbon.identity.external.api.client.api.exception.APIClientException;
 import org.wso2.carbon.identity.external.api.client.api.model.APIClientConfig;
 import org.wso2.carbon.identity.external.api.client.api.model.APIInvocationConfig;
@@ -27,14 +28,24 @@ import org.wso2.carbon.identity.external.api.client.api.model.APIRequestContext;
 import org.wso2.carbon.identity.external.api.client.api.model.APIResponse;
 import org.wso2.carbon.identity.external.api.client.internal.service.APIClient;
 
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 /**
  * Abstract class for API Client Manager implementations which responsible for handling API calls and responses.
  */
 public abstract class AbstractAPIClientManager {
 
     private static final Log LOG = LogFactory.getLog(AbstractAPIClientManager.class);
+    private static final String CONNECTION_POOL_MBEAN_NAME_PREFIX =
+            "org.wso2.carbon.identity:type=ExternalAPIClientConnectionPool,name=";
 
     private final APIClient apiClient;
+    private volatile ObjectName connectionPoolMBeanName;
 
     /**
      * Constructor to initialize the API Client with the provided configuration.
@@ -67,4 +78,66 @@ public abstract class AbstractAPIClientManager {
 
         return apiClient.callAPI(requestContext, apiInvocationConfig);
     }
+
+    /**
+     * Get the statistics of the connection pool of the API client.
+     *
+     * @return Leased, pending, available and max connections of the pool.
+     */
+    public PoolStats getConnectionPoolStats() {
+
+        return apiClient.getConnectionPoolStats();
+    }
+
+    /**
+     * Get the connection pool statistics of each route of the API client.
+     *
+     * @return Map of the route target, in the form scheme://host:port, to the statistics of the route.
+     */
+    public Map<String, PoolStats> getRouteConnectionPoolStats() {
+
+        return apiClient.getRouteConnectionPoolStats();
+    }
+
+    /**
+     * Publish the connection pool statistics of the API client over JMX, replacing the statistics published earlier
+     * under the same client name. Intended for long lived managers, which should call
+     * {@link #unregisterConnectionPoolMBean()} once they are no longer used.
+     *
+     * @param clientName Name identifying the API client in the JMX object name.
+     */
+    public void registerConnectionPoolMBean(String clientName) {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(CONNECTION_POOL_MBEAN_NAME_PREFIX + ObjectName.quote(clientName));
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(apiClient, objectName);
+            connectionPoolMBeanName = objectName;
+        } catch (JMException e) {
+            LOG.error("Error while registering the connection pool MBean of the API client: " + clientName, e);
+        }
+    }
+
+    /**
+     * Remove the connection pool statistics of the API client from JMX.
+     */
+    public void unregisterConnectionPoolMBean() {
+
+        ObjectName objectName = connectionPoolMBeanName;
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            connectionPoolMBeanName = null;
+        } catch (JMException e) {
+            LOG.error("Error while unregistering the connection pool MBean: " + objectName, e);
+        }
+    }
 }
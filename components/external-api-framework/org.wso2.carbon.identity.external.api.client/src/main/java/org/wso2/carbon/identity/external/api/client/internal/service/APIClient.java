@@ -29,32 +29,38 @@ import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.wso2.carbon.identity.external.api.client.api.constant.ErrorMessageConstant.ErrorMessage;
 import org.wso2.carbon.identity.external.api.client.api.exception.APIClientInvocationException;
 import org.wso2.carbon.identity.external.api.client.api.model.APIClientConfig;
 import org.wso2.carbon.identity.external.api.client.api.model.APIInvocationConfig;
 import org.wso2.carbon.identity.external.api.client.api.model.APIRequestContext;
 import org.wso2.carbon.identity.external.api.client.api.model.APIResponse;
+import org.wso2.carbon.identity.external.api.client.internal.util.APIClientUtils;
 import org.wso2.carbon.identity.external.api.client.internal.util.APIRequestBuildingUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class is responsible for making API calls to the external endpoints.
  */
-public class APIClient {
+public class APIClient implements APIClientPoolStatisticsMXBean {
 
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final int READ_CHUNK_SIZE = 8192;
 
     private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
     private final long defaultResponseLimitInBytes;
 
     /**
@@ -75,21 +81,33 @@ public class APIClient {
                 .setRedirectsEnabled(false)
                 .setRelativeRedirectsAllowed(false)
                 .build();
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager = new PoolingHttpClientConnectionManager();
         connectionManager.setMaxTotal(apiClientConfig.getPoolSizeToBeSet());
         connectionManager.setDefaultMaxPerRoute(apiClientConfig.getMaxPerRoute());
+        for (Map.Entry<String, Integer> routeLimit : apiClientConfig.getMaxPerRouteOverrides().entrySet()) {
+            connectionManager.setMaxPerRoute(APIClientUtils.buildHttpRoute(routeLimit.getKey()),
+                    routeLimit.getValue());
+        }
         httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(apiClientConfig.getIdleConnectionTimeoutInMillis(), TimeUnit.MILLISECONDS)
+                // Pooled TLS connections are otherwise tagged with the TLS principal and only leased to requests
+                // carrying the same user token, which none of the requests do.
+                .disableConnectionState()
                 .build();
         defaultResponseLimitInBytes = apiClientConfig.getResponseLimitInBytes();
 
         if (LOG.isDebugEnabled()) {
             LOG.debug(String.format("Initialized APIClient with configuration: readTimeout=%d, " +
-                            "connectionRequestTimeout=%d, connectionTimeout=%d, poolSize=%d, " +
-                            "responseLimitInBytes=%d",
+                            "connectionRequestTimeout=%d, connectionTimeout=%d, poolSize=%d, maxPerRoute=%d, " +
+                            "routeLimits=%s, idleConnectionTimeout=%d, responseLimitInBytes=%d",
                     apiClientConfig.getHttpReadTimeoutInMillis(),
                     apiClientConfig.getHttpConnectionRequestTimeoutInMillis(),
                     apiClientConfig.getHttpConnectionTimeoutInMillis(),
                     apiClientConfig.getPoolSizeToBeSet(),
+                    apiClientConfig.getMaxPerRoute(),
+                    apiClientConfig.getMaxPerRouteOverrides(),
+                    apiClientConfig.getIdleConnectionTimeoutInMillis(),
                     defaultResponseLimitInBytes
             ));
         }
@@ -142,6 +160,32 @@ public class APIClient {
         }
     }
 
+    /**
+     * Get the statistics of the whole connection pool.
+     *
+     * @return Leased, pending, available and max connections of the pool.
+     */
+    @Override
+    public PoolStats getConnectionPoolStats() {
+
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Get the connection pool statistics of each route which currently has connections or pending requests.
+     *
+     * @return Map of the route target, in the form scheme://host:port, to the statistics of the route.
+     */
+    @Override
+    public Map<String, PoolStats> getRouteConnectionPoolStats() {
+
+        Map<String, PoolStats> routeStats = new HashMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            routeStats.put(route.getTargetHost().toURI(), connectionManager.getStats(route));
+        }
+        return routeStats;
+    }
+
     private void setRequestHeaders(HttpRequestBase httpRequestBase, APIRequestContext requestContext) {
 
         Header authHeader = APIRequestBuildingUtils.buildAuthenticationHeader(requestContext.getApiAuthentication());
@@ -18,8 +18,12 @@
 
 package org.wso2.carbon.identity.external.api.client.internal.util;
 
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
 import org.wso2.carbon.identity.core.util.IdentityConfigParser;
 
+import java.net.URI;
+
 /**
  * Utility class for API Client component.
  */
@@ -33,6 +37,10 @@ public class APIClientUtils {
     private static final int DEFAULT_MAX_PER_ROUTE;
     private static final int DEFAULT_RETRY_COUNT;
     private static final long DEFAULT_RESPONSE_LIMIT;
+    private static final int DEFAULT_IDLE_CONNECTION_TIMEOUT_IN_MILLIS;
+    private static final int FALLBACK_IDLE_CONNECTION_TIMEOUT_IN_MILLIS = 30000;
+    private static final String HTTPS = "https";
+    private static final String HTTP = "http";
 
     static {
         DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = getProperty("ExternalAPIClient.HTTPClient.HTTPReadTimeout");
@@ -44,6 +52,8 @@ public class APIClientUtils {
         DEFAULT_MAX_PER_ROUTE = getProperty("ExternalAPIClient.HTTPClient.HTTPConnectionMaxPerRoute");
         DEFAULT_RETRY_COUNT = getProperty("ExternalAPIClient.DefaultRetryCount");
         DEFAULT_RESPONSE_LIMIT = getLongProperty("ExternalAPIClient.DefaultResponseLimit");
+        DEFAULT_IDLE_CONNECTION_TIMEOUT_IN_MILLIS = getProperty("ExternalAPIClient.HTTPClient.IdleConnectionTimeout",
+                FALLBACK_IDLE_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
     /**
@@ -116,6 +126,45 @@ public class APIClientUtils {
         return DEFAULT_RESPONSE_LIMIT;
     }
 
+    /**
+     * Gets the default time after which idle pooled connections are evicted.
+     *
+     * @return idle connection timeout in milliseconds.
+     */
+    public static int getDefaultIdleConnectionTimeoutInMillis() {
+
+        return DEFAULT_IDLE_CONNECTION_TIMEOUT_IN_MILLIS;
+    }
+
+    /**
+     * Builds the connection pool route of the given endpoint URL. The route only depends on the scheme, host and
+     * port of the URL, so that every endpoint of the same server shares the route.
+     *
+     * @param endpointUrl Absolute HTTP or HTTPS endpoint URL.
+     * @return Connection pool route of the endpoint.
+     * @throws IllegalArgumentException If the URL is not an absolute HTTP or HTTPS URL.
+     */
+    public static HttpRoute buildHttpRoute(String endpointUrl) {
+
+        URI uri = URI.create(endpointUrl);
+        String scheme = uri.getScheme();
+        if (uri.getHost() == null || (!HTTPS.equalsIgnoreCase(scheme) && !HTTP.equalsIgnoreCase(scheme))) {
+            throw new IllegalArgumentException("Endpoint URL must be an absolute HTTP or HTTPS URL: " + endpointUrl);
+        }
+        boolean secure = HTTPS.equalsIgnoreCase(scheme);
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getHost(), port, secure ? HTTPS : HTTP), null, secure);
+    }
+
+    private static int getProperty(String propertyName, int defaultValue) {
+
+        Object configValue = identityConfigParser.getConfiguration().get(propertyName);
+        if (configValue == null) {
+            return defaultValue;
+        }
+        return getProperty(propertyName);
+    }
+
     private static int getProperty(String propertyName) {
 
         Object configValue = identityConfigParser.getConfiguration().get(propertyName);
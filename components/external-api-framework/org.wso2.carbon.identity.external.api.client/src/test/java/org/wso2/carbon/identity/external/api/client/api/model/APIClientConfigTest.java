@@ -112,4 +112,36 @@ public class APIClientConfigTest {
 
         new APIClientConfig.Builder().responseLimitInBytes(-1L).build();
     }
+
+    /**
+     * Test that per route connection limits set via the builder are stored.
+     */
+    @Test
+    public void testBuilderStoresMaxPerRouteOverrides() throws APIClientConfigException {
+
+        APIClientConfig config = new APIClientConfig.Builder()
+                .maxPerRoute("https://api.example.com/token", 15)
+                .idleConnectionTimeoutInMillis(10000)
+                .build();
+        assertEquals(config.getMaxPerRouteOverrides().get("https://api.example.com/token"), Integer.valueOf(15));
+        assertEquals(config.getIdleConnectionTimeoutInMillis(), 10000);
+    }
+
+    /**
+     * Test that the builder throws an exception when a per route limit is set for a relative URL.
+     */
+    @Test(expectedExceptions = APIClientConfigException.class)
+    public void testBuilderThrowsOnInvalidRoute() throws APIClientConfigException {
+
+        new APIClientConfig.Builder().maxPerRoute("/token", 15).build();
+    }
+
+    /**
+     * Test that the builder throws an exception when a per route limit is zero.
+     */
+    @Test(expectedExceptions = APIClientConfigException.class)
+    public void testBuilderThrowsOnZeroMaxPerRoute() throws APIClientConfigException {
+
+        new APIClientConfig.Builder().maxPerRoute("https://api.example.com", 0).build();
+    }
 }
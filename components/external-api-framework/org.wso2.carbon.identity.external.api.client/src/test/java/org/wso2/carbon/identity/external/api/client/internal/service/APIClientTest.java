@@ -22,6 +22,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.pool.PoolStats;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -33,11 +34,13 @@ import org.wso2.carbon.identity.external.api.client.api.model.APIClientConfig;
 import org.wso2.carbon.identity.external.api.client.api.model.APIInvocationConfig;
 import org.wso2.carbon.identity.external.api.client.api.model.APIRequestContext;
 import org.wso2.carbon.identity.external.api.client.api.model.APIResponse;
+import org.wso2.carbon.identity.external.api.client.api.service.AbstractAPIClientManager;
 import org.wso2.carbon.utils.ServerConstants;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -45,7 +48,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
@@ -660,4 +668,80 @@ public class APIClientTest {
         assertNotNull(response);
         assertEquals(response.getResponseBody(), body);
     }
+
+    /**
+     * Test that the connection pool statistics reflect the per route limits and released connections.
+     */
+    @Test
+    public void testConnectionPoolStatsWithMaxPerRouteOverride() throws Exception {
+
+        httpServer = HttpServer.create(new InetSocketAddress(serverPort), 0);
+        httpServer.createContext(TEST_ENDPOINT, new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+
+                byte[] response = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(response);
+                }
+            }
+        });
+        httpServer.start();
+        baseUrl = "http://localhost:" + serverPort;
+
+        APIClientConfig config = new APIClientConfig.Builder()
+                .poolSizeToBeSet(20)
+                .defaultMaxPerRoute(2)
+                .maxPerRoute(baseUrl, 8)
+                .build();
+        APIClient routeLimitedClient = new APIClient(config);
+
+        APIRequestContext requestContext = new APIRequestContext.Builder()
+                .httpMethod(APIRequestContext.HttpMethod.GET)
+                .apiAuthentication(new APIAuthentication.Builder().authType(APIAuthentication.AuthType.NONE).build())
+                .endpointUrl(baseUrl + TEST_ENDPOINT)
+                .headers(new HashMap<>())
+                .build();
+        APIInvocationConfig invocationConfig = new APIInvocationConfig();
+        invocationConfig.setAllowedRetryCount(0);
+
+        routeLimitedClient.callAPI(requestContext, invocationConfig);
+
+        PoolStats routeStats = routeLimitedClient.getRouteConnectionPoolStats().get(baseUrl);
+        assertNotNull(routeStats);
+        assertEquals(routeStats.getMax(), 8);
+        assertEquals(routeStats.getLeased(), 0);
+        assertEquals(routeStats.getPending(), 0);
+        assertEquals(routeLimitedClient.getConnectionPoolStats().getMax(), 20);
+    }
+
+    /**
+     * Test that the connection pool statistics of an API client manager are published over JMX under the client name.
+     */
+    @Test
+    public void testConnectionPoolStatsArePublishedOverJmx() throws Exception {
+
+        AbstractAPIClientManager clientManager =
+                new AbstractAPIClientManager(new APIClientConfig.Builder().poolSizeToBeSet(15).build()) { };
+        AbstractAPIClientManager replacingClientManager =
+                new AbstractAPIClientManager(new APIClientConfig.Builder().poolSizeToBeSet(25).build()) { };
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(
+                "org.wso2.carbon.identity:type=ExternalAPIClientConnectionPool,name=\"TestClient\"");
+
+        clientManager.registerConnectionPoolMBean("TestClient");
+        try {
+            CompositeData poolStats = (CompositeData) mBeanServer.getAttribute(objectName, "ConnectionPoolStats");
+            assertEquals(poolStats.get("max"), 15);
+            assertEquals(poolStats.get("leased"), 0);
+
+            replacingClientManager.registerConnectionPoolMBean("TestClient");
+            poolStats = (CompositeData) mBeanServer.getAttribute(objectName, "ConnectionPoolStats");
+            assertEquals(poolStats.get("max"), 25);
+        } finally {
+            replacingClientManager.unregisterConnectionPoolMBean();
+        }
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
 }
@@ -19,16 +19,23 @@
 
 package org.wso2.carbon.identity.core;
 
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Thread Local aware executors class. This will return a ExecutorService
- * object which resolves MDC thread local in a multithreaded manner.
+ * object which resolves MDC, carbon context and identity context thread locals in a multithreaded manner.
  */
 public final class ThreadLocalAwareExecutors {
 
+    private static final String THREAD_POOL_CONFIG_PREFIX = "ThreadPools.";
+    private static final String USE_VIRTUAL_THREADS_CONFIG = ".UseVirtualThreads";
+
     private ThreadLocalAwareExecutors() { }
 
     public static ExecutorService newFixedThreadPool(final int nThreads) {
@@ -37,4 +44,79 @@ public final class ThreadLocalAwareExecutors {
                 0L, TimeUnit.MILLISECONDS,
                 new LinkedBlockingQueue<>());
     }
+
+    /**
+     * Create an executor which runs every task on a new virtual thread. Suited for tasks which mostly wait on I/O,
+     * since the number of concurrent tasks is not limited by a pool size.
+     *
+     * @param poolName Name of the pool, used as the prefix of the thread names.
+     * @return Executor service.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(final String poolName) {
+
+        // Idle threads are not kept, so that each task gets a fresh virtual thread.
+        return new ThreadLocalAwareThreadPoolExecutor(0, Integer.MAX_VALUE,
+                0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                Thread.ofVirtual().name(poolName + "-", 0).factory());
+    }
+
+    /**
+     * Create the executor of the given pool. The pool uses a virtual thread per task if
+     * ThreadPools.&lt;poolName&gt;.UseVirtualThreads is enabled in identity.xml, and a fixed pool of platform
+     * threads otherwise.
+     *
+     * @param poolName Name of the pool.
+     * @param nThreads Number of platform threads of the fixed pool.
+     * @return Executor service.
+     */
+    public static ExecutorService newThreadPool(final String poolName, final int nThreads) {
+
+        return newThreadPool(poolName, nThreads, isVirtualThreadsEnabled(poolName));
+    }
+
+    /**
+     * Create the executor of the given pool.
+     *
+     * @param poolName          Name of the pool.
+     * @param nThreads          Number of platform threads of the fixed pool.
+     * @param useVirtualThreads Whether to use a virtual thread per task instead of the fixed pool.
+     * @return Executor service.
+     */
+    public static ExecutorService newThreadPool(final String poolName, final int nThreads,
+                                                final boolean useVirtualThreads) {
+
+        if (useVirtualThreads) {
+            return newVirtualThreadPerTaskExecutor(poolName);
+        }
+        return newFixedThreadPool(nThreads);
+    }
+
+    /**
+     * Wrap the given task with the MDC, carbon context and identity context of the calling thread. Meant for tasks
+     * which are queued by the caller and handed over to an executor later by another thread, e.g. when a task is
+     * dispatched once an earlier task has finished, since the executors of this class capture the contexts of the
+     * thread which hands over the task.
+     *
+     * @param task Task to be wrapped.
+     * @param <V>  Result type of the task.
+     * @return Task which runs with the contexts of the calling thread.
+     */
+    public static <V> Callable<V> wrap(final Callable<V> task) {
+
+        ThreadLocalContextSnapshot snapshot = ThreadLocalContextSnapshot.capture();
+        return () -> snapshot.call(task);
+    }
+
+    /**
+     * Check whether the given pool is configured to use virtual threads.
+     *
+     * @param poolName Name of the pool.
+     * @return True if ThreadPools.&lt;poolName&gt;.UseVirtualThreads is enabled.
+     */
+    public static boolean isVirtualThreadsEnabled(final String poolName) {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(THREAD_POOL_CONFIG_PREFIX + poolName +
+                USE_VIRTUAL_THREADS_CONFIG));
+    }
 }
@@ -19,9 +19,6 @@
 
 package org.wso2.carbon.identity.core;
 
-import org.slf4j.MDC;
-
-import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
@@ -31,6 +28,8 @@ import java.util.concurrent.TimeUnit;
 /**
  * Thread local aware thread pool executor. This will wrap overridden methods in an
  * MDC aware manner to propagate parent MDC thread local values to newly created thread.
+ * The tenant and user of the carbon context and the identity context of the parent thread
+ * are propagated as well.
  */
 public class ThreadLocalAwareThreadPoolExecutor extends ThreadPoolExecutor {
 
@@ -76,30 +75,13 @@ public class ThreadLocalAwareThreadPoolExecutor extends ThreadPoolExecutor {
     @Override
     public void execute(Runnable command) {
 
-        super.execute(wrapWithMdcContext(command));
-    }
-
-    private Runnable wrapWithMdcContext(Runnable command) {
-
-        // Save the current MDC context
-        Map<String, String> contextMap = MDC.getCopyOfContextMap();
-
-        return () -> {
-            setMDCContext(contextMap);
-            try {
-                command.run();
-            } finally {
-                // Once the command is complete, clear MDC
-                MDC.clear();
-            }
-        };
+        super.execute(wrapWithThreadLocalContext(command));
     }
 
-    private void setMDCContext(Map<String, String> contextMap) {
+    private Runnable wrapWithThreadLocalContext(Runnable command) {
 
-        MDC.clear();
-        if (contextMap != null) {
-            MDC.setContextMap(contextMap);
-        }
+        // Save the current MDC, carbon and identity contexts
+        ThreadLocalContextSnapshot snapshot = ThreadLocalContextSnapshot.capture();
+        return () -> snapshot.run(command);
     }
 }
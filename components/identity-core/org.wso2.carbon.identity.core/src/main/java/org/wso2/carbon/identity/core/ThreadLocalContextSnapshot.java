@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.identity.core;
+
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.internal.context.IdentityContextDataHolder;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Snapshot of the MDC, the tenant and user of the carbon context and the identity context of a thread, which is
+ * applied to a task run on another thread.
+ */
+final class ThreadLocalContextSnapshot {
+
+    private final Map<String, String> contextMap;
+    private final String tenantDomain;
+    private final int tenantId;
+    private final String username;
+    private final IdentityContextDataHolder identityContextDataHolder;
+
+    private ThreadLocalContextSnapshot() {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        this.contextMap = MDC.getCopyOfContextMap();
+        this.tenantDomain = carbonContext.getTenantDomain();
+        this.tenantId = carbonContext.getTenantId();
+        this.username = carbonContext.getUsername();
+        this.identityContextDataHolder = IdentityContextDataHolder.getThreadLocalIdentityContextHolder().copy();
+    }
+
+    /**
+     * @return Snapshot of the contexts of the current thread.
+     */
+    static ThreadLocalContextSnapshot capture() {
+
+        return new ThreadLocalContextSnapshot();
+    }
+
+    /**
+     * Run the task with the captured contexts. The previous contexts of the current thread are restored once the
+     * task is complete, so that they do not leak to the next task of the thread.
+     *
+     * @param task Task.
+     */
+    void run(Runnable task) {
+
+        Map<String, String> previousContextMap = MDC.getCopyOfContextMap();
+        IdentityContextDataHolder previousIdentityContextDataHolder =
+                IdentityContextDataHolder.getThreadLocalIdentityContextHolder();
+        apply();
+        try {
+            task.run();
+        } finally {
+            restore(previousContextMap, previousIdentityContextDataHolder);
+        }
+    }
+
+    /**
+     * Call the task with the captured contexts. The previous contexts of the current thread are restored once the
+     * task is complete.
+     *
+     * @param task Task.
+     * @param <V>  Result type.
+     * @return Result of the task.
+     * @throws Exception If the task fails.
+     */
+    <V> V call(Callable<V> task) throws Exception {
+
+        Map<String, String> previousContextMap = MDC.getCopyOfContextMap();
+        IdentityContextDataHolder previousIdentityContextDataHolder =
+                IdentityContextDataHolder.getThreadLocalIdentityContextHolder();
+        apply();
+        try {
+            return task.call();
+        } finally {
+            restore(previousContextMap, previousIdentityContextDataHolder);
+        }
+    }
+
+    private void apply() {
+
+        setMDCContext(contextMap);
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(tenantDomain);
+        carbonContext.setTenantId(tenantId);
+        carbonContext.setUsername(username);
+        // Each run gets its own copy, so that a task run more than once does not see the changes of an earlier run.
+        IdentityContextDataHolder.setThreadLocalIdentityContextHolder(identityContextDataHolder.copy());
+    }
+
+    private static void restore(Map<String, String> previousContextMap,
+                                IdentityContextDataHolder previousIdentityContextDataHolder) {
+
+        IdentityContextDataHolder.setThreadLocalIdentityContextHolder(previousIdentityContextDataHolder);
+        PrivilegedCarbonContext.endTenantFlow();
+        setMDCContext(previousContextMap);
+    }
+
+    private static void setMDCContext(Map<String, String> contextMap) {
+
+        MDC.clear();
+        if (contextMap != null) {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces concurrent loads of the same cache key, so that only one thread loads a missing entry from the
+ * database while the other threads asking for the same key wait for the result of that load.
+ * <p>
+ * The key should identify the entry across tenants, e.g. by including the tenant domain. A thread waiting on a
+ * load which fails performs the load on its own, so that the error is reported to every caller.
+ * <p>
+ * Mutable values should be given a copier, so that the waiting threads do not share the instance returned to the
+ * loading thread. A waiting thread for which the copier fails performs the load on its own. Values which can not be
+ * copied can instead be read again by the waiting threads through
+ * {@link #load(Object, Loader, Loader)}, e.g. from the cache populated by the shared load.
+ *
+ * @param <K> Cache key type.
+ * @param <V> Cached value type.
+ */
+public class CacheLoadCoalescer<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final UnaryOperator<V> copier;
+
+    /**
+     * Create a coalescer which returns the loaded value itself to every caller. Meant for immutable values.
+     */
+    public CacheLoadCoalescer() {
+
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * @param copier Copies the loaded value for each thread which waited on the load of another thread.
+     */
+    public CacheLoadCoalescer(UnaryOperator<V> copier) {
+
+        this.copier = copier;
+    }
+
+    /**
+     * Load the value of the given key, joining a load of the same key which is already in progress.
+     *
+     * @param key    Cache key.
+     * @param loader Loader which reads the value from the underlying store and adds it to the cache.
+     * @param <E>    Exception thrown by the loader.
+     * @return Loaded value. May be null if the loader returns null.
+     * @throws E If the loader fails.
+     */
+    public <E extends Exception> V load(K key, Loader<V, E> loader) throws E {
+
+        return load(key, loader, null);
+    }
+
+    /**
+     * Load the value of the given key, joining a load of the same key which is already in progress. Instead of
+     * copying the value of the shared load, a thread which waited on it reads the value with the given reader.
+     *
+     * @param key    Cache key.
+     * @param loader Loader which reads the value from the underlying store and adds it to the cache.
+     * @param reader Reads the value once the shared load is completed, e.g. from the cache. Null to copy the value
+     *               of the shared load instead.
+     * @param <E>    Exception thrown by the loader.
+     * @return Loaded value. May be null if the loader returns null.
+     * @throws E If the loader or the reader fails.
+     */
+    public <E extends Exception> V load(K key, Loader<V, E> loader, Loader<V, E> reader) throws E {
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) {
+            coalescedCount.incrementAndGet();
+            try {
+                V value = inFlightLoad.get();
+                if (reader != null) {
+                    return reader.load();
+                }
+                return value != null ? copier.apply(value) : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | RuntimeException e) {
+                // Fall through and load on this thread, so that a failure of the shared load or of copying its
+                // value is reported to this caller as well.
+            }
+            return loader.load();
+        }
+
+        loadCount.incrementAndGet();
+        try {
+            V value = loader.load();
+            load.complete(value);
+            return value;
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    /**
+     * Detach the in progress load of the given key, if any, so that later calls start a new load. This should be
+     * called when the cache entry of the key is cleared, since a load started before the clear may return stale data.
+     *
+     * @param key Cache key.
+     */
+    public void invalidate(K key) {
+
+        inFlightLoads.remove(key);
+    }
+
+    /**
+     * @return Number of loads performed against the underlying store.
+     */
+    public long getLoadCount() {
+
+        return loadCount.get();
+    }
+
+    /**
+     * @return Number of calls which were served by joining a load of another thread.
+     */
+    public long getCoalescedCount() {
+
+        return coalescedCount.get();
+    }
+
+    /**
+     * Loads a value from the underlying store.
+     *
+     * @param <V> Value type.
+     * @param <E> Exception thrown by the loader.
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+
+        V load() throws E;
+    }
+}
@@ -166,6 +166,37 @@ public class IdentityContextDataHolder {
         this.organization = organization;
     }
 
+    /**
+     * Set the given IdentityContextDataHolder as the one of the current thread. Used to carry the context of a
+     * thread over to a task which runs on another thread.
+     *
+     * @param identityContextDataHolder IdentityContextDataHolder to be set.
+     */
+    public static void setThreadLocalIdentityContextHolder(IdentityContextDataHolder identityContextDataHolder) {
+
+        CarbonUtils.checkSecurity();
+        currentContextHolder.set(identityContextDataHolder);
+    }
+
+    /**
+     * Create a copy of this IdentityContextDataHolder. The nested flows are copied, so that entering or exiting a
+     * flow on the copy does not change this holder.
+     *
+     * @return Copy of the IdentityContextDataHolder.
+     */
+    public IdentityContextDataHolder copy() {
+
+        IdentityContextDataHolder copy = new IdentityContextDataHolder();
+        copy.request = request;
+        copy.flow = flow;
+        copy.actor = actor;
+        copy.accessTokenIssuedOrganization = accessTokenIssuedOrganization;
+        copy.rootOrganization = rootOrganization;
+        copy.organization = organization;
+        copy.flowSequence = new ArrayDeque<>(flowSequence);
+        return copy;
+    }
+
     /**
      * This method will destroy the current IdentityContextDataHolder.
      */
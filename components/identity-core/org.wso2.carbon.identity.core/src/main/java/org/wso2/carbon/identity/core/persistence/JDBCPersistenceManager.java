@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.core.persistence;
 
 import org.apache.axiom.om.OMElement;
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.tomcat.jdbc.pool.DataSourceProxy;
@@ -29,6 +30,10 @@ import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -48,10 +53,17 @@ public class JDBCPersistenceManager {
     public static final String SESSION_DATA_PERSIST = "SessionDataPersist";
     public static final String DATA_SOURCE = "DataSource";
     public static final String NAME = "Name";
+    public static final String READ_REPLICAS = "ReadReplicas";
+    public static final String RETRY_INTERVAL = "RetryInterval";
+    public static final String PRIMARY_READ_WINDOW = "PrimaryReadWindow";
+    private static final long DEFAULT_REPLICA_RETRY_INTERVAL = 30000;
+    private static final long DEFAULT_PRIMARY_READ_WINDOW = 1000;
     private static Log log = LogFactory.getLog(JDBCPersistenceManager.class);
     private static volatile JDBCPersistenceManager instance;
     private DataSource dataSource;
+    private DataSource writeTrackingDataSource;
     private DataSource sessionDataSource;
+    private ReadReplicaRouter readReplicaRouter = new ReadReplicaRouter(Collections.emptyList(), 0, 0);
     // This property refers to Active transaction state of postgresql db
     private static final String PG_ACTIVE_SQL_TRANSACTION_STATE = "25001";
     private static final String POSTGRESQL_DATABASE = "PostgreSQL";
@@ -136,12 +148,61 @@ public class JDBCPersistenceManager {
                 }
                 sessionDataSource = dataSource;
             }
+            OMElement readReplicasElem = persistenceManagerConfigElem.getFirstChildWithName(
+                    new QName(IdentityCoreConstants.IDENTITY_DEFAULT_NAMESPACE, READ_REPLICAS));
+            if (readReplicasElem != null) {
+                initReadReplicas(readReplicasElem);
+            }
         } catch (NamingException e) {
             String errorMsg = "Error when looking up the Identity Data Source.";
             throw IdentityRuntimeException.error(errorMsg, e);
         }
     }
 
+    private void initReadReplicas(OMElement readReplicasElem) throws NamingException {
+
+        List<DataSource> replicas = new ArrayList<>();
+        Context ctx = new InitialContext();
+        Iterator<?> dataSourceElems = readReplicasElem.getChildrenWithName(
+                new QName(IdentityCoreConstants.IDENTITY_DEFAULT_NAMESPACE, DATA_SOURCE));
+        while (dataSourceElems.hasNext()) {
+            OMElement replicaNameElem = ((OMElement) dataSourceElems.next()).getFirstChildWithName(
+                    new QName(IdentityCoreConstants.IDENTITY_DEFAULT_NAMESPACE, NAME));
+            if (replicaNameElem != null && StringUtils.isNotBlank(replicaNameElem.getText())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Read replica is configured for the Identity data source: " +
+                            replicaNameElem.getText());
+                }
+                replicas.add((DataSource) ctx.lookup(replicaNameElem.getText().trim()));
+            }
+        }
+        long retryInterval = getLongValue(readReplicasElem, RETRY_INTERVAL, DEFAULT_REPLICA_RETRY_INTERVAL);
+        long primaryReadWindow = getLongValue(readReplicasElem, PRIMARY_READ_WINDOW, DEFAULT_PRIMARY_READ_WINDOW);
+        initReadReplicaRouter(new ReadReplicaRouter(replicas, retryInterval, primaryReadWindow));
+    }
+
+    void initReadReplicaRouter(ReadReplicaRouter readReplicaRouter) {
+
+        this.readReplicaRouter = readReplicaRouter;
+        this.writeTrackingDataSource = readReplicaRouter.trackWrites(dataSource);
+    }
+
+    private long getLongValue(OMElement parentElem, String elementName, long defaultValue) {
+
+        OMElement elem = parentElem.getFirstChildWithName(
+                new QName(IdentityCoreConstants.IDENTITY_DEFAULT_NAMESPACE, elementName));
+        if (elem == null || StringUtils.isBlank(elem.getText())) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(elem.getText().trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + elem.getText() + " configured for " + elementName +
+                    " of the read replicas. Using the default value: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
     public void initializeDatabase() {
 
         IdentityDBInitializer dbInitializer = new IdentityDBInitializer(dataSource);
@@ -210,6 +271,9 @@ public class JDBCPersistenceManager {
     public Connection getDBConnection(boolean shouldApplyTransaction) throws IdentityRuntimeException {
 
         try {
+            if (shouldApplyTransaction) {
+                readReplicaRouter.onPrimaryWrite();
+            }
             Connection dbConnection = dataSource.getConnection();
             if (shouldApplyTransaction) {
                 dbConnection.setAutoCommit(false);
@@ -233,6 +297,24 @@ public class JDBCPersistenceManager {
         }
     }
 
+    /**
+     * Returns a database connection for read-only queries on the Identity data source. The connection is taken from
+     * one of the configured read replicas, and from the primary if no replica is configured or available, or if the
+     * current thread has written to the primary within the configured primary read window. Results read from a
+     * replica may be stale, so they must not be used to fill caches.
+     *
+     * @return Database connection.
+     * @throws IdentityRuntimeException Exception occurred when getting the data source.
+     */
+    public Connection getReadOnlyDBConnection() throws IdentityRuntimeException {
+
+        Connection dbConnection = readReplicaRouter.getConnection();
+        if (dbConnection != null) {
+            return dbConnection;
+        }
+        return getDBConnection(false);
+    }
+
     /**
      * Returns an database connection for Session data source.
      *
@@ -266,12 +348,18 @@ public class JDBCPersistenceManager {
         }
     }
     /**
-     * Returns Identity data source.
+     * Returns Identity data source. When read replicas are configured, the writes made through the connections of
+     * the data source, such as the ones made with the JDBC templates of
+     * {@link org.wso2.carbon.identity.core.util.JdbcUtils}, keep the read-only queries of the writing thread on the
+     * primary for the configured primary read window.
      *
      * @return Data source.
      */
     public DataSource getDataSource() {
 
+        if (writeTrackingDataSource != null) {
+            return writeTrackingDataSource;
+        }
         return dataSource;
     }
 
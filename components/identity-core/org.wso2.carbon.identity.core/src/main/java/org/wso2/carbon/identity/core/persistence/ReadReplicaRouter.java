@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.persistence;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.sql.DataSource;
+
+/**
+ * Routes read-only connections of the Identity data source to the configured read replicas.
+ * Replicas are used in round robin order. A replica which fails to provide a connection is skipped until the retry
+ * interval elapses. Replica connections are marked as read-only. Reads made by a thread shortly after it wrote to
+ * the primary are not routed, so that they observe their own writes regardless of the replication lag.
+ */
+public class ReadReplicaRouter {
+
+    private static final Log log = LogFactory.getLog(ReadReplicaRouter.class);
+
+    private final List<DataSource> replicas;
+    private final AtomicLongArray unavailableUntil;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final long retryIntervalNanos;
+    private final long primaryReadWindowNanos;
+    private final ThreadLocal<Long> lastPrimaryWrite = new ThreadLocal<>();
+
+    /**
+     * @param replicas                Read replica data sources.
+     * @param retryIntervalMillis     Time a failed replica is skipped before it is tried again.
+     * @param primaryReadWindowMillis Time reads stay on the primary after a write made by the same thread.
+     */
+    public ReadReplicaRouter(List<DataSource> replicas, long retryIntervalMillis, long primaryReadWindowMillis) {
+
+        this.replicas = new ArrayList<>(replicas);
+        this.unavailableUntil = new AtomicLongArray(replicas.size());
+        this.retryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(retryIntervalMillis);
+        this.primaryReadWindowNanos = TimeUnit.MILLISECONDS.toNanos(primaryReadWindowMillis);
+    }
+
+    /**
+     * Record that the current thread is about to write to the primary.
+     */
+    public void onPrimaryWrite() {
+
+        if (!replicas.isEmpty()) {
+            lastPrimaryWrite.set(System.nanoTime());
+        }
+    }
+
+    /**
+     * Wrap the data source of the primary so that the writes made through its connections are recorded with
+     * {@link #onPrimaryWrite()}.
+     *
+     * @param primary Data source of the primary.
+     * @return Wrapped data source, or the given data source if no replica is configured.
+     */
+    public DataSource trackWrites(DataSource primary) {
+
+        if (replicas.isEmpty() || primary == null) {
+            return primary;
+        }
+        return new WriteTrackingDataSource(primary, this);
+    }
+
+    /**
+     * Get a read-only connection from one of the available read replicas.
+     *
+     * @return Replica connection, or null if the read should be served by the primary.
+     */
+    public Connection getConnection() {
+
+        if (replicas.isEmpty() || isPrimaryReadRequired()) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            long now = System.nanoTime();
+            long retryAfter = unavailableUntil.get(index);
+            if (retryAfter != 0 && now - retryAfter < 0) {
+                continue;
+            }
+            try {
+                return getReadOnlyConnection(replicas.get(index));
+            } catch (SQLException | RuntimeException e) {
+                unavailableUntil.set(index, now + retryIntervalNanos);
+                log.warn("Error when getting a database connection from the read replica " + index +
+                        " of the Identity data source. The replica will be skipped for " +
+                        TimeUnit.NANOSECONDS.toMillis(retryIntervalNanos) + " ms.", e);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("No read replica of the Identity data source is available. Reading from the primary.");
+        }
+        return null;
+    }
+
+    private static Connection getReadOnlyConnection(DataSource replica) throws SQLException {
+
+        Connection connection = replica.getConnection();
+        try {
+            connection.setReadOnly(true);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    public boolean hasReplicas() {
+
+        return !replicas.isEmpty();
+    }
+
+    private boolean isPrimaryReadRequired() {
+
+        Long lastWrite = lastPrimaryWrite.get();
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < primaryReadWindowNanos) {
+            return true;
+        }
+        lastPrimaryWrite.remove();
+        return false;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.persistence;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Data source of the primary which records the writes made through its connections with the
+ * {@link ReadReplicaRouter}, so that the following reads of the writing thread are served by the primary.
+ * A connection is considered to write once a transaction is started on it or a statement other than a query is
+ * prepared on it. Plain statements are considered to write as their SQL is not known when they are created.
+ */
+class WriteTrackingDataSource implements DataSource {
+
+    private static final String QUERY_KEYWORD = "SELECT";
+
+    private final DataSource dataSource;
+    private final ReadReplicaRouter readReplicaRouter;
+
+    WriteTrackingDataSource(DataSource dataSource, ReadReplicaRouter readReplicaRouter) {
+
+        this.dataSource = dataSource;
+        this.readReplicaRouter = readReplicaRouter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        return trackWrites(dataSource.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+
+        return trackWrites(dataSource.getConnection(username, password));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+
+        if (iface.isInstance(dataSource)) {
+            return iface.cast(dataSource);
+        }
+        return dataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+
+        return iface.isInstance(dataSource) || dataSource.isWrapperFor(iface);
+    }
+
+    private Connection trackWrites(Connection connection) {
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> invoke(connection, proxy, method, args));
+    }
+
+    private Object invoke(Connection connection, Object proxy, Method method, Object[] args) throws Throwable {
+
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "setAutoCommit":
+                if (Boolean.FALSE.equals(args[0])) {
+                    readReplicaRouter.onPrimaryWrite();
+                }
+                break;
+            case "prepareStatement":
+            case "prepareCall":
+                if (!isQuery((String) args[0])) {
+                    readReplicaRouter.onPrimaryWrite();
+                }
+                break;
+            case "createStatement":
+                readReplicaRouter.onPrimaryWrite();
+                break;
+            default:
+                break;
+        }
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Check whether the given SQL is a query. Leading white spaces, parentheses and comments are skipped.
+     *
+     * @param sql SQL statement.
+     * @return True if the statement starts with SELECT.
+     */
+    static boolean isQuery(String sql) {
+
+        if (sql == null) {
+            return false;
+        }
+        int index = 0;
+        while (index < sql.length()) {
+            char c = sql.charAt(index);
+            if (Character.isWhitespace(c) || c == '(') {
+                index++;
+            } else if (sql.startsWith("--", index)) {
+                int end = sql.indexOf('\n', index);
+                index = end < 0 ? sql.length() : end + 1;
+            } else if (sql.startsWith("/*", index)) {
+                int end = sql.indexOf("*/", index + 2);
+                index = end < 0 ? sql.length() : end + 2;
+            } else {
+                break;
+            }
+        }
+        return sql.regionMatches(true, index, QUERY_KEYWORD, 0, QUERY_KEYWORD.length());
+    }
+}
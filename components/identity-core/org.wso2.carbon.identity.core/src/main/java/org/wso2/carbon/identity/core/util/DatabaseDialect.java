@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+/**
+ * SQL dialects of the databases supported by the identity components.
+ */
+public enum DatabaseDialect {
+
+    H2, MYSQL, MARIADB, ORACLE, POSTGRESQL, MSSQL, DB2, INFORMIX, UNKNOWN;
+
+    /**
+     * Resolve the dialect of a database from its product name, falling back to the driver name when the product
+     * name is not recognized.
+     *
+     * @param databaseProductName Database product name.
+     * @param driverName          JDBC driver name.
+     * @return Database dialect. {@link #UNKNOWN} if the database is not recognized.
+     */
+    public static DatabaseDialect resolve(String databaseProductName, String driverName) {
+
+        DatabaseDialect dialect = resolve(databaseProductName);
+        return dialect != UNKNOWN ? dialect : resolve(driverName);
+    }
+
+    private static DatabaseDialect resolve(String name) {
+
+        if (name == null) {
+            return UNKNOWN;
+        }
+        // MariaDB is checked before MySQL since MariaDB can be accessed with the MySQL driver.
+        if (name.contains(IdentityCoreConstants.MARIADB)) {
+            return MARIADB;
+        } else if (name.contains(IdentityCoreConstants.MY_SQL)) {
+            return MYSQL;
+        } else if (name.contains(IdentityCoreConstants.H2)) {
+            return H2;
+        } else if (name.contains(IdentityCoreConstants.ORACLE)) {
+            return ORACLE;
+        } else if (name.contains(IdentityCoreConstants.POSTGRE_SQL)) {
+            return POSTGRESQL;
+        } else if (name.contains(IdentityCoreConstants.MICROSOFT) ||
+                name.toLowerCase().contains(IdentityCoreConstants.S_MICROSOFT)) {
+            return MSSQL;
+        } else if (name.contains(IdentityCoreConstants.DB2)) {
+            return DB2;
+        } else if (name.contains(IdentityCoreConstants.INFORMIX)) {
+            return INFORMIX;
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.database.utils.jdbc.JdbcTemplate;
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+/**
+ * Registry of the dialects of the data sources used by the identity components. The metadata of a data source is
+ * read once, when the data source is first used, so that the database type checks do not borrow a connection to
+ * read the database metadata on every call.
+ */
+public class DatabaseDialectRegistry {
+
+    private static final Log log = LogFactory.getLog(DatabaseDialectRegistry.class);
+
+    // Keyed by the data source instance, so that a re-initialized data source is detected again. The data sources
+    // live as long as the server, so the map only holds a handful of entries.
+    private static final Map<DataSource, DatabaseMetadata> detectedDatabases = new ConcurrentHashMap<>();
+
+    private DatabaseDialectRegistry() {
+
+    }
+
+    /**
+     * Get the dialect of the given data source.
+     *
+     * @param dataSource Data source.
+     * @return Database dialect.
+     * @throws DataAccessException If an error occurred while reading the metadata of the data source.
+     */
+    public static DatabaseDialect getDialect(DataSource dataSource) throws DataAccessException {
+
+        return getDatabaseMetadata(dataSource).getDialect();
+    }
+
+    /**
+     * Get the dialect of the database of the given connection. This is meant for the callers which already hold a
+     * connection, without a reference to its data source.
+     *
+     * @param connection Database connection.
+     * @return Database dialect.
+     * @throws SQLException If an error occurred while reading the metadata of the connection.
+     */
+    public static DatabaseDialect getDialect(Connection connection) throws SQLException {
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        return DatabaseDialect.resolve(metaData.getDatabaseProductName(), metaData.getDriverName());
+    }
+
+    /**
+     * Get the metadata of the given data source, reading it from the database on the first call.
+     *
+     * @param dataSource Data source.
+     * @return Database metadata.
+     * @throws DataAccessException If an error occurred while reading the metadata of the data source.
+     */
+    public static DatabaseMetadata getDatabaseMetadata(DataSource dataSource) throws DataAccessException {
+
+        DatabaseMetadata databaseMetadata = detectedDatabases.get(dataSource);
+        if (databaseMetadata == null) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            databaseMetadata = new DatabaseMetadata(jdbcTemplate.getDriverName(),
+                    jdbcTemplate.getDatabaseProductName());
+            DatabaseMetadata existingMetadata = detectedDatabases.putIfAbsent(dataSource, databaseMetadata);
+            if (existingMetadata != null) {
+                return existingMetadata;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Detected the database: " + databaseMetadata.getDatabaseProductName() + " with the " +
+                        "driver: " + databaseMetadata.getDriverName() + " as the dialect: " +
+                        databaseMetadata.getDialect());
+            }
+        }
+        return databaseMetadata;
+    }
+
+    /**
+     * Clear the detected databases, so that the metadata is read again on the next call.
+     */
+    public static void clear() {
+
+        detectedDatabases.clear();
+    }
+
+    /**
+     * Metadata of a database which is needed to select the SQL variant of a query.
+     */
+    public static class DatabaseMetadata {
+
+        private final String driverName;
+        private final String databaseProductName;
+        private final DatabaseDialect dialect;
+
+        public DatabaseMetadata(String driverName, String databaseProductName) {
+
+            this.driverName = driverName != null ? driverName : "";
+            this.databaseProductName = databaseProductName != null ? databaseProductName : "";
+            this.dialect = DatabaseDialect.resolve(databaseProductName, driverName);
+        }
+
+        public String getDriverName() {
+
+            return driverName;
+        }
+
+        public String getDatabaseProductName() {
+
+            return databaseProductName;
+        }
+
+        public DatabaseDialect getDialect() {
+
+            return dialect;
+        }
+
+        /**
+         * Check whether the driver name or the product name of the database contains the given database type.
+         *
+         * @param dbType Database type string.
+         * @return True if the database is of the given type.
+         */
+        public boolean isTypeOf(String dbType) {
+
+            return driverName.contains(dbType) || databaseProductName.contains(dbType);
+        }
+    }
+}
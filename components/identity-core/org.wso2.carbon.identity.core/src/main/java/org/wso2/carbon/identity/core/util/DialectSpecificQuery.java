@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A SQL query with variants for specific database dialects. Instances are meant to be created once, e.g. as
+ * constants of a DAO, so that selecting the query of the database in use is a lookup on the detected dialect.
+ * <pre>
+ * private static final DialectSpecificQuery GET_PROPERTY = new DialectSpecificQuery(GET_PROPERTY_SQL)
+ *         .with(GET_PROPERTY_SQL_H2, DatabaseDialect.H2);
+ * ...
+ * String query = GET_PROPERTY.get(JdbcUtils.Database.IDENTITY);
+ * </pre>
+ */
+public class DialectSpecificQuery {
+
+    private final String defaultQuery;
+    private final Map<DatabaseDialect, String> queries;
+
+    /**
+     * @param defaultQuery Query used for the dialects without a specific variant.
+     */
+    public DialectSpecificQuery(String defaultQuery) {
+
+        this(defaultQuery, new EnumMap<>(DatabaseDialect.class));
+    }
+
+    private DialectSpecificQuery(String defaultQuery, Map<DatabaseDialect, String> queries) {
+
+        this.defaultQuery = defaultQuery;
+        this.queries = queries;
+    }
+
+    /**
+     * Create a copy of this query with the given variant for the given dialects.
+     *
+     * @param query    Query variant.
+     * @param dialects Dialects which use the variant.
+     * @return Query with the variant.
+     */
+    public DialectSpecificQuery with(String query, DatabaseDialect... dialects) {
+
+        Map<DatabaseDialect, String> variants = new EnumMap<>(DatabaseDialect.class);
+        variants.putAll(queries);
+        for (DatabaseDialect dialect : dialects) {
+            variants.put(dialect, query);
+        }
+        return new DialectSpecificQuery(defaultQuery, variants);
+    }
+
+    /**
+     * Get the query for the given dialect.
+     *
+     * @param dialect Database dialect.
+     * @return Query variant of the dialect, or the default query if there is no variant for the dialect.
+     */
+    public String get(DatabaseDialect dialect) {
+
+        String query = dialect != null ? queries.get(dialect) : null;
+        return query != null ? query : defaultQuery;
+    }
+
+    /**
+     * Get the query for the dialect of the given database.
+     *
+     * @param database Database type.
+     * @return Query variant of the database.
+     * @throws DataAccessException If an error occurred while detecting the dialect of the database.
+     */
+    public String get(JdbcUtils.Database database) throws DataAccessException {
+
+        return get(JdbcUtils.getDatabaseDialect(database));
+    }
+}
@@ -81,6 +81,19 @@ public class IdentityDatabaseUtil {
         return JDBCPersistenceManager.getInstance().getDBConnection(shouldApplyTransaction);
     }
 
+    /**
+     * Get a database connection instance for read-only queries from the Identity Persistence Manager. The connection
+     * is served by a read replica of the Identity database when replicas are configured, and by the primary otherwise.
+     * The connection must only be used for queries that tolerate the replication lag of the replicas.
+     *
+     * @return Database Connection
+     * @throws IdentityRuntimeException Error when getting a database connection to Identity database
+     */
+    public static Connection getReadOnlyDBConnection() throws IdentityRuntimeException {
+
+        return JDBCPersistenceManager.getInstance().getReadOnlyDBConnection();
+    }
+
     /**
      * Get a database connection instance from the Session Persistence.
      *
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.core.util;
 import org.wso2.carbon.database.utils.jdbc.JdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+import org.wso2.carbon.identity.core.persistence.UmPersistenceManager;
 
 import javax.sql.DataSource;
 
@@ -43,7 +44,7 @@ public class JdbcUtils {
      * Enum to select the database type.
      */
     public enum Database {
-        IDENTITY, SESSION
+        IDENTITY, SESSION, USER
     }
 
     /**
@@ -64,13 +65,7 @@ public class JdbcUtils {
      */
     public static JdbcTemplate getNewTemplate(Database database) {
 
-        DataSource dataSource;
-        if (Database.SESSION.equals(database)) {
-            dataSource = IdentityDatabaseUtil.getSessionDataSource();
-        } else {
-            dataSource = IdentityDatabaseUtil.getDataSource();
-        }
-        return new JdbcTemplate(dataSource);
+        return new JdbcTemplate(getDataSource(database));
     }
 
     /**
@@ -91,13 +86,30 @@ public class JdbcUtils {
      */
     public static NamedJdbcTemplate getNewNamedJdbcTemplate(Database database) {
 
-        DataSource dataSource;
-        if (Database.SESSION.equals(database)) {
-            dataSource = IdentityDatabaseUtil.getSessionDataSource();
-        } else {
-            dataSource = IdentityDatabaseUtil.getDataSource();
-        }
-        return new NamedJdbcTemplate(dataSource);
+        return new NamedJdbcTemplate(getDataSource(database));
+    }
+
+    /**
+     * Get the dialect of the identity database.
+     *
+     * @return Database dialect.
+     * @throws DataAccessException if error occurred while checking the DB metadata.
+     */
+    public static DatabaseDialect getDatabaseDialect() throws DataAccessException {
+
+        return getDatabaseDialect(Database.IDENTITY);
+    }
+
+    /**
+     * Get the dialect of the given database type. The dialect is detected once per data source.
+     *
+     * @param database Database type.
+     * @return Database dialect.
+     * @throws DataAccessException if error occurred while checking the DB metadata.
+     */
+    public static DatabaseDialect getDatabaseDialect(Database database) throws DataAccessException {
+
+        return DatabaseDialectRegistry.getDialect(getDataSource(database));
     }
 
     /**
@@ -396,7 +408,16 @@ public class JdbcUtils {
      */
     private static boolean isDBTypeOf(String dbType, Database database) throws DataAccessException {
 
-        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate(database);
-        return jdbcTemplate.getDriverName().contains(dbType) || jdbcTemplate.getDatabaseProductName().contains(dbType);
+        return DatabaseDialectRegistry.getDatabaseMetadata(getDataSource(database)).isTypeOf(dbType);
+    }
+
+    private static DataSource getDataSource(Database database) {
+
+        if (Database.SESSION.equals(database)) {
+            return IdentityDatabaseUtil.getSessionDataSource();
+        } else if (Database.USER.equals(database)) {
+            return UmPersistenceManager.getInstance().getDataSource();
+        }
+        return IdentityDatabaseUtil.getDataSource();
     }
 }
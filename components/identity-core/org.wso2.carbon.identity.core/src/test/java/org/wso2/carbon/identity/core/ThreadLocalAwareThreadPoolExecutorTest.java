@@ -24,12 +24,26 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.context.IdentityContext;
+import org.wso2.carbon.identity.core.context.model.Flow;
 
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -45,6 +59,9 @@ public class ThreadLocalAwareThreadPoolExecutorTest {
     @BeforeClass
     public void setUp() {
 
+        URL root = this.getClass().getClassLoader().getResource(".");
+        File file = new File(root.getPath());
+        System.setProperty("carbon.home", file.getAbsolutePath());
         executorService = ThreadLocalAwareExecutors.newFixedThreadPool(5);
     }
 
@@ -54,6 +71,15 @@ public class ThreadLocalAwareThreadPoolExecutorTest {
         setupMDC(DEFAULT_TENANT_DOMAIN, DEFAULT_TENANT_ID);
     }
 
+    @DataProvider(name = "virtualThreadsDataProvider")
+    public Object[][] getVirtualThreadsData() {
+
+        return new Object[][]{
+                {false},
+                {true},
+        };
+    }
+
     @DataProvider(name = "mdcDataProvider")
     public Object[][] getResourceToObjectData() {
 
@@ -98,6 +124,138 @@ public class ThreadLocalAwareThreadPoolExecutorTest {
         assertTrue(executorService instanceof ThreadLocalAwareThreadPoolExecutor);
     }
 
+    @Test
+    public void testMDCThreadLocalForVirtualThreadPerTaskExecutor() throws Exception {
+
+        ExecutorService virtualThreadExecutor = ThreadLocalAwareExecutors.newVirtualThreadPerTaskExecutor("test");
+        try {
+            setupMDC("tenant7", 7);
+            Future<String> tenantDomain = virtualThreadExecutor.submit(() -> MDC.get("tenantDomain"));
+            Future<Boolean> isVirtual = virtualThreadExecutor.submit(() -> Thread.currentThread().isVirtual());
+
+            assertEquals(tenantDomain.get(), "tenant7");
+            assertTrue(isVirtual.get());
+        } finally {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void testNewThreadPoolWithPlatformThreads() throws Exception {
+
+        ExecutorService platformThreadExecutor = ThreadLocalAwareExecutors.newThreadPool("test", 3, false);
+        try {
+            assertEquals(((ThreadPoolExecutor) platformThreadExecutor).getMaximumPoolSize(), 3);
+            assertFalse(platformThreadExecutor.submit(() -> Thread.currentThread().isVirtual()).get());
+        } finally {
+            platformThreadExecutor.shutdown();
+        }
+    }
+
+    @Test(dataProvider = "virtualThreadsDataProvider")
+    public void testCarbonAndIdentityContextForSubmit(boolean useVirtualThreads) throws Exception {
+
+        // A single platform thread, so that the follow up task runs on the thread which ran the first task.
+        ExecutorService executor = ThreadLocalAwareExecutors.newThreadPool("test", 1, useVirtualThreads);
+        Flow flow = new Flow.Builder()
+                .name(Flow.Name.REGISTER)
+                .initiatingPersona(Flow.InitiatingPersona.USER)
+                .build();
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain("tenant8");
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(8);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername("user8");
+            IdentityContext.getThreadLocalIdentityContext().enterFlow(flow);
+
+            Future<String> tenantDomain = executor.submit(
+                    () -> PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            Future<Integer> tenantId = executor.submit(
+                    () -> PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+            Future<String> username = executor.submit(
+                    () -> PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername());
+            Future<Flow> currentFlow = executor.submit(
+                    () -> IdentityContext.getThreadLocalIdentityContext().exitFlow());
+
+            assertEquals(tenantDomain.get(), "tenant8");
+            assertEquals(tenantId.get().intValue(), 8);
+            assertEquals(username.get(), "user8");
+            assertEquals(currentFlow.get(), flow);
+            // Exiting the flow in the task does not change the identity context of the submitting thread.
+            assertEquals(IdentityContext.getThreadLocalIdentityContext().getCurrentFlow(), flow);
+        } finally {
+            IdentityContext.destroyCurrentContext();
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        try {
+            // The contexts of an earlier task do not leak to a task submitted without them.
+            assertNull(executor.submit(() -> PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername())
+                    .get());
+            assertNull(executor.submit(() -> IdentityContext.getThreadLocalIdentityContext().getCurrentFlow())
+                    .get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPlatformThreadPoolBoundsConcurrentSlowTasks() throws Exception {
+
+        int tasks = 200;
+        int poolSize = 10;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService platformThreadExecutor = ThreadLocalAwareExecutors.newThreadPool("test", poolSize, false);
+        try {
+            setupMDC("tenant9", 9);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                results.add(platformThreadExecutor.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        // Simulates a slow downstream call.
+                        Thread.sleep(5);
+                        return MDC.get("tenantDomain");
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals(result.get(30, TimeUnit.SECONDS), "tenant9");
+            }
+            assertTrue(maxRunning.get() <= poolSize, "More tasks ran concurrently than the pool size.");
+        } finally {
+            platformThreadExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPerTaskRunsAllSlowTasksConcurrently() throws Exception {
+
+        // Every task waits until all the tasks have started, which only completes if none of them is queued.
+        int tasks = 200;
+        CountDownLatch started = new CountDownLatch(tasks);
+        ExecutorService virtualThreadExecutor = ThreadLocalAwareExecutors.newThreadPool("test", 10, true);
+        try {
+            setupMDC("tenant10", 10);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                results.add(virtualThreadExecutor.submit(() -> {
+                    started.countDown();
+                    assertTrue(started.await(30, TimeUnit.SECONDS), "Tasks were not run concurrently.");
+                    return MDC.get("tenantDomain");
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals(result.get(30, TimeUnit.SECONDS), "tenant10");
+            }
+        } finally {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
     private static void setupMDC(String tenantDomain, int tenantID) {
         Map<String, String> contextMap = new HashMap<>();
         contextMap.put("tenantDomain", tenantDomain);
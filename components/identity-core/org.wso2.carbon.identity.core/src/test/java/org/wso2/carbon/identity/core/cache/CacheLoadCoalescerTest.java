@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test for the cache load coalescer.
+ */
+public class CacheLoadCoalescerTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    public void testConcurrentLoadsOfSameKeyAreCoalesced() throws Exception {
+
+        CacheLoadCoalescer<String, String> coalescer = new CacheLoadCoalescer<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> coalescer.load("carbon.super:app", () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "app";
+            })));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < THREAD_COUNT; i++) {
+                results.add(executor.submit(() -> coalescer.load("carbon.super:app", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            waitForCoalescedCalls(coalescer, THREAD_COUNT - 1);
+            releaseLoad.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals(result.get(5, TimeUnit.SECONDS), "app");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(loads.get(), 1);
+        assertEquals(coalescer.getLoadCount(), 1);
+        assertEquals(coalescer.getCoalescedCount(), THREAD_COUNT - 1);
+    }
+
+    @Test
+    public void testWaitingCallersReceiveCopies() throws Exception {
+
+        CacheLoadCoalescer<String, List<String>> coalescer = new CacheLoadCoalescer<>(ArrayList::new);
+        List<String> loadedValue = new ArrayList<>();
+        loadedValue.add("app");
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> sharedLoad = executor.submit(() -> coalescer.load("key", () -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                return loadedValue;
+            }));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            Future<List<String>> waitingLoad = executor.submit(() -> coalescer.load("key", ArrayList::new));
+            waitForCoalescedCalls(coalescer, 1);
+            releaseLoad.countDown();
+
+            assertSame(sharedLoad.get(5, TimeUnit.SECONDS), loadedValue);
+            List<String> copy = waitingLoad.get(5, TimeUnit.SECONDS);
+            assertNotSame(copy, loadedValue);
+            assertEquals(copy, loadedValue);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWaitingCallerLoadsWhenCopyFails() throws Exception {
+
+        CacheLoadCoalescer<String, String> coalescer = new CacheLoadCoalescer<>(value -> {
+            throw new IllegalStateException("Value is not serializable.");
+        });
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> sharedLoad = executor.submit(() -> coalescer.load("key", () -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "shared";
+            }));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            Future<String> waitingLoad = executor.submit(() -> coalescer.load("key", () -> "own"));
+            waitForCoalescedCalls(coalescer, 1);
+            releaseLoad.countDown();
+
+            assertEquals(sharedLoad.get(5, TimeUnit.SECONDS), "shared");
+            assertEquals(waitingLoad.get(5, TimeUnit.SECONDS), "own");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWaitingCallerReadsValueWithReader() throws Exception {
+
+        CacheLoadCoalescer<String, String> coalescer = new CacheLoadCoalescer<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> sharedLoad = executor.submit(() -> coalescer.load("key", () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "loaded";
+            }, () -> "cached"));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            Future<String> waitingLoad = executor.submit(() -> coalescer.load("key", () -> {
+                loads.incrementAndGet();
+                return "own";
+            }, () -> "cached"));
+            waitForCoalescedCalls(coalescer, 1);
+            releaseLoad.countDown();
+
+            assertEquals(sharedLoad.get(5, TimeUnit.SECONDS), "loaded");
+            assertEquals(waitingLoad.get(5, TimeUnit.SECONDS), "cached");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testSequentialLoadsAreNotCoalesced() throws Exception {
+
+        CacheLoadCoalescer<String, String> coalescer = new CacheLoadCoalescer<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(coalescer.load("key", () -> "value-" + loads.incrementAndGet()), "value-1");
+        assertEquals(coalescer.load("key", () -> "value-" + loads.incrementAndGet()), "value-2");
+        assertNull(coalescer.load("missing", () -> null));
+        assertEquals(coalescer.getCoalescedCount(), 0);
+    }
+
+    @Test
+    public void testWaitingCallerLoadsWhenSharedLoadFails() throws Exception {
+
+        CacheLoadCoalescer<String, String> coalescer = new CacheLoadCoalescer<>();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> failingLoad = executor.submit(() -> coalescer.load("key", () -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                throw new IllegalStateException("Database is not available.");
+            }));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            Future<String> waitingLoad = executor.submit(() -> coalescer.load("key", () -> "value"));
+            waitForCoalescedCalls(coalescer, 1);
+            releaseLoad.countDown();
+
+            assertEquals(waitingLoad.get(5, TimeUnit.SECONDS), "value");
+            try {
+                failingLoad.get(5, TimeUnit.SECONDS);
+                fail("The failure of the load should be reported to its caller.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidateStartsNewLoad() throws Exception {
+
+        CacheLoadCoalescer<String, String> coalescer = new CacheLoadCoalescer<>();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> staleLoad = executor.submit(() -> coalescer.load("key", () -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "stale";
+            }));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            coalescer.invalidate("key");
+
+            assertEquals(coalescer.load("key", () -> "fresh"), "fresh");
+            releaseLoad.countDown();
+            assertEquals(staleLoad.get(5, TimeUnit.SECONDS), "stale");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(coalescer.getLoadCount(), 2);
+    }
+
+    private void waitForCoalescedCalls(CacheLoadCoalescer<?, ?> coalescer, long expected)
+            throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(coalescer.getCoalescedCount(), expected);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.persistence;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for the read replica routing of {@link JDBCPersistenceManager}.
+ */
+public class JDBCPersistenceManagerTest {
+
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private JDBCPersistenceManager persistenceManager;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        DataSource primary = mockDataSource(primaryConnection);
+        DataSource replica = mockDataSource(replicaConnection);
+
+        persistenceManager = mock(JDBCPersistenceManager.class, CALLS_REAL_METHODS);
+        Field dataSourceField = JDBCPersistenceManager.class.getDeclaredField("dataSource");
+        dataSourceField.setAccessible(true);
+        dataSourceField.set(persistenceManager, primary);
+        persistenceManager.initReadReplicaRouter(new ReadReplicaRouter(Collections.singletonList(replica), 1000,
+                60000));
+    }
+
+    @Test
+    public void testReadAfterGetDataSourceGoesToReplica() throws Exception {
+
+        DataSource dataSource = persistenceManager.getDataSource();
+        dataSource.getConnection().prepareStatement("SELECT NAME FROM IDN_TABLE WHERE ID = ?");
+
+        assertSame(persistenceManager.getReadOnlyDBConnection(), replicaConnection);
+        verify(replicaConnection).setReadOnly(true);
+    }
+
+    @Test
+    public void testReadAfterWriteThroughDataSourceGoesToPrimary() throws Exception {
+
+        persistenceManager.getDataSource().getConnection()
+                .prepareStatement("DELETE FROM IDN_TABLE WHERE ID = ?");
+
+        Connection connection = persistenceManager.getReadOnlyDBConnection();
+        assertSame(connection, primaryConnection);
+    }
+
+    @Test
+    public void testReadAfterTransactionalConnectionGoesToPrimary() {
+
+        persistenceManager.getDBConnection(true);
+
+        assertSame(persistenceManager.getReadOnlyDBConnection(), primaryConnection);
+    }
+
+    private DataSource mockDataSource(Connection connection) throws SQLException {
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
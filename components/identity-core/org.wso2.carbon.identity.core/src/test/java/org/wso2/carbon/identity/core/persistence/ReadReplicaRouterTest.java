@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.persistence;
+
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReadReplicaRouter}.
+ */
+public class ReadReplicaRouterTest {
+
+    @Test
+    public void testNoReplicasConfigured() {
+
+        ReadReplicaRouter router = new ReadReplicaRouter(Collections.emptyList(), 1000, 1000);
+        router.onPrimaryWrite();
+        assertNull(router.getConnection());
+    }
+
+    @Test
+    public void testRoundRobinAcrossReplicas() throws Exception {
+
+        Connection firstConnection = mock(Connection.class);
+        Connection secondConnection = mock(Connection.class);
+        DataSource firstReplica = mockDataSource(firstConnection);
+        DataSource secondReplica = mockDataSource(secondConnection);
+
+        ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(firstReplica, secondReplica), 1000, 1000);
+        assertSame(router.getConnection(), firstConnection);
+        assertSame(router.getConnection(), secondConnection);
+        assertSame(router.getConnection(), firstConnection);
+    }
+
+    @Test
+    public void testFailedReplicaIsSkippedUntilRetryInterval() throws Exception {
+
+        DataSource failingReplica = mock(DataSource.class);
+        when(failingReplica.getConnection()).thenThrow(new SQLException("Replica is down."));
+        Connection connection = mock(Connection.class);
+        DataSource replica = mockDataSource(connection);
+
+        ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(failingReplica, replica), 60000, 1000);
+        for (int i = 0; i < 4; i++) {
+            assertSame(router.getConnection(), connection);
+        }
+        verify(failingReplica, times(1)).getConnection();
+
+        router = new ReadReplicaRouter(Arrays.asList(failingReplica, replica), 0, 1000);
+        router.getConnection();
+        router.getConnection();
+        verify(failingReplica, times(2)).getConnection();
+    }
+
+    @Test
+    public void testFallbackToPrimaryWhenAllReplicasFail() throws Exception {
+
+        DataSource failingReplica = mock(DataSource.class);
+        when(failingReplica.getConnection()).thenThrow(new SQLException("Replica is down."));
+
+        ReadReplicaRouter router = new ReadReplicaRouter(Collections.singletonList(failingReplica), 60000, 1000);
+        assertNull(router.getConnection());
+        assertNull(router.getConnection());
+        verify(failingReplica, times(1)).getConnection();
+    }
+
+    @Test
+    public void testReadsAfterWriteStayOnPrimary() throws Exception {
+
+        Connection connection = mock(Connection.class);
+        DataSource replica = mockDataSource(connection);
+
+        ReadReplicaRouter router = new ReadReplicaRouter(Collections.singletonList(replica), 1000, 60000);
+        assertSame(router.getConnection(), connection);
+        router.onPrimaryWrite();
+        assertNull(router.getConnection());
+
+        Connection[] otherThreadConnection = new Connection[1];
+        Thread thread = new Thread(() -> otherThreadConnection[0] = router.getConnection());
+        thread.start();
+        thread.join();
+        assertSame(otherThreadConnection[0], connection);
+
+        ReadReplicaRouter noWindowRouter = new ReadReplicaRouter(Collections.singletonList(replica), 1000, 0);
+        noWindowRouter.onPrimaryWrite();
+        assertSame(noWindowRouter.getConnection(), connection);
+    }
+
+    @Test
+    public void testReplicaConnectionsAreReadOnly() throws Exception {
+
+        Connection connection = mock(Connection.class);
+        ReadReplicaRouter router = new ReadReplicaRouter(Collections.singletonList(mockDataSource(connection)), 1000,
+                1000);
+        assertSame(router.getConnection(), connection);
+        verify(connection).setReadOnly(true);
+
+        Connection rejectingConnection = mock(Connection.class);
+        doThrow(new SQLException("Read-only is not supported.")).when(rejectingConnection).setReadOnly(true);
+        router = new ReadReplicaRouter(Collections.singletonList(mockDataSource(rejectingConnection)), 1000, 1000);
+        assertNull(router.getConnection());
+        verify(rejectingConnection).close();
+    }
+
+    @Test
+    public void testOnlyWritesThroughPrimaryDataSourceKeepReadsOnPrimary() throws Exception {
+
+        Connection replicaConnection = mock(Connection.class);
+        DataSource primary = mockDataSource(mock(Connection.class));
+        ReadReplicaRouter router = new ReadReplicaRouter(Collections.singletonList(mockDataSource(replicaConnection)),
+                1000, 60000);
+
+        DataSource trackedPrimary = router.trackWrites(primary);
+        Connection primaryConnection = trackedPrimary.getConnection();
+        primaryConnection.prepareStatement("SELECT NAME FROM IDN_TABLE WHERE ID = ?");
+        primaryConnection.setAutoCommit(true);
+        assertSame(router.getConnection(), replicaConnection);
+
+        primaryConnection.prepareStatement("UPDATE IDN_TABLE SET NAME = ? WHERE ID = ?");
+        assertNull(router.getConnection());
+
+        ReadReplicaRouter transactionRouter = new ReadReplicaRouter(
+                Collections.singletonList(mockDataSource(replicaConnection)), 1000, 60000);
+        transactionRouter.trackWrites(primary).getConnection().setAutoCommit(false);
+        assertNull(transactionRouter.getConnection());
+
+        ReadReplicaRouter noReplicaRouter = new ReadReplicaRouter(Collections.emptyList(), 1000, 60000);
+        assertSame(noReplicaRouter.trackWrites(primary), primary);
+    }
+
+    @Test
+    public void testIsQuery() {
+
+        assertTrue(WriteTrackingDataSource.isQuery("SELECT 1"));
+        assertTrue(WriteTrackingDataSource.isQuery("  select ID FROM IDN_TABLE"));
+        assertTrue(WriteTrackingDataSource.isQuery("(SELECT ID FROM A) UNION (SELECT ID FROM B)"));
+        assertTrue(WriteTrackingDataSource.isQuery("/* hint */ -- comment\n SELECT 1"));
+        assertFalse(WriteTrackingDataSource.isQuery("INSERT INTO IDN_TABLE (ID) VALUES (?)"));
+        assertFalse(WriteTrackingDataSource.isQuery("DELETE FROM IDN_TABLE WHERE ID IN (SELECT ID FROM A)"));
+        assertFalse(WriteTrackingDataSource.isQuery("{call CLEANUP()}"));
+        assertFalse(WriteTrackingDataSource.isQuery(null));
+    }
+
+    private DataSource mockDataSource(Connection connection) throws SQLException {
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
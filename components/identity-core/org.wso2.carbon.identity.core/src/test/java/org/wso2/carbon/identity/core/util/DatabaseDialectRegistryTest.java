@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link DatabaseDialectRegistry}, {@link DatabaseDialect} and {@link DialectSpecificQuery}.
+ */
+public class DatabaseDialectRegistryTest {
+
+    @AfterMethod
+    public void tearDown() {
+
+        DatabaseDialectRegistry.clear();
+    }
+
+    @DataProvider(name = "databaseNames")
+    public Object[][] databaseNames() {
+
+        return new Object[][]{
+                {"H2", "H2 JDBC Driver", DatabaseDialect.H2},
+                {"MySQL", "MySQL Connector/J", DatabaseDialect.MYSQL},
+                {"MariaDB", "MySQL Connector/J", DatabaseDialect.MARIADB},
+                {"Oracle", "Oracle JDBC driver", DatabaseDialect.ORACLE},
+                {"PostgreSQL", "PostgreSQL JDBC Driver", DatabaseDialect.POSTGRESQL},
+                {"Microsoft SQL Server", "Microsoft JDBC Driver 12.4 for SQL Server", DatabaseDialect.MSSQL},
+                {"DB2/LINUXX8664", "IBM Data Server Driver for JDBC and SQLJ", DatabaseDialect.DB2},
+                {"Informix Dynamic Server", "IBM Informix JDBC Driver for IBM Informix Dynamic Server",
+                        DatabaseDialect.INFORMIX},
+                {"Unknown Product", "H2 JDBC Driver", DatabaseDialect.H2},
+                {"Unknown Product", "Unknown Driver", DatabaseDialect.UNKNOWN},
+                {null, null, DatabaseDialect.UNKNOWN}
+        };
+    }
+
+    @Test(dataProvider = "databaseNames")
+    public void testResolveDialect(String databaseProductName, String driverName, DatabaseDialect expected) {
+
+        assertEquals(DatabaseDialect.resolve(databaseProductName, driverName), expected);
+    }
+
+    @Test
+    public void testDatabaseMetadataIsReadOnce() throws Exception {
+
+        DataSource dataSource = mockDataSource("PostgreSQL", "PostgreSQL JDBC Driver");
+
+        assertEquals(DatabaseDialectRegistry.getDialect(dataSource), DatabaseDialect.POSTGRESQL);
+        verify(dataSource, atLeastOnce()).getConnection();
+        clearInvocations(dataSource);
+
+        DatabaseDialectRegistry.DatabaseMetadata metadata = DatabaseDialectRegistry.getDatabaseMetadata(dataSource);
+        assertTrue(metadata.isTypeOf(IdentityCoreConstants.POSTGRE_SQL));
+        assertFalse(metadata.isTypeOf(IdentityCoreConstants.MY_SQL));
+        verify(dataSource, never()).getConnection();
+
+        DatabaseDialectRegistry.clear();
+        DatabaseDialectRegistry.getDialect(dataSource);
+        verify(dataSource, atLeastOnce()).getConnection();
+    }
+
+    @Test
+    public void testDialectSpecificQuery() {
+
+        DialectSpecificQuery query = new DialectSpecificQuery("DEFAULT")
+                .with("MYSQL", DatabaseDialect.MYSQL, DatabaseDialect.MARIADB, DatabaseDialect.H2)
+                .with("H2", DatabaseDialect.H2);
+
+        assertEquals(query.get(DatabaseDialect.H2), "H2");
+        assertEquals(query.get(DatabaseDialect.MARIADB), "MYSQL");
+        assertEquals(query.get(DatabaseDialect.ORACLE), "DEFAULT");
+        assertEquals(query.get((DatabaseDialect) null), "DEFAULT");
+    }
+
+    private DataSource mockDataSource(String databaseProductName, String driverName) throws Exception {
+
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(databaseProductName);
+        when(metaData.getDriverName()).thenReturn(driverName);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
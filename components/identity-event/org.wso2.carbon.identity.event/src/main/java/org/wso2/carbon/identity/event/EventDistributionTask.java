@@ -20,23 +20,39 @@ package org.wso2.carbon.identity.event;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.bean.EventHandlerMetrics;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.EventHandlerIndex;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceDataHolder;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This has a queue inside. All publishers add events to this queue and this event distribution task is responsible
- * for distributing these events to Notification sending modules
+ * for distributing these events to Notification sending modules.
+ * <p>
+ * The queue can be bounded, in which case the configured {@link EventRejectionPolicy} is applied on the publisher
+ * thread when it is full. Handlers use the shared event thread pool unless a dedicated thread pool is configured for
+ * them with the {@code <handlerName>.threadPool.size} and {@code <handlerName>.queue.size} module properties. When
+ * the queue of a handler is full, the same rejection policy is applied on the thread distributing the event.
  */
 public class EventDistributionTask implements Runnable {
 
     private static final Log log = LogFactory.getLog(EventDistributionTask.class);
+    private static final long QUEUE_POLL_TIMEOUT = 1000L;
 
     /**
      * Queue used to add events by publishers.
@@ -46,10 +62,21 @@ public class EventDistributionTask implements Runnable {
      * Registered message sending modules.
      */
     private List<AbstractEventHandler> notificationSendingModules;
+    /**
+     * Index of the registered message sending modules, rebuilt when the modules are changed.
+     */
+    private volatile EventHandlerIndex eventHandlerIndex;
     /**
      * Condition to break event distribution task
      */
     private volatile boolean running;
+    private volatile boolean started;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final EventRejectionPolicy rejectionPolicy;
+    private final long shutdownTimeout;
+    private final ThreadPoolExecutor sharedThreadPool;
+    private final Map<String, EventHandlerExecutor> handlerExecutors = new ConcurrentHashMap<>();
+    private final AtomicLong droppedEvents = new AtomicLong();
 
     /**
      * Overridden constructor to initiate notification sending modules and thread pool size
@@ -58,52 +85,220 @@ public class EventDistributionTask implements Runnable {
      * @param threadPoolSize             Size of thread pool for notification sending components
      */
     public EventDistributionTask(List<AbstractEventHandler> notificationSendingModules, int threadPoolSize) {
+
+        this(notificationSendingModules, threadPoolSize, 0, 0, EventRejectionPolicy.BLOCK,
+                IdentityEventConstants.PropertyConfig.DEFAULT_EVENT_QUEUE_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * Constructor to initiate notification sending modules with a bounded event queue.
+     *
+     * @param notificationSendingModules List of notification sending modules registered
+     * @param threadPoolSize             Size of the shared thread pool for notification sending components
+     * @param threadPoolQueueSize        Capacity of the task queue of the shared thread pool. Zero or a negative
+     *                                   value keeps it unbounded
+     * @param queueSize                  Capacity of the event queue. Zero or a negative value keeps it unbounded
+     * @param rejectionPolicy            Policy applied when the event queue or the queue of a handler is full
+     * @param shutdownTimeout            Maximum time in milliseconds to wait for queued events at shutdown
+     */
+    public EventDistributionTask(List<AbstractEventHandler> notificationSendingModules, int threadPoolSize,
+                                 int threadPoolQueueSize, int queueSize, EventRejectionPolicy rejectionPolicy,
+                                 long shutdownTimeout) {
+
         this.notificationSendingModules = notificationSendingModules;
-        this.eventQueue = new LinkedBlockingDeque<Event>();
-        IdentityEventServiceDataHolder.getInstance().setThreadPool(Executors.newFixedThreadPool(threadPoolSize));
+        this.eventQueue = queueSize > 0 ? new LinkedBlockingDeque<>(queueSize) : new LinkedBlockingDeque<>();
+        this.rejectionPolicy = rejectionPolicy;
+        this.shutdownTimeout = shutdownTimeout;
+        this.sharedThreadPool = EventHandlerExecutor.createExecutor(threadPoolSize, threadPoolQueueSize);
+        this.running = true;
+        IdentityEventServiceDataHolder.getInstance().setThreadPool(sharedThreadPool);
     }
 
     public void addEventToQueue(Event publisherEvent) {
-        this.eventQueue.add(publisherEvent);
+
+        if (!running) {
+            dropEvent(publisherEvent, "the event distribution has been stopped");
+            return;
+        }
+        if (eventQueue.offerLast(publisherEvent)) {
+            return;
+        }
+        switch (rejectionPolicy) {
+            case DROP_OLDEST:
+                while (!eventQueue.offerLast(publisherEvent)) {
+                    Event oldest = eventQueue.pollFirst();
+                    if (oldest != null) {
+                        droppedEvents.incrementAndGet();
+                        log.warn("Event " + oldest.getEventName() + " was dropped from the event queue since " +
+                                "the queue is full.");
+                    }
+                }
+                break;
+            case CALLER_RUNS:
+                distribute(publisherEvent);
+                break;
+            case BLOCK:
+            default:
+                // Wait with a timeout so that a stopped distribution task does not block the publisher forever.
+                try {
+                    while (!eventQueue.offerLast(publisherEvent, QUEUE_POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                        if (!running) {
+                            dropEvent(publisherEvent, "the event distribution has been stopped");
+                            return;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropEvent(publisherEvent, "the publisher was interrupted while waiting for space in the queue");
+                }
+        }
     }
 
     @Override
     public void run() {
-        running = true;
-        // Run forever until stop the bundle. Will stop in eventQueue.take()
-        while (running) {
-            try {
-                final Event event = eventQueue.take();
-                IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-                for (final AbstractEventHandler module : notificationSendingModules) {
-                    // If the module is subscribed to the event, module will be executed.
-                    if (module.isEnabled(eventContext)) {
-                        // Create a runnable and submit to the thread pool for sending message.
-                        Runnable msgSender = new Runnable() {
-                            @Override
-                            public void run() {
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Executing " + module.getName() + " on event" + event.
-                                            getEventName());
-                                }
-                                try {
-                                    module.handleEvent(event);
-                                } catch (IdentityEventException e) {
-                                    log.error("Error while invoking notification sending module " + module.
-                                            getName(), e);
-                                }
-                            }
-                        };
-                        IdentityEventServiceDataHolder.getInstance().getThreadPool().submit(msgSender);
+
+        started = true;
+        try {
+            // Run until the bundle is stopped. The queue is polled with a timeout so that shutdown is noticed.
+            while (running) {
+                try {
+                    Event event = eventQueue.pollFirst(QUEUE_POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                    if (event != null) {
+                        distribute(event);
                     }
+                } catch (InterruptedException e) {
+                    log.error("Error while picking up event from event queue", e);
                 }
-            } catch (InterruptedException e) {
-                log.error("Error while picking up event from event queue", e);
             }
+        } finally {
+            stopped.countDown();
         }
     }
 
+    /**
+     * Stop the distribution task. Once the distribution thread has stopped, events remaining in the queue are handed
+     * over to the handlers, and the handler executors are given the configured shutdown timeout to process them.
+     */
     public void shutdown() {
+
         this.running = false;
+        // Wait for the distribution thread, so that it does not hand over events to the executors after they are
+        // shut down.
+        if (started) {
+            try {
+                if (!stopped.await(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                    log.warn("Event distribution task did not stop within " + shutdownTimeout + " ms.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Event> remainingEvents = new ArrayList<>();
+        eventQueue.drainTo(remainingEvents);
+        for (Event event : remainingEvents) {
+            distribute(event);
+        }
+        for (EventHandlerExecutor handlerExecutor : handlerExecutors.values()) {
+            handlerExecutor.shutdown(shutdownTimeout);
+        }
+        EventHandlerExecutor.shutdownExecutor(sharedThreadPool, "shared event thread pool", shutdownTimeout);
+    }
+
+    /**
+     * Get the runtime statistics of the handlers which have processed asynchronous events.
+     *
+     * @return Handler metrics.
+     */
+    public List<EventHandlerMetrics> getHandlerMetrics() {
+
+        List<EventHandlerMetrics> metrics = new ArrayList<>();
+        for (EventHandlerExecutor handlerExecutor : handlerExecutors.values()) {
+            metrics.add(handlerExecutor.getMetrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * @return Number of events waiting to be distributed to the handlers.
+     */
+    public int getEventQueueDepth() {
+
+        return eventQueue.size();
+    }
+
+    /**
+     * @return Number of events dropped from the event queue.
+     */
+    public long getDroppedEventCount() {
+
+        return droppedEvents.get();
+    }
+
+    private void dropEvent(Event event, String reason) {
+
+        droppedEvents.incrementAndGet();
+        log.warn("Event " + event.getEventName() + " was dropped since " + reason + ".");
+    }
+
+    /**
+     * Hand over the event to the executors of the subscribed handlers.
+     *
+     * @param event Event.
+     */
+    private void distribute(Event event) {
+
+        IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
+        List<AbstractEventHandler> subscribedModules = getEventHandlerIndex().getHandlers(event.getEventName());
+        for (AbstractEventHandler module : subscribedModules) {
+            // If the module is subscribed to the event, module will be executed.
+            if (module.isEnabled(eventContext)) {
+                getHandlerExecutor(module).submit(module, event);
+            }
+        }
+    }
+
+    private EventHandlerIndex getEventHandlerIndex() {
+
+        EventHandlerIndex index = eventHandlerIndex;
+        if (index == null || !index.isBuiltFrom(notificationSendingModules)) {
+            index = new EventHandlerIndex(notificationSendingModules);
+            eventHandlerIndex = index;
+        }
+        return index;
+    }
+
+    private EventHandlerExecutor getHandlerExecutor(AbstractEventHandler module) {
+
+        return handlerExecutors.computeIfAbsent(module.getName(), handlerName -> {
+            int poolSize = getModuleIntProperty(handlerName,
+                    IdentityEventConstants.PropertyConfig.HANDLER_THREAD_POOL_SIZE);
+            if (poolSize <= 0) {
+                return new EventHandlerExecutor(handlerName, sharedThreadPool, false, rejectionPolicy);
+            }
+            int queueSize = getModuleIntProperty(handlerName, IdentityEventConstants.PropertyConfig.HANDLER_QUEUE_SIZE);
+            if (log.isDebugEnabled()) {
+                log.debug("Creating a dedicated thread pool of size " + poolSize + " and queue size " + queueSize +
+                        " for the event handler " + handlerName);
+            }
+            return new EventHandlerExecutor(handlerName, EventHandlerExecutor.createExecutor(poolSize, queueSize), true,
+                    rejectionPolicy);
+        });
+    }
+
+    private int getModuleIntProperty(String handlerName, String propertyName) {
+
+        ModuleConfiguration moduleConfiguration;
+        try {
+            moduleConfiguration = IdentityEventConfigBuilder.getInstance().getModuleConfigurations(handlerName);
+        } catch (IdentityEventException e) {
+            log.error("Error while reading the configurations of the event handler " + handlerName, e);
+            return 0;
+        }
+        if (moduleConfiguration == null || moduleConfiguration.getModuleProperties() == null) {
+            return 0;
+        }
+        Properties moduleProperties = moduleConfiguration.getModuleProperties();
+        return IdentityEventUtils.parseIntProperty(
+                moduleProperties.getProperty(handlerName + "." + propertyName), 0);
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.bean.EventHandlerMetrics;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes events on an event handler asynchronously and records the handler metrics.
+ * A handler either uses the shared event thread pool or a dedicated thread pool with its own concurrency limit.
+ * <p>
+ * When the task queue of the executor is full, the {@link EventRejectionPolicy} is applied on the submitting thread,
+ * which is either a publisher thread or the event distribution thread. On the distribution thread, the blocking and
+ * the caller runs policies hold back the distribution of the following events until the handler catches up, so that
+ * no event is lost. Events are only dropped with the drop oldest policy or once the executor is shut down, and the
+ * dropped events are counted in the handler metrics.
+ */
+public class EventHandlerExecutor {
+
+    private static final Log log = LogFactory.getLog(EventHandlerExecutor.class);
+    private static final long QUEUE_OFFER_TIMEOUT = 1000L;
+
+    private final ThreadPoolExecutor executor;
+    private final boolean dedicated;
+    private final EventRejectionPolicy rejectionPolicy;
+    private final EventHandlerMetrics metrics;
+
+    /**
+     * @param handlerName     Name of the event handler.
+     * @param executor        Executor used to run the handler.
+     * @param dedicated       Whether the executor is owned by this handler.
+     * @param rejectionPolicy Policy applied when the task queue of the executor is full.
+     */
+    public EventHandlerExecutor(String handlerName, ThreadPoolExecutor executor, boolean dedicated,
+                                EventRejectionPolicy rejectionPolicy) {
+
+        this.executor = executor;
+        this.dedicated = dedicated;
+        this.rejectionPolicy = rejectionPolicy;
+        this.metrics = new EventHandlerMetrics(handlerName);
+    }
+
+    /**
+     * Submit the event to be handled by the given handler.
+     *
+     * @param handler Event handler.
+     * @param event   Event.
+     */
+    public void submit(AbstractEventHandler handler, Event event) {
+
+        metrics.onQueued();
+        EventHandlerTask task = new EventHandlerTask(handler, event, metrics);
+        try {
+            executor.execute(task);
+            return;
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                task.discard("the executor has been shut down");
+                return;
+            }
+        }
+        switch (rejectionPolicy) {
+            case DROP_OLDEST:
+                dropOldestAndExecute(task);
+                break;
+            case CALLER_RUNS:
+                task.run();
+                break;
+            case BLOCK:
+            default:
+                waitForSpaceAndQueue(task);
+        }
+    }
+
+    public EventHandlerMetrics getMetrics() {
+
+        return metrics;
+    }
+
+    public boolean isDedicated() {
+
+        return dedicated;
+    }
+
+    /**
+     * Shut down the dedicated executor of the handler after processing the queued events.
+     *
+     * @param timeoutMillis Maximum time to wait for the queued events.
+     */
+    public void shutdown(long timeoutMillis) {
+
+        if (dedicated) {
+            shutdownExecutor(executor, metrics.getHandlerName(), timeoutMillis);
+        }
+    }
+
+    /**
+     * Create a thread pool for asynchronous event handling. Tasks which do not fit in the queue are rejected, and
+     * the rejection policy is applied by {@link #submit(AbstractEventHandler, Event)}.
+     *
+     * @param poolSize  Number of threads.
+     * @param queueSize Capacity of the task queue. Zero or a negative value keeps the queue unbounded.
+     * @return Thread pool executor.
+     */
+    public static ThreadPoolExecutor createExecutor(int poolSize, int queueSize) {
+
+        BlockingQueue<Runnable> queue = queueSize > 0 ? new LinkedBlockingQueue<>(queueSize) :
+                new LinkedBlockingQueue<>();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue);
+    }
+
+    /**
+     * Shut down the given executor after processing the queued tasks.
+     *
+     * @param executor      Executor to be shut down.
+     * @param name          Name used for logging.
+     * @param timeoutMillis Maximum time to wait for the queued tasks.
+     */
+    public static void shutdownExecutor(ThreadPoolExecutor executor, String name, long timeoutMillis) {
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("Event executor of " + name + " did not finish the queued events within " + timeoutMillis +
+                        " ms. " + executor.shutdownNow().size() + " events were discarded.");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dropOldestAndExecute(EventHandlerTask task) {
+
+        while (true) {
+            Runnable oldest = executor.getQueue().poll();
+            if (oldest instanceof EventHandlerTask) {
+                ((EventHandlerTask) oldest).discard("the queue is full");
+            }
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                if (executor.isShutdown()) {
+                    task.discard("the executor has been shut down");
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait until there is space in the task queue. Gives up once the executor is shut down, since the queued task
+     * may never be picked up after that.
+     */
+    private void waitForSpaceAndQueue(EventHandlerTask task) {
+
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        try {
+            while (!queue.offer(task, QUEUE_OFFER_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                if (executor.isShutdown()) {
+                    task.discard("the executor has been shut down");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.discard("the submitting thread was interrupted while waiting for space in the queue");
+            return;
+        }
+        // Take the task back if the executor was shut down meanwhile and no thread has picked it up.
+        if (executor.isShutdown() && queue.remove(task)) {
+            task.discard("the executor has been shut down");
+        }
+    }
+
+    /**
+     * Task which handles an event on a handler.
+     */
+    private static class EventHandlerTask implements Runnable {
+
+        private final AbstractEventHandler handler;
+        private final Event event;
+        private final EventHandlerMetrics metrics;
+
+        EventHandlerTask(AbstractEventHandler handler, Event event, EventHandlerMetrics metrics) {
+
+            this.handler = handler;
+            this.event = event;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void run() {
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing " + handler.getName() + " on event" + event.getEventName());
+            }
+            metrics.onStarted();
+            long startTime = System.nanoTime();
+            boolean success = false;
+            try {
+                handler.handleEvent(event);
+                success = true;
+            } catch (IdentityEventException e) {
+                log.error("Error while invoking notification sending module " + handler.getName(), e);
+            } catch (RuntimeException e) {
+                log.error("Unexpected error while invoking notification sending module " + handler.getName(), e);
+            } finally {
+                metrics.onCompleted(System.nanoTime() - startTime, success);
+            }
+        }
+
+        void discard(String reason) {
+
+            metrics.onDropped();
+            log.warn("Event " + event.getEventName() + " was dropped for the handler " + handler.getName() +
+                    " since " + reason + ".");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+/**
+ * Policies applied when a bounded asynchronous event queue is full.
+ */
+public enum EventRejectionPolicy {
+
+    /**
+     * Block the publishing thread until space is available in the queue. If the queue of a handler is full, the
+     * thread handing over the event, which may be the event distribution thread, waits for space as well.
+     */
+    BLOCK("block"),
+
+    /**
+     * Drop the oldest queued item to make space for the new one.
+     */
+    DROP_OLDEST("dropOldest"),
+
+    /**
+     * Run the work on the publishing thread. If the queue of a handler is full, the handler is run on the thread
+     * handing over the event, which may be the event distribution thread.
+     */
+    CALLER_RUNS("callerRuns");
+
+    private final String configValue;
+
+    EventRejectionPolicy(String configValue) {
+
+        this.configValue = configValue;
+    }
+
+    public String getConfigValue() {
+
+        return configValue;
+    }
+
+    /**
+     * Resolve the rejection policy from its configuration value.
+     *
+     * @param configValue Configured value.
+     * @return Matching rejection policy or {@link #BLOCK} if the value is empty or unknown.
+     */
+    public static EventRejectionPolicy fromConfigValue(String configValue) {
+
+        if (configValue != null) {
+            for (EventRejectionPolicy policy : values()) {
+                if (policy.configValue.equalsIgnoreCase(configValue.trim())) {
+                    return policy;
+                }
+            }
+        }
+        return BLOCK;
+    }
+}
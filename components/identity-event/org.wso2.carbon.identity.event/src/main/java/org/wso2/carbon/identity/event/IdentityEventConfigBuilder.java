@@ -62,6 +62,22 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Capacity of the asynchronous event queue. Zero or a negative value keeps the queue unbounded.
+     */
+    private int eventQueueSize;
+    /**
+     * Capacity of the task queue of the shared event thread pool. Zero or a negative value keeps the queue unbounded.
+     */
+    private int threadPoolQueueSize;
+    /**
+     * Policy applied when the asynchronous event queue or a handler queue is full.
+     */
+    private EventRejectionPolicy eventRejectionPolicy;
+    /**
+     * Maximum time in milliseconds to wait for queued events to be processed at shutdown.
+     */
+    private long eventQueueShutdownTimeout;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -78,6 +94,7 @@ public class IdentityEventConfigBuilder {
         }
 
         setThreadPoolSize();
+        setEventQueueConfigs();
         resolveSecrets();
         moduleConfiguration = new HashMap<>();
         build();
@@ -98,6 +115,27 @@ public class IdentityEventConfigBuilder {
         threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
     }
 
+    /**
+     * Sets the asynchronous event queue configurations read from configurations.
+     */
+    private void setEventQueueConfigs() {
+
+        String queueSize = (String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.PropertyConfig.EVENT_QUEUE_SIZE);
+        String threadPoolQueue = (String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.PropertyConfig.THREAD_POOL_QUEUE_SIZE);
+        String rejectionPolicy = (String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.PropertyConfig.EVENT_QUEUE_REJECTION_POLICY);
+        String shutdownTimeout = (String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.PropertyConfig.EVENT_QUEUE_SHUTDOWN_TIMEOUT);
+
+        eventQueueSize = IdentityEventUtils.parseIntProperty(queueSize, 0);
+        threadPoolQueueSize = IdentityEventUtils.parseIntProperty(threadPoolQueue, 0);
+        eventRejectionPolicy = EventRejectionPolicy.fromConfigValue(rejectionPolicy);
+        eventQueueShutdownTimeout = IdentityEventUtils.parseIntProperty(shutdownTimeout,
+                IdentityEventConstants.PropertyConfig.DEFAULT_EVENT_QUEUE_SHUTDOWN_TIMEOUT);
+    }
+
     /**
      * Load properties which are defined in msg-mgt.properties file
      *
@@ -222,6 +260,22 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public int getEventQueueSize() {
+        return eventQueueSize;
+    }
+
+    public int getThreadPoolQueueSize() {
+        return threadPoolQueueSize;
+    }
+
+    public EventRejectionPolicy getEventRejectionPolicy() {
+        return eventRejectionPolicy;
+    }
+
+    public long getEventQueueShutdownTimeout() {
+        return eventQueueShutdownTimeout;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
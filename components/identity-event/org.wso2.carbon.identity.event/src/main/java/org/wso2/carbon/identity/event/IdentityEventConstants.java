@@ -41,6 +41,13 @@ public class IdentityEventConstants {
         public static final String NOTIFICATION_LINK_EXPIRE_TIME = "Notification.Expire.Time";
         public static final String ALREADY_WRITTEN_PROPERTY_KEY = "AlreadyWritten";
         public static final String ALREADY_WRITTEN_PROPERTY_VALUE = "true";
+        public static final String THREAD_POOL_QUEUE_SIZE = "threadPool.queueSize";
+        public static final String EVENT_QUEUE_SIZE = "eventQueue.size";
+        public static final String EVENT_QUEUE_REJECTION_POLICY = "eventQueue.rejectionPolicy";
+        public static final String EVENT_QUEUE_SHUTDOWN_TIMEOUT = "eventQueue.shutdownTimeout";
+        public static final int DEFAULT_EVENT_QUEUE_SHUTDOWN_TIMEOUT = 30000;
+        public static final String HANDLER_THREAD_POOL_SIZE = "threadPool.size";
+        public static final String HANDLER_QUEUE_SIZE = "queue.size";
 
     }
 
@@ -141,6 +141,27 @@ public class IdentityEventUtils {
         return properties;
     }
 
+    /**
+     * Parse an integer property value.
+     *
+     * @param value        Property value.
+     * @param defaultValue Value to be returned if the property is empty or not a valid integer.
+     * @return Parsed integer value.
+     */
+    public static int parseIntProperty(String value, int defaultValue) {
+
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid integer property value: " + value + ". Default value: " + defaultValue +
+                    " will be used.");
+            return defaultValue;
+        }
+    }
+
     /**
      * Replace place holders in the given string with properties
      *
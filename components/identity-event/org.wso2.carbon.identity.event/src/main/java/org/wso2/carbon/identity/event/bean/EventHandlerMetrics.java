@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.bean;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime statistics of the asynchronous execution of an event handler.
+ */
+public class EventHandlerMetrics {
+
+    private final String handlerName;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public EventHandlerMetrics(String handlerName) {
+
+        this.handlerName = handlerName;
+    }
+
+    public void onQueued() {
+
+        queued.incrementAndGet();
+    }
+
+    public void onStarted() {
+
+        queued.decrementAndGet();
+        inFlight.incrementAndGet();
+    }
+
+    public void onCompleted(long latencyNanos, boolean success) {
+
+        inFlight.decrementAndGet();
+        completed.incrementAndGet();
+        if (!success) {
+            failed.incrementAndGet();
+        }
+        totalLatencyNanos.addAndGet(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public void onDropped() {
+
+        queued.decrementAndGet();
+        dropped.incrementAndGet();
+    }
+
+    public String getHandlerName() {
+
+        return handlerName;
+    }
+
+    /**
+     * @return Number of events waiting to be processed by the handler.
+     */
+    public int getQueueDepth() {
+
+        return queued.get();
+    }
+
+    /**
+     * @return Number of events currently being processed by the handler.
+     */
+    public int getInFlightCount() {
+
+        return inFlight.get();
+    }
+
+    public long getCompletedCount() {
+
+        return completed.get();
+    }
+
+    public long getFailureCount() {
+
+        return failed.get();
+    }
+
+    public long getDroppedCount() {
+
+        return dropped.get();
+    }
+
+    public double getAverageLatencyMillis() {
+
+        long count = completed.get();
+        return count == 0 ? 0 : (double) totalLatencyNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public long getMaxLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+}
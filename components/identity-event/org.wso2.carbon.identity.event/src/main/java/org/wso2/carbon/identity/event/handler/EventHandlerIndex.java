@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of the registered event handlers keyed by the event names they are subscribed to.
+ * <p>
+ * Handlers which rely on the default subscription based {@link AbstractEventHandler#canHandle(MessageContext)} are
+ * only indexed against their subscribed event names. Handlers which override canHandle decide on their own and are
+ * therefore indexed against every event. The handler lists keep the priority order of the source list.
+ */
+public class EventHandlerIndex {
+
+    private static final Log log = LogFactory.getLog(EventHandlerIndex.class);
+    private static final String CAN_HANDLE_METHOD = "canHandle";
+
+    private final List<AbstractEventHandler> source;
+    private final int sourceSize;
+    private final Map<String, List<AbstractEventHandler>> handlersByEventName;
+    private final List<AbstractEventHandler> unconditionalHandlers;
+
+    /**
+     * Build the index from a snapshot of the given handler list. The list is expected to be sorted by the handler
+     * priority.
+     *
+     * @param eventHandlers Registered event handlers sorted by priority.
+     */
+    public EventHandlerIndex(List<AbstractEventHandler> eventHandlers) {
+
+        List<AbstractEventHandler> snapshot = new ArrayList<>(eventHandlers);
+        this.source = eventHandlers;
+        this.sourceSize = snapshot.size();
+
+        List<AbstractEventHandler> unconditional = new ArrayList<>();
+        Map<String, List<AbstractEventHandler>> byEventName = new HashMap<>();
+        for (AbstractEventHandler handler : snapshot) {
+            if (hasCustomCanHandle(handler)) {
+                unconditional.add(handler);
+                // Keep the priority order by appending to every event list seen so far as well.
+                for (List<AbstractEventHandler> handlers : byEventName.values()) {
+                    handlers.add(handler);
+                }
+                continue;
+            }
+            ModuleConfiguration configs = handler.configs;
+            if (configs == null || configs.getSubscriptions() == null) {
+                continue;
+            }
+            for (Subscription subscription : configs.getSubscriptions()) {
+                List<AbstractEventHandler> handlers = byEventName.computeIfAbsent(
+                        subscription.getSubscriptionName(), k -> new ArrayList<>(unconditional));
+                if (!handlers.contains(handler)) {
+                    handlers.add(handler);
+                }
+            }
+        }
+
+        Map<String, List<AbstractEventHandler>> immutableIndex = new HashMap<>();
+        for (Map.Entry<String, List<AbstractEventHandler>> entry : byEventName.entrySet()) {
+            immutableIndex.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        this.handlersByEventName = Collections.unmodifiableMap(immutableIndex);
+        this.unconditionalHandlers = Collections.unmodifiableList(unconditional);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Built event handler index with " + handlersByEventName.size() + " subscribed events and " +
+                    unconditionalHandlers.size() + " handlers with custom subscription logic.");
+        }
+    }
+
+    /**
+     * Get the handlers which may handle the given event, in priority order.
+     *
+     * @param eventName Name of the event.
+     * @return Candidate handlers for the event.
+     */
+    public List<AbstractEventHandler> getHandlers(String eventName) {
+
+        List<AbstractEventHandler> handlers = handlersByEventName.get(eventName);
+        return handlers != null ? handlers : unconditionalHandlers;
+    }
+
+    /**
+     * Check whether this index was built from the current state of the given handler list.
+     *
+     * @param eventHandlers Handler list.
+     * @return True if the index reflects the given list.
+     */
+    public boolean isBuiltFrom(List<AbstractEventHandler> eventHandlers) {
+
+        return source == eventHandlers && sourceSize == eventHandlers.size();
+    }
+
+    private static boolean hasCustomCanHandle(AbstractEventHandler handler) {
+
+        try {
+            return handler.getClass().getMethod(CAN_HANDLE_METHOD, MessageContext.class).getDeclaringClass() !=
+                    AbstractEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+}
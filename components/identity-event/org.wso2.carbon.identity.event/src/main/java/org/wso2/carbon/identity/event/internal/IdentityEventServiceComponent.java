@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.EventHandlerIndex;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.event.services.IdentityEventServiceImpl;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
@@ -55,10 +56,17 @@ public class IdentityEventServiceComponent {
     // list of all registered event handlers
     public static List<AbstractEventHandler> eventHandlerList = new ArrayList<>();
 
+    // index of the registered event handlers by the subscribed event names
+    private static volatile EventHandlerIndex eventHandlerIndex;
+
     @Activate
     protected void activate(ComponentContext context) {
         try {
-            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(eventHandlerList, Integer.parseInt(IdentityEventConfigBuilder.getInstance().getThreadPoolSize())));
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(
+                    eventHandlerList, Integer.parseInt(configBuilder.getThreadPoolSize()),
+                    configBuilder.getThreadPoolQueueSize(), configBuilder.getEventQueueSize(),
+                    configBuilder.getEventRejectionPolicy(), configBuilder.getEventQueueShutdownTimeout()));
             context.getBundleContext().registerService(IdentityEventService.class.getName(), IdentityEventServiceDataHolder.getInstance().getEventMgtService(), null);
         } catch (IdentityEventException e) {
             log.error("Error while initiating IdentityMgtService.");
@@ -70,6 +78,10 @@ public class IdentityEventServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        IdentityEventService eventMgtService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventMgtService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventMgtService).shutdown();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
@@ -91,9 +103,34 @@ public class IdentityEventServiceComponent {
         eventHandlerList.add(eventHandler);
         MessageHandlerComparator messageHandlerComparator = new MessageHandlerComparator(null);
         Collections.sort(eventHandlerList, messageHandlerComparator);
+        rebuildEventHandlerIndex();
     }
 
     protected void unRegisterEventHandler(AbstractEventHandler eventHandler) {
+
+        eventHandlerList.remove(eventHandler);
+        rebuildEventHandlerIndex();
+    }
+
+    /**
+     * Get the index of the registered event handlers. The index is rebuilt if the handler list has been changed
+     * without going through the handler registration.
+     *
+     * @return Event handler index.
+     */
+    public static EventHandlerIndex getEventHandlerIndex() {
+
+        EventHandlerIndex index = eventHandlerIndex;
+        if (index == null || !index.isBuiltFrom(eventHandlerList)) {
+            index = rebuildEventHandlerIndex();
+        }
+        return index;
+    }
+
+    private static synchronized EventHandlerIndex rebuildEventHandlerIndex() {
+
+        eventHandlerIndex = new EventHandlerIndex(eventHandlerList);
+        return eventHandlerIndex;
     }
 
     @Reference(
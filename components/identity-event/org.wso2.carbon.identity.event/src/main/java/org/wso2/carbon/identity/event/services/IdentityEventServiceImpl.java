@@ -23,7 +23,9 @@ import org.apache.commons.logging.LogFactory;
 
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.identity.event.EventDistributionTask;
+import org.wso2.carbon.identity.event.EventRejectionPolicy;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.EventHandlerMetrics;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
@@ -44,16 +46,29 @@ public class IdentityEventServiceImpl implements IdentityEventService {
     private EventDistributionTask eventDistributionTask;
 
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
-        this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
+        this(new EventDistributionTask(handlerList, threadPoolSize));
+    }
+
+    public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize,
+                                    int threadPoolQueueSize, int queueSize, EventRejectionPolicy rejectionPolicy,
+                                    long shutdownTimeout) {
+        this(new EventDistributionTask(handlerList, threadPoolSize, threadPoolQueueSize, queueSize, rejectionPolicy,
+                shutdownTimeout));
+    }
+
+    private IdentityEventServiceImpl(EventDistributionTask eventDistributionTask) {
+        this.eventDistributionTask = eventDistributionTask;
         if (log.isDebugEnabled()) {
             log.debug("Starting event distribution task from Notification Management component");
         }
         new Thread(eventDistributionTask).start();
     }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
-        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
+        List<AbstractEventHandler> eventHandlerList =
+                IdentityEventServiceComponent.getEventHandlerIndex().getHandlers(event.getEventName());
         IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
         for (final AbstractEventHandler handler : eventHandlerList) {
 
@@ -66,4 +81,38 @@ public class IdentityEventServiceImpl implements IdentityEventService {
             }
         }
     }
+
+    /**
+     * Stop the asynchronous event distribution after processing the queued events.
+     */
+    public void shutdown() {
+
+        eventDistributionTask.shutdown();
+    }
+
+    /**
+     * Get the runtime statistics of the handlers which have processed asynchronous events.
+     *
+     * @return Handler metrics.
+     */
+    public List<EventHandlerMetrics> getHandlerMetrics() {
+
+        return eventDistributionTask.getHandlerMetrics();
+    }
+
+    /**
+     * @return Number of asynchronous events waiting to be distributed to the handlers.
+     */
+    public int getEventQueueDepth() {
+
+        return eventDistributionTask.getEventQueueDepth();
+    }
+
+    /**
+     * @return Number of asynchronous events dropped since the event queue was full.
+     */
+    public long getDroppedEventCount() {
+
+        return eventDistributionTask.getDroppedEventCount();
+    }
 }
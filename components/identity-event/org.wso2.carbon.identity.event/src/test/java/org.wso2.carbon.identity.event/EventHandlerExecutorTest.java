@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.EventHandlerMetrics;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link EventHandlerExecutor}.
+ */
+public class EventHandlerExecutorTest {
+
+    private static final String HANDLER_NAME = "testHandler";
+    private static final long TIMEOUT = 5000L;
+
+    @BeforeClass
+    public void setUp() {
+
+        // The distribution task reads the handler configurations from the identity event configuration.
+        String home = IdentityEventConfigBuilder.class.getResource("/").getFile();
+        System.setProperty("carbon.home", home);
+        System.setProperty("carbon.config.dir.path", home);
+    }
+
+    @Test
+    public void testEventsAreHandledAndMetricsRecorded() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler(new CountDownLatch(0));
+        EventHandlerExecutor executor = new EventHandlerExecutor(HANDLER_NAME,
+                EventHandlerExecutor.createExecutor(2, 10), true, EventRejectionPolicy.BLOCK);
+
+        executor.submit(handler, new Event("EVENT_1"));
+        executor.submit(handler, new Event("EVENT_2"));
+        executor.shutdown(TIMEOUT);
+
+        EventHandlerMetrics metrics = executor.getMetrics();
+        Assert.assertEquals(handler.handledEvents.size(), 2);
+        Assert.assertEquals(metrics.getCompletedCount(), 2);
+        Assert.assertEquals(metrics.getFailureCount(), 0);
+        Assert.assertEquals(metrics.getQueueDepth(), 0);
+        Assert.assertEquals(metrics.getInFlightCount(), 0);
+        Assert.assertEquals(metrics.getHandlerName(), HANDLER_NAME);
+    }
+
+    @Test
+    public void testDropOldestPolicyDiscardsOldestQueuedEvent() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release);
+        EventHandlerExecutor executor = new EventHandlerExecutor(HANDLER_NAME,
+                EventHandlerExecutor.createExecutor(1, 1), true, EventRejectionPolicy.DROP_OLDEST);
+
+        executor.submit(handler, new Event("EVENT_1"));
+        Assert.assertTrue(handler.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        executor.submit(handler, new Event("EVENT_2"));
+        executor.submit(handler, new Event("EVENT_3"));
+        release.countDown();
+        executor.shutdown(TIMEOUT);
+
+        Assert.assertEquals(handler.handledEvents.size(), 2);
+        Assert.assertEquals(handler.handledEvents.get(0), "EVENT_1");
+        Assert.assertEquals(handler.handledEvents.get(1), "EVENT_3");
+        Assert.assertEquals(executor.getMetrics().getDroppedCount(), 1);
+        Assert.assertEquals(executor.getMetrics().getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testCallerRunsPolicyHandlesEventOnCaller() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release);
+        EventHandlerExecutor executor = new EventHandlerExecutor(HANDLER_NAME,
+                EventHandlerExecutor.createExecutor(1, 1), true, EventRejectionPolicy.CALLER_RUNS);
+
+        executor.submit(handler, new Event("EVENT_1"));
+        Assert.assertTrue(handler.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        executor.submit(handler, new Event("EVENT_2"));
+        handler.callerThread = Thread.currentThread();
+        executor.submit(handler, new Event("EVENT_3"));
+        release.countDown();
+        executor.shutdown(TIMEOUT);
+
+        Assert.assertEquals(handler.handledEvents.size(), 3);
+        Assert.assertTrue(handler.handledOnCaller);
+        Assert.assertEquals(executor.getMetrics().getDroppedCount(), 0);
+    }
+
+    @Test
+    public void testBlockPolicyDoesNotLoseEventsWhenQueueIsFullOnDistributionThread() throws Exception {
+
+        int eventCount = 5;
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release);
+        // A single handler thread with a single queue slot, so that the distribution thread saturates the queue.
+        EventDistributionTask distributionTask = new EventDistributionTask(
+                new CopyOnWriteArrayList<>(Collections.singletonList(handler)), 1, 1, 0, EventRejectionPolicy.BLOCK,
+                TIMEOUT);
+        Thread distributionThread = new Thread(distributionTask);
+        distributionThread.start();
+        for (int i = 1; i <= eventCount; i++) {
+            distributionTask.addEventToQueue(new Event("EVENT_" + i));
+        }
+
+        // One event is being handled, one is queued for the handler and the distribution thread waits with the third.
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (distributionTask.getEventQueueDepth() > eventCount - 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(distributionTask.getEventQueueDepth(), eventCount - 3);
+        Assert.assertEquals(handler.handledEvents.size(), 0);
+        release.countDown();
+        distributionTask.shutdown();
+
+        Assert.assertFalse(distributionThread.isAlive());
+        Assert.assertEquals(handler.handledEvents.size(), eventCount);
+        for (int i = 1; i <= eventCount; i++) {
+            Assert.assertEquals(handler.handledEvents.get(i - 1), "EVENT_" + i);
+        }
+        Assert.assertEquals(distributionTask.getDroppedEventCount(), 0);
+        Assert.assertEquals(distributionTask.getHandlerMetrics().get(0).getDroppedCount(), 0);
+    }
+
+    @Test
+    public void testBlockPolicyWaitsForSpaceOnPublisherThread() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release);
+        EventHandlerExecutor executor = new EventHandlerExecutor(HANDLER_NAME,
+                EventHandlerExecutor.createExecutor(1, 1), true, EventRejectionPolicy.BLOCK);
+
+        executor.submit(handler, new Event("EVENT_1"));
+        Assert.assertTrue(handler.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        executor.submit(handler, new Event("EVENT_2"));
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        executor.submit(handler, new Event("EVENT_3"));
+        executor.shutdown(TIMEOUT);
+
+        Assert.assertEquals(handler.handledEvents.size(), 3);
+        Assert.assertEquals(executor.getMetrics().getDroppedCount(), 0);
+    }
+
+    @Test
+    public void testBlockedPublisherGivesUpWhenExecutorIsShutDown() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release);
+        ThreadPoolExecutor threadPool = EventHandlerExecutor.createExecutor(1, 1);
+        EventHandlerExecutor executor = new EventHandlerExecutor(HANDLER_NAME, threadPool, true,
+                EventRejectionPolicy.BLOCK);
+
+        executor.submit(handler, new Event("EVENT_1"));
+        Assert.assertTrue(handler.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        executor.submit(handler, new Event("EVENT_2"));
+        Thread publisher = new Thread(() -> executor.submit(handler, new Event("EVENT_3")));
+        publisher.start();
+        threadPool.shutdown();
+        publisher.join(TIMEOUT);
+        Assert.assertFalse(publisher.isAlive());
+        release.countDown();
+        Assert.assertTrue(threadPool.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        Assert.assertEquals(handler.handledEvents.size(), 2);
+        Assert.assertEquals(executor.getMetrics().getDroppedCount(), 1);
+    }
+
+    @Test
+    public void testFailedEventsAreCounted() {
+
+        EventHandlerExecutor executor = new EventHandlerExecutor(HANDLER_NAME,
+                EventHandlerExecutor.createExecutor(1, 0), true, EventRejectionPolicy.BLOCK);
+
+        executor.submit(new FailingEventHandler(), new Event("EVENT_1"));
+        executor.shutdown(TIMEOUT);
+
+        Assert.assertEquals(executor.getMetrics().getCompletedCount(), 1);
+        Assert.assertEquals(executor.getMetrics().getFailureCount(), 1);
+    }
+
+    private static class BlockingEventHandler extends AbstractEventHandler {
+
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final List<String> handledEvents = new CopyOnWriteArrayList<>();
+        private volatile Thread callerThread;
+        private volatile boolean handledOnCaller;
+
+        BlockingEventHandler(CountDownLatch release) {
+
+            this.release = release;
+        }
+
+        @Override
+        public String getName() {
+
+            return HANDLER_NAME;
+        }
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            return true;
+        }
+
+        @Override
+        public boolean isEnabled(MessageContext messageContext) {
+
+            return true;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            started.countDown();
+            if (Thread.currentThread() == callerThread) {
+                handledOnCaller = true;
+                handledEvents.add(event.getEventName());
+                return;
+            }
+            try {
+                release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handledEvents.add(event.getEventName());
+        }
+    }
+
+    private static class FailingEventHandler extends AbstractEventHandler {
+
+        @Override
+        public String getName() {
+
+            return HANDLER_NAME;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            throw new IdentityEventException("Error while handling the event.");
+        }
+    }
+}
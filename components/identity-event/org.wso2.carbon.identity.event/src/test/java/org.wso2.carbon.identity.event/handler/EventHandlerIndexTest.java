@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Unit tests for {@link EventHandlerIndex}.
+ */
+public class EventHandlerIndexTest {
+
+    private static final String PRE_ADD_USER = "PRE_ADD_USER";
+    private static final String POST_ADD_USER = "POST_ADD_USER";
+    private static final String PRE_DELETE_USER = "PRE_DELETE_USER";
+
+    @Test
+    public void testHandlersAreIndexedBySubscription() {
+
+        AbstractEventHandler first = subscribedHandler(PRE_ADD_USER, POST_ADD_USER);
+        AbstractEventHandler second = subscribedHandler(POST_ADD_USER);
+        AbstractEventHandler third = subscribedHandler(PRE_DELETE_USER);
+
+        EventHandlerIndex index = new EventHandlerIndex(Arrays.asList(first, second, third));
+
+        Assert.assertEquals(index.getHandlers(PRE_ADD_USER), Collections.singletonList(first));
+        Assert.assertEquals(index.getHandlers(POST_ADD_USER), Arrays.asList(first, second));
+        Assert.assertEquals(index.getHandlers(PRE_DELETE_USER), Collections.singletonList(third));
+        Assert.assertTrue(index.getHandlers("UNKNOWN_EVENT").isEmpty());
+    }
+
+    @Test
+    public void testHandlersWithCustomCanHandleKeepPriorityOrder() {
+
+        AbstractEventHandler first = subscribedHandler(POST_ADD_USER);
+        AbstractEventHandler custom = new CustomCanHandleEventHandler();
+        AbstractEventHandler last = subscribedHandler(POST_ADD_USER, PRE_DELETE_USER);
+
+        EventHandlerIndex index = new EventHandlerIndex(Arrays.asList(first, custom, last));
+
+        Assert.assertEquals(index.getHandlers(POST_ADD_USER), Arrays.asList(first, custom, last));
+        Assert.assertEquals(index.getHandlers(PRE_DELETE_USER), Arrays.asList(custom, last));
+        Assert.assertEquals(index.getHandlers("UNKNOWN_EVENT"), Collections.singletonList(custom));
+    }
+
+    @Test
+    public void testHandlerWithoutConfigurationIsNotIndexed() {
+
+        AbstractEventHandler notConfigured = new SubscribedEventHandler();
+
+        EventHandlerIndex index = new EventHandlerIndex(Collections.singletonList(notConfigured));
+
+        Assert.assertTrue(index.getHandlers(POST_ADD_USER).isEmpty());
+    }
+
+    @Test
+    public void testIsBuiltFrom() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(subscribedHandler(POST_ADD_USER));
+        EventHandlerIndex index = new EventHandlerIndex(handlers);
+
+        Assert.assertTrue(index.isBuiltFrom(handlers));
+        handlers.add(subscribedHandler(PRE_ADD_USER));
+        Assert.assertFalse(index.isBuiltFrom(handlers));
+        Assert.assertFalse(index.isBuiltFrom(new ArrayList<>(handlers)));
+    }
+
+    private AbstractEventHandler subscribedHandler(String... eventNames) {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (String eventName : eventNames) {
+            subscriptions.add(new Subscription(eventName, new Properties()));
+        }
+        AbstractEventHandler handler = new SubscribedEventHandler();
+        handler.init(new ModuleConfiguration(new Properties(), subscriptions));
+        return handler;
+    }
+
+    private static class SubscribedEventHandler extends AbstractEventHandler {
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+
+    private static class CustomCanHandleEventHandler extends AbstractEventHandler {
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            return true;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+}
@@ -34,8 +34,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * //TODO remove method when user is deleted
@@ -72,106 +75,117 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         userIdentityDTO.setTenantId(tenantId);
         super.store(userIdentityDTO, userStoreManager);
 
-        Map<String, String> data = userIdentityDTO.getUserDataMap();
-
-        for (Map.Entry<String, String> entry : data.entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
-            boolean isUserExists = false;
-            try {
-                isUserExists = isExistingUserDataValue(userName, tenantId, key);
-            } catch (SQLException e) {
-                throw IdentityException.error("Error occurred while checking if user existing", e);
-            }
-            try {
-                if (isUserExists) {
-                    updateUserDataValue(userName, tenantId, key, value);
-                } else {
-                    addUserDataValue(userName, tenantId, key, value);
-                }
-            } catch (SQLException e) {
-                throw IdentityException.error("Error occurred while persisting user data", e);
-            }
+        try {
+            storeUserDataValues(userName, tenantId, userIdentityDTO.getUserDataMap());
+        } catch (SQLException e) {
+            throw IdentityException.error("Error occurred while persisting user data", e);
         }
     }
 
-    private boolean isExistingUserDataValue(String userName, int tenantId, String key) throws SQLException {
+    /**
+     * Insert or update the given user data. If another node inserts one of the keys after the existing keys were
+     * read, the write is retried once so that the key is updated instead.
+     *
+     * @param userName User name with the user store domain.
+     * @param tenantId Tenant id.
+     * @param data     User data to be persisted.
+     * @throws SQLException If an error occurred while persisting the data.
+     */
+    private void storeUserDataValues(String userName, int tenantId, Map<String, String> data) throws SQLException {
 
-        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
-        PreparedStatement prepStmt = null;
-        ResultSet results;
         boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
         try {
-            String query;
-            if (isUsernameCaseSensitive) {
-                query = SQLQuery.CHECK_EXIST_USER_DATA;
-            } else {
-                query = SQLQuery.CHECK_EXIST_USER_DATA_CASE_INSENSITIVE;
+            writeUserDataValues(userName, tenantId, data, isUsernameCaseSensitive);
+        } catch (SQLException e) {
+            if (!isDuplicateKeyError(e)) {
+                throw e;
             }
-            prepStmt = connection.prepareStatement(query);
-            prepStmt.setInt(1, tenantId);
-            prepStmt.setString(2, userName);
-            prepStmt.setString(3, key);
-            results = prepStmt.executeQuery();
-            if (results.next()) {
-                return true;
+            if (log.isDebugEnabled()) {
+                log.debug("User data of " + tenantId + ":" + userName + " was added concurrently. Retrying the " +
+                        "write as an update.");
             }
-        } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
-            IdentityDatabaseUtil.closeConnection(connection);
+            writeUserDataValues(userName, tenantId, data, isUsernameCaseSensitive);
         }
-        return false;
     }
 
+    /**
+     * Insert or update the given user data in a single transaction. The existing keys of the user are read with one
+     * query, and the inserts and the updates are sent as JDBC batches, instead of a lookup and a write on a separate
+     * connection for each key.
+     *
+     * @param userName                User name with the user store domain.
+     * @param tenantId                Tenant id.
+     * @param data                    User data to be persisted.
+     * @param isUsernameCaseSensitive Whether the user name is case sensitive.
+     * @throws SQLException If an error occurred while persisting the data. The transaction is rolled back.
+     */
+    private void writeUserDataValues(String userName, int tenantId, Map<String, String> data,
+                                     boolean isUsernameCaseSensitive) throws SQLException {
 
-    private void addUserDataValue(String userName, int tenantId, String key, String value) throws SQLException {
-
-        Connection connection = IdentityDatabaseUtil.getDBConnection();
-        PreparedStatement prepStmt = null;
-
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
         try {
-            prepStmt = connection.prepareStatement(SQLQuery.STORE_USER_DATA);
-            prepStmt.setInt(1, tenantId);
-            prepStmt.setString(2, userName);
-            prepStmt.setString(3, key);
-            prepStmt.setString(4, value);
-            prepStmt.execute();
+            Set<String> existingKeys = getExistingUserDataKeys(connection, userName, tenantId,
+                    isUsernameCaseSensitive);
+            try (PreparedStatement addStmt = connection.prepareStatement(SQLQuery.STORE_USER_DATA);
+                 PreparedStatement updateStmt = connection.prepareStatement(isUsernameCaseSensitive ?
+                         SQLQuery.UPDATE_USER_DATA : SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE)) {
+                boolean hasAdditions = false;
+                boolean hasUpdates = false;
+                for (Map.Entry<String, String> entry : data.entrySet()) {
+                    if (existingKeys.contains(entry.getKey())) {
+                        updateStmt.setString(1, entry.getValue());
+                        updateStmt.setInt(2, tenantId);
+                        updateStmt.setString(3, userName);
+                        updateStmt.setString(4, entry.getKey());
+                        updateStmt.addBatch();
+                        hasUpdates = true;
+                    } else {
+                        addStmt.setInt(1, tenantId);
+                        addStmt.setString(2, userName);
+                        addStmt.setString(3, entry.getKey());
+                        addStmt.setString(4, entry.getValue());
+                        addStmt.addBatch();
+                        hasAdditions = true;
+                    }
+                }
+                if (hasUpdates) {
+                    updateStmt.executeBatch();
+                }
+                if (hasAdditions) {
+                    addStmt.executeBatch();
+                }
+            }
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw e;
         } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
             IdentityDatabaseUtil.closeConnection(connection);
         }
     }
 
+    private boolean isDuplicateKeyError(SQLException e) {
 
-    private void updateUserDataValue(String userName, int tenantId, String key, String value) throws SQLException {
+        return e instanceof SQLIntegrityConstraintViolationException
+                || e.getNextException() instanceof SQLIntegrityConstraintViolationException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("23"));
+    }
 
-        Connection connection = IdentityDatabaseUtil.getDBConnection();
-        PreparedStatement prepStmt = null;
-        boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
-        try {
-            String query;
-            if (isUsernameCaseSensitive) {
-                query = SQLQuery.UPDATE_USER_DATA;
-            } else {
-                query = SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE;
+    private Set<String> getExistingUserDataKeys(Connection connection, String userName, int tenantId,
+                                                boolean isUsernameCaseSensitive) throws SQLException {
+
+        Set<String> keys = new HashSet<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(isUsernameCaseSensitive ?
+                SQLQuery.LOAD_USER_DATA_KEYS : SQLQuery.LOAD_USER_DATA_KEYS_CASE_INSENSITIVE)) {
+            prepStmt.setInt(1, tenantId);
+            prepStmt.setString(2, userName);
+            try (ResultSet results = prepStmt.executeQuery()) {
+                while (results.next()) {
+                    keys.add(results.getString(1));
+                }
             }
-            prepStmt = connection.prepareStatement(query);
-            prepStmt.setString(1, value);
-            prepStmt.setInt(2, tenantId);
-            prepStmt.setString(3, userName);
-            prepStmt.setString(4, key);
-            prepStmt.executeUpdate();
-            IdentityDatabaseUtil.commitTransaction(connection);
-        } catch (SQLException e) {
-            IdentityDatabaseUtil.rollbackTransaction(connection);
-        } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
-            IdentityDatabaseUtil.closeConnection(connection);
         }
-
+        return keys;
     }
 
     @Override
@@ -271,10 +285,10 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
      * The primary key is tenantId, userName, DatKey combination
      */
     private static class SQLQuery {
-        public static final String CHECK_EXIST_USER_DATA = "SELECT DATA_VALUE FROM IDN_IDENTITY_USER_DATA WHERE " +
-                "TENANT_ID = ? AND USER_NAME = ? AND DATA_KEY = ?";
-        public static final String CHECK_EXIST_USER_DATA_CASE_INSENSITIVE = "SELECT DATA_VALUE FROM " +
-                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?) AND DATA_KEY = ?";
+        public static final String LOAD_USER_DATA_KEYS = "SELECT DATA_KEY FROM IDN_IDENTITY_USER_DATA WHERE " +
+                "TENANT_ID = ? AND USER_NAME = ?";
+        public static final String LOAD_USER_DATA_KEYS_CASE_INSENSITIVE = "SELECT DATA_KEY FROM " +
+                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?)";
 
         public static final String STORE_USER_DATA = "INSERT INTO IDN_IDENTITY_USER_DATA (TENANT_ID, USER_NAME, " +
                 "DATA_KEY, DATA_VALUE) VALUES (?,?,?,?)";
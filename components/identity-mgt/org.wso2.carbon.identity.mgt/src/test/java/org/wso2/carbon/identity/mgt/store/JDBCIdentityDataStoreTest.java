@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.mgt.store;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.mgt.dto.UserIdentityClaimsDO;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.config.RealmConfiguration;
+
+import java.io.File;
+import java.net.URL;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.cache.Cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link JDBCIdentityDataStore#store}.
+ */
+public class JDBCIdentityDataStoreTest {
+
+    private static final String DOMAIN_NAME = "PRIMARY";
+    private static final int TENANT_ID = -1234;
+    private static final String USER_NAME = "testUser";
+    private static final String EXISTING_KEY = "http://wso2.org/claims/identity/failedLoginAttempts";
+    private static final String NEW_KEY = "http://wso2.org/claims/identity/lastLogonTime";
+
+    private JDBCIdentityDataStore store;
+    private UserStoreManager userStoreManager;
+    private Connection connection;
+    private PreparedStatement selectStmt;
+    private PreparedStatement addStmt;
+    private PreparedStatement updateStmt;
+    private MockedStatic<IdentityUtil> identityUtil;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        URL root = this.getClass().getClassLoader().getResource(".");
+        File file = new File(root.getPath());
+        System.setProperty("carbon.home", file.getAbsolutePath());
+
+        Cache<String, UserIdentityClaimsDO> mockCache = mock(Cache.class);
+        store = new JDBCIdentityDataStore() {
+            @Override
+            protected Cache<String, UserIdentityClaimsDO> getCache() {
+                return mockCache;
+            }
+        };
+
+        userStoreManager = mock(UserStoreManager.class);
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(realmConfiguration.getUserStoreProperty(
+                UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME)).thenReturn(DOMAIN_NAME);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+
+        connection = mock(Connection.class);
+        selectStmt = mock(PreparedStatement.class);
+        addStmt = mock(PreparedStatement.class);
+        updateStmt = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("SELECT"))).thenReturn(selectStmt);
+        when(connection.prepareStatement(startsWith("INSERT"))).thenReturn(addStmt);
+        when(connection.prepareStatement(startsWith("UPDATE"))).thenReturn(updateStmt);
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.isUserStoreCaseSensitive(any(UserStoreManager.class)))
+                .thenReturn(true);
+        identityUtil.when(() -> IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt()))
+                .thenReturn(true);
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(true)).thenReturn(connection);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+        identityDatabaseUtil.close();
+    }
+
+    @Test
+    public void testStoreUpdatesExistingKeysAndAddsNewKeys() throws Exception {
+
+        ResultSet existingKeys = mockExistingKeys(EXISTING_KEY);
+        when(selectStmt.executeQuery()).thenReturn(existingKeys);
+
+        store.store(createUserData(), userStoreManager);
+
+        verify(updateStmt).setString(4, EXISTING_KEY);
+        verify(updateStmt, times(1)).addBatch();
+        verify(updateStmt).executeBatch();
+        verify(addStmt).setString(3, NEW_KEY);
+        verify(addStmt, times(1)).addBatch();
+        verify(addStmt).executeBatch();
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection));
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.rollbackTransaction(connection), never());
+    }
+
+    @Test
+    public void testStoreRollsBackWhenWriteFails() throws Exception {
+
+        ResultSet existingKeys = mockExistingKeys(EXISTING_KEY);
+        when(selectStmt.executeQuery()).thenReturn(existingKeys);
+        when(addStmt.executeBatch()).thenThrow(new SQLException("Write failed"));
+
+        try {
+            store.store(createUserData(), userStoreManager);
+            fail("Expected an IdentityException when the write fails.");
+        } catch (IdentityException e) {
+            // Expected.
+        }
+
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.rollbackTransaction(connection));
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection), never());
+    }
+
+    @Test
+    public void testStoreRetriesAsUpdateWhenKeyIsAddedConcurrently() throws Exception {
+
+        ResultSet noKeys = mockExistingKeys();
+        ResultSet concurrentlyAddedKeys = mockExistingKeys(EXISTING_KEY, NEW_KEY);
+        when(selectStmt.executeQuery()).thenReturn(noKeys, concurrentlyAddedKeys);
+        when(addStmt.executeBatch()).thenThrow(new SQLIntegrityConstraintViolationException("Duplicate key"));
+
+        store.store(createUserData(), userStoreManager);
+
+        verify(addStmt, times(1)).executeBatch();
+        verify(updateStmt, times(2)).addBatch();
+        verify(updateStmt, times(1)).executeBatch();
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.rollbackTransaction(connection));
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection));
+    }
+
+    private UserIdentityClaimsDO createUserData() {
+
+        Map<String, String> data = new HashMap<>();
+        data.put(EXISTING_KEY, "1");
+        data.put(NEW_KEY, "1700000000000");
+        return new UserIdentityClaimsDO(USER_NAME, data);
+    }
+
+    private ResultSet mockExistingKeys(String... keys) throws SQLException {
+
+        ResultSet resultSet = mock(ResultSet.class);
+        Boolean[] hasNext = new Boolean[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hasNext[i] = i < keys.length - 1;
+        }
+        if (keys.length == 0) {
+            when(resultSet.next()).thenReturn(false);
+            return resultSet;
+        }
+        when(resultSet.next()).thenReturn(true, hasNext);
+        String[] remainingKeys = new String[keys.length - 1];
+        System.arraycopy(keys, 1, remainingKeys, 0, remainingKeys.length);
+        when(resultSet.getString(1)).thenReturn(keys[0], remainingKeys);
+        return resultSet;
+    }
+}
@@ -24,7 +24,7 @@ import org.wso2.carbon.utils.CarbonUtils;
 /**
  * IDP name cache by IDP metadata.
  */
-public class IdPCacheByMetadataProperty extends BaseCache<IdPMetadataPropertyCacheKey, String> {
+public class IdPCacheByMetadataProperty extends BaseCache<IdPMetadataPropertyCacheKey, IdPMetadataPropertyCacheEntry> {
 
     private static final String CACHE_NAME = "IdPCacheByMetadataProperty";
 
@@ -25,11 +25,17 @@ import org.wso2.carbon.identity.core.cache.CacheEntry;
 public class IdPCacheEntry extends CacheEntry {
 
     private IdentityProvider identityProvider;
+    private String generation;
 
     public IdPCacheEntry(IdentityProvider identityProvider) {
         this.identityProvider = identityProvider;
     }
 
+    public IdPCacheEntry(IdentityProvider identityProvider, String generation) {
+        this.identityProvider = identityProvider;
+        this.generation = generation;
+    }
+
     public IdentityProvider getIdentityProvider() {
         return identityProvider;
     }
@@ -38,4 +44,10 @@ public class IdPCacheEntry extends CacheEntry {
         this.identityProvider = identityProvider;
     }
 
+    /**
+     * @return Cache generation of the identity provider when the entry was loaded, or null if it was not tracked.
+     */
+    public String getGeneration() {
+        return generation;
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.cache.CacheKey;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Current cache generation of an identity provider, keyed by the identity provider name.
+ * Identity provider cache entries carry the generation they were loaded in. Removing the generation of an identity
+ * provider invalidates all of its entries in the secondary caches without looking them up.
+ * <p>
+ * The cache also holds the generation of the tenant, keyed by {@link IdPTenantCacheKey}, which is removed whenever
+ * any identity provider of the tenant changes. It is read before loading an identity provider by a key other than
+ * its name, since the generation of the identity provider is only known after the load.
+ */
+public class IdPCacheGeneration extends BaseCache<CacheKey, String> {
+
+    private static final String CACHE_NAME = "IdPCacheGeneration";
+
+    private static final IdPCacheGeneration instance = new IdPCacheGeneration();
+
+    private IdPCacheGeneration() {
+        super(CACHE_NAME);
+    }
+
+    public static IdPCacheGeneration getInstance() {
+
+        CarbonUtils.checkSecurity();
+        return instance;
+    }
+}
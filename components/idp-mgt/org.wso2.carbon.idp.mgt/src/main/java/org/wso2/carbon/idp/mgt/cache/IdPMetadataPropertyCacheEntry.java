@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry holding the name of the identity provider which owns an IDP metadata property.
+ */
+public class IdPMetadataPropertyCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -2377218312880742375L;
+
+    private final String idPName;
+    private final String generation;
+
+    public IdPMetadataPropertyCacheEntry(String idPName, String generation) {
+
+        this.idPName = idPName;
+        this.generation = generation;
+    }
+
+    public String getIdPName() {
+
+        return idPName;
+    }
+
+    /**
+     * @return Cache generation of the identity provider when the entry was loaded.
+     */
+    public String getGeneration() {
+
+        return generation;
+    }
+}
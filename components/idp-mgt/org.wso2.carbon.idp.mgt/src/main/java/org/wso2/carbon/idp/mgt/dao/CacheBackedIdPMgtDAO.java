@@ -28,6 +28,9 @@ import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.cache.CacheKey;
+import org.wso2.carbon.identity.core.cache.CacheLoadCoalescer;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -42,10 +45,13 @@ import org.wso2.carbon.idp.mgt.cache.IdPCacheByMetadataProperty;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByName;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByResourceId;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheEntry;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheGeneration;
 import org.wso2.carbon.idp.mgt.cache.IdPHomeRealmIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheEntry;
 import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPNameCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPResourceIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPTenantCacheKey;
 import org.wso2.carbon.idp.mgt.cache.UserDefinedFederatedAuthenticatorsCache;
 import org.wso2.carbon.idp.mgt.cache.UserDefinedFederatedAuthenticatorsCacheEntry;
 import org.wso2.carbon.idp.mgt.cache.UserDefinedFederatedAuthenticatorsCacheKey;
@@ -54,6 +60,7 @@ import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 import org.wso2.carbon.idp.mgt.util.IdPManagementConstants;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.sql.Connection;
 import java.util.Collection;
@@ -61,6 +68,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -69,6 +77,10 @@ public class CacheBackedIdPMgtDAO {
 
     private static final Log log = LogFactory.getLog(CacheBackedIdPMgtDAO.class);
     private static final ExecutorService CACHE_CLEARING_EXECUTOR = Executors.newFixedThreadPool(3);
+    // Concurrent cache misses of the same identity provider are served by a single database load. Threads which
+    // waited on the load read the identity provider from the cache, as on a cache hit, since identity providers with
+    // user defined authenticators can not be copied through serialization.
+    private static final CacheLoadCoalescer<String, IdentityProvider> IDP_LOAD_COALESCER = new CacheLoadCoalescer<>();
 
     private IdPManagementFacade idPManagementFacade = null;
 
@@ -77,6 +89,7 @@ public class CacheBackedIdPMgtDAO {
     private IdPCacheByAuthProperty idPCacheByAuthProperty = null;
     private IdPCacheByResourceId idPCacheByResourceId = null;
     private IdPCacheByMetadataProperty idPCacheByMetadataProperty = null;
+    private IdPCacheGeneration idPCacheGeneration = null;
     private UserDefinedFederatedAuthenticatorsCache userDefinedFederatedAuthenticatorsCache = null;
 
     /**
@@ -89,6 +102,7 @@ public class CacheBackedIdPMgtDAO {
         idPCacheByAuthProperty = IdPCacheByAuthProperty.getInstance();
         idPCacheByResourceId = IdPCacheByResourceId.getInstance();
         idPCacheByMetadataProperty = IdPCacheByMetadataProperty.getInstance();
+        idPCacheGeneration = IdPCacheGeneration.getInstance();
         userDefinedFederatedAuthenticatorsCache = UserDefinedFederatedAuthenticatorsCache.getInstance();
     }
 
@@ -231,7 +245,7 @@ public class CacheBackedIdPMgtDAO {
             IdentityProviderManagementException {
 
         IdPNameCacheKey cacheKey = new IdPNameCacheKey(idPName);
-        IdPCacheEntry entry = idPCacheByName.getValueFromCache(cacheKey, tenantDomain);
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByName, cacheKey, tenantDomain);
 
         if (entry != null) {
             log.debug("Cache entry found for Identity Provider " + idPName);
@@ -243,6 +257,36 @@ public class CacheBackedIdPMgtDAO {
                     + ". Fetching entry from DB");
         }
 
+        if (dbConnection != null) {
+            // The caller's connection may see changes of its own transaction, so the load is not shared.
+            return loadIdPByName(dbConnection, idPName, tenantId, tenantDomain);
+        }
+        return IDP_LOAD_COALESCER.load(getLoadKey(idPName, tenantDomain),
+                () -> loadIdPByName(null, idPName, tenantId, tenantDomain),
+                () -> readIdPByName(idPName, tenantId, tenantDomain));
+    }
+
+    /**
+     * Read the identity provider loaded by another thread from the cache. The identity provider is loaded from the
+     * database if the load did not add it to the cache, e.g. since it was invalidated meanwhile.
+     */
+    private IdentityProvider readIdPByName(String idPName, int tenantId, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByName, new IdPNameCacheKey(idPName), tenantDomain);
+        if (entry != null) {
+            IdentityProvider identityProvider = entry.getIdentityProvider();
+            IdPManagementUtil.removeRandomPasswords(identityProvider, false);
+            return identityProvider;
+        }
+        return loadIdPByName(null, idPName, tenantId, tenantDomain);
+    }
+
+    private IdentityProvider loadIdPByName(Connection dbConnection, String idPName, int tenantId,
+                                           String tenantDomain) throws IdentityProviderManagementException {
+
+        // Read before loading, so that the entry is not current if the identity provider changes during the load.
+        String generation = getGeneration(idPName, tenantDomain);
         IdentityProvider identityProvider = idPManagementFacade.getIdPByName(dbConnection, idPName,
                                                                    tenantId, tenantDomain);
 
@@ -260,11 +304,13 @@ public class CacheBackedIdPMgtDAO {
             }
 
             log.debug("Entry fetched from DB for Identity Provider " + idPName + ". Updating cache");
-            idPCacheByName.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            IdPNameCacheKey cacheKey = new IdPNameCacheKey(idPName);
+            idPCacheByName.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider, generation), tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider, generation),
+                        tenantDomain);
             }
         } else {
             log.debug("Entry for Identity Provider " + idPName + " not found in cache or DB");
@@ -273,6 +319,11 @@ public class CacheBackedIdPMgtDAO {
         return identityProvider;
     }
 
+    private static String getLoadKey(String idPName, String tenantDomain) {
+
+        return tenantDomain + ":" + idPName;
+    }
+
     /**
      * @param dbConnection Database connection.
      * @param id Id of the identity provider.
@@ -284,20 +335,26 @@ public class CacheBackedIdPMgtDAO {
     public IdentityProvider getIdPById(Connection dbConnection, int id,
                                        int tenantId, String tenantDomain) throws IdentityProviderManagementException {
 
+        String tenantGeneration = getTenantGeneration(tenantDomain);
         IdentityProvider identityProvider = idPManagementFacade.getIDPbyId(dbConnection, id,
                 tenantId, tenantDomain);
 
         if (identityProvider != null) {
+            String generation = getGeneration(identityProvider.getIdentityProviderName(), tenantDomain);
+            if (isChangedSince(tenantGeneration, tenantDomain)) {
+                return identityProvider;
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Entry fetched from DB for Identity Provider " + identityProvider.getIdentityProviderName()
                         + ". Updating cache");
             }
             IdPNameCacheKey cacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByName.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider, generation), tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider, generation),
+                        tenantDomain);
             }
         } else {
             if (log.isDebugEnabled()) {
@@ -320,7 +377,7 @@ public class CacheBackedIdPMgtDAO {
 
         IdentityProvider identityProvider;
         IdPResourceIdCacheKey cacheKey = new IdPResourceIdCacheKey(resourceId);
-        IdPCacheEntry entry = idPCacheByResourceId.getValueFromCache(cacheKey, tenantDomain);
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByResourceId, cacheKey, tenantDomain);
 
         if (entry != null) {
             if (log.isDebugEnabled()) {
@@ -334,11 +391,12 @@ public class CacheBackedIdPMgtDAO {
                 log.debug("Cache entry not found for Identity Provider with resource ID: " + resourceId
                         + ". Fetching entry from DB");
             }
+            String tenantGeneration = getTenantGeneration(tenantDomain);
             identityProvider = idPManagementFacade.getIDPbyResourceId(null, resourceId,
                     tenantId, tenantDomain);
 
             if (identityProvider != null) {
-                addIdPCache(identityProvider, tenantDomain);
+                addIdPCache(identityProvider, tenantDomain, tenantGeneration);
             } else {
                 if (log.isDebugEnabled()) {
                     log.debug(String.format("No IDP found with resource ID: %s either in cache or DB", resourceId));
@@ -363,7 +421,7 @@ public class CacheBackedIdPMgtDAO {
 
         IdentityProvider identityProvider;
         IdPResourceIdCacheKey cacheKey = new IdPResourceIdCacheKey(resourceId);
-        IdPCacheEntry entry = idPCacheByResourceId.getValueFromCache(cacheKey, tenantDomain);
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByResourceId, cacheKey, tenantDomain);
 
         if (entry != null) {
             /*
@@ -380,6 +438,7 @@ public class CacheBackedIdPMgtDAO {
                     tenantId, tenantDomain);
         }
 
+        String tenantGeneration = getTenantGeneration(tenantDomain);
         identityProvider = idPManagementFacade.getIDPbyResourceId(null, resourceId, tenantId, tenantDomain);
 
         if (identityProvider == null) {
@@ -388,14 +447,14 @@ public class CacheBackedIdPMgtDAO {
             }
             return null;
         }
-        addIdPCache(identityProvider, tenantDomain);
+        addIdPCache(identityProvider, tenantDomain, tenantGeneration);
         return identityProvider;
     }
 
     public String getIdPNameByResourceId(String resourceId) throws IdentityProviderManagementException {
 
         IdPResourceIdCacheKey cacheKey = new IdPResourceIdCacheKey(resourceId);
-        IdPCacheEntry entry = idPCacheByResourceId.getValueFromCache(cacheKey,
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByResourceId, cacheKey,
                 CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
 
         if (entry != null) {
@@ -427,7 +486,7 @@ public class CacheBackedIdPMgtDAO {
             throws IdentityProviderManagementException {
 
         IdPAuthPropertyCacheKey cacheKey = new IdPAuthPropertyCacheKey(property, value);
-        IdPCacheEntry entry = idPCacheByAuthProperty.getValueFromCache(cacheKey, tenantDomain);
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByAuthProperty, cacheKey, tenantDomain);
 
         if (entry != null) {
             log.debug("Cache entry found for Identity Provider with authenticator property " + property
@@ -439,20 +498,27 @@ public class CacheBackedIdPMgtDAO {
                     + " and with value " + value + ". Fetching entry from DB");
         }
 
+        String tenantGeneration = getTenantGeneration(tenantDomain);
         IdentityProvider identityProvider = idPManagementFacade.getIdPByAuthenticatorPropertyValue(dbConnection, property, value,
                                                                                          tenantId, tenantDomain);
 
         if (identityProvider != null) {
+            String generation = getGeneration(identityProvider.getIdentityProviderName(), tenantDomain);
+            if (isChangedSince(tenantGeneration, tenantDomain)) {
+                return identityProvider;
+            }
             log.debug("Entry fetched from DB for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Updating cache");
 
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName()
             );
-            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider, generation),
+                    tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider, generation),
+                        tenantDomain);
             }
         } else {
             log.debug("Entry for Identity Provider with authenticator property " + property + " and with value "
@@ -477,7 +543,7 @@ public class CacheBackedIdPMgtDAO {
             throws IdentityProviderManagementException {
 
         IdPAuthPropertyCacheKey cacheKey = new IdPAuthPropertyCacheKey(property, value);
-        IdPCacheEntry entry = idPCacheByAuthProperty.getValueFromCache(cacheKey, tenantDomain);
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByAuthProperty, cacheKey, tenantDomain);
 
         if (entry != null) {
             log.debug("Cache entry found for Identity Provider with authenticator property " + property
@@ -489,19 +555,26 @@ public class CacheBackedIdPMgtDAO {
                     + " and with value " + value + ". Fetching entry from DB");
         }
 
+        String tenantGeneration = getTenantGeneration(tenantDomain);
         IdentityProvider identityProvider = idPManagementFacade.getIdPByAuthenticatorPropertyValue(dbConnection, property,
                 value, authenticator, tenantId, tenantDomain);
 
         if (identityProvider != null) {
+            String generation = getGeneration(identityProvider.getIdentityProviderName(), tenantDomain);
+            if (isChangedSince(tenantGeneration, tenantDomain)) {
+                return identityProvider;
+            }
             log.debug("Entry fetched from DB for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Updating cache");
 
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider, generation),
+                    tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider, generation),
+                        tenantDomain);
             }
         } else {
             log.debug("Entry for Identity Provider with authenticator property " + property + " and with value "
@@ -522,7 +595,7 @@ public class CacheBackedIdPMgtDAO {
                                             String tenantDomain) throws IdentityProviderManagementException {
 
         IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-        IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByHRI, cacheKey, tenantDomain);
         if (entry != null) {
             log.debug("Cache entry found for Identity Provider with Home Realm ID " + realmId);
             return entry.getIdentityProvider();
@@ -531,14 +604,20 @@ public class CacheBackedIdPMgtDAO {
                     + ". Fetching entry from DB");
         }
 
+        String tenantGeneration = getTenantGeneration(tenantDomain);
         IdentityProvider identityProvider = idPManagementFacade.getIdPByRealmId(realmId, tenantId, tenantDomain);
 
         if (identityProvider != null) {
+            String generation = getGeneration(identityProvider.getIdentityProviderName(), tenantDomain);
+            if (isChangedSince(tenantGeneration, tenantDomain)) {
+                return identityProvider;
+            }
             log.debug("Entry fetched from DB for Identity Provider with Home Realm ID " + realmId
                     + ". Updating cache");
-            idPCacheByHRI.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByHRI.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider, generation), tenantDomain);
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider, generation),
+                    tenantDomain);
         } else {
             log.debug("Entry for Identity Provider with Home Realm ID " + realmId
                     + " not found in cache or DB");
@@ -560,7 +639,7 @@ public class CacheBackedIdPMgtDAO {
                                             String tenantDomain) throws IdentityProviderManagementException {
 
         IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-        IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
+        IdPCacheEntry entry = getCurrentCacheEntry(idPCacheByHRI, cacheKey, tenantDomain);
         if (entry != null) {
             if (log.isDebugEnabled()) {
                 log.debug("Cache entry found for Identity Provider with Home Realm ID " + realmId);
@@ -580,16 +659,22 @@ public class CacheBackedIdPMgtDAO {
             }
         }
 
+        String tenantGeneration = getTenantGeneration(tenantDomain);
         IdentityProvider identityProvider = idPManagementFacade.getEnabledIdPByRealmId(realmId, tenantId, tenantDomain);
 
         if (identityProvider != null) {
+            String generation = getGeneration(identityProvider.getIdentityProviderName(), tenantDomain);
+            if (isChangedSince(tenantGeneration, tenantDomain)) {
+                return identityProvider;
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Entry fetched from DB for Identity Provider with Home Realm ID " + realmId
                         + ". Updating cache.");
             }
-            idPCacheByHRI.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByHRI.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider, generation), tenantDomain);
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider, generation),
+                    tenantDomain);
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("Entry for Identity Provider with Home Realm ID " + realmId
@@ -787,20 +872,39 @@ public class CacheBackedIdPMgtDAO {
      */
     public void addIdPCache(IdentityProvider identityProvider, String tenantDomain) {
 
+        addIdPCache(identityProvider, tenantDomain, null);
+    }
+
+    /**
+     * Add new cache entries for an IDP loaded by a key other than its name.
+     *
+     * @param identityProvider Identity Provider information.
+     * @param tenantDomain     Tenant domain of IDP.
+     * @param tenantGeneration Generation of the tenant read before loading the IDP, or null to add the entries
+     *                         regardless of the changes made during the load.
+     */
+    private void addIdPCache(IdentityProvider identityProvider, String tenantDomain, String tenantGeneration) {
+
         if (identityProvider != null) {
+            String generation = getGeneration(identityProvider.getIdentityProviderName(), tenantDomain);
+            if (isChangedSince(tenantGeneration, tenantDomain)) {
+                return;
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Adding new entry for Identity Provider: '" + identityProvider.getIdentityProviderName() +
                         "' to cache.");
             }
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCache(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByName.addToCache(idPNameCacheKey, new IdPCacheEntry(identityProvider, generation), tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCache(idPHomeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+                idPCacheByHRI.addToCache(idPHomeRealmIdCacheKey, new IdPCacheEntry(identityProvider, generation),
+                        tenantDomain);
             }
             IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(identityProvider.getResourceId());
-            idPCacheByResourceId.addToCache(idPResourceIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByResourceId.addToCache(idPResourceIdCacheKey, new IdPCacheEntry(identityProvider, generation),
+                    tenantDomain);
         }
     }
 
@@ -814,6 +918,42 @@ public class CacheBackedIdPMgtDAO {
     public void clearIdpCache(String idPName, String resourceId, int tenantId, String tenantDomain) throws
             IdentityProviderManagementException {
 
+        if (!idPCacheGeneration.isEnabled()) {
+            clearIdpCacheByLookup(idPName, resourceId, tenantId, tenantDomain);
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Removing entry for Identity Provider " + idPName + " of tenantDomain:" + tenantDomain +
+                    " from cache.");
+        }
+        /* Entries keyed by the home realm id, authenticator properties, metadata properties and resource id are
+         invalidated by starting a new generation, so the identity provider need not be loaded to find their keys.
+         For the resident IDP, this also invalidates the entries inherited by the child organizations. */
+        startNewGeneration(idPName, tenantDomain);
+        idPCacheByName.clearCacheEntry(new IdPNameCacheKey(idPName), tenantDomain);
+        // A load in progress may have read the identity provider before the change.
+        IDP_LOAD_COALESCER.invalidate(getLoadKey(idPName, tenantDomain));
+        if (StringUtils.isNotBlank(resourceId)) {
+            idPCacheByResourceId.clearCacheEntry(new IdPResourceIdCacheKey(resourceId), tenantDomain);
+        }
+        userDefinedFederatedAuthenticatorsCache.clearCacheEntry(
+                new UserDefinedFederatedAuthenticatorsCacheKey(tenantId), tenantId);
+    }
+
+    /**
+     * Clear the cache entries of the identity provider by loading it to find the keys of the secondary caches.
+     * Used when the cache generations are not available.
+     *
+     * @param idPName      Identity Provider name.
+     * @param resourceId   Resource ID of the identity provider.
+     * @param tenantId     Tenant ID of the identity provider.
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @throws IdentityProviderManagementException Error when loading the identity provider.
+     */
+    private void clearIdpCacheByLookup(String idPName, String resourceId, int tenantId, String tenantDomain)
+            throws IdentityProviderManagementException {
+
         // clearing cache entries related to the IDP.
         IdentityProvider identityProvider;
         if (StringUtils.isNotBlank(resourceId)) {
@@ -838,6 +978,137 @@ public class CacheBackedIdPMgtDAO {
         }
     }
 
+    /**
+     * Get the current cache generation of the identity provider. A new generation is started if there is none.
+     *
+     * @param idPName      Identity Provider name.
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @return Current generation, or null if the cache generations are disabled.
+     */
+    private String getGeneration(String idPName, String tenantDomain) {
+
+        if (!idPCacheGeneration.isEnabled()) {
+            return null;
+        }
+        return getOrStartGeneration(new IdPNameCacheKey(idPName), getGenerationTenantDomain(idPName, tenantDomain));
+    }
+
+    /**
+     * Get the current cache generation of the tenant, which changes whenever an identity provider of the tenant
+     * changes. It is read before loading an identity provider by a key other than its name. The generation of the
+     * super tenant is included for the other tenants, since the resident IDPs of all the organizations share it.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Current tenant generation, or null if the cache generations are disabled.
+     */
+    private String getTenantGeneration(String tenantDomain) {
+
+        if (!idPCacheGeneration.isEnabled()) {
+            return null;
+        }
+        String generation = getOrStartGeneration(new IdPTenantCacheKey(), tenantDomain);
+        if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(tenantDomain)) {
+            return generation;
+        }
+        return generation + ":" + getOrStartGeneration(new IdPTenantCacheKey(),
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Check whether an identity provider of the tenant changed after the given tenant generation was read. An
+     * identity provider loaded by a key other than its name is not cached in that case, since the generation of the
+     * identity provider can only be read after the load, and may already be newer than the loaded identity provider.
+     *
+     * @param tenantGeneration Tenant generation read before the load.
+     * @param tenantDomain     Tenant domain.
+     * @return True if the tenant generation changed.
+     */
+    private boolean isChangedSince(String tenantGeneration, String tenantDomain) {
+
+        if (tenantGeneration == null || tenantGeneration.equals(getTenantGeneration(tenantDomain))) {
+            return false;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Identity providers of tenantDomain:" + tenantDomain + " changed while loading. The loaded " +
+                    "Identity Provider is not cached.");
+        }
+        return true;
+    }
+
+    private String getOrStartGeneration(CacheKey cacheKey, String tenantDomain) {
+
+        String generation = idPCacheGeneration.getValueFromCache(cacheKey, tenantDomain);
+        if (generation == null) {
+            generation = UUID.randomUUID().toString();
+            // Added on read, since a new generation on one node does not make the entries of other nodes stale.
+            idPCacheGeneration.addToCacheOnRead(cacheKey, generation, tenantDomain);
+        }
+        return generation;
+    }
+
+    /**
+     * Start a new cache generation for the identity provider, which makes all of its cached entries stale.
+     *
+     * @param idPName      Identity Provider name.
+     * @param tenantDomain Tenant domain of the identity provider.
+     */
+    private void startNewGeneration(String idPName, String tenantDomain) {
+
+        /* The tenant generation is removed first, so that a load which reads the new generation of the identity
+         provider also finds the tenant generation changed. */
+        String generationTenantDomain = getGenerationTenantDomain(idPName, tenantDomain);
+        idPCacheGeneration.clearCacheEntry(new IdPTenantCacheKey(), generationTenantDomain);
+        if (!generationTenantDomain.equals(tenantDomain)) {
+            idPCacheGeneration.clearCacheEntry(new IdPTenantCacheKey(), tenantDomain);
+        }
+        idPCacheGeneration.clearCacheEntry(new IdPNameCacheKey(idPName), generationTenantDomain);
+    }
+
+    private static String getGenerationTenantDomain(String idPName, String tenantDomain) {
+
+        // Resident IDP properties are inherited by child organizations. Hence, the resident IDPs of all
+        // organizations share a single generation.
+        if (IdPManagementConstants.RESIDENT_IDP.equals(idPName)) {
+            return MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+        }
+        return tenantDomain;
+    }
+
+    private boolean isCurrentGeneration(String idPName, String generation, String tenantDomain) {
+
+        if (generation == null) {
+            return true;
+        }
+        String currentGeneration = getGeneration(idPName, tenantDomain);
+        return currentGeneration == null || currentGeneration.equals(generation);
+    }
+
+    /**
+     * Get the cache entry for the given key if it belongs to the current generation of its identity provider.
+     *
+     * @param cache        Identity provider cache.
+     * @param cacheKey     Cache key.
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @return Cache entry, or null if there is no current entry.
+     */
+    private <K extends CacheKey> IdPCacheEntry getCurrentCacheEntry(BaseCache<K, IdPCacheEntry> cache, K cacheKey,
+                                                                    String tenantDomain) {
+
+        IdPCacheEntry entry = cache.getValueFromCache(cacheKey, tenantDomain);
+        if (entry == null || entry.getIdentityProvider() == null) {
+            return entry;
+        }
+        if (isCurrentGeneration(entry.getIdentityProvider().getIdentityProviderName(), entry.getGeneration(),
+                tenantDomain)) {
+            return entry;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Ignoring the stale cache entry of Identity Provider " +
+                    entry.getIdentityProvider().getIdentityProviderName() + " of tenantDomain:" + tenantDomain);
+        }
+        return null;
+    }
+
     /**
      * Get the cached IDP by name.
      *
@@ -908,6 +1179,8 @@ public class CacheBackedIdPMgtDAO {
 
         IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(idPName);
         idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+        // A load in progress may have read the identity provider before the change.
+        IDP_LOAD_COALESCER.invalidate(getLoadKey(idPName, tenantDomain));
 
         if (identityProvider.getHomeRealmId() != null) {
             IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
@@ -1198,8 +1471,10 @@ public class CacheBackedIdPMgtDAO {
             IdentityProviderManagementException {
 
         IdPMetadataPropertyCacheKey cacheKey = new IdPMetadataPropertyCacheKey(property, value);
-        String idPName = idPCacheByMetadataProperty.getValueFromCache(cacheKey, tenantDomain);
-        if (idPName != null) {
+        IdPMetadataPropertyCacheEntry entry = idPCacheByMetadataProperty.getValueFromCache(cacheKey, tenantDomain);
+        String idPName;
+        if (entry != null && isCurrentGeneration(entry.getIdPName(), entry.getGeneration(), tenantDomain)) {
+            idPName = entry.getIdPName();
             if (log.isDebugEnabled()) {
                 log.debug("Cache entry IDP name: " + idPName + " found for IDP metadata property name: "
                         + property + " value: " + value);
@@ -1212,13 +1487,18 @@ public class CacheBackedIdPMgtDAO {
             }
         }
 
+        String tenantGeneration = getTenantGeneration(tenantDomain);
         idPName = idPManagementFacade.getIdPNameByMetadataProperty(dbConnection, property, value, tenantId);
         if (idPName != null) {
             if (log.isDebugEnabled()) {
                 log.debug("DB entry IDP name: " + idPName + " found for IDP metadata property name: "
                         + property + " value: " + value);
             }
-            idPCacheByMetadataProperty.addToCacheOnRead(cacheKey, idPName, tenantDomain);
+            String generation = getGeneration(idPName, tenantDomain);
+            if (!isChangedSince(tenantGeneration, tenantDomain)) {
+                idPCacheByMetadataProperty.addToCacheOnRead(cacheKey, new IdPMetadataPropertyCacheEntry(idPName,
+                        generation), tenantDomain);
+            }
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("DB entry not found for IDP metadata property name: " + property + " value: " + value);
@@ -53,6 +53,7 @@ import org.wso2.carbon.idp.mgt.cache.IdPCacheByName;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByResourceId;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheEntry;
 import org.wso2.carbon.idp.mgt.cache.IdPHomeRealmIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheEntry;
 import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPNameCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPResourceIdCacheKey;
@@ -76,6 +77,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
@@ -1772,6 +1774,68 @@ public class CacheBackedIdPMgtDAOTest {
         }
     }
 
+    @Test(dataProvider = "getIdPByRealmIdData")
+    public void testClearIdpCacheInvalidatesSecondaryCaches(String idpName, String realmId, int tenantId,
+                                                            String tenantDomain, boolean isExist) throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+            if (!isExist) {
+                // A home realm id which does not exist is neither found nor cached, and clearing does not fail.
+                assertNull(cacheBackedIdPMgtDAO.getIdPByRealmId(realmId, tenantId, tenantDomain));
+                assertNull(IdPCacheByHRI.getInstance().getValueFromCache(new IdPHomeRealmIdCacheKey(realmId),
+                        tenantDomain));
+                cacheBackedIdPMgtDAO.clearIdpCache(idpName, tenantId, tenantDomain);
+                assertNull(cacheBackedIdPMgtDAO.getIdPByRealmId(realmId, tenantId, tenantDomain));
+                return;
+            }
+            // Caching the IDP against its home realm id.
+            assertNotNull(cacheBackedIdPMgtDAO.getIdPByRealmId(realmId, tenantId, tenantDomain));
+
+            // Deleting the IDP without going through the cache and then clearing the cache by name.
+            idPManagementDAO.deleteIdP(idpName, tenantId, tenantDomain);
+            cacheBackedIdPMgtDAO.clearIdpCache(idpName, tenantId, tenantDomain);
+
+            assertNull(cacheBackedIdPMgtDAO.getIdPByRealmId(realmId, tenantId, tenantDomain),
+                    "Stale home realm id cache entry was returned after clearing the IDP cache.");
+        }
+    }
+
+    @Test
+    public void testIdPChangedWhileLoadingByRealmIdIsNotCached() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+            IdPCacheByHRI.getInstance().clearCacheEntry(new IdPHomeRealmIdCacheKey("1"), SUPER_TENANT_DOMAIN);
+
+            // The IDP is changed by another request after it is read from the DB, but before it is cached.
+            IdPManagementDAO racingIdPManagementDAO = spy(idPManagementDAO);
+            doAnswer(invocation -> {
+                Object identityProvider = invocation.callRealMethod();
+                cacheBackedIdPMgtDAO.clearIdpCache("testIdP1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+                return identityProvider;
+            }).when(racingIdPManagementDAO).getIdPByRealmId("1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+            CacheBackedIdPMgtDAO racingCacheBackedIdPMgtDAO = new CacheBackedIdPMgtDAO(racingIdPManagementDAO);
+
+            assertNotNull(racingCacheBackedIdPMgtDAO.getIdPByRealmId("1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN));
+            assertNull(IdPCacheByHRI.getInstance().getValueFromCache(new IdPHomeRealmIdCacheKey("1"),
+                    SUPER_TENANT_DOMAIN), "IDP read before a change was cached against its home realm id.");
+
+            // Without a change during the load, the IDP is cached.
+            assertNotNull(cacheBackedIdPMgtDAO.getIdPByRealmId("1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN));
+            assertNotNull(IdPCacheByHRI.getInstance().getValueFromCache(new IdPHomeRealmIdCacheKey("1"),
+                    SUPER_TENANT_DOMAIN));
+        }
+    }
+
     @DataProvider
     public Object[][] deleteTenantRoleData() {
 
@@ -1961,7 +2025,8 @@ public class CacheBackedIdPMgtDAOTest {
             // Retrieving IDP from cache using metadata property.
             IdPCacheByMetadataProperty idPCacheByMetadataProperty = IdPCacheByMetadataProperty.getInstance();
             IdPMetadataPropertyCacheKey cacheKey = new IdPMetadataPropertyCacheKey(property, value);
-            String idPNameCache = idPCacheByMetadataProperty.getValueFromCache(cacheKey, tenantDomain);
+            IdPMetadataPropertyCacheEntry entry = idPCacheByMetadataProperty.getValueFromCache(cacheKey, tenantDomain);
+            String idPNameCache = entry != null ? entry.getIdPName() : null;
             assertEquals(idPNameCache, idpName, "Cannot find idP in cache!");
         }
     }
@@ -53,6 +53,24 @@ public class IdentityProvisioningConstants {
     public static final String ENABLE_SCIM_PATCH_FOR_UPDATES = "OutboundProvisioning.EnableSCIMPatchForUpdates";
     public static final String ENABLE_SCIM_COMPLIANT_EMAIL_ATTRIBUTE = "OutboundProvisioning.EnableSCIMCompliantEmailAttribute";
 
+    // Outbound provisioning executor constants.
+    public static final String OUTBOUND_PROVISIONING_THREAD_POOL_NAME = "OutboundProvisioning";
+    public static final String EXECUTOR_POOL_SIZE = "OutboundProvisioning.Executor.PoolSize";
+    public static final String EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR =
+            "OutboundProvisioning.Executor.MaxConcurrencyPerConnector";
+    public static final String EXECUTOR_MAX_BACKLOG_PER_CONNECTOR =
+            "OutboundProvisioning.Executor.MaxBacklogPerConnector";
+    public static final String EXECUTOR_RETRY_COUNT = "OutboundProvisioning.Executor.RetryCount";
+    public static final String EXECUTOR_RETRY_INTERVAL = "OutboundProvisioning.Executor.RetryInterval";
+    public static final String EXECUTOR_MAX_PENDING_RETRIES = "OutboundProvisioning.Executor.MaxPendingRetries";
+    public static final int DEFAULT_EXECUTOR_POOL_SIZE = 20;
+    public static final int DEFAULT_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR = 5;
+    public static final int DEFAULT_EXECUTOR_MAX_BACKLOG_PER_CONNECTOR = 1000;
+    public static final int DEFAULT_EXECUTOR_RETRY_COUNT = 0;
+    public static final int DEFAULT_EXECUTOR_RETRY_INTERVAL = 1000;
+    public static final int DEFAULT_EXECUTOR_MAX_PENDING_RETRIES = 1000;
+    public static final long EXECUTOR_SHUTDOWN_TIMEOUT = 10000L;
+
     public static class SQLQueries {
 
         public static final String ADD_PROVISIONING_ENTITY_SQL = "INSERT INTO IDP_PROVISIONING_ENTITY " +
@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs non-blocking outbound provisioning operations on an executor shared by all the provisioning connectors.
+ * The number of concurrent operations of a connector of an identity provider is capped, so that a slow connector
+ * cannot occupy the whole executor, and operations beyond the cap wait in a bounded backlog of the connector.
+ * Operations of the same entity are run one at a time, in the order they were submitted, so that an update or a
+ * delete does not overtake the creation of the entity. Failed operations are retried with an exponential backoff,
+ * only if the operation can be repeated safely, and the later operations of the entity wait for the retries.
+ * <p>
+ * Operations are dispatched to the executor later by other threads, such as the thread of a finished operation or the
+ * retry scheduler, hence each operation captures the tenant, user and identity context of the submitting thread.
+ */
+public class OutboundProvisioningExecutor {
+
+    private static final Log log = LogFactory.getLog(OutboundProvisioningExecutor.class);
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService retryScheduler;
+    private final int maxConcurrencyPerConnector;
+    private final int maxBacklogPerConnector;
+    private final int retryCount;
+    private final long retryIntervalMillis;
+    private final int maxPendingRetries;
+    private final AtomicInteger pendingRetries = new AtomicInteger();
+    private final Map<String, ConnectorDispatcher> dispatchers = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor                   Executor shared by all the connectors.
+     * @param maxConcurrencyPerConnector Maximum number of concurrent operations of a connector.
+     * @param maxBacklogPerConnector     Maximum number of operations waiting for a connector. Further operations
+     *                                   are run in the calling thread. Zero keeps the backlog unbounded.
+     * @param retryCount                 Number of times a failed idempotent operation is retried.
+     * @param retryIntervalMillis        Delay before the first retry. The delay is doubled for each retry.
+     * @param maxPendingRetries          Maximum number of failed operations waiting to be retried.
+     */
+    public OutboundProvisioningExecutor(ExecutorService executor, int maxConcurrencyPerConnector,
+                                        int maxBacklogPerConnector, int retryCount, long retryIntervalMillis,
+                                        int maxPendingRetries) {
+
+        this.executor = executor;
+        this.maxConcurrencyPerConnector = maxConcurrencyPerConnector;
+        this.maxBacklogPerConnector = maxBacklogPerConnector;
+        this.retryCount = retryCount;
+        this.retryIntervalMillis = retryIntervalMillis;
+        this.maxPendingRetries = maxPendingRetries;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OutboundProvisioningRetryScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submit a provisioning operation to be run asynchronously.
+     *
+     * @param tenantDomain  Tenant domain of the identity provider.
+     * @param idPName       Name of the identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @param entityKey     Key of the provisioned entity. Operations with the same key are run in the submitted
+     *                      order. Null if the operation does not need to be ordered.
+     * @param retryable     Whether the operation is idempotent and can be retried on failure. An operation which
+     *                      creates the entity should not be retried, since a failure after the entity is created in
+     *                      the outbound system would create a duplicate.
+     * @param operation     Provisioning operation, which returns false or throws an exception on failure.
+     */
+    public void submit(String tenantDomain, String idPName, String connectorType, String entityKey,
+                       boolean retryable, Callable<Boolean> operation) {
+
+        ConnectorDispatcher dispatcher = dispatchers.computeIfAbsent(tenantDomain + ":" + idPName + ":" +
+                connectorType, key -> new ConnectorDispatcher(key, tenantDomain, idPName, connectorType));
+        dispatcher.submit(new ProvisioningTask(dispatcher, entityKey, retryable,
+                ThreadLocalAwareExecutors.wrap(operation)));
+    }
+
+    /**
+     * Remove the connectors of the given identity provider, once the identity provider is deleted or updated. A
+     * connector which still has unfinished operations is removed once they are finished, so that the operations of
+     * an entity stay ordered across the removal.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider. Null to remove the connectors of all the identity providers
+     *                     of the tenant.
+     */
+    public void removeConnectors(String tenantDomain, String idPName) {
+
+        for (ConnectorDispatcher dispatcher : dispatchers.values()) {
+            if (dispatcher.tenantDomain.equals(tenantDomain) &&
+                    (idPName == null || dispatcher.idPName.equals(idPName))) {
+                dispatcher.retire();
+            }
+        }
+    }
+
+    /**
+     * @return Metrics of the connectors keyed by tenant domain, identity provider name and connector type.
+     */
+    public Map<String, ProvisioningConnectorMetrics> getMetrics() {
+
+        Map<String, ProvisioningConnectorMetrics> metrics = new HashMap<>();
+        dispatchers.forEach((key, dispatcher) -> metrics.put(key, dispatcher.metrics));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Stop accepting operations and wait for the running operations. Queued operations and pending retries are
+     * discarded.
+     *
+     * @param timeoutMillis Maximum time to wait for the running operations.
+     */
+    public void shutdown(long timeoutMillis) {
+
+        retryScheduler.shutdownNow();
+        dispatchers.values().forEach(ConnectorDispatcher::discardBacklog);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("Outbound provisioning operations did not finish within " + timeoutMillis + " ms.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void scheduleRetry(ProvisioningTask task) {
+
+        long delay = retryIntervalMillis << Math.min(task.attempt - 1, 16);
+        try {
+            retryScheduler.schedule(() -> {
+                pendingRetries.decrementAndGet();
+                task.dispatcher.metrics.onRetryQueued();
+                task.dispatcher.resubmit(task);
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingRetries.decrementAndGet();
+            task.dispatcher.metrics.onRetryDiscarded();
+            task.dispatcher.onOperationFinished(task);
+            log.error("Outbound provisioning operation through the connector " + task.dispatcher.connectorType +
+                    " of " + task.dispatcher.idPName + " was not retried since the executor has been shut down.");
+        }
+    }
+
+    /**
+     * Dispatches the operations of a connector to the shared executor without exceeding the concurrency cap.
+     * Waiting operations are kept in the dispatcher, so that they do not occupy the threads of the executor.
+     * An operation of an entity which already has an operation queued, running or waiting for a retry is held back
+     * until the earlier operation is finished.
+     */
+    private class ConnectorDispatcher {
+
+        private final String key;
+        private final String tenantDomain;
+        private final String idPName;
+        private final String connectorType;
+        private final ProvisioningConnectorMetrics metrics;
+        private final Deque<ProvisioningTask> backlog = new ArrayDeque<>();
+        // Operations held back by an unfinished operation of the same entity, keyed by the entity.
+        private final Map<String, Deque<ProvisioningTask>> heldBack = new HashMap<>();
+        private int heldBackCount;
+        private int running;
+        private boolean retired;
+
+        ConnectorDispatcher(String key, String tenantDomain, String idPName, String connectorType) {
+
+            this.key = key;
+            this.tenantDomain = tenantDomain;
+            this.idPName = idPName;
+            this.connectorType = connectorType;
+            this.metrics = new ProvisioningConnectorMetrics(idPName, connectorType);
+        }
+
+        void submit(ProvisioningTask task) {
+
+            metrics.onQueued();
+            boolean runInCaller = false;
+            synchronized (this) {
+                if (task.entityKey != null) {
+                    Deque<ProvisioningTask> entityTasks = heldBack.get(task.entityKey);
+                    if (entityTasks != null) {
+                        // Ordering wins over the backlog cap, since running in the caller would overtake the
+                        // earlier operation.
+                        entityTasks.add(task);
+                        heldBackCount++;
+                        return;
+                    }
+                    heldBack.put(task.entityKey, new ArrayDeque<>());
+                }
+                if (maxBacklogPerConnector > 0 && backlog.size() + heldBackCount >= maxBacklogPerConnector) {
+                    runInCaller = true;
+                } else {
+                    backlog.add(task);
+                }
+            }
+            if (runInCaller) {
+                // Slow down the producer instead of growing the backlog further.
+                if (log.isDebugEnabled()) {
+                    log.debug("Backlog of the connector " + connectorType + " of " + idPName + " is full. Running " +
+                            "the provisioning operation in the calling thread.");
+                }
+                task.run();
+                return;
+            }
+            dispatch();
+        }
+
+        /**
+         * Queue an operation which is retried. Retries are always queued, since they are submitted from the retry
+         * scheduler.
+         */
+        void resubmit(ProvisioningTask task) {
+
+            synchronized (this) {
+                backlog.add(task);
+            }
+            dispatch();
+        }
+
+        /**
+         * Release the next held back operation of the entity, once an operation has succeeded or finally failed.
+         */
+        void onOperationFinished(ProvisioningTask task) {
+
+            if (task.entityKey == null) {
+                return;
+            }
+            synchronized (this) {
+                Deque<ProvisioningTask> entityTasks = heldBack.get(task.entityKey);
+                if (entityTasks == null) {
+                    return;
+                }
+                ProvisioningTask next = entityTasks.poll();
+                if (next == null) {
+                    heldBack.remove(task.entityKey);
+                    removeIfRetiredAndIdle();
+                    return;
+                }
+                heldBackCount--;
+                backlog.add(next);
+            }
+            dispatch();
+        }
+
+        void dispatch() {
+
+            while (true) {
+                ProvisioningTask next;
+                synchronized (this) {
+                    if (running >= maxConcurrencyPerConnector || backlog.isEmpty()) {
+                        return;
+                    }
+                    next = backlog.poll();
+                    running++;
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            next.run();
+                        } finally {
+                            onTaskFinished();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    synchronized (this) {
+                        running--;
+                    }
+                    metrics.onDiscarded();
+                    log.error("Outbound provisioning operation through the connector " + connectorType + " of " +
+                            idPName + " was rejected by the executor.", e);
+                    onOperationFinished(next);
+                    return;
+                }
+            }
+        }
+
+        void onTaskFinished() {
+
+            synchronized (this) {
+                running--;
+            }
+            dispatch();
+            synchronized (this) {
+                removeIfRetiredAndIdle();
+            }
+        }
+
+        /**
+         * Remove the dispatcher from the executor now if it is idle, or else once its operations are finished.
+         */
+        synchronized void retire() {
+
+            retired = true;
+            removeIfRetiredAndIdle();
+        }
+
+        private void removeIfRetiredAndIdle() {
+
+            if (retired && running == 0 && backlog.isEmpty() && heldBack.isEmpty()) {
+                // Operations submitted meanwhile through the removed dispatcher are still run by it.
+                dispatchers.remove(key, this);
+            }
+        }
+
+        void discardBacklog() {
+
+            int discarded;
+            synchronized (this) {
+                discarded = backlog.size() + heldBackCount;
+                backlog.clear();
+                heldBack.clear();
+                heldBackCount = 0;
+            }
+            for (int i = 0; i < discarded; i++) {
+                metrics.onDiscarded();
+            }
+            if (discarded > 0) {
+                log.warn(discarded + " outbound provisioning operations of the connector " + connectorType + " of " +
+                        idPName + " were discarded during the shutdown.");
+            }
+        }
+    }
+
+    /**
+     * A provisioning operation along with the number of attempts made so far.
+     */
+    private class ProvisioningTask implements Runnable {
+
+        private final ConnectorDispatcher dispatcher;
+        private final String entityKey;
+        private final boolean retryable;
+        private final Callable<Boolean> operation;
+        private int attempt;
+
+        ProvisioningTask(ConnectorDispatcher dispatcher, String entityKey, boolean retryable,
+                         Callable<Boolean> operation) {
+
+            this.dispatcher = dispatcher;
+            this.entityKey = entityKey;
+            this.retryable = retryable;
+            this.operation = operation;
+        }
+
+        @Override
+        public void run() {
+
+            dispatcher.metrics.onStarted();
+            attempt++;
+            long startTime = System.nanoTime();
+            boolean success = false;
+            Exception error = null;
+            try {
+                success = Boolean.TRUE.equals(operation.call());
+            } catch (Exception e) {
+                error = e;
+            }
+            long latency = System.nanoTime() - startTime;
+            if (success) {
+                dispatcher.metrics.onCompleted(latency, true);
+                dispatcher.onOperationFinished(this);
+                return;
+            }
+            boolean retry = retryable && attempt <= retryCount;
+            if (retry && pendingRetries.incrementAndGet() <= maxPendingRetries) {
+                dispatcher.metrics.onRetryScheduled(latency);
+                if (log.isDebugEnabled()) {
+                    log.debug("Outbound provisioning operation through the connector " + dispatcher.connectorType +
+                            " of " + dispatcher.idPName + " failed. Retry attempt " + attempt + " of " +
+                            retryCount + " is scheduled.", error);
+                }
+                scheduleRetry(this);
+                return;
+            }
+            if (retry) {
+                pendingRetries.decrementAndGet();
+            }
+            dispatcher.metrics.onCompleted(latency, false);
+            dispatcher.onOperationFinished(this);
+            log.error("Outbound provisioning operation through the connector " + dispatcher.connectorType + " of " +
+                    dispatcher.idPName + " failed after " + attempt + " attempts.", error);
+        }
+    }
+}
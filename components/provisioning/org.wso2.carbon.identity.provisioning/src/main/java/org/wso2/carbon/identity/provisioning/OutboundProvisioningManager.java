@@ -66,19 +66,19 @@ import org.wso2.carbon.utils.DiagnosticLog;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CONSOLE_APPLICATION_NAME;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.LOCAL_SP;
 import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.ASK_PASSWORD_CLAIM;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.EXECUTOR_SHUTDOWN_TIMEOUT;
 import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.FAIL_ON_BLOCKING_OUTBOUND_PROVISION_FAILURE;
 import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.GROUP_CLAIM_URI;
 import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.SELF_SIGNUP_ROLE;
@@ -98,6 +98,8 @@ public class OutboundProvisioningManager {
 
     private static OutboundProvisioningManager provisioningManager = new OutboundProvisioningManager();
 
+    private volatile OutboundProvisioningExecutor provisioningExecutor;
+
     private OutboundProvisioningManager() {
 
     }
@@ -109,6 +111,66 @@ public class OutboundProvisioningManager {
         return provisioningManager;
     }
 
+    /**
+     * Get the executor of the non-blocking provisioning operations. The executor is shared by all the provisioning
+     * requests and created on first use, since the identity configurations are not available at class loading.
+     *
+     * @return Outbound provisioning executor.
+     */
+    private OutboundProvisioningExecutor getProvisioningExecutor() {
+
+        if (provisioningExecutor == null) {
+            synchronized (this) {
+                if (provisioningExecutor == null) {
+                    provisioningExecutor = ProvisioningUtil.buildOutboundProvisioningExecutor();
+                }
+            }
+        }
+        return provisioningExecutor;
+    }
+
+    /**
+     * Get the runtime metrics of the non-blocking provisioning operations of the provisioning connectors.
+     *
+     * @return Metrics keyed by tenant domain, identity provider name and connector type.
+     */
+    public Map<String, ProvisioningConnectorMetrics> getConnectorMetrics() {
+
+        OutboundProvisioningExecutor executor = provisioningExecutor;
+        return executor == null ? Collections.emptyMap() : executor.getMetrics();
+    }
+
+    /**
+     * Remove the state kept for the provisioning connectors of the given identity provider by the executor of the
+     * non-blocking provisioning operations.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider. Null to remove the connectors of all the identity providers
+     *                     of the tenant.
+     */
+    public void removeProvisioningConnectors(String tenantDomain, String idPName) {
+
+        OutboundProvisioningExecutor executor = provisioningExecutor;
+        if (executor != null) {
+            executor.removeConnectors(tenantDomain, idPName);
+        }
+    }
+
+    /**
+     * Shut down the executor of the non-blocking provisioning operations.
+     */
+    public void shutdown() {
+
+        OutboundProvisioningExecutor executor;
+        synchronized (this) {
+            executor = provisioningExecutor;
+            provisioningExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdown(EXECUTOR_SHUTDOWN_TIMEOUT);
+        }
+    }
+
     /**
      * Get the tenant id of the given tenant domain.
      *
@@ -429,7 +491,6 @@ public class OutboundProvisioningManager {
 
             ProvisioningEntity outboundProEntity;
 
-            ExecutorService executors = ThreadLocalAwareExecutors.newFixedThreadPool(connectors.size());
             if (LoggerUtils.isDiagnosticLogsEnabled()) {
                 DiagnosticLog.DiagnosticLogBuilder diagLogBuilder = new DiagnosticLog.DiagnosticLogBuilder(
                         LogConstants.OutboundProvisioning.OUTBOUND_PROVISIONING_COMPONENT,
@@ -606,7 +667,8 @@ public class OutboundProvisioningManager {
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
                         boolean isBlocking = entry.getValue().isBlocking();
-                        executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                        executeOutboundProvisioning(provisioningEntity, outboundProEntity, spTenantDomainName,
+                                connectorType, idPName, proThread, isBlocking);
 
                     }
 
@@ -632,7 +694,8 @@ public class OutboundProvisioningManager {
                             outboundProEntity.setIdentifier(provisionedUserIdentifier);
                             outboundProEntity.setJitProvisioning(jitProvisioning);
                             boolean isBlocking = entry.getValue().isBlocking();
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, outboundProEntity, spTenantDomainName,
+                                    connectorType, idPName, proThread, isBlocking);
                         }
                     }
 
@@ -687,13 +750,12 @@ public class OutboundProvisioningManager {
                         }
 
                         if (isAllowed) {
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, outboundProEntity, spTenantDomainName,
+                                    connectorType, idPName, proThread, isBlocking);
                         }
                     }
                 }
             }
-
-            executors.shutdown();
         } catch (CarbonException | IdentityApplicationManagementException | IdentityProviderManagementException | UserStoreException e) {
             throw new IdentityProvisioningException("Error occurred while checking for user " +
                                                     "provisioning", e);
@@ -732,7 +794,8 @@ public class OutboundProvisioningManager {
         return true;
     }
 
-    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, ExecutorService executors,
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity,
+                                             ProvisioningEntity outboundProEntity, String tenantDomain,
                                              String connectorType,
                                              String idPName, Callable<Boolean> proThread, boolean isBlocking)
             throws IdentityProvisioningException {
@@ -745,18 +808,21 @@ public class OutboundProvisioningManager {
                     //DO not roll back since non-blocking configuration was enabled.
                 }
             } catch (Exception e) {
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, e);
             }
         } else if (!isBlocking) {
-            executors.submit(proThread);
+            // Creating the entity is not retried, since the entity may have been created in the outbound system
+            // even though the operation failed.
+            ProvisioningOperation operation = outboundProEntity.getOperation();
+            boolean retryable = operation == ProvisioningOperation.PUT || operation == ProvisioningOperation.DELETE;
+            getProvisioningExecutor().submit(tenantDomain, idPName, connectorType,
+                    outboundProEntity.getEntityType() + ":" + outboundProEntity.getEntityName(), retryable,
+                    proThread);
         } else {
             try {
 
                 boolean success = proThread.call();
                 if (!success) {
-                    if (executors != null) {
-                        executors.shutdown();
-                    }
                     throw new IdentityProvisioningException
                             (generateMessageOnFailureProvisioningOperation(idPName,
                                                                            connectorType, provisioningEntity));
@@ -766,7 +832,7 @@ public class OutboundProvisioningManager {
                 if (isFailOnBlockingOutBoundProvisionEnabled()) {
                     throw new IdentityProvisioningException(e.getMessage());
                 }
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, e);
             }
         }
     }
@@ -1154,11 +1220,10 @@ public class OutboundProvisioningManager {
      * @param idPName
      * @param connectorType
      * @param provisioningEntity
-     * @param executors
      * @param e
      */
     protected void handleException(String idPName, String connectorType, ProvisioningEntity provisioningEntity,
-                                   ExecutorService executors, Exception e) {
+                                   Exception e) {
 
         if (log.isDebugEnabled()) {
             log.debug(generateMessageOnFailureProvisioningOperation(idPName, connectorType, provisioningEntity), e);
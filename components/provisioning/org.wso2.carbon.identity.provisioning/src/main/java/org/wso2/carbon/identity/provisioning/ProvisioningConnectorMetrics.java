@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime statistics of the asynchronous outbound provisioning operations of a provisioning connector.
+ */
+public class ProvisioningConnectorMetrics {
+
+    private final String idPName;
+    private final String connectorType;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger pendingRetries = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong attempts = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public ProvisioningConnectorMetrics(String idPName, String connectorType) {
+
+        this.idPName = idPName;
+        this.connectorType = connectorType;
+    }
+
+    void onQueued() {
+
+        queued.incrementAndGet();
+    }
+
+    void onStarted() {
+
+        queued.decrementAndGet();
+        inFlight.incrementAndGet();
+    }
+
+    void onCompleted(long latencyNanos, boolean success) {
+
+        inFlight.decrementAndGet();
+        if (success) {
+            completed.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+        recordLatency(latencyNanos);
+    }
+
+    void onRetryScheduled(long latencyNanos) {
+
+        inFlight.decrementAndGet();
+        pendingRetries.incrementAndGet();
+        retried.incrementAndGet();
+        recordLatency(latencyNanos);
+    }
+
+    void onRetryQueued() {
+
+        pendingRetries.decrementAndGet();
+        queued.incrementAndGet();
+    }
+
+    void onRetryDiscarded() {
+
+        pendingRetries.decrementAndGet();
+        failed.incrementAndGet();
+    }
+
+    void onDiscarded() {
+
+        queued.decrementAndGet();
+        failed.incrementAndGet();
+    }
+
+    private void recordLatency(long latencyNanos) {
+
+        attempts.incrementAndGet();
+        totalLatencyNanos.addAndGet(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public String getIdPName() {
+
+        return idPName;
+    }
+
+    public String getConnectorType() {
+
+        return connectorType;
+    }
+
+    /**
+     * @return Number of operations waiting for a free slot of the connector.
+     */
+    public int getBacklog() {
+
+        return queued.get();
+    }
+
+    /**
+     * @return Number of operations currently being sent through the connector.
+     */
+    public int getInFlightCount() {
+
+        return inFlight.get();
+    }
+
+    /**
+     * @return Number of failed operations waiting to be retried.
+     */
+    public int getPendingRetryCount() {
+
+        return pendingRetries.get();
+    }
+
+    public long getCompletedCount() {
+
+        return completed.get();
+    }
+
+    /**
+     * @return Number of operations which failed after exhausting all the retries.
+     */
+    public long getFailureCount() {
+
+        return failed.get();
+    }
+
+    public long getRetryCount() {
+
+        return retried.get();
+    }
+
+    /**
+     * @return Average latency of an attempt, including failed attempts.
+     */
+    public double getAverageLatencyMillis() {
+
+        long count = attempts.get();
+        return count == 0 ? 0 : (double) totalLatencyNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public long getMaxLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+}
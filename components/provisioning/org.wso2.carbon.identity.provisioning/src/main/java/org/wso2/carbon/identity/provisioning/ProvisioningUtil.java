@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataHandler;
+import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.util.ArrayList;
@@ -42,6 +43,19 @@ import java.util.List;
 import java.util.Map;
 
 import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_EXECUTOR_MAX_BACKLOG_PER_CONNECTOR;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_EXECUTOR_MAX_PENDING_RETRIES;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_EXECUTOR_RETRY_COUNT;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_EXECUTOR_RETRY_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.EXECUTOR_MAX_BACKLOG_PER_CONNECTOR;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.EXECUTOR_MAX_PENDING_RETRIES;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.EXECUTOR_RETRY_COUNT;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.EXECUTOR_RETRY_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_THREAD_POOL_NAME;
 import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.USE_USER_TENANT_DOMAIN_FOR_OUTBOUND_PROVISIONING_IN_SAAS_APPS;
 
 public class ProvisioningUtil {
@@ -620,6 +634,48 @@ public class ProvisioningUtil {
         return applicationBasedOutboundProvisioningEnabled;
     }
 
+    /**
+     * Build the executor of the non-blocking outbound provisioning operations using the
+     * OutboundProvisioning.Executor configurations of identity.xml.
+     *
+     * @return Outbound provisioning executor.
+     */
+    public static OutboundProvisioningExecutor buildOutboundProvisioningExecutor() {
+
+        int poolSize = Math.max(1, getNonNegativeIntProperty(EXECUTOR_POOL_SIZE, DEFAULT_EXECUTOR_POOL_SIZE));
+        int maxConcurrency = Math.max(1, getNonNegativeIntProperty(EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR,
+                DEFAULT_EXECUTOR_MAX_CONCURRENCY_PER_CONNECTOR));
+        int maxBacklog = getNonNegativeIntProperty(EXECUTOR_MAX_BACKLOG_PER_CONNECTOR,
+                DEFAULT_EXECUTOR_MAX_BACKLOG_PER_CONNECTOR);
+        int retryCount = getNonNegativeIntProperty(EXECUTOR_RETRY_COUNT, DEFAULT_EXECUTOR_RETRY_COUNT);
+        int retryInterval = getNonNegativeIntProperty(EXECUTOR_RETRY_INTERVAL, DEFAULT_EXECUTOR_RETRY_INTERVAL);
+        int maxPendingRetries = getNonNegativeIntProperty(EXECUTOR_MAX_PENDING_RETRIES,
+                DEFAULT_EXECUTOR_MAX_PENDING_RETRIES);
+
+        return new OutboundProvisioningExecutor(
+                ThreadLocalAwareExecutors.newThreadPool(OUTBOUND_PROVISIONING_THREAD_POOL_NAME, poolSize),
+                maxConcurrency, maxBacklog, retryCount, retryInterval, maxPendingRetries);
+    }
+
+    private static int getNonNegativeIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue >= 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below by falling back to the default value.
+        }
+        log.warn("Invalid value: " + value + " configured for " + propertyName + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+
     /**
      * Mask the given value if it is required.
      *
@@ -33,6 +33,7 @@ import org.wso2.carbon.identity.application.mgt.internal.ApplicationManagementSe
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningManager;
 import org.wso2.carbon.identity.provisioning.rules.ProvisioningHandler;
 import org.wso2.carbon.identity.provisioning.AbstractProvisioningConnectorFactory;
 import org.wso2.carbon.identity.provisioning.listener.DefaultInboundUserProvisioningListener;
@@ -128,6 +129,7 @@ public class IdentityProvisionServiceComponent {
      */
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        OutboundProvisioningManager.getInstance().shutdown();
         if (log.isDebugEnabled()) {
             log.debug("Identity Provision bundle is de-activated");
         }
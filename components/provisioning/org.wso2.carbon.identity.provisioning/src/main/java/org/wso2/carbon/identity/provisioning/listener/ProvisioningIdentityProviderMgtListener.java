@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningManager;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCache;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCacheEntry;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCacheKey;
@@ -64,6 +65,7 @@ public class ProvisioningIdentityProviderMgtListener extends AbstractIdentityPro
     @Override
     public boolean doPreDeleteIdPs(String tenantDomain) throws IdentityProviderManagementException {
 
+        OutboundProvisioningManager.getInstance().removeProvisioningConnectors(tenantDomain, null);
         return super.doPreDeleteIdPs(tenantDomain);
     }
 
@@ -87,6 +89,7 @@ public class ProvisioningIdentityProviderMgtListener extends AbstractIdentityPro
     public void destroyConnector(String identityProviderName, String tenantDomain)
             throws IdentityProvisioningException {
 
+        OutboundProvisioningManager.getInstance().removeProvisioningConnectors(tenantDomain, identityProviderName);
         ProvisioningConnectorCacheKey cacheKey =
                 new ProvisioningConnectorCacheKey(identityProviderName);
         ProvisioningConnectorCacheEntry entry =
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for OutboundProvisioningExecutor test cases.
+ */
+@WithCarbonHome
+public class OutboundProvisioningExecutorTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String IDP_NAME = "testIdpName";
+    private static final String CONNECTOR_TYPE = "testConnectorType";
+    private static final String ENTITY_KEY = "USER:testUser";
+    private static final String METRICS_KEY = TENANT_DOMAIN + ":" + IDP_NAME + ":" + CONNECTOR_TYPE;
+
+    private OutboundProvisioningExecutor provisioningExecutor;
+
+    @AfterMethod
+    public void tearDown() {
+
+        provisioningExecutor.shutdown(1000);
+    }
+
+    @Test
+    public void testConcurrencyIsCappedPerConnector() throws Exception {
+
+        provisioningExecutor = new OutboundProvisioningExecutor(Executors.newFixedThreadPool(8), 2, 0, 0, 10, 10);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, "user" + i, true, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                done.countDown();
+                return true;
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 2, "More operations than the cap ran concurrently.");
+        ProvisioningConnectorMetrics metrics = provisioningExecutor.getMetrics().get(METRICS_KEY);
+        waitFor(() -> metrics.getCompletedCount() == 10);
+        assertEquals(metrics.getBacklog(), 0);
+        assertEquals(metrics.getInFlightCount(), 0);
+    }
+
+    @Test
+    public void testFailedOperationIsRetried() throws Exception {
+
+        provisioningExecutor = new OutboundProvisioningExecutor(Executors.newFixedThreadPool(2), 1, 0, 2, 10, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, ENTITY_KEY, true, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IdentityProvisioningException("Connector is unavailable.");
+            }
+            return attempts.get() == 3;
+        });
+
+        ProvisioningConnectorMetrics metrics = provisioningExecutor.getMetrics().get(METRICS_KEY);
+        waitFor(() -> metrics.getCompletedCount() == 1);
+        assertEquals(attempts.get(), 3);
+        assertEquals(metrics.getRetryCount(), 2);
+        assertEquals(metrics.getFailureCount(), 0);
+        assertEquals(metrics.getPendingRetryCount(), 0);
+    }
+
+    @Test
+    public void testOperationFailsAfterRetriesAreExhausted() throws Exception {
+
+        provisioningExecutor = new OutboundProvisioningExecutor(Executors.newFixedThreadPool(2), 1, 0, 1, 10, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, ENTITY_KEY, true, () -> {
+            attempts.incrementAndGet();
+            return false;
+        });
+
+        ProvisioningConnectorMetrics metrics = provisioningExecutor.getMetrics().get(METRICS_KEY);
+        waitFor(() -> metrics.getFailureCount() == 1);
+        assertEquals(attempts.get(), 2);
+        assertEquals(metrics.getCompletedCount(), 0);
+    }
+
+    @Test
+    public void testNonRetryableOperationIsNotRetried() throws Exception {
+
+        provisioningExecutor = new OutboundProvisioningExecutor(Executors.newFixedThreadPool(2), 1, 0, 2, 10, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, ENTITY_KEY, false, () -> {
+            attempts.incrementAndGet();
+            throw new IdentityProvisioningException("Response was lost after the entity was created.");
+        });
+
+        ProvisioningConnectorMetrics metrics = provisioningExecutor.getMetrics().get(METRICS_KEY);
+        waitFor(() -> metrics.getFailureCount() == 1);
+        assertEquals(attempts.get(), 1);
+        assertEquals(metrics.getRetryCount(), 0);
+    }
+
+    @Test
+    public void testOperationsOfAnEntityRunInOrder() throws Exception {
+
+        provisioningExecutor = new OutboundProvisioningExecutor(Executors.newFixedThreadPool(4), 4, 0, 1, 10, 10);
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger updateAttempts = new AtomicInteger();
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, ENTITY_KEY, false, () -> {
+            Thread.sleep(50);
+            executed.add("create");
+            return true;
+        });
+        // The update fails once, and the delete has to wait for its retry.
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, ENTITY_KEY, true, () -> {
+            if (updateAttempts.incrementAndGet() == 1) {
+                return false;
+            }
+            executed.add("update");
+            return true;
+        });
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, ENTITY_KEY, true, () -> {
+            executed.add("delete");
+            return true;
+        });
+
+        ProvisioningConnectorMetrics metrics = provisioningExecutor.getMetrics().get(METRICS_KEY);
+        waitFor(() -> metrics.getCompletedCount() == 3);
+        assertEquals(executed, Arrays.asList("create", "update", "delete"));
+        assertEquals(metrics.getBacklog(), 0);
+    }
+
+    @Test
+    public void testOperationRunsInCallerWhenBacklogIsFull() throws Exception {
+
+        provisioningExecutor = new OutboundProvisioningExecutor(Executors.newFixedThreadPool(2), 1, 1, 0, 10, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, "user1", true,
+                () -> release.await(5, TimeUnit.SECONDS));
+        ProvisioningConnectorMetrics metrics = provisioningExecutor.getMetrics().get(METRICS_KEY);
+        waitFor(() -> metrics.getInFlightCount() == 1);
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, "user2", true, () -> true);
+        assertEquals(metrics.getBacklog(), 1);
+
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, "user3", true, () -> {
+            executingThread.set(Thread.currentThread());
+            return true;
+        });
+        assertEquals(executingThread.get(), Thread.currentThread());
+
+        release.countDown();
+        waitFor(() -> metrics.getCompletedCount() == 3);
+    }
+
+    @Test
+    public void testQueuedAndRetriedOperationsRunWithContextOfSubmitter() throws Exception {
+
+        provisioningExecutor = new OutboundProvisioningExecutor(Executors.newFixedThreadPool(2), 1, 0, 1, 10, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> contexts = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger attempts = new AtomicInteger();
+        submitInTenantFlow("tenant1.com", "user1", "user1", () -> release.await(5, TimeUnit.SECONDS));
+        // Queued behind the first operation, dispatched by its thread and then retried by the retry scheduler.
+        submitInTenantFlow("tenant2.com", "user2", "user2", () -> {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            contexts.add(carbonContext.getTenantDomain() + ":" + carbonContext.getUsername());
+            return attempts.incrementAndGet() == 2;
+        });
+        ProvisioningConnectorMetrics metrics = provisioningExecutor.getMetrics().get(METRICS_KEY);
+        assertEquals(metrics.getBacklog(), 1);
+
+        release.countDown();
+        waitFor(() -> metrics.getCompletedCount() == 2);
+        assertEquals(contexts, Arrays.asList("tenant2.com:user2", "tenant2.com:user2"));
+    }
+
+    @Test
+    public void testConnectorsOfRemovedIdentityProviderAreRemoved() throws Exception {
+
+        provisioningExecutor = new OutboundProvisioningExecutor(Executors.newFixedThreadPool(2), 1, 0, 0, 10, 10);
+        provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, ENTITY_KEY, true, () -> true);
+        ProvisioningConnectorMetrics metrics = provisioningExecutor.getMetrics().get(METRICS_KEY);
+        waitFor(() -> metrics.getCompletedCount() == 1 && metrics.getInFlightCount() == 0);
+        CountDownLatch release = new CountDownLatch(1);
+        provisioningExecutor.submit(TENANT_DOMAIN, "otherIdpName", CONNECTOR_TYPE, ENTITY_KEY, true,
+                () -> release.await(5, TimeUnit.SECONDS));
+        String otherMetricsKey = TENANT_DOMAIN + ":otherIdpName:" + CONNECTOR_TYPE;
+
+        provisioningExecutor.removeConnectors(TENANT_DOMAIN, IDP_NAME);
+        waitFor(() -> !provisioningExecutor.getMetrics().containsKey(METRICS_KEY));
+        assertTrue(provisioningExecutor.getMetrics().containsKey(otherMetricsKey));
+
+        // A connector with an unfinished operation is removed once the operation is finished.
+        provisioningExecutor.removeConnectors(TENANT_DOMAIN, null);
+        assertTrue(provisioningExecutor.getMetrics().containsKey(otherMetricsKey));
+        release.countDown();
+        waitFor(() -> !provisioningExecutor.getMetrics().containsKey(otherMetricsKey));
+        assertFalse(provisioningExecutor.getMetrics().containsKey(METRICS_KEY));
+    }
+
+    private void submitInTenantFlow(String tenantDomain, String username, String entityKey,
+                                    Callable<Boolean> operation) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(username);
+            provisioningExecutor.submit(TENANT_DOMAIN, IDP_NAME, CONNECTOR_TYPE, entityKey, true, operation);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition was not met in time.");
+            Thread.sleep(10);
+        }
+    }
+}
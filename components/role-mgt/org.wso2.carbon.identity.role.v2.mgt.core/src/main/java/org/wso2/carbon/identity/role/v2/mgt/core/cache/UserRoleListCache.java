@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache to maintain the user ID - role list mapping.
+ */
+public class UserRoleListCache extends BaseCache<UserRoleListCacheKey, UserRoleListCacheEntry> {
+
+    private static final String CACHE_NAME = "UserRoleListCache";
+
+    private static final UserRoleListCache instance = new UserRoleListCache();
+
+    private UserRoleListCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static UserRoleListCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Clear the cached role list and role ID list of the given user.
+     *
+     * @param userId       User ID.
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearCacheEntriesOfUser(String userId, String tenantDomain) {
+
+        clearCacheEntry(new UserRoleListCacheKey(userId, false), tenantDomain);
+        clearCacheEntry(new UserRoleListCacheKey(userId, true), tenantDomain);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+
+import java.util.List;
+
+/**
+ * Cache entry for the role list of a user. Only one of the role list and the role ID list is set, depending on the
+ * {@link UserRoleListCacheKey}.
+ */
+public class UserRoleListCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4311925137608460312L;
+    private List<RoleBasicInfo> roles;
+    private List<String> roleIds;
+
+    public List<RoleBasicInfo> getRoles() {
+
+        return roles;
+    }
+
+    public void setRoles(List<RoleBasicInfo> roles) {
+
+        this.roles = roles;
+    }
+
+    public List<String> getRoleIds() {
+
+        return roleIds;
+    }
+
+    public void setRoleIds(List<String> roleIds) {
+
+        this.roleIds = roleIds;
+    }
+}
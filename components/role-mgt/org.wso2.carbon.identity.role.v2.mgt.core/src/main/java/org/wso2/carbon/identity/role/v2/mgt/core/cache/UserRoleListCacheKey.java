@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the role list of a user. The role list and the role ID list of a user are cached separately as they
+ * are resolved with different queries.
+ */
+public class UserRoleListCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 4311925137608460311L;
+    private String userId;
+    private boolean roleIdsOnly;
+
+    public UserRoleListCacheKey(String userId, boolean roleIdsOnly) {
+
+        this.userId = userId;
+        this.roleIdsOnly = roleIdsOnly;
+    }
+
+    public String getUserId() {
+
+        return userId;
+    }
+
+    public boolean isRoleIdsOnly() {
+
+        return roleIdsOnly;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        UserRoleListCacheKey that = (UserRoleListCacheKey) o;
+
+        return roleIdsOnly == that.roleIdsOnly && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + (userId != null ? userId.hashCode() : 0);
+        result = 31 * result + (roleIdsOnly ? 1 : 0);
+        return result;
+    }
+}
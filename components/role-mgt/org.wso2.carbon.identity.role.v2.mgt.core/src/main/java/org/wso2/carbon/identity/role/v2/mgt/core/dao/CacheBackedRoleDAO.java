@@ -20,16 +20,27 @@ package org.wso2.carbon.identity.role.v2.mgt.core.dao;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCacheEntry;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheByName;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheEntry;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleNameCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleListCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleListCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
 import org.wso2.carbon.identity.role.v2.mgt.core.util.RoleManagementUtils;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Cache layer implementation of the {@link RoleDAO} interface.
  * Delegates calls to the underlying RoleDAO implementation.
@@ -40,11 +51,13 @@ public class CacheBackedRoleDAO extends RoleDAOImpl {
 
     private final RoleIdCacheByName roleCacheByName;
     private final RoleBasicInfoCache roleBasicInfoCache;
+    private final UserRoleListCache userRoleListCache;
 
     public CacheBackedRoleDAO() {
 
         roleCacheByName = RoleIdCacheByName.getInstance();
         roleBasicInfoCache = RoleBasicInfoCache.getInstance();
+        userRoleListCache = UserRoleListCache.getInstance();
     }
 
     @Override
@@ -108,27 +121,141 @@ public class CacheBackedRoleDAO extends RoleDAOImpl {
         return roleBasicInfo;
     }
 
+    @Override
+    public List<RoleBasicInfo> getRoleListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        UserRoleListCacheKey cacheKey = new UserRoleListCacheKey(userId, false);
+        UserRoleListCacheEntry cacheEntry = userRoleListCache.getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry != null && cacheEntry.getRoles() != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache hit for role list of user: " + userId + " in tenant: " + tenantDomain);
+            }
+            /* Audience names are not cached since organizations can be renamed without going through this DAO.
+             They are resolved on every read instead. */
+            List<RoleBasicInfo> roles = copyRoles(cacheEntry.getRoles());
+            resolveAudienceNames(roles);
+            return roles;
+        }
+
+        List<RoleBasicInfo> roles = super.getRoleListOfUser(userId, tenantDomain);
+        List<RoleBasicInfo> cachedRoles = copyRoles(roles);
+        for (RoleBasicInfo role : cachedRoles) {
+            role.setAudienceName(null);
+        }
+        UserRoleListCacheEntry entry = new UserRoleListCacheEntry();
+        entry.setRoles(cachedRoles);
+        userRoleListCache.addToCacheOnRead(cacheKey, entry, tenantDomain);
+        return roles;
+    }
+
+    @Override
+    public List<String> getRoleIdListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        UserRoleListCacheKey cacheKey = new UserRoleListCacheKey(userId, true);
+        UserRoleListCacheEntry cacheEntry = userRoleListCache.getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry != null && cacheEntry.getRoleIds() != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache hit for role ID list of user: " + userId + " in tenant: " + tenantDomain);
+            }
+            // Callers add the everyone role to the returned list, hence a copy is returned.
+            return new ArrayList<>(cacheEntry.getRoleIds());
+        }
+
+        List<String> roleIds = super.getRoleIdListOfUser(userId, tenantDomain);
+        UserRoleListCacheEntry entry = new UserRoleListCacheEntry();
+        entry.setRoleIds(new ArrayList<>(roleIds));
+        userRoleListCache.addToCacheOnRead(cacheKey, entry, tenantDomain);
+        return roleIds;
+    }
+
+    @Override
+    public RoleBasicInfo addRole(String roleName, List<String> userList, List<String> groupList,
+                                 List<Permission> permissions, String audience, String audienceId,
+                                 String tenantDomain) throws IdentityRoleManagementException {
+
+        RoleBasicInfo roleBasicInfo = super.addRole(roleName, userList, groupList, permissions, audience, audienceId,
+                tenantDomain);
+        clearUserRoleListCache(userList, tenantDomain);
+        return roleBasicInfo;
+    }
+
+    @Override
+    public void updateUserListOfRole(String roleId, List<String> newUserIDList, List<String> deletedUserIDList,
+                                     String tenantDomain) throws IdentityRoleManagementException {
+
+        super.updateUserListOfRole(roleId, newUserIDList, deletedUserIDList, tenantDomain);
+        clearUserRoleListCache(newUserIDList, tenantDomain);
+        clearUserRoleListCache(deletedUserIDList, tenantDomain);
+    }
+
     @Override
     public void deleteRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
 
+        Set<String> sharedRoleTenantDomains = getSharedRoleTenantDomains(roleId, tenantDomain);
         super.deleteRole(roleId, tenantDomain);
         clearRoleBasicInfoCache(roleId, tenantDomain);
+        clearUserRoleListCacheByTenant(tenantDomain);
+        clearUserRoleListCacheByTenants(sharedRoleTenantDomains);
     }
 
     @Override
     public void updateRoleName(String roleId, String newRoleName, String tenantDomain)
             throws IdentityRoleManagementException {
 
+        Set<String> sharedRoleTenantDomains = getSharedRoleTenantDomains(roleId, tenantDomain);
         super.updateRoleName(roleId, newRoleName, tenantDomain);
         clearRoleBasicInfoCache(roleId, tenantDomain);
+        clearUserRoleListCacheByTenant(tenantDomain);
+        clearUserRoleListCacheByTenants(sharedRoleTenantDomains);
     }
 
     @Override
     public void deleteRolesByApplication(String applicationId, String tenantDomain)
             throws IdentityRoleManagementException {
 
+        Set<String> sharedRoleTenantDomains = new HashSet<>();
+        for (RoleDTO role : getHybridRolesByApplication(applicationId, tenantDomain)) {
+            sharedRoleTenantDomains.addAll(getSharedRoleTenantDomains(role.getId(), tenantDomain));
+        }
         super.deleteRolesByApplication(applicationId, tenantDomain);
         clearRoleBasicInfoCacheByTenant(tenantDomain);
+        clearUserRoleListCacheByTenant(tenantDomain);
+        clearUserRoleListCacheByTenants(sharedRoleTenantDomains);
+    }
+
+    /**
+     * Get the tenant domains of the sub organizations the given role is shared with. The shared roles are deleted or
+     * renamed along with the main role, so the cached role lists of those tenants have to be cleared as well.
+     *
+     * @param roleId       Main role ID.
+     * @param tenantDomain Tenant domain of the main role.
+     * @return Tenant domains of the shared roles.
+     * @throws IdentityRoleManagementException If an error occurred while retrieving the shared roles.
+     */
+    private Set<String> getSharedRoleTenantDomains(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Set<String> tenantDomains = new HashSet<>();
+        for (RoleDTO sharedRole : getSharedHybridRoles(roleId, IdentityTenantUtil.getTenantId(tenantDomain))) {
+            tenantDomains.add(IdentityTenantUtil.getTenantDomain(sharedRole.getTenantId()));
+        }
+        return tenantDomains;
+    }
+
+    private List<RoleBasicInfo> copyRoles(List<RoleBasicInfo> roles) {
+
+        List<RoleBasicInfo> copies = new ArrayList<>(roles.size());
+        for (RoleBasicInfo role : roles) {
+            RoleBasicInfo copy = new RoleBasicInfo(role.getId(), role.getName());
+            copy.setAudience(role.getAudience());
+            copy.setAudienceId(role.getAudienceId());
+            copy.setAudienceName(role.getAudienceName());
+            copy.setRoleId(role.getRoleId());
+            copies.add(copy);
+        }
+        return copies;
     }
 
     /**
@@ -159,4 +286,41 @@ public class CacheBackedRoleDAO extends RoleDAOImpl {
             LOG.debug("Cleared all role basic info cache entries for tenant: " + tenantDomain);
         }
     }
+
+    /**
+     * Clear the cached role lists of the given users.
+     *
+     * @param userIds      User IDs.
+     * @param tenantDomain Tenant domain.
+     */
+    private void clearUserRoleListCache(List<String> userIds, String tenantDomain) {
+
+        if (userIds == null) {
+            return;
+        }
+        for (String userId : userIds) {
+            userRoleListCache.clearCacheEntriesOfUser(userId, tenantDomain);
+        }
+    }
+
+    /**
+     * Clear all the cached role lists of users of a tenant. Used when a change affects the role lists of an unknown
+     * set of users.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    private void clearUserRoleListCacheByTenant(String tenantDomain) {
+
+        userRoleListCache.clear(tenantDomain);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared all user role list cache entries for tenant: " + tenantDomain);
+        }
+    }
+
+    private void clearUserRoleListCacheByTenants(Set<String> tenantDomains) {
+
+        for (String tenantDomain : tenantDomains) {
+            clearUserRoleListCacheByTenant(tenantDomain);
+        }
+    }
 }
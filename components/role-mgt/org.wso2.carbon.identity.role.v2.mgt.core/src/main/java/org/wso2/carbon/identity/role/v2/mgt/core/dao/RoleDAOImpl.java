@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.role.v2.mgt.core.FilterQueryBuilder;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
@@ -1127,13 +1128,13 @@ public class RoleDAOImpl implements RoleDAO {
                     RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                     roleBasicInfo.setAudience(audience);
                     roleBasicInfo.setAudienceId(audienceId);
-                    roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                     roles.add(roleBasicInfo);
                 }
             }
             if (!isOrganization(tenantDomain)) {
                 roles.add(getEveryOneRole(tenantDomain));
             }
+            resolveAudienceNames(roles);
         } catch (SQLException e) {
             String errorMessage =
                     "Error while retrieving role list of user by id: " + userId + " and tenantDomain : " + tenantDomain;
@@ -1146,7 +1147,7 @@ public class RoleDAOImpl implements RoleDAO {
      * Get everyone role basic info.
      *
      * @param tenantDomain Tenant domain.
-     * @return basic info of every one role.
+     * @return basic info of every one role. The audience name is not resolved.
      * @throws IdentityRoleManagementException if error occurred while retrieving everyone role.
      */
     private RoleBasicInfo getEveryOneRole(String tenantDomain) throws IdentityRoleManagementException {
@@ -1156,8 +1157,7 @@ public class RoleDAOImpl implements RoleDAO {
         String roleId = getRoleIdByName(everyOneRoleName, ORGANIZATION, orgId, tenantDomain);
         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, everyOneRoleName);
         roleBasicInfo.setAudience(ORGANIZATION);
-        roleBasicInfo.setAudienceId(RoleManagementUtils.getOrganizationId(tenantDomain));
-        roleBasicInfo.setAudienceName(getOrganizationName(orgId));
+        roleBasicInfo.setAudienceId(orgId);
         return roleBasicInfo;
     }
 
@@ -1201,7 +1201,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1212,9 +1211,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        resolveAudienceNames(distinctRoles);
+        return distinctRoles;
     }
 
     @Override
@@ -1238,7 +1239,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1249,9 +1249,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        resolveAudienceNames(distinctRoles);
+        return distinctRoles;
     }
 
     @Override
@@ -1494,7 +1496,7 @@ public class RoleDAOImpl implements RoleDAO {
         return associatedApplicationIds;
     }
 
-    private List<RoleDTO> getHybridRolesByApplication(String applicationId, String tenantDomain)
+    protected List<RoleDTO> getHybridRolesByApplication(String applicationId, String tenantDomain)
             throws IdentityRoleManagementException {
 
         List<RoleDTO> hybridRoles = new ArrayList<>();
@@ -2387,6 +2389,66 @@ public class RoleDAOImpl implements RoleDAO {
         return null;
     }
 
+    /**
+     * Resolve the audience names of the given roles. The distinct organization audiences are resolved with a single
+     * lookup instead of a lookup per role.
+     *
+     * @param roles Roles with the audience and audience ID set.
+     * @throws IdentityRoleManagementServerException If an error occurred while resolving the organization names.
+     */
+    protected void resolveAudienceNames(List<RoleBasicInfo> roles) throws IdentityRoleManagementServerException {
+
+        Set<String> organizationIds = new HashSet<>();
+        for (RoleBasicInfo role : roles) {
+            if (ORGANIZATION.equalsIgnoreCase(role.getAudience()) && role.getAudienceId() != null) {
+                organizationIds.add(role.getAudienceId());
+            }
+        }
+        Map<String, String> organizationNames = getOrganizationNames(organizationIds);
+        for (RoleBasicInfo role : roles) {
+            if (ORGANIZATION.equalsIgnoreCase(role.getAudience())) {
+                role.setAudienceName(organizationNames.getOrDefault(role.getAudienceId(), StringUtils.EMPTY));
+            }
+        }
+    }
+
+    /**
+     * Get the names of the given organizations.
+     *
+     * @param organizationIds Organization IDs.
+     * @return Map of organization ID to organization name.
+     * @throws IdentityRoleManagementServerException IdentityRoleManagementServerException.
+     */
+    private Map<String, String> getOrganizationNames(Set<String> organizationIds)
+            throws IdentityRoleManagementServerException {
+
+        Map<String, String> organizationNames = new HashMap<>();
+        if (organizationIds.isEmpty()) {
+            return organizationNames;
+        }
+        if (organizationIds.size() == 1) {
+            String organizationId = organizationIds.iterator().next();
+            organizationNames.put(organizationId, getOrganizationName(organizationId));
+            return organizationNames;
+        }
+        try {
+            Map<String, BasicOrganization> organizations = RoleManagementServiceComponentHolder.getInstance()
+                    .getOrganizationManager().getBasicOrganizationDetailsByOrgIDs(new ArrayList<>(organizationIds));
+            if (organizations != null) {
+                for (Map.Entry<String, BasicOrganization> organization : organizations.entrySet()) {
+                    if (organization.getValue() != null) {
+                        organizationNames.put(organization.getKey(), organization.getValue().getName());
+                    }
+                }
+            }
+        } catch (OrganizationManagementException e) {
+            String errorMessage = "Error while retrieving the organization names for the given ids: " +
+                    String.join(", ", organizationIds);
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+        return organizationNames;
+    }
+
     /**
      * Get organization name.
      *
@@ -2718,11 +2780,10 @@ public class RoleDAOImpl implements RoleDAO {
             if (roleAudience != null) {
                 roleBasicInfo.setAudience(roleAudience.getAudience());
                 roleBasicInfo.setAudienceId(roleAudience.getAudienceId());
-                roleBasicInfo.setAudienceName(getAudienceName(roleAudience.getAudience(),
-                        roleAudience.getAudienceId(), tenantDomain));
             }
             roles.add(roleBasicInfo);
         }
+        resolveAudienceNames(roles);
         return roles;
     }
 
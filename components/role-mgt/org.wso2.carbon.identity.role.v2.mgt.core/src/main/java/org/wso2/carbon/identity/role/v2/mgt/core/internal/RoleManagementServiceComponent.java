@@ -37,7 +37,9 @@ import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementServiceImpl;
 import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleManagementListener;
 import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleManagementOrganizationHandler;
 import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleManagementV2AuditLogger;
+import org.wso2.carbon.identity.role.v2.mgt.core.listener.UserRoleListCacheInvalidationListener;
 import org.wso2.carbon.idp.mgt.IdpManager;
+import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -57,6 +59,8 @@ public class RoleManagementServiceComponent {
             bundleContext.registerService(RoleManagementService.class, new RoleManagementServiceImpl(), null);
             bundleContext.registerService(RoleManagementListener.class, new RoleManagementV2AuditLogger(), null);
             bundleContext.registerService(AbstractEventHandler.class, new RoleManagementOrganizationHandler(), null);
+            bundleContext.registerService(UserOperationEventListener.class.getName(),
+                    new UserRoleListCacheInvalidationListener(), null);
 
             log.debug("Role V2 management service is activated.");
         } catch (Throwable e) {
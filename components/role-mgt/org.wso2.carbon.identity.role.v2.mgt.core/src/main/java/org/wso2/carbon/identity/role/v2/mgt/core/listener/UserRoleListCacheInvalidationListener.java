@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleListCache;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+/**
+ * User operation event listener which invalidates the cached role lists of users when the role assignments are
+ * changed through the user store manager, bypassing the role management service.
+ */
+public class UserRoleListCacheInvalidationListener extends AbstractIdentityUserOperationEventListener {
+
+    private static final Log LOG = LogFactory.getLog(UserRoleListCacheInvalidationListener.class);
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 96;
+    }
+
+    @Override
+    public boolean doPostUpdateRoleListOfUserWithID(String userID, String[] deletedRoles, String[] newRoles,
+                                                    UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearUserRoleListCache(new String[]{userID}, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateUserListOfRoleWithID(String roleName, String[] deletedUserIDs, String[] newUserIDs,
+                                                    UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearUserRoleListCache(deletedUserIDs, userStoreManager);
+        clearUserRoleListCache(newUserIDs, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateUserListOfInternalRoleWithID(String roleName, String[] deletedUserIDs,
+                                                            String[] newUserIDs, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearUserRoleListCache(deletedUserIDs, userStoreManager);
+        clearUserRoleListCache(newUserIDs, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteUserWithID(String userID, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearUserRoleListCache(new String[]{userID}, userStoreManager);
+        return true;
+    }
+
+    private void clearUserRoleListCache(String[] userIds, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (userIds == null || userIds.length == 0) {
+            return;
+        }
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(userStoreManager.getTenantId());
+        for (String userId : userIds) {
+            UserRoleListCache.getInstance().clearCacheEntriesOfUser(userId, tenantDomain);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared the cached role lists of " + userIds.length + " users in tenant: " + tenantDomain);
+        }
+    }
+}
@@ -47,7 +47,13 @@ import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheByName;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleListCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleListCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementClientException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementServerException;
@@ -93,13 +99,17 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -955,6 +965,110 @@ public class RoleDAOTest {
         assertEquals(roles.size(), 3);
     }
 
+    @Test
+    public void testGetRoleListOfUserResolvesOrganizationNamesInOneLookup() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+        addRole(roleNamesList.get(0), ORGANIZATION_AUD, "org-id-1", roleDAO);
+        addRole(roleNamesList.get(1), ORGANIZATION_AUD, "org-id-2", roleDAO);
+        addRole("everyone", ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        RoleManagementServiceComponentHolder.getInstance().setOrganizationManager(organizationManager);
+        when(organizationManager.resolveOrganizationId(anyString())).thenReturn(SAMPLE_ORG_ID);
+        Map<String, BasicOrganization> organizations = new HashMap<>();
+        organizations.put("org-id-1", getBasicOrganization("org-id-1", "org-1"));
+        organizations.put(SAMPLE_ORG_ID, getBasicOrganization(SAMPLE_ORG_ID, "test-org"));
+        when(organizationManager.getBasicOrganizationDetailsByOrgIDs(anyList())).thenReturn(organizations);
+
+        mockRealmConfiguration();
+        List<RoleBasicInfo> roles = roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN);
+        assertEquals(roles.size(), 3);
+        Map<String, String> audienceNames = roles.stream().collect(
+                Collectors.toMap(RoleBasicInfo::getAudienceId, RoleBasicInfo::getAudienceName));
+        assertEquals(audienceNames.get("org-id-1"), "org-1");
+        assertEquals(audienceNames.get("org-id-2"), StringUtils.EMPTY);
+        assertEquals(audienceNames.get(SAMPLE_ORG_ID), "test-org");
+        verify(organizationManager, times(1)).getBasicOrganizationDetailsByOrgIDs(anyList());
+        verify(organizationManager, never()).getOrganizationNameById(anyString());
+    }
+
+    @Test
+    public void testCachedRoleIdListOfUserIsClearedOnRoleAssignmentChange() throws Exception {
+
+        Map<String, UserRoleListCacheEntry> cachedRoleLists = new HashMap<>();
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDAO(cachedRoleLists);
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        RoleBasicInfo otherRole = addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+
+        assertEquals(roleDAO.getRoleIdListOfUser("userID1", SAMPLE_TENANT_DOMAIN).size(), 2);
+        assertEquals(roleDAO.getRoleIdListOfUser("userID2", SAMPLE_TENANT_DOMAIN).size(), 2);
+        assertTrue(cachedRoleLists.containsKey(getCacheKey("userID1", true, SAMPLE_TENANT_DOMAIN)));
+
+        // The cached list is returned as a copy, so callers adding the everyone role do not change the cache.
+        List<String> cachedRoleIds = roleDAO.getRoleIdListOfUser("userID1", SAMPLE_TENANT_DOMAIN);
+        cachedRoleIds.add("everyone-role-id");
+        assertEquals(roleDAO.getRoleIdListOfUser("userID1", SAMPLE_TENANT_DOMAIN).size(), 2);
+
+        // Resolve only the given user IDs, so that the role assignment of the other user is kept as it is.
+        UserIDResolver userIDResolver = mock(UserIDResolver.class);
+        setPrivateFinalField(RoleDAOImpl.class, "userIDResolver", roleDAO, userIDResolver);
+        when(userIDResolver.getNamesByIDs(anyList(), anyString())).thenAnswer(invocation -> {
+            List<String> userIds = invocation.getArgument(0);
+            return userIds.stream().map(userId -> userNamesList.get(userIDsList.indexOf(userId)))
+                    .collect(Collectors.toList());
+        });
+        when(userIDResolver.getNameByID(eq(userIDsList.get(0)), anyString())).thenReturn(userNamesList.get(0));
+        roleDAO.updateUserListOfRole(role.getId(), Collections.emptyList(), Collections.singletonList("userID1"),
+                SAMPLE_TENANT_DOMAIN);
+
+        assertFalse(cachedRoleLists.containsKey(getCacheKey("userID1", true, SAMPLE_TENANT_DOMAIN)));
+        assertTrue(cachedRoleLists.containsKey(getCacheKey("userID2", true, SAMPLE_TENANT_DOMAIN)),
+                "Only the users whose role assignments changed should be cleared.");
+        assertEquals(roleDAO.getRoleIdListOfUser("userID1", SAMPLE_TENANT_DOMAIN),
+                Collections.singletonList(otherRole.getId()));
+        assertEquals(roleDAO.getRoleIdListOfUser("userID2", SAMPLE_TENANT_DOMAIN).size(), 2);
+    }
+
+    @Test
+    public void testCachedRoleIdListOfUserIsClearedOnRoleDeletion() throws Exception {
+
+        Map<String, UserRoleListCacheEntry> cachedRoleLists = new HashMap<>();
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDAO(cachedRoleLists);
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        mockRealmConfiguration();
+        AuthorizationManager authorizationManager = mock(JDBCAuthorizationManager.class);
+        when(mockUserRealm.getAuthorizationManager()).thenReturn(authorizationManager);
+        doNothing().when(authorizationManager).clearRoleAuthorization(anyString());
+
+        assertEquals(roleDAO.getRoleIdListOfUser("userID1", SAMPLE_TENANT_DOMAIN),
+                Collections.singletonList(role.getId()));
+        assertEquals(roleDAO.getRoleIdListOfUser("userID2", SAMPLE_TENANT_DOMAIN),
+                Collections.singletonList(role.getId()));
+        cachedRoleLists.put(getCacheKey("userID1", true, L1_ORG_TENANT_DOMAIN), new UserRoleListCacheEntry());
+
+        roleDAO.deleteRole(role.getId(), SAMPLE_TENANT_DOMAIN);
+
+        assertFalse(cachedRoleLists.containsKey(getCacheKey("userID1", true, SAMPLE_TENANT_DOMAIN)));
+        assertFalse(cachedRoleLists.containsKey(getCacheKey("userID2", true, SAMPLE_TENANT_DOMAIN)));
+        assertTrue(cachedRoleLists.containsKey(getCacheKey("userID1", true, L1_ORG_TENANT_DOMAIN)),
+                "Role lists of tenants without the deleted role should be kept.");
+        assertTrue(roleDAO.getRoleIdListOfUser("userID1", SAMPLE_TENANT_DOMAIN).isEmpty());
+    }
+
     @Test
     public void testGetRoleListOfGroups() throws Exception {
 
@@ -1334,6 +1448,76 @@ public class RoleDAOTest {
         return roleDAO;
     }
 
+    private CacheBackedRoleDAO setupCacheBackedRoleDAO(Map<String, UserRoleListCacheEntry> cachedRoleLists)
+            throws Exception {
+
+        CacheBackedRoleDAO roleDAO = spy(new CacheBackedRoleDAO());
+        setPrivateFinalField(CacheBackedRoleDAO.class, "roleCacheByName", roleDAO, mock(RoleIdCacheByName.class));
+        setPrivateFinalField(CacheBackedRoleDAO.class, "roleBasicInfoCache", roleDAO, mock(RoleBasicInfoCache.class));
+        setPrivateFinalField(CacheBackedRoleDAO.class, "userRoleListCache", roleDAO,
+                mockUserRoleListCache(cachedRoleLists));
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityUtil.when(() -> IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt()))
+                .thenReturn(true);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+        return roleDAO;
+    }
+
+    /**
+     * Mock the user role list cache with a map, so that the entries cached and cleared by the DAO can be asserted.
+     *
+     * @param cachedRoleLists Map to hold the cache entries against the keys built with getCacheKey.
+     * @return Mocked user role list cache.
+     */
+    private UserRoleListCache mockUserRoleListCache(Map<String, UserRoleListCacheEntry> cachedRoleLists) {
+
+        UserRoleListCache userRoleListCache = mock(UserRoleListCache.class);
+        lenient().when(userRoleListCache.getValueFromCache(any(UserRoleListCacheKey.class), anyString()))
+                .thenAnswer(invocation -> cachedRoleLists.get(
+                        getCacheKey(invocation.getArgument(0), invocation.getArgument(1))));
+        lenient().doAnswer(invocation -> cachedRoleLists.put(
+                        getCacheKey(invocation.getArgument(0), invocation.getArgument(2)), invocation.getArgument(1)))
+                .when(userRoleListCache)
+                .addToCacheOnRead(any(UserRoleListCacheKey.class), any(UserRoleListCacheEntry.class), anyString());
+        lenient().doAnswer(invocation -> cachedRoleLists.remove(
+                        getCacheKey(invocation.getArgument(0), invocation.getArgument(1))))
+                .when(userRoleListCache).clearCacheEntry(any(UserRoleListCacheKey.class), anyString());
+        lenient().doAnswer(invocation -> cachedRoleLists.keySet().removeIf(
+                        key -> key.startsWith(invocation.getArgument(0) + ":")))
+                .when(userRoleListCache).clear(anyString());
+        lenient().doCallRealMethod().when(userRoleListCache).clearCacheEntriesOfUser(anyString(), anyString());
+        return userRoleListCache;
+    }
+
+    private String getCacheKey(UserRoleListCacheKey cacheKey, String tenantDomain) {
+
+        return getCacheKey(cacheKey.getUserId(), cacheKey.isRoleIdsOnly(), tenantDomain);
+    }
+
+    private String getCacheKey(String userId, boolean roleIdsOnly, String tenantDomain) {
+
+        return tenantDomain + ":" + userId + ":" + roleIdsOnly;
+    }
+
+    private BasicOrganization getBasicOrganization(String id, String name) {
+
+        BasicOrganization basicOrganization = new BasicOrganization();
+        basicOrganization.setId(id);
+        basicOrganization.setName(name);
+        return basicOrganization;
+    }
+
     private List<String> getUserNamesList(List<UserBasicInfo> users) {
 
         List<String> userNames = new ArrayList<>();
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.listener;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleListCache;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for UserRoleListCacheInvalidationListener.
+ */
+public class UserRoleListCacheInvalidationListenerTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final String USER_ID_1 = "userID1";
+    private static final String USER_ID_2 = "userID2";
+    private static final String USER_ID_3 = "userID3";
+    private static final String ROLE_NAME = "role1";
+
+    private MockedStatic<UserRoleListCache> mockedUserRoleListCache;
+    private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
+    private MockedStatic<IdentityUtil> mockedIdentityUtil;
+    private AutoCloseable mocks;
+    private UserRoleListCacheInvalidationListener listener;
+
+    @Mock
+    private UserRoleListCache userRoleListCache;
+
+    @Mock
+    private UserStoreManager userStoreManager;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        mocks = openMocks(this);
+        mockedUserRoleListCache = mockStatic(UserRoleListCache.class);
+        mockedUserRoleListCache.when(UserRoleListCache::getInstance).thenReturn(userRoleListCache);
+        mockedIdentityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(TENANT_ID)).thenReturn(TENANT_DOMAIN);
+        mockedIdentityUtil = mockStatic(IdentityUtil.class);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+        listener = new UserRoleListCacheInvalidationListener();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        mockedUserRoleListCache.close();
+        mockedIdentityTenantUtil.close();
+        mockedIdentityUtil.close();
+        mocks.close();
+    }
+
+    @Test
+    public void testRoleListOfUserUpdateClearsUser() throws Exception {
+
+        assertTrue(listener.doPostUpdateRoleListOfUserWithID(USER_ID_1, new String[]{"role2"},
+                new String[]{ROLE_NAME}, userStoreManager));
+
+        verify(userRoleListCache).clearCacheEntriesOfUser(USER_ID_1, TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUserListOfRoleUpdateClearsAddedAndRemovedUsers() throws Exception {
+
+        assertTrue(listener.doPostUpdateUserListOfRoleWithID(ROLE_NAME, new String[]{USER_ID_1},
+                new String[]{USER_ID_2, USER_ID_3}, userStoreManager));
+
+        verify(userRoleListCache).clearCacheEntriesOfUser(USER_ID_1, TENANT_DOMAIN);
+        verify(userRoleListCache).clearCacheEntriesOfUser(USER_ID_2, TENANT_DOMAIN);
+        verify(userRoleListCache).clearCacheEntriesOfUser(USER_ID_3, TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUserListOfInternalRoleUpdateClearsAddedAndRemovedUsers() throws Exception {
+
+        assertTrue(listener.doPostUpdateUserListOfInternalRoleWithID(ROLE_NAME, null, new String[]{USER_ID_2},
+                userStoreManager));
+
+        verify(userRoleListCache).clearCacheEntriesOfUser(USER_ID_2, TENANT_DOMAIN);
+        verify(userRoleListCache, never()).clearCacheEntriesOfUser(USER_ID_1, TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUserDeletionClearsUser() throws Exception {
+
+        assertTrue(listener.doPostDeleteUserWithID(USER_ID_1, userStoreManager));
+
+        verify(userRoleListCache).clearCacheEntriesOfUser(USER_ID_1, TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testDisabledListenerDoesNotClearUsers() throws Exception {
+
+        IdentityEventListenerConfig listenerConfig = mock(IdentityEventListenerConfig.class);
+        when(listenerConfig.getEnable()).thenReturn("false");
+        mockedIdentityUtil.when(() -> IdentityUtil.readEventListenerProperty(anyString(), anyString()))
+                .thenReturn(listenerConfig);
+
+        assertTrue(listener.doPostDeleteUserWithID(USER_ID_1, userStoreManager));
+        assertTrue(listener.doPostUpdateUserListOfRoleWithID(ROLE_NAME, new String[]{USER_ID_1},
+                new String[]{USER_ID_2}, userStoreManager));
+
+        verify(userRoleListCache, never()).clearCacheEntriesOfUser(anyString(), anyString());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.cache;
+
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.OperatorRegistry;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluationPlan;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of the compiled evaluation plans of rules.
+ * <p>
+ * Plans are keyed by the rule ID, and each plan is valid for the rule instance it was compiled from, which is the
+ * instance served from the RuleCache of the rule management component. When a rule is updated, its RuleCache entry is
+ * cleared and the next read returns a new rule instance, so a new plan is compiled in place of the old one. Plans of
+ * rule instances which are no longer referenced are removed whenever a plan is compiled.
+ */
+public class RuleEvaluationPlanCache {
+
+    private static final RuleEvaluationPlanCache INSTANCE = new RuleEvaluationPlanCache();
+
+    private final ConcurrentMap<String, CachedPlan> plans = new ConcurrentHashMap<>();
+
+    private RuleEvaluationPlanCache() {
+
+    }
+
+    public static RuleEvaluationPlanCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the evaluation plan of the given rule, compiling it if it is not cached yet.
+     *
+     * @param rule             Rule.
+     * @param operatorRegistry Operator registry used to resolve the operators of the rule.
+     * @return Evaluation plan of the rule.
+     */
+    public RuleEvaluationPlan getPlan(Rule rule, OperatorRegistry operatorRegistry) {
+
+        CachedPlan cachedPlan = plans.get(rule.getId());
+        if (cachedPlan != null && cachedPlan.isValidFor(rule, operatorRegistry)) {
+            return cachedPlan.plan;
+        }
+        RuleEvaluationPlan plan = RuleEvaluationPlan.compile((ORCombinedRule) rule, operatorRegistry);
+        plans.values().removeIf(CachedPlan::isReleased);
+        plans.put(rule.getId(), new CachedPlan(rule, plan));
+        return plan;
+    }
+
+    /**
+     * Remove all cached plans.
+     */
+    public void clear() {
+
+        plans.clear();
+    }
+
+    /**
+     * Evaluation plan together with the rule instance it was compiled from.
+     */
+    private static class CachedPlan {
+
+        private final WeakReference<Rule> rule;
+        private final RuleEvaluationPlan plan;
+
+        CachedPlan(Rule rule, RuleEvaluationPlan plan) {
+
+            this.rule = new WeakReference<>(rule);
+            this.plan = plan;
+        }
+
+        boolean isValidFor(Rule rule, OperatorRegistry operatorRegistry) {
+
+            return this.rule.get() == rule && plan.isCompiledWith(operatorRegistry);
+        }
+
+        boolean isReleased() {
+
+            return rule.get() == null;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
+import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Expression;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable evaluation plan of a rule.
+ * The operators of the rule are resolved and the expression values are parsed once when the plan is compiled,
+ * so that evaluating the plan only has to look up the field values and apply the operators.
+ */
+public final class RuleEvaluationPlan {
+
+    // Lists of at least this size are converted to a hash set when the field is checked more than once in a rule.
+    private static final int LIST_LOOKUP_THRESHOLD = 8;
+
+    private final OperatorRegistry operatorRegistry;
+    private final CompiledExpression[][] orRules;
+
+    private RuleEvaluationPlan(OperatorRegistry operatorRegistry, CompiledExpression[][] orRules) {
+
+        this.operatorRegistry = operatorRegistry;
+        this.orRules = orRules;
+    }
+
+    /**
+     * Compile the given rule into an evaluation plan.
+     *
+     * @param rule             Rule to compile.
+     * @param operatorRegistry Operator registry used to resolve the operators of the rule.
+     * @return Evaluation plan.
+     */
+    public static RuleEvaluationPlan compile(ORCombinedRule rule, OperatorRegistry operatorRegistry) {
+
+        Map<String, Integer> fieldReferences = new HashMap<>();
+        for (Expression expression : rule.getExpressions()) {
+            fieldReferences.merge(expression.getField(), 1, Integer::sum);
+        }
+
+        List<ANDCombinedRule> andRules = rule.getRules();
+        CompiledExpression[][] orRules = new CompiledExpression[andRules.size()][];
+        for (int i = 0; i < andRules.size(); i++) {
+            List<Expression> expressions = andRules.get(i).getExpressions();
+            CompiledExpression[] andRule = new CompiledExpression[expressions.size()];
+            for (int j = 0; j < expressions.size(); j++) {
+                Expression expression = expressions.get(j);
+                andRule[j] = new CompiledExpression(expression, operatorRegistry.getOperator(expression.getOperator()),
+                        fieldReferences.getOrDefault(expression.getField(), 0) > 1);
+            }
+            orRules[i] = andRule;
+        }
+        return new RuleEvaluationPlan(operatorRegistry, orRules);
+    }
+
+    /**
+     * Check whether the plan was compiled with the given operator registry.
+     *
+     * @param operatorRegistry Operator registry.
+     * @return True if the plan was compiled with the given registry.
+     */
+    public boolean isCompiledWith(OperatorRegistry operatorRegistry) {
+
+        return this.operatorRegistry == operatorRegistry;
+    }
+
+    /**
+     * Evaluate the plan against the given evaluation data.
+     *
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+        ListLookups listLookups = new ListLookups();
+        for (CompiledExpression[] andRule : orRules) {
+            if (evaluateANDCombinedRule(andRule, evaluationData, listLookups)) {
+                return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
+            }
+        }
+        return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
+    }
+
+    private static boolean evaluateANDCombinedRule(CompiledExpression[] andRule,
+                                                   Map<String, FieldValue> evaluationData, ListLookups listLookups)
+            throws RuleEvaluationException {
+
+        for (CompiledExpression expression : andRule) {
+            if (!expression.evaluate(evaluationData, listLookups)) {
+                return false; // If any expression fails, the ANDCombinedRule fails
+            }
+        }
+        return true; // All expressions passed, the ANDCombinedRule passes
+    }
+
+    /**
+     * Operation applied when the field value is a list.
+     */
+    private enum ListOperation {
+
+        CONTAINS,
+        NOT_CONTAINS,
+        UNSUPPORTED;
+
+        static ListOperation of(String operatorName) {
+
+            switch (operatorName) {
+                case "equals":
+                case "contains":
+                    return CONTAINS;
+                case "notEquals":
+                    return NOT_CONTAINS;
+                default:
+                    return UNSUPPORTED;
+            }
+        }
+    }
+
+    /**
+     * Expression with its operator resolved and its value parsed for each value type.
+     */
+    private static final class CompiledExpression {
+
+        private final String field;
+        private final String operatorName;
+        private final Operator operator;
+        private final ListOperation listOperation;
+        private final String stringValue;
+        private final Boolean booleanValue;
+        private final Double numberValue;
+        private final boolean sharedField;
+
+        CompiledExpression(Expression expression, Operator operator, boolean sharedField) {
+
+            this.field = expression.getField();
+            this.operatorName = expression.getOperator();
+            this.operator = operator;
+            this.listOperation = operator == null ? ListOperation.UNSUPPORTED : ListOperation.of(operator.getName());
+            this.stringValue = expression.getValue().getFieldValue();
+            this.booleanValue = Boolean.parseBoolean(stringValue);
+            this.numberValue = parseNumber(stringValue);
+            this.sharedField = sharedField;
+        }
+
+        boolean evaluate(Map<String, FieldValue> evaluationData, ListLookups listLookups)
+                throws RuleEvaluationException {
+
+            FieldValue fieldValue = evaluationData.get(field);
+            if (fieldValue == null) {
+                throw new RuleEvaluationException("Field value not found for the field: " + field);
+            }
+            if (operator == null) {
+                throw new RuleEvaluationException("Unsupported operator: " + operatorName);
+            }
+
+            // Evaluate based on the value type of the field
+            ValueType valueType = fieldValue.getValueType();
+            if (valueType == ValueType.STRING || valueType == ValueType.REFERENCE) {
+                return operator.apply(fieldValue.getValue(), stringValue);
+            } else if (valueType == ValueType.BOOLEAN) {
+                return operator.apply(fieldValue.getValue(), booleanValue);
+            } else if (valueType == ValueType.NUMBER) {
+                // An invalid number fails the same way as it does when the rule is interpreted.
+                return operator.apply(fieldValue.getValue(),
+                        numberValue != null ? numberValue : Double.parseDouble(stringValue));
+            } else if (valueType == ValueType.LIST) {
+                return applyListOperation(fieldValue, listLookups);
+            }
+
+            throw new IllegalStateException("Unsupported value type: " + valueType);
+        }
+
+        private boolean applyListOperation(FieldValue fieldValue, ListLookups listLookups) {
+
+            if (listOperation == ListOperation.UNSUPPORTED) {
+                throw new IllegalStateException("Unsupported operator: " + operatorName + " for LIST value type");
+            }
+            List<?> list = (List<?>) fieldValue.getValue();
+            boolean contains = sharedField && list.size() >= LIST_LOOKUP_THRESHOLD
+                    ? listLookups.get(field, list).contains(stringValue)
+                    : list.contains(stringValue);
+            return listOperation == ListOperation.CONTAINS ? contains : !contains;
+        }
+
+        private static Double parseNumber(String value) {
+
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Hash set views of the list field values, built once per evaluation for fields checked more than once.
+     */
+    private static final class ListLookups {
+
+        private Map<String, Set<?>> lookups;
+
+        Set<?> get(String field, List<?> list) {
+
+            if (lookups == null) {
+                lookups = new HashMap<>();
+            }
+            return lookups.computeIfAbsent(field, k -> new HashSet<>(list));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+import org.wso2.carbon.identity.rule.evaluation.internal.cache.RuleEvaluationPlanCache;
 import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
 import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
@@ -39,7 +40,8 @@ import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.STRIN
 
 /**
  * Rule evaluator.
- * This class is responsible for evaluating rules.
+ * This class is responsible for evaluating rules. Rules are evaluated through their cached
+ * {@link RuleEvaluationPlan}.
  */
 public class RuleEvaluator {
 
@@ -67,6 +69,20 @@ public class RuleEvaluator {
      */
     public boolean evaluate(Rule rule, Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
 
+        RuleEvaluationPlan plan = RuleEvaluationPlanCache.getInstance().getPlan(rule, operatorRegistry);
+        return plan.evaluate(evaluationData);
+    }
+
+    /**
+     * Evaluate a given rule by interpreting it without a compiled evaluation plan.
+     *
+     * @param rule           Rule to evaluate.
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean interpret(Rule rule, Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
         ORCombinedRule orRule = (ORCombinedRule) rule;
         return evaluateORCombinedRule(orRule, evaluationData);
     }
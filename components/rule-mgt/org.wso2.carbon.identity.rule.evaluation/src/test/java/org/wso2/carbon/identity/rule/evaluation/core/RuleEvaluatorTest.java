@@ -27,11 +27,14 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
+import org.wso2.carbon.identity.rule.evaluation.internal.cache.RuleEvaluationPlanCache;
 import org.wso2.carbon.identity.rule.evaluation.internal.component.RuleEvaluationComponentServiceHolder;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.OperatorRegistry;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluationPlan;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluator;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
 import org.wso2.carbon.identity.rule.management.api.model.FlowType;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.api.model.Value;
 import org.wso2.carbon.identity.rule.management.api.util.RuleBuilder;
@@ -60,7 +63,10 @@ import java.util.Objects;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class RuleEvaluatorTest {
@@ -177,6 +183,42 @@ public class RuleEvaluatorTest {
                 Collections.emptyMap());
     }
 
+    @Test(dataProvider = "ruleEvaluationDataProvider")
+    public void testCompiledPlanMatchesInterpretedEvaluation(Rule rule, Map<String, FieldValue> evaluationData,
+                                                            boolean expectedResult) throws RuleEvaluationException {
+
+        assertEquals(ruleEvaluator.evaluate(rule, evaluationData), ruleEvaluator.interpret(rule, evaluationData));
+    }
+
+    @Test
+    public void testEvaluationPlanIsCachedPerRule() throws Exception {
+
+        Rule rule = createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes();
+        RuleEvaluationPlan plan = RuleEvaluationPlanCache.getInstance().getPlan(rule, operatorRegistry);
+
+        assertSame(RuleEvaluationPlanCache.getInstance().getPlan(rule, operatorRegistry), plan);
+        // An updated rule is served as a new instance with the same ID from the rule cache and gets a new plan.
+        Rule updatedRule = new ORCombinedRule.Builder((ORCombinedRule) rule).build();
+        RuleEvaluationPlan updatedPlan = RuleEvaluationPlanCache.getInstance().getPlan(updatedRule, operatorRegistry);
+        assertNotSame(updatedPlan, plan);
+        assertSame(RuleEvaluationPlanCache.getInstance().getPlan(updatedRule, operatorRegistry), updatedPlan);
+    }
+
+    @Test
+    public void testListLookupForFieldCheckedMoreThanOnce() throws Exception {
+
+        List<String> claims = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            claims.add("http://wso2.org/claims/claim" + i);
+        }
+        claims.add("http://wso2.org/claims/country");
+        Rule rule = createRuleWithTwoANDExpressionsUsingListValueTypes();
+
+        assertTrue(ruleEvaluator.evaluate(rule, createEvaluationData(claims)));
+        claims.add("http://wso2.org/claims/dob");
+        assertFalse(ruleEvaluator.evaluate(rule, createEvaluationData(claims)));
+    }
+
     private Rule createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes() throws Exception {
 
         RuleBuilder ruleBuilder = RuleBuilder.create(FlowType.PRE_ISSUE_ACCESS_TOKEN, "tenant1");
@@ -35,6 +35,8 @@ import org.wso2.carbon.identity.workflow.mgt.bean.Parameter;
 import org.wso2.carbon.identity.workflow.mgt.bean.RequestParameter;
 import org.wso2.carbon.identity.workflow.mgt.bean.Workflow;
 import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowAssociation;
+import org.wso2.carbon.identity.workflow.mgt.dao.CacheBackedRequestEntityRelationshipDAO;
+import org.wso2.carbon.identity.workflow.mgt.dao.CacheBackedWorkflowRequestAssociationDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.RequestEntityRelationshipDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowRequestAssociationDAO;
@@ -97,7 +99,7 @@ public class WorkFlowExecutorManager {
             workFlowRequest.setUuid(UUID.randomUUID().toString());
         }
         OMElement xmlRequest = WorkflowRequestBuilder.buildXMLRequest(workFlowRequest);
-        WorkflowRequestAssociationDAO requestAssociationDAO = new WorkflowRequestAssociationDAO();
+        WorkflowRequestAssociationDAO requestAssociationDAO = new CacheBackedWorkflowRequestAssociationDAO();
         WorkflowDAO workflowDAO = new WorkflowDAO();
         List<WorkflowAssociation> associations =
                 requestAssociationDAO.getWorkflowAssociationsForRequest(workFlowRequest.getEventType(), workFlowRequest
@@ -312,7 +314,7 @@ public class WorkFlowExecutorManager {
      */
     private void updateDBAtWorkflowCompletion(String requestId, String status) throws InternalWorkflowException {
 
-        RequestEntityRelationshipDAO requestEntityRelationshipDAO = new RequestEntityRelationshipDAO();
+        RequestEntityRelationshipDAO requestEntityRelationshipDAO = new CacheBackedRequestEntityRelationshipDAO();
         WorkflowRequestDAO workflowRequestDAO = new WorkflowRequestDAO();
         requestEntityRelationshipDAO.deleteRelationshipsOfRequest(requestId);
         workflowRequestDAO.updateStatusOfRequest(requestId, status);
@@ -34,6 +34,9 @@ import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest;
 import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequestAssociation;
 import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequestFilterResponse;
 import org.wso2.carbon.identity.workflow.mgt.dao.AssociationDAO;
+import org.wso2.carbon.identity.workflow.mgt.dao.CacheBackedAssociationDAO;
+import org.wso2.carbon.identity.workflow.mgt.dao.CacheBackedRequestEntityRelationshipDAO;
+import org.wso2.carbon.identity.workflow.mgt.dao.CacheBackedWorkflowRequestAssociationDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.RequestEntityRelationshipDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowRequestAssociationDAO;
@@ -84,10 +87,11 @@ public class WorkflowManagementServiceImpl implements WorkflowManagementService
     private static final Log log = LogFactory.getLog(WorkflowManagementServiceImpl.class);
 
     WorkflowDAO workflowDAO = new WorkflowDAO();
-    AssociationDAO associationDAO = new AssociationDAO();
-    private RequestEntityRelationshipDAO requestEntityRelationshipDAO = new RequestEntityRelationshipDAO();
+    AssociationDAO associationDAO = new CacheBackedAssociationDAO();
+    private RequestEntityRelationshipDAO requestEntityRelationshipDAO = new CacheBackedRequestEntityRelationshipDAO();
     private WorkflowRequestDAO workflowRequestDAO = new WorkflowRequestDAO();
-    private WorkflowRequestAssociationDAO workflowRequestAssociationDAO = new WorkflowRequestAssociationDAO();
+    private WorkflowRequestAssociationDAO workflowRequestAssociationDAO =
+            new CacheBackedWorkflowRequestAssociationDAO();
 
     @Override
     public Workflow getWorkflow(String workflowId) throws WorkflowException {
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.workflow.mgt.bean.Entity;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Bloom filter of the entities which are related to in progress workflow requests of a tenant.
+ * <p>
+ * A negative answer is exact, so the database only needs to be queried when {@link #mightContain(Entity)} returns
+ * true. Entity names are compared case insensitively, since the entity names are matched case insensitively by some
+ * databases.
+ */
+public class PendingEntityFilter extends CacheEntry {
+
+    private static final long serialVersionUID = -2164538926640361582L;
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final int MIN_BITS = 64;
+
+    // Null when the filter matches every entity.
+    private final long[] bits;
+    private final int numBits;
+    private final int numHashFunctions;
+
+    private PendingEntityFilter(long[] bits, int numBits, int numHashFunctions) {
+
+        this.bits = bits;
+        this.numBits = numBits;
+        this.numHashFunctions = numHashFunctions;
+    }
+
+    /**
+     * Build a filter which contains the given entities.
+     *
+     * @param entities Entities to be added to the filter.
+     * @return Filter of the entities.
+     */
+    public static PendingEntityFilter of(Collection<Entity> entities) {
+
+        int expectedEntries = Math.max(1, entities.size());
+        long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(FALSE_POSITIVE_PROBABILITY) /
+                (Math.log(2) * Math.log(2)));
+        int numBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(MIN_BITS, optimalBits));
+        int numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedEntries * Math.log(2)));
+
+        PendingEntityFilter filter = new PendingEntityFilter(new long[(numBits + 63) / 64], numBits,
+                numHashFunctions);
+        for (Entity entity : entities) {
+            filter.add(entity);
+        }
+        return filter;
+    }
+
+    /**
+     * Build a filter which matches every entity. This is used when the tenant has too many related entities to be
+     * held in memory, so that every check is done against the database.
+     *
+     * @return Filter which matches every entity.
+     */
+    public static PendingEntityFilter matchAll() {
+
+        return new PendingEntityFilter(null, 0, 0);
+    }
+
+    /**
+     * Check whether the given entity may be related to an in progress workflow request.
+     *
+     * @param entity Entity.
+     * @return False if the entity is definitely not related to any in progress request.
+     */
+    public boolean mightContain(Entity entity) {
+
+        if (bits == null || entity.getEntityId() == null || entity.getEntityType() == null) {
+            return true;
+        }
+        long hash = hash(entity);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            int index = ((hash1 + i * hash2) & Integer.MAX_VALUE) % numBits;
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(Entity entity) {
+
+        if (entity.getEntityId() == null || entity.getEntityType() == null) {
+            return;
+        }
+        long hash = hash(entity);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            int index = ((hash1 + i * hash2) & Integer.MAX_VALUE) % numBits;
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    private static long hash(Entity entity) {
+
+        // 64 bit FNV-1a hash of the entity type and the name, followed by the finalizer of MurmurHash3.
+        long hash = 0xcbf29ce484222325L;
+        String key = entity.getEntityType().toLowerCase(Locale.ENGLISH) + '\u0000' +
+                entity.getEntityId().toLowerCase(Locale.ENGLISH);
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
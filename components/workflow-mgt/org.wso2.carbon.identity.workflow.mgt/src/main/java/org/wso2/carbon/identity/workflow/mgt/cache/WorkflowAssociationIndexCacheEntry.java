@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Cache entry which holds the IDs of the events which have enabled workflow associations in a tenant.
+ */
+public class WorkflowAssociationIndexCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4803153278530318447L;
+
+    private final HashSet<String> associatedEventIds;
+
+    public WorkflowAssociationIndexCacheEntry(Set<String> associatedEventIds) {
+
+        this.associatedEventIds = new HashSet<>(associatedEventIds);
+    }
+
+    /**
+     * Check whether the given event has an enabled workflow association.
+     *
+     * @param eventId Event ID.
+     * @return True if the event is associated with a workflow.
+     */
+    public boolean isAssociated(String eventId) {
+
+        return associatedEventIds.contains(eventId);
+    }
+}
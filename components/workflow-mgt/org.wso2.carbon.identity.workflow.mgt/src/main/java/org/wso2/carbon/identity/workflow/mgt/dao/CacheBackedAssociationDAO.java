@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.dao;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.workflow.mgt.dto.Association;
+import org.wso2.carbon.identity.workflow.mgt.exception.InternalWorkflowException;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowClientException;
+
+/**
+ * Association DAO which clears the workflow association index of the tenant when the associations are modified.
+ */
+public class CacheBackedAssociationDAO extends AssociationDAO {
+
+    @Override
+    public void addAssociation(String associationName, String workflowId, String eventId, String condition)
+            throws InternalWorkflowException {
+
+        super.addAssociation(associationName, workflowId, eventId, condition);
+        clearAssociationIndex();
+    }
+
+    @Override
+    public void updateAssociation(Association associationDTO)
+            throws InternalWorkflowException, WorkflowClientException {
+
+        super.updateAssociation(associationDTO);
+        clearAssociationIndex();
+    }
+
+    @Override
+    public void removeAssociation(int id) throws InternalWorkflowException {
+
+        super.removeAssociation(id);
+        clearAssociationIndex();
+    }
+
+    private void clearAssociationIndex() {
+
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        CacheBackedWorkflowRequestAssociationDAO.clearAssociationIndex(tenantId);
+    }
+}
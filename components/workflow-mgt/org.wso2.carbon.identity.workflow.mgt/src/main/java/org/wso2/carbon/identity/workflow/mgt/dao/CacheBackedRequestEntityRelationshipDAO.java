@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.dao;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.workflow.mgt.bean.Entity;
+import org.wso2.carbon.identity.workflow.mgt.cache.PendingEntityFilter;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowPendingEntityFilterCache;
+import org.wso2.carbon.identity.workflow.mgt.exception.InternalWorkflowException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request entity relationship DAO which checks a per tenant filter of the entities related to in progress requests
+ * before querying the database for the pending requests of an entity.
+ */
+public class CacheBackedRequestEntityRelationshipDAO extends RequestEntityRelationshipDAO {
+
+    private static final int MAX_FILTER_ENTITIES = 100000;
+    // Incremented on every clear, so that a filter loaded concurrently with a modification is not cached.
+    private static final AtomicLong modificationCount = new AtomicLong();
+
+    @Override
+    public void addRelationship(Entity entity, String uuid) throws InternalWorkflowException {
+
+        super.addRelationship(entity, uuid);
+        clearPendingEntityFilter(entity.getTenantId());
+    }
+
+    @Override
+    public void deleteRelationshipsOfRequest(String uuid) throws InternalWorkflowException {
+
+        super.deleteRelationshipsOfRequest(uuid);
+        clearPendingEntityFilter(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
+    @Override
+    public void deleteEntityRelationsByWorkflowId(String workflowId) throws InternalWorkflowException {
+
+        super.deleteEntityRelationsByWorkflowId(workflowId);
+        clearPendingEntityFilter(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
+    @Override
+    public boolean entityHasPendingWorkflows(Entity entity) throws InternalWorkflowException {
+
+        return getPendingEntityFilter(entity.getTenantId()).mightContain(entity) &&
+                super.entityHasPendingWorkflows(entity);
+    }
+
+    @Override
+    public boolean entityHasPendingWorkflowsOfType(Entity entity, String requsetType)
+            throws InternalWorkflowException {
+
+        return getPendingEntityFilter(entity.getTenantId()).mightContain(entity) &&
+                super.entityHasPendingWorkflowsOfType(entity, requsetType);
+    }
+
+    private PendingEntityFilter getPendingEntityFilter(int tenantId) throws InternalWorkflowException {
+
+        WorkflowPendingEntityFilterCache cache = WorkflowPendingEntityFilterCache.getInstance();
+        PendingEntityFilter filter = cache.getValueFromCache(tenantId, tenantId);
+        if (filter == null) {
+            long loadedModificationCount = modificationCount.get();
+            List<Entity> entities = getRelatedEntities(tenantId, MAX_FILTER_ENTITIES + 1);
+            filter = entities.size() > MAX_FILTER_ENTITIES ? PendingEntityFilter.matchAll() :
+                    PendingEntityFilter.of(entities);
+            if (loadedModificationCount == modificationCount.get()) {
+                cache.addToCache(tenantId, filter, tenantId);
+            }
+        }
+        return filter;
+    }
+
+    private void clearPendingEntityFilter(int tenantId) {
+
+        modificationCount.incrementAndGet();
+        WorkflowPendingEntityFilterCache.getInstance().clearCacheEntry(tenantId, tenantId);
+    }
+}
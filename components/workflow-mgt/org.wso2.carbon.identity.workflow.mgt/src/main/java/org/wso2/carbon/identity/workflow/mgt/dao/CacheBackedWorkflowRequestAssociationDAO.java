@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowAssociation;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationIndexCache;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationIndexCacheEntry;
+import org.wso2.carbon.identity.workflow.mgt.exception.InternalWorkflowException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Workflow request association DAO which answers the association lookups of events without workflow associations
+ * from a per tenant index of the associated events, without querying the database.
+ */
+public class CacheBackedWorkflowRequestAssociationDAO extends WorkflowRequestAssociationDAO {
+
+    private static final Log log = LogFactory.getLog(CacheBackedWorkflowRequestAssociationDAO.class);
+    // Incremented on every clear, so that an index loaded concurrently with a modification is not cached.
+    private static final AtomicLong modificationCount = new AtomicLong();
+
+    @Override
+    public List<WorkflowAssociation> getWorkflowAssociationsForRequest(String eventId, int tenantId)
+            throws InternalWorkflowException {
+
+        if (!getAssociationIndex(tenantId).isAssociated(eventId)) {
+            if (log.isDebugEnabled()) {
+                log.debug("No workflow associations found for the event: " + eventId + " in the tenant: " +
+                        tenantId);
+            }
+            return Collections.emptyList();
+        }
+        return super.getWorkflowAssociationsForRequest(eventId, tenantId);
+    }
+
+    private WorkflowAssociationIndexCacheEntry getAssociationIndex(int tenantId) throws InternalWorkflowException {
+
+        WorkflowAssociationIndexCache cache = WorkflowAssociationIndexCache.getInstance();
+        WorkflowAssociationIndexCacheEntry associationIndex = cache.getValueFromCache(tenantId, tenantId);
+        if (associationIndex == null) {
+            long loadedModificationCount = modificationCount.get();
+            associationIndex = new WorkflowAssociationIndexCacheEntry(getAssociatedEventIds(tenantId));
+            if (loadedModificationCount == modificationCount.get()) {
+                cache.addToCache(tenantId, associationIndex, tenantId);
+            }
+        }
+        return associationIndex;
+    }
+
+    /**
+     * Clear the association index of the given tenant. This should be called whenever the workflow associations of
+     * the tenant are modified.
+     *
+     * @param tenantId Tenant ID.
+     */
+    static void clearAssociationIndex(int tenantId) {
+
+        modificationCount.incrementAndGet();
+        WorkflowAssociationIndexCache.getInstance().clearCacheEntry(tenantId, tenantId);
+    }
+}
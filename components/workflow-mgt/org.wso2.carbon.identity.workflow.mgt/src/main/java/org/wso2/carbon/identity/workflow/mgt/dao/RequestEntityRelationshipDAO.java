@@ -157,6 +157,38 @@ public class RequestEntityRelationshipDAO {
         return false;
     }
 
+    /**
+     * Retrieve the entities which are related to workflow requests of a tenant. Relationships are removed when a
+     * request is completed, aborted or deleted, hence these are the entities of the requests which are in progress.
+     *
+     * @param tenantId    Tenant ID.
+     * @param maxEntities Maximum number of entities to read.
+     * @return List of related entities.
+     * @throws InternalWorkflowException If an error occurs while reading the relationships.
+     */
+    public List<Entity> getRelatedEntities(int tenantId, int maxEntities) throws InternalWorkflowException {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        PreparedStatement prepStmt = null;
+        ResultSet resultSet = null;
+        List<Entity> entities = new ArrayList<>();
+        try {
+            prepStmt = connection.prepareStatement(SQLConstants.GET_RELATED_ENTITIES_OF_TENANT);
+            prepStmt.setInt(1, tenantId);
+            prepStmt.setMaxRows(maxEntities);
+            resultSet = prepStmt.executeQuery();
+            while (resultSet.next()) {
+                entities.add(new Entity(resultSet.getString(SQLConstants.ENTITY_NAME_COLUMN),
+                        resultSet.getString(SQLConstants.ENTITY_TYPE_COLUMN), tenantId));
+            }
+        } catch (SQLException e) {
+            throw new InternalWorkflowException("Error when executing the sql query", e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
+        }
+        return entities;
+    }
+
     /**
      * Check if there are any requests the associated with both entities.
      *
@@ -33,7 +33,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Workflow Request Association DAO class.
@@ -298,4 +300,33 @@ public class WorkflowRequestAssociationDAO {
         }
         return associations;
     }
+
+    /**
+     * Get the IDs of the events which have at least one enabled workflow association in the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     * @return Set of associated event IDs.
+     * @throws InternalWorkflowException If an error occurs while reading the associations.
+     */
+    public Set<String> getAssociatedEventIds(int tenantId) throws InternalWorkflowException {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        PreparedStatement prepStmt = null;
+        ResultSet rs = null;
+        Set<String> eventIds = new HashSet<>();
+        String query = SQLConstants.GET_ASSOCIATED_EVENTS_QUERY;
+        try {
+            prepStmt = connection.prepareStatement(query);
+            prepStmt.setInt(1, tenantId);
+            rs = prepStmt.executeQuery();
+            while (rs.next()) {
+                eventIds.add(rs.getString(SQLConstants.EVENT_ID_COLUMN));
+            }
+        } catch (SQLException e) {
+            throw new InternalWorkflowException("Error when executing the sql query:" + query, e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(connection, rs, prepStmt);
+        }
+        return eventIds;
+    }
 }
@@ -50,6 +50,7 @@ public class SQLConstants {
     public static final String PARAM_HOLDER_COLUMN = "PARAM_HOLDER";
     public static final String ASSOCIATION_NAME_COLUMN = "ASSOC_NAME";
     public static final String ENTITY_NAME_COLUMN = "ENTITY_NAME";
+    public static final String ENTITY_TYPE_COLUMN = "ENTITY_TYPE";
     public static final String ASSOCIATION_IS_ENABLED = "IS_ENABLED";
 
     public static final String REQUEST_UUID_COLUMN = "UUID";
@@ -121,6 +122,10 @@ public class SQLConstants {
             "WF_WORKFLOW_ASSOCIATION .WORKFLOW_ID = WF_WORKFLOW.ID AND WF_WORKFLOW.TENANT_ID = ? AND " +
             "WF_WORKFLOW_ASSOCIATION.IS_ENABLED = '1'";
 
+    public static final String GET_ASSOCIATED_EVENTS_QUERY = "SELECT DISTINCT WF_WORKFLOW_ASSOCIATION.EVENT_ID " +
+            "FROM WF_WORKFLOW, WF_WORKFLOW_ASSOCIATION WHERE WF_WORKFLOW_ASSOCIATION.WORKFLOW_ID = WF_WORKFLOW.ID " +
+            "AND WF_WORKFLOW.TENANT_ID = ? AND WF_WORKFLOW_ASSOCIATION.IS_ENABLED = '1'";
+
     public static final String GET_ASSOCIATIONS_FOR_WORKFLOW_QUERY = "SELECT WF_WORKFLOW.WF_NAME,  " +
             "WF_WORKFLOW_ASSOCIATION.ID, WF_WORKFLOW_ASSOCIATION.ASSOC_NAME, WF_WORKFLOW_ASSOCIATION.EVENT_ID, " +
             "WF_WORKFLOW_ASSOCIATION.ASSOC_CONDITION, WF_WORKFLOW_ASSOCIATION.IS_ENABLED FROM WF_WORKFLOW, " +
@@ -288,6 +293,9 @@ public class SQLConstants {
             ".ENTITY_TYPE = ? AND WF_REQUEST_ENTITY_RELATIONSHIP.ENTITY_NAME = ? AND WF_REQUEST.STATUS = ? AND " +
             "WF_REQUEST.OPERATION_TYPE = ? AND WF_REQUEST_ENTITY_RELATIONSHIP.TENANT_ID = ?";
 
+    public static final String GET_RELATED_ENTITIES_OF_TENANT = "SELECT ENTITY_NAME, ENTITY_TYPE FROM " +
+            "WF_REQUEST_ENTITY_RELATIONSHIP WHERE TENANT_ID = ?";
+
     public static final String GET_REQUESTS_OF_TWO_ENTITIES = "SELECT TABLE1.REQUEST_ID FROM " +
             "WF_REQUEST_ENTITY_RELATIONSHIP TABLE1, WF_REQUEST_ENTITY_RELATIONSHIP TABLE2 WHERE TABLE1" +
             ".REQUEST_ID = TABLE2.REQUEST_ID AND TABLE1.ENTITY_NAME = ? AND TABLE1.ENTITY_TYPE= ? AND TABLE2" +
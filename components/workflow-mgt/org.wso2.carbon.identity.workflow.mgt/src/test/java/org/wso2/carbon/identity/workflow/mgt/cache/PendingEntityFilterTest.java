@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.workflow.mgt.bean.Entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for PendingEntityFilter.
+ */
+public class PendingEntityFilterTest {
+
+    private static final String USER_ENTITY_TYPE = "USER";
+    private static final int TENANT_ID = 1;
+    private static final int ENTITY_COUNT = 1000;
+
+    @Test
+    public void testFilterContainsAddedEntities() {
+
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            entities.add(new Entity("user" + i, USER_ENTITY_TYPE, TENANT_ID));
+        }
+        PendingEntityFilter filter = PendingEntityFilter.of(entities);
+
+        for (Entity entity : entities) {
+            assertTrue(filter.mightContain(entity));
+        }
+        assertTrue(filter.mightContain(new Entity("USER10", "user", TENANT_ID)),
+                "Entities should be matched case insensitively.");
+    }
+
+    @Test
+    public void testFilterFalsePositiveRate() {
+
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            entities.add(new Entity("user" + i, USER_ENTITY_TYPE, TENANT_ID));
+        }
+        PendingEntityFilter filter = PendingEntityFilter.of(entities);
+
+        int falsePositives = 0;
+        int probes = ENTITY_COUNT * 10;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(new Entity("other" + i, USER_ENTITY_TYPE, TENANT_ID))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < probes * 0.03, "Unexpected number of false positives: " + falsePositives);
+        assertFalse(filter.mightContain(new Entity("user1", "ROLE", TENANT_ID)));
+    }
+
+    @Test
+    public void testEmptyAndMatchAllFilters() {
+
+        Entity entity = new Entity("user1", USER_ENTITY_TYPE, TENANT_ID);
+        assertFalse(PendingEntityFilter.of(Collections.emptyList()).mightContain(entity));
+        assertTrue(PendingEntityFilter.matchAll().mightContain(entity));
+    }
+}
@@ -382,6 +382,7 @@ CREATE TABLE IDN_AUTH_SESSION_STORE (
             TIME_CREATED BIGINT NOT NULL,
             TENANT_ID INTEGER DEFAULT -1,
             EXPIRY_TIME BIGINT NOT NULL,
+            EXPIRY_BUCKET BIGINT,
             PRIMARY KEY (SESSION_ID, SESSION_TYPE, TIME_CREATED, OPERATION)
 )
 /
@@ -0,0 +1 @@
+ALTER TABLE IDN_AUTH_SESSION_STORE ADD EXPIRY_BUCKET BIGINT;
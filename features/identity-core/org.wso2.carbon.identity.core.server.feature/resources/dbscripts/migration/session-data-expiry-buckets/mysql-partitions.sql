@@ -0,0 +1,14 @@
+-- Partitions IDN_AUTH_SESSION_STORE by EXPIRY_BUCKET, so that expired buckets can be dropped as whole partitions.
+-- Run mysql.sql before this script. This rebuilds the table, hence run it during a maintenance window.
+
+-- The partitioning column has to be a part of the primary key.
+ALTER TABLE IDN_AUTH_SESSION_STORE MODIFY EXPIRY_BUCKET BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IDN_AUTH_SESSION_STORE DROP PRIMARY KEY,
+    ADD PRIMARY KEY (SESSION_ID, SESSION_TYPE, TIME_CREATED, OPERATION, EXPIRY_BUCKET);
+
+-- Records without a bucket are kept in P_LEGACY, which is never dropped. They are removed by the regular cleanup.
+-- The bucket partitions (P<bucket>) are split from P_MAX by the session data cleanup task.
+ALTER TABLE IDN_AUTH_SESSION_STORE PARTITION BY RANGE (EXPIRY_BUCKET) (
+    PARTITION P_LEGACY VALUES LESS THAN (1),
+    PARTITION P_MAX VALUES LESS THAN MAXVALUE
+);
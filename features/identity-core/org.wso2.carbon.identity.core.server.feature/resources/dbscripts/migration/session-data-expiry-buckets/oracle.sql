@@ -0,0 +1,2 @@
+ALTER TABLE IDN_AUTH_SESSION_STORE ADD EXPIRY_BUCKET NUMBER(19)
+/
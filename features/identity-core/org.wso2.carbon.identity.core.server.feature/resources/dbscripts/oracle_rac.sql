@@ -415,6 +415,7 @@ CREATE TABLE IDN_AUTH_SESSION_STORE (
             TIME_CREATED NUMBER(19),
             TENANT_ID INTEGER DEFAULT -1,
             EXPIRY_TIME NUMBER(19),
+            EXPIRY_BUCKET NUMBER(19),
             PRIMARY KEY (SESSION_ID, SESSION_TYPE, TIME_CREATED, OPERATION)
 )
 /
@@ -343,6 +343,7 @@ CREATE TABLE IF NOT EXISTS IDN_AUTH_SESSION_STORE (
             TIME_CREATED BIGINT,
             TENANT_ID INTEGER DEFAULT -1,
             EXPIRY_TIME BIGINT,
+            EXPIRY_BUCKET BIGINT,
             PRIMARY KEY (SESSION_ID, SESSION_TYPE, TIME_CREATED, OPERATION)
 );
 